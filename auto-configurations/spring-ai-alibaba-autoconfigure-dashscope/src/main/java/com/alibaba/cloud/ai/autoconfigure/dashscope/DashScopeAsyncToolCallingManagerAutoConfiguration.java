@@ -55,7 +55,10 @@ public class DashScopeAsyncToolCallingManagerAutoConfiguration {
                 .observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
                 .toolCallbackResolver(toolCallbackResolver)
                 .toolExecutionExceptionProcessor(toolExecutionExceptionProcessor)
-                .taskExecutor(buildAsyncToolCallThreadPool(dashScopeAsyncToolCallingProperties))
+                .taskExecutor(dashScopeAsyncToolCallingProperties.isVirtualThreads() ? null
+                        : buildAsyncToolCallThreadPool(dashScopeAsyncToolCallingProperties))
+                .maxConcurrentCallsPerTool(dashScopeAsyncToolCallingProperties.getMaxConcurrentCallsPerTool())
+                .toolCallTimeout(dashScopeAsyncToolCallingProperties.getToolCallTimeout())
                 .build();
         observationConvention.ifAvailable(toolCallingManager::setObservationConvention);
 
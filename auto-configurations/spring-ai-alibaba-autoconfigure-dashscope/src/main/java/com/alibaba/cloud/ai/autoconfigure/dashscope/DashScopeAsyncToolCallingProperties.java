@@ -17,6 +17,8 @@ package com.alibaba.cloud.ai.autoconfigure.dashscope;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(DashScopeAsyncToolCallingProperties.CONFIG_PREFIX)
 public class DashScopeAsyncToolCallingProperties {
 
@@ -38,6 +40,22 @@ public class DashScopeAsyncToolCallingProperties {
     private int keepAliveTime = 60;
     private int queueCapacity = 1000;
 
+    /**
+     * Run tool calls on virtual threads instead of the thread pool, when the runtime supports them.
+     */
+    private boolean virtualThreads;
+
+    /**
+     * Maximum number of concurrently running calls of one tool, further calls of the tool wait in its own queue.
+     */
+    private int maxConcurrentCallsPerTool = 16;
+
+    /**
+     * Deadline of a tool call, a call exceeding it is cancelled and answered with a timeout result. Unset by default,
+     * tool calls then run until they complete.
+     */
+    private Duration toolCallTimeout;
+
     public boolean isEnable() {
         return enabled;
     }
@@ -77,4 +95,28 @@ public class DashScopeAsyncToolCallingProperties {
     public void setQueueCapacity(int queueCapacity) {
         this.queueCapacity = queueCapacity;
     }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public int getMaxConcurrentCallsPerTool() {
+        return maxConcurrentCallsPerTool;
+    }
+
+    public void setMaxConcurrentCallsPerTool(int maxConcurrentCallsPerTool) {
+        this.maxConcurrentCallsPerTool = maxConcurrentCallsPerTool;
+    }
+
+    public Duration getToolCallTimeout() {
+        return toolCallTimeout;
+    }
+
+    public void setToolCallTimeout(Duration toolCallTimeout) {
+        this.toolCallTimeout = toolCallTimeout;
+    }
 }
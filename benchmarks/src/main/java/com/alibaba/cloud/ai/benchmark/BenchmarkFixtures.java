@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Local, deterministic inputs shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+	private static final String[] WORDS = { "the", "model", "returns", "a", "structured", "answer", "with", "tool",
+			"calls", "when", "user", "asks", "for", "weather", "forecast", "in", "city", "of", "documents", "are", "split",
+			"into", "chunks", "before", "embedding", "vector", "store", "retrieves", "relevant", "context", "query",
+			"response", "streaming", "tokens", "arrive", "incrementally", "and", "client", "merges", "them", "search",
+			"index", "contains", "thousands", "tools", "ranked", "by", "similarity", "score", "latency", "matters" };
+
+	private BenchmarkFixtures() {
+	}
+
+	/**
+	 * English-like prose of roughly {@code length} characters made of sentences and
+	 * paragraphs, the same for a given seed.
+	 */
+	static String text(int length, long seed) {
+		Random random = new Random(seed);
+		StringBuilder text = new StringBuilder(length + 64);
+		while (text.length() < length) {
+			int words = 6 + random.nextInt(18);
+			for (int i = 0; i < words; i++) {
+				String word = WORDS[random.nextInt(WORDS.length)];
+				if (i == 0) {
+					text.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+				}
+				else {
+					text.append(' ').append(word);
+				}
+			}
+			text.append(random.nextInt(8) == 0 ? ".\n\n" : ". ");
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Content of a file of the {@code fixtures} resource directory.
+	 */
+	static String resource(String name) {
+		try (InputStream in = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name)) {
+			if (in == null) {
+				throw new IllegalStateException("Fixture not found: " + name);
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
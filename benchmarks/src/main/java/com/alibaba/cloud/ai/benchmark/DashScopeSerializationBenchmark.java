@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletion;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletionChunk;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletionRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.model.ModelOptionsUtils;
+
+/**
+ * Jackson serialization of a DashScope chat request with tools, and deserialization of
+ * a complete response and of a single stream chunk, with the mapper the API client
+ * uses for stream chunks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashScopeSerializationBenchmark {
+
+	private final ObjectMapper objectMapper = ModelOptionsUtils.OBJECT_MAPPER;
+
+	private ChatCompletionRequest request;
+
+	private String response;
+
+	private String chunk;
+
+	@Setup
+	public void setUp() throws JsonProcessingException {
+		this.request = this.objectMapper.readValue(BenchmarkFixtures.resource("dashscope-chat-request.json"),
+				ChatCompletionRequest.class);
+		this.response = BenchmarkFixtures.resource("dashscope-chat-response.json");
+		this.chunk = BenchmarkFixtures.resource("dashscope-chat-chunk.json");
+	}
+
+	@Benchmark
+	public byte[] serializeRequest() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsBytes(this.request);
+	}
+
+	@Benchmark
+	public ChatCompletion deserializeResponse() throws JsonProcessingException {
+		return this.objectMapper.readValue(this.response, ChatCompletion.class);
+	}
+
+	@Benchmark
+	public ChatCompletionChunk deserializeChunk() throws JsonProcessingException {
+		return this.objectMapper.readValue(this.chunk, ChatCompletionChunk.class);
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.alibaba.cloud.ai.rag.retrieval.search.HybridElasticsearchRetriever;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.ai.vectorstore.elasticsearch.ElasticsearchVectorStoreOptions;
+import org.springframework.ai.vectorstore.elasticsearch.SimilarityFunction;
+
+/**
+ * A hybrid BM25 and kNN retrieval fused with reciprocal rank fusion through
+ * {@link HybridElasticsearchRetriever}. The fusion itself runs in Elasticsearch, which
+ * is replaced by a local HTTP stub answering a canned ranked response, so this measures
+ * the client side: query embedding, request building, the round trip through the
+ * Elasticsearch client and the conversion of the fused hits into documents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HybridRetrieverBenchmark {
+
+	private static final String INDEX_NAME = "spring_ai_alibaba_rag_index";
+
+	private static final int DIMENSIONS = 256;
+
+	private static final int RANK_CONSTANT = 60;
+
+	@Param({ "10", "50" })
+	public int topK;
+
+	private HttpServer server;
+
+	private RestClient restClient;
+
+	private HybridElasticsearchRetriever retriever;
+
+	private Query query;
+
+	@Setup
+	public void setUp() throws IOException {
+		HashingEmbeddingModel embeddingModel = new HashingEmbeddingModel(DIMENSIONS);
+		byte[] response = searchResponse(embeddingModel).getBytes(StandardCharsets.UTF_8);
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/", exchange -> {
+			try (InputStream body = exchange.getRequestBody()) {
+				body.readAllBytes();
+			}
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+			exchange.sendResponseHeaders(200, response.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(response);
+			}
+		});
+		this.server.start();
+
+		this.restClient = RestClient.builder(new HttpHost("127.0.0.1", this.server.getAddress().getPort(), "http"))
+			.build();
+		ElasticsearchClient client = new ElasticsearchClient(
+				new RestClientTransport(this.restClient, new JacksonJsonpMapper()));
+
+		ElasticsearchVectorStoreOptions options = new ElasticsearchVectorStoreOptions();
+		options.setIndexName(INDEX_NAME);
+		options.setDimensions(DIMENSIONS);
+		options.setSimilarity(SimilarityFunction.cosine);
+		this.retriever = HybridElasticsearchRetriever.builder()
+			.vectorStoreOptions(options)
+			.elasticsearchClient(client)
+			.embeddingModel(embeddingModel)
+			.topK(this.topK)
+			.rankWindowSize(Math.max(100, this.topK))
+			.rankConstant(RANK_CONSTANT)
+			.useRrf(true)
+			.build();
+		this.query = Query.builder()
+			.text("how do streaming tokens arrive when the model returns tool calls")
+			.context(Map.of(HybridElasticsearchRetriever.BM25_FILED, "content"))
+			.build();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.restClient.close();
+		this.server.stop(0);
+	}
+
+	@Benchmark
+	public List<Document> retrieve() {
+		return this.retriever.retrieve(this.query);
+	}
+
+	/**
+	 * Search response holding the top hits in the shape written by the Elasticsearch
+	 * vector store, scored as reciprocal rank fusion does.
+	 */
+	private String searchResponse(HashingEmbeddingModel embeddingModel) {
+		String[] sentences = BenchmarkFixtures.text(this.topK * 400, 5).split("\\. ");
+		StringBuilder hits = new StringBuilder();
+		for (int rank = 0; rank < this.topK; rank++) {
+			String content = sentences[rank % sentences.length].replace("\n", " ");
+			// a document ranked first by one retriever and next by the other
+			double score = 1.0 / (RANK_CONSTANT + rank + 1) + 1.0 / (RANK_CONSTANT + rank + 2);
+			StringBuilder embedding = new StringBuilder();
+			for (float value : embeddingModel.embed(content)) {
+				embedding.append(embedding.length() == 0 ? "" : ",").append(value);
+			}
+			hits.append(rank == 0 ? "" : ",")
+				.append("{\"_index\":\"")
+				.append(INDEX_NAME)
+				.append("\",\"_id\":\"doc-")
+				.append(rank)
+				.append("\",\"_score\":")
+				.append(score)
+				.append(",\"_source\":{\"id\":\"doc-")
+				.append(rank)
+				.append("\",\"content\":\"")
+				.append(content)
+				.append("\",\"metadata\":{\"source\":\"fixture-")
+				.append(rank % 7)
+				.append(".md\",\"category\":\"guide\"},\"embedding\":[")
+				.append(embedding)
+				.append("]}}");
+		}
+		return "{\"took\":3,\"timed_out\":false,\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+				+ "\"hits\":{\"total\":{\"value\":" + this.topK + ",\"relation\":\"eq\"},\"max_score\":"
+				+ (1.0 / (RANK_CONSTANT + 1) + 1.0 / (RANK_CONSTANT + 2)) + ",\"hits\":[" + hits + "]}}";
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.benchmark;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.alibaba.cloud.ai.toolcalling.common.JsonDocument;
+import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reading a top-level field and a few fields of the first array element of a tool
+ * response with {@link JsonParseTool}: re-parsing the JSON for every field, parsing it
+ * once into a {@link JsonDocument}, or extracting only the requested values with the
+ * streaming parser. The small payload is a weather forecast, the large one a page of
+ * 200 issues.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonParseBenchmark {
+
+	@Param({ "small", "large" })
+	public String payload;
+
+	private final JsonParseTool jsonParseTool = new JsonParseTool(new ObjectMapper());
+
+	private String json;
+
+	private String topField;
+
+	private String arrayField;
+
+	private String[] elementFields;
+
+	private String[] jsonPointers;
+
+	@Setup
+	public void setUp() {
+		if ("small".equals(this.payload)) {
+			this.json = BenchmarkFixtures.resource("amap-weather-forecast.json");
+			this.topField = "status";
+			this.arrayField = "forecasts";
+			this.elementFields = new String[] { "city", "adcode", "reporttime" };
+		}
+		else {
+			this.json = issues(200);
+			this.topField = "total_count";
+			this.arrayField = "items";
+			this.elementFields = new String[] { "title", "state", "html_url" };
+		}
+		this.jsonPointers = new String[this.elementFields.length + 1];
+		this.jsonPointers[0] = "/" + this.topField;
+		for (int i = 0; i < this.elementFields.length; i++) {
+			this.jsonPointers[i + 1] = "/" + this.arrayField + "/0/" + this.elementFields[i];
+		}
+	}
+
+	@Benchmark
+	public void reparsePerField(Blackhole blackhole) throws IOException {
+		blackhole.consume(this.jsonParseTool.getFieldValueAsText(this.json, this.topField));
+		String array = this.jsonParseTool.getFieldValueAsString(this.json, this.arrayField);
+		String first = this.jsonParseTool.getFirstElementFromJsonArrayString(array);
+		for (String field : this.elementFields) {
+			blackhole.consume(this.jsonParseTool.getFieldValueAsText(first, field));
+		}
+	}
+
+	@Benchmark
+	public void parseOnce(Blackhole blackhole) throws IOException {
+		JsonDocument document = this.jsonParseTool.parse(this.json);
+		blackhole.consume(document.getFieldValueAsText(this.topField));
+		JsonDocument first = document.getFirstElement(this.arrayField);
+		for (String field : this.elementFields) {
+			blackhole.consume(first.getFieldValueAsText(field));
+		}
+	}
+
+	@Benchmark
+	public Map<String, JsonNode> streamingExtract() throws IOException {
+		return this.jsonParseTool.extractFieldValues(this.json, this.jsonPointers);
+	}
+
+	private static String issues(int count) {
+		String[] sentences = BenchmarkFixtures.text(count * 600, 13).split("\\. ");
+		StringBuilder items = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			int number = 4000 - i;
+			items.append(i == 0 ? "" : ",")
+				.append("{\"number\":")
+				.append(number)
+				.append(",\"title\":\"")
+				.append(sentences[(2 * i) % sentences.length].replace("\n", " "))
+				.append("\",\"state\":\"open\",\"html_url\":\"https://github.com/example/project/issues/")
+				.append(number)
+				.append("\",\"user\":{\"login\":\"contributor")
+				.append(i % 37)
+				.append("\",\"id\":")
+				.append(100_000 + i)
+				.append(",\"type\":\"User\"},\"labels\":[{\"name\":\"area/tools\",\"color\":\"0e8a16\"},")
+				.append("{\"name\":\"type/bug\",\"color\":\"d73a4a\"}],\"comments\":")
+				.append(i % 11)
+				.append(",\"created_at\":\"2026-09-")
+				.append(String.format("%02d", 1 + i % 28))
+				.append("T08:15:30Z\",\"body\":\"")
+				.append(sentences[(2 * i + 1) % sentences.length].replace("\n", " "))
+				.append("\"}");
+		}
+		return "{\"total_count\":" + count + ",\"incomplete_results\":false,\"items\":[" + items + "]}";
+	}
+
+}
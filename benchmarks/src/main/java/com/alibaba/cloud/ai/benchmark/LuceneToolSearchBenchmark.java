@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.alibaba.cloud.ai.toolcalling.toolsearch.LuceneToolSearcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+/**
+ * Query latency of {@link LuceneToolSearcher} over 10k indexed tools, lexical only or
+ * fused with vector search through a stub embedding model, and latency of updating a
+ * single tool in that index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LuceneToolSearchBenchmark {
+
+	private static final String[] QUERIES = { "weather forecast in city", "split documents into chunks",
+			"search index ranked by similarity", "streaming tokens arrive incrementally", "vector store query context",
+			"tool calls latency" };
+
+	@Param({ "10000" })
+	public int toolCount;
+
+	@Param({ "lexical", "hybrid" })
+	public String mode;
+
+	private LuceneToolSearcher searcher;
+
+	private List<ToolCallback> tools;
+
+	private int queryIndex;
+
+	private int updateCount;
+
+	@Setup
+	public void setUp() {
+		LuceneToolSearcher.Builder builder = LuceneToolSearcher.builder();
+		if ("hybrid".equals(this.mode)) {
+			builder.embeddingModel(new HashingEmbeddingModel(256));
+		}
+		this.searcher = builder.build();
+		String[] sentences = BenchmarkFixtures.text(this.toolCount * 160, 3).split("\\. ");
+		this.tools = new ArrayList<>(this.toolCount);
+		for (int i = 0; i < this.toolCount; i++) {
+			this.tools.add(tool("tool_" + i, sentences[i % sentences.length] + " (" + i + ")"));
+		}
+		this.searcher.indexTools(this.tools);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.searcher.close();
+	}
+
+	@Benchmark
+	public List<ToolCallback> search() {
+		String query = QUERIES[this.queryIndex++ % QUERIES.length];
+		return this.searcher.search(query, 10);
+	}
+
+	@Benchmark
+	public void updateTool() {
+		// a new description every time, so that the update rewrites the document
+		int update = this.updateCount++;
+		int index = update % this.toolCount;
+		String description = this.tools.get(index).getToolDefinition().description() + " revision " + update;
+		this.searcher.updateTools(List.of(tool("tool_" + index, description)));
+	}
+
+	private static ToolCallback tool(String name, String description) {
+		ToolDefinition definition = ToolDefinition.builder()
+			.name(name)
+			.description(description)
+			.inputSchema("{\"type\":\"object\",\"properties\":{\"query\":{\"type\":\"string\"}}}")
+			.build();
+		return new ToolCallback() {
+
+			@Override
+			public ToolDefinition getToolDefinition() {
+				return definition;
+			}
+
+			@Override
+			public String call(String toolInput) {
+				return "";
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.alibaba.cloud.ai.dashscope.api.DashScopeAiStreamFunctionCallingHelper;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletionChunk;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletionFinishReason;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletionMessage;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletionMessage.ChatCompletionFunction;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletionMessage.Role;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletionMessage.ToolCall;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletionOutput;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.ChatCompletionOutput.Choice;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.TokenUsage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Aggregating a whole incremental stream with
+ * {@link DashScopeAiStreamFunctionCallingHelper#merge}, either plain text deltas or the
+ * argument fragments of a tool call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamMergeBenchmark {
+
+	@Param({ "text", "toolCall" })
+	public String stream;
+
+	@Param({ "64", "1024" })
+	public int chunkCount;
+
+	private final DashScopeAiStreamFunctionCallingHelper helper = new DashScopeAiStreamFunctionCallingHelper(true);
+
+	private List<ChatCompletionChunk> chunks;
+
+	@Setup
+	public void setUp() {
+		String[] words = BenchmarkFixtures.text(this.chunkCount * 8, 7).split(" ");
+		this.chunks = new ArrayList<>(this.chunkCount);
+		for (int i = 0; i < this.chunkCount; i++) {
+			boolean last = i == this.chunkCount - 1;
+			String delta = words[i % words.length] + " ";
+			ChatCompletionMessage message;
+			ChatCompletionFinishReason finishReason;
+			if ("text".equals(this.stream)) {
+				message = new ChatCompletionMessage(delta, Role.ASSISTANT);
+				finishReason = last ? ChatCompletionFinishReason.STOP : ChatCompletionFinishReason.NULL;
+			}
+			else {
+				// only the first fragment carries the id and the name of the called function
+				ToolCall toolCall = i == 0
+						? new ToolCall("call_0", "function", new ChatCompletionFunction("search", "{\"query\":\""), 0)
+						: new ToolCall(null, null, new ChatCompletionFunction(null, last ? "\"}" : delta), 0);
+				message = new ChatCompletionMessage("", Role.ASSISTANT, null, null, List.of(toolCall), null, null, null,
+						null, null);
+				finishReason = last ? ChatCompletionFinishReason.TOOL_CALLS : ChatCompletionFinishReason.NULL;
+			}
+			TokenUsage usage = new TokenUsage(i + 1, 128, i + 129, null, null, null, null, null, null, null);
+			this.chunks.add(new ChatCompletionChunk("request-1",
+					new ChatCompletionOutput(null, List.of(new Choice(finishReason, message, null, 0)), null), usage,
+					null));
+		}
+	}
+
+	@Benchmark
+	public ChatCompletionChunk mergeStream() {
+		ChatCompletionChunk merged = null;
+		for (ChatCompletionChunk chunk : this.chunks) {
+			merged = this.helper.merge(merged, chunk);
+		}
+		return merged;
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.alibaba.cloud.ai.transformer.splitter.RecursiveCharacterTextSplitter;
+import com.alibaba.cloud.ai.transformer.splitter.SentenceSplitter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.transformer.splitter.TextSplitter;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+
+/**
+ * Splitting one document with each of the text splitters, at their default chunk size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextSplitterBenchmark {
+
+	@Param({ "sentence", "recursive", "token" })
+	public String splitter;
+
+	@Param({ "16384", "131072" })
+	public int documentLength;
+
+	private TextSplitter textSplitter;
+
+	private List<Document> documents;
+
+	@Setup
+	public void setUp() {
+		this.textSplitter = switch (this.splitter) {
+			case "sentence" -> new SentenceSplitter();
+			case "recursive" -> new RecursiveCharacterTextSplitter();
+			case "token" -> new TokenTextSplitter();
+			default -> throw new IllegalArgumentException("Unknown splitter: " + this.splitter);
+		};
+		this.documents = List.of(new Document(BenchmarkFixtures.text(this.documentLength, 42)));
+	}
+
+	@Benchmark
+	public List<Document> split() {
+		return this.textSplitter.apply(this.documents);
+	}
+
+}
@@ -23,7 +23,6 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.alibaba.cloud.ai.document.DocumentParser;
-import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.slf4j.Logger;
@@ -32,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 import org.springframework.ai.reader.pdf.layout.PDFLayoutTextStripperByArea;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -40,6 +40,9 @@ import org.springframework.util.StringUtils;
  * into a single output document. Use {@link PdfDocumentReaderConfig} for customization
  * options. The default configuration is: - pagesPerDocument = 1 - pageTopMargin = 0 -
  * pageBottomMargin = 0
+ * <p>
+ * The input is spooled to a temporary file instead of being buffered on the heap, and
+ * page ranges of large PDFs are extracted in parallel.
  *
  * @author HeYQ
  */
@@ -55,39 +58,50 @@ public class PagePdfDocumentParser implements DocumentParser {
 
 	private final PdfDocumentReaderConfig config;
 
+	private final int parallelism;
+
 	public PagePdfDocumentParser() {
 		this(PdfDocumentReaderConfig.defaultConfig());
 	}
 
 	public PagePdfDocumentParser(PdfDocumentReaderConfig config) {
+		this(config, PdfDocumentSource.DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * @param config the pdf reader config
+	 * @param parallelism the maximum number of threads extracting page ranges of a large
+	 * PDF concurrently, each with its own document handle, 1 for the calling thread only
+	 */
+	public PagePdfDocumentParser(PdfDocumentReaderConfig config, int parallelism) {
+		Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
 		this.config = config;
+		this.parallelism = parallelism;
 	}
 
 	@Override
 	public List<Document> parse(InputStream inputStream) {
 
 		List<Document> readDocuments = new ArrayList<>();
-		try {
-			var pdfTextStripper = new PDFLayoutTextStripperByArea();
+		try (PdfDocumentSource source = PdfDocumentSource.spool(inputStream);
+				PDDocument document = source.open()) {
 
 			int pageNumber = 0;
 			int pagesPerDocument = 0;
 			int startPageNumber = pageNumber;
 
 			List<String> pageTextGroupList = new ArrayList<>();
-			PDFParser pdfParser = new PDFParser(new org.apache.pdfbox.io.RandomAccessReadBuffer(inputStream));
-			PDDocument document = pdfParser.parse();
 
-			int totalPages = document.getDocumentCatalog().getPages().getCount();
+			int totalPages = document.getNumberOfPages();
+			List<String> pageTexts = source.mapRanges(document, totalPages, this.parallelism, this::extractPages);
+
 			// if less than 10
 			int logFrequency = totalPages > 10 ? totalPages / 10 : 1;
 			// pages, print
 			// each iteration
 			int counter = 0;
 
-			PDPage lastPage = document.getDocumentCatalog().getPages().iterator().next();
-			for (PDPage page : document.getDocumentCatalog().getPages()) {
-				lastPage = page;
+			for (String pageText : pageTexts) {
 				if (counter % logFrequency == 0 && counter / logFrequency < 10) {
 					logger.info("Processing PDF page: {}", (counter + 1));
 				}
@@ -107,16 +121,6 @@ public class PagePdfDocumentParser implements DocumentParser {
 
 					startPageNumber = pageNumber + 1;
 				}
-				int x0 = (int) page.getMediaBox().getLowerLeftX();
-				int xW = (int) page.getMediaBox().getWidth();
-
-				int y0 = (int) page.getMediaBox().getLowerLeftY() + this.config.pageTopMargin;
-				int yW = (int) page.getMediaBox().getHeight()
-						- (this.config.pageTopMargin + this.config.pageBottomMargin);
-
-				pdfTextStripper.addRegion(PDF_PAGE_REGION, new Rectangle(x0, y0, xW, yW));
-				pdfTextStripper.extractRegions(page);
-				var pageText = pdfTextStripper.getTextForRegion(PDF_PAGE_REGION);
 
 				if (StringUtils.hasText(pageText)) {
 
@@ -125,7 +129,6 @@ public class PagePdfDocumentParser implements DocumentParser {
 					pageTextGroupList.add(pageText);
 				}
 				pageNumber++;
-				pdfTextStripper.removeRegion(PDF_PAGE_REGION);
 			}
 			if (!CollectionUtils.isEmpty(pageTextGroupList)) {
 				readDocuments.add(toDocument(pageTextGroupList.stream().collect(Collectors.joining()), startPageNumber,
@@ -140,6 +143,31 @@ public class PagePdfDocumentParser implements DocumentParser {
 		}
 	}
 
+	/**
+	 * Extracts the raw text of the pages {@code [from, to)}. Runs concurrently for
+	 * different ranges, each with its own document handle and stripper.
+	 */
+	private List<String> extractPages(PDDocument document, int from, int to) throws IOException {
+		var pdfTextStripper = new PDFLayoutTextStripperByArea();
+		List<String> pageTexts = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			PDPage page = document.getPage(i);
+
+			int x0 = (int) page.getMediaBox().getLowerLeftX();
+			int xW = (int) page.getMediaBox().getWidth();
+
+			int y0 = (int) page.getMediaBox().getLowerLeftY() + this.config.pageTopMargin;
+			int yW = (int) page.getMediaBox().getHeight()
+					- (this.config.pageTopMargin + this.config.pageBottomMargin);
+
+			pdfTextStripper.addRegion(PDF_PAGE_REGION, new Rectangle(x0, y0, xW, yW));
+			pdfTextStripper.extractRegions(page);
+			pageTexts.add(pdfTextStripper.getTextForRegion(PDF_PAGE_REGION));
+			pdfTextStripper.removeRegion(PDF_PAGE_REGION);
+		}
+		return pageTexts;
+	}
+
 	protected Document toDocument(String docText, int startPageNumber, int endPageNumber) {
 		Document doc = new Document(docText);
 		doc.getMetadata().put(METADATA_START_PAGE_NUMBER, startPageNumber);
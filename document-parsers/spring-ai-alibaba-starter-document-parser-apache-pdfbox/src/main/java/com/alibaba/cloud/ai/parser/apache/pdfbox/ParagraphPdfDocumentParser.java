@@ -18,11 +18,9 @@ package com.alibaba.cloud.ai.parser.apache.pdfbox;
 import java.awt.Rectangle;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import com.alibaba.cloud.ai.document.DocumentParser;
-import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +30,7 @@ import org.springframework.ai.reader.pdf.config.ParagraphManager;
 import org.springframework.ai.reader.pdf.config.ParagraphManager.Paragraph;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 import org.springframework.ai.reader.pdf.layout.PDFLayoutTextStripperByArea;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -61,6 +60,8 @@ public class ParagraphPdfDocumentParser implements DocumentParser {
 
 	private final PdfDocumentReaderConfig config;
 
+	private final int parallelism;
+
 	/**
 	 * Constructs a ParagraphPdfDocumentParser using a resource URL and a configuration.
 	 */
@@ -73,7 +74,21 @@ public class ParagraphPdfDocumentParser implements DocumentParser {
 	 * @param config The configuration for PDF document processing.
 	 */
 	public ParagraphPdfDocumentParser(PdfDocumentReaderConfig config) {
+		this(config, PdfDocumentSource.DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * Constructs a ParagraphPdfDocumentParser using a configuration.
+	 * @param config The configuration for PDF document processing.
+	 * @param parallelism The maximum number of threads extracting paragraphs of a large
+	 * PDF concurrently, each with its own document handle, 1 for the calling thread only.
+	 * When greater than 1, {@link #toDocument}, {@link #addMetadata} and
+	 * {@link #getTextBetweenParagraphs} are called concurrently and must be thread safe.
+	 */
+	public ParagraphPdfDocumentParser(PdfDocumentReaderConfig config, int parallelism) {
+		Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
 		this.config = config;
+		this.parallelism = parallelism;
 	}
 
 	/**
@@ -83,9 +98,8 @@ public class ParagraphPdfDocumentParser implements DocumentParser {
 	@Override
 	public List<Document> parse(InputStream inputStream) {
 
-		try {
-			PDFParser pdfParser = new PDFParser(new org.apache.pdfbox.io.RandomAccessReadBuffer(inputStream));
-			PDDocument pdDocument = pdfParser.parse();
+		try (PdfDocumentSource source = PdfDocumentSource.spool(inputStream);
+				PDDocument pdDocument = source.open()) {
 
 			ParagraphManager paragraphTextExtractor = new ParagraphManager(pdDocument);
 
@@ -95,21 +109,24 @@ public class ParagraphPdfDocumentParser implements DocumentParser {
 
 			if (!CollectionUtils.isEmpty(paragraphs)) {
 				logger.info("Start processing paragraphs from PDF");
-				Iterator<Paragraph> itr = paragraphs.iterator();
-
-				var current = itr.next();
 
-				if (!itr.hasNext()) {
-					documents.add(toDocument(current, current, pdDocument));
+				if (paragraphs.size() == 1) {
+					documents.add(toDocument(paragraphs.get(0), paragraphs.get(0), pdDocument));
 				}
 				else {
-					while (itr.hasNext()) {
-						var next = itr.next();
-						Document document = toDocument(current, next, pdDocument);
+					// the text between consecutive paragraphs is extracted concurrently
+					List<Document> extracted = source.mapRanges(pdDocument, paragraphs.size() - 1, this.parallelism,
+							(document, from, to) -> {
+								List<Document> range = new ArrayList<>(to - from);
+								for (int i = from; i < to; i++) {
+									range.add(toDocument(paragraphs.get(i), paragraphs.get(i + 1), document));
+								}
+								return range;
+							});
+					for (Document document : extracted) {
 						if (document != null && StringUtils.hasText(document.getText())) {
-							documents.add(toDocument(current, next, pdDocument));
+							documents.add(document);
 						}
-						current = next;
 					}
 				}
 			}
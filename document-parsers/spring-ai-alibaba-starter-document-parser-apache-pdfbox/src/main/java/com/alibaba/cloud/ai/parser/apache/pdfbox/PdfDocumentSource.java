@@ -0,0 +1,154 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.parser.apache.pdfbox;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+/**
+ * A PDF spooled to a temporary file, so that the parsed document is backed by the file
+ * instead of a heap copy of the whole input, and so that several independent
+ * {@link PDDocument} handles can be opened on it to extract pages concurrently. PDFBox
+ * documents are not thread safe, every worker therefore works on its own handle.
+ */
+final class PdfDocumentSource implements AutoCloseable {
+
+	/**
+	 * Pages are extracted on the calling thread unless a parser is given a higher
+	 * parallelism, the protected extraction hooks of a subclass are then never called
+	 * concurrently without it opting in.
+	 */
+	static final int DEFAULT_PARALLELISM = 1;
+
+	/**
+	 * Every extra handle re-reads the cross reference table, only split work that is
+	 * large enough to amortize it.
+	 */
+	static final int MIN_UNITS_PER_WORKER = 16;
+
+	private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+	private final Path file;
+
+	private PdfDocumentSource(Path file) {
+		this.file = file;
+	}
+
+	static PdfDocumentSource spool(InputStream inputStream) throws IOException {
+		Path file = Files.createTempFile("spring-ai-alibaba-pdf-", ".pdf");
+		try (inputStream) {
+			Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(file);
+			throw e;
+		}
+		return new PdfDocumentSource(file);
+	}
+
+	/**
+	 * Opens a new handle reading the spooled file on demand, with decoded streams cached
+	 * in scratch files rather than on the heap.
+	 */
+	PDDocument open() throws IOException {
+		return Loader.loadPDF(new RandomAccessReadBufferedFile(this.file.toFile()), "", null, null,
+				IOUtils.createTempFileOnlyStreamCache());
+	}
+
+	/**
+	 * Splits {@code [0, count)} into contiguous ranges and runs {@code task} on each
+	 * range, the first one on the calling thread with {@code document}, the others on
+	 * their own handle. The results are concatenated in range order.
+	 */
+	<T> List<T> mapRanges(PDDocument document, int count, int parallelism, RangeTask<T> task) throws IOException {
+		int workers = Math.max(1, Math.min(parallelism, count / MIN_UNITS_PER_WORKER));
+		if (workers == 1) {
+			return task.apply(document, 0, count);
+		}
+
+		int rangeSize = (count + workers - 1) / workers;
+		ExecutorService executor = Executors.newFixedThreadPool(workers - 1, runnable -> {
+			Thread thread = new Thread(runnable, "pdf-parser-" + WORKER_COUNTER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<List<T>>> futures = new ArrayList<>(workers - 1);
+			for (int from = rangeSize; from < count; from += rangeSize) {
+				int start = from;
+				int end = Math.min(count, from + rangeSize);
+				futures.add(executor.submit(() -> {
+					try (PDDocument handle = open()) {
+						return task.apply(handle, start, end);
+					}
+				}));
+			}
+
+			List<T> results = new ArrayList<>(count);
+			results.addAll(task.apply(document, 0, Math.min(count, rangeSize)));
+			for (Future<List<T>> future : futures) {
+				results.addAll(future.get());
+			}
+			return results;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while extracting PDF pages", e);
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IOException(cause);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		Files.deleteIfExists(this.file);
+	}
+
+	@FunctionalInterface
+	interface RangeTask<T> {
+
+		List<T> apply(PDDocument document, int from, int to) throws IOException;
+
+	}
+
+}
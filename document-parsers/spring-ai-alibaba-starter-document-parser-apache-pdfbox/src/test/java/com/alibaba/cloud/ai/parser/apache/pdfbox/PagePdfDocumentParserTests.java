@@ -15,9 +15,17 @@
  */
 package com.alibaba.cloud.ai.parser.apache.pdfbox;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.ai.document.Document;
@@ -70,4 +78,42 @@ class PagePdfDocumentParserTests {
 		assertThat(documents).hasSize(64);
 	}
 
+	@Test
+	void parallelExtractionKeepsPageOrder() throws IOException {
+		byte[] pdf = generatePdf(100);
+		PdfDocumentReaderConfig config = PdfDocumentReaderConfig.builder()
+			.withPageExtractedTextFormatter(ExtractedTextFormatter.builder().build())
+			.withPagesPerDocument(1)
+			.build();
+
+		List<Document> sequential = new PagePdfDocumentParser(config, 1).parse(new ByteArrayInputStream(pdf));
+		List<Document> parallel = new PagePdfDocumentParser(config, 4).parse(new ByteArrayInputStream(pdf));
+
+		assertThat(parallel).hasSize(100);
+		assertThat(parallel).extracting(Document::getText)
+			.containsExactlyElementsOf(sequential.stream().map(Document::getText).toList());
+		for (int i = 0; i < parallel.size(); i++) {
+			assertThat(parallel.get(i).getText()).contains("Page marker " + i + " ");
+		}
+	}
+
+	private static byte[] generatePdf(int pages) throws IOException {
+		try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+			PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+			for (int i = 0; i < pages; i++) {
+				PDPage page = new PDPage();
+				document.addPage(page);
+				try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+					content.beginText();
+					content.setFont(font, 12);
+					content.newLineAtOffset(72, 700);
+					content.showText("Page marker " + i + " end");
+					content.endText();
+				}
+			}
+			document.save(out);
+			return out.toByteArray();
+		}
+	}
+
 }
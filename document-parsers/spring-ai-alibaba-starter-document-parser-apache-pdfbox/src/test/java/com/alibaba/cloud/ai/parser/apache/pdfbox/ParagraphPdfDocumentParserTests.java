@@ -15,13 +15,29 @@
  */
 package com.alibaba.cloud.ai.parser.apache.pdfbox;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.ExtractedTextFormatter;
+import org.springframework.ai.reader.pdf.config.ParagraphManager.Paragraph;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 import org.springframework.core.io.DefaultResourceLoader;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Test the functionality of ParagraphPdfDocumentParser class
@@ -80,4 +96,67 @@ public class ParagraphPdfDocumentParserTests {
 		}
 	}
 
+	@Test
+	void parallelExtractionKeepsParagraphOrder() throws IOException {
+		byte[] pdf = generatePdfWithToc(100);
+		PdfDocumentReaderConfig config = PdfDocumentReaderConfig.builder()
+			.withPageExtractedTextFormatter(ExtractedTextFormatter.builder().build())
+			.build();
+
+		List<Document> sequential = new ParagraphPdfDocumentParser(config, 1).parse(new ByteArrayInputStream(pdf));
+		List<Document> parallel = new ParagraphPdfDocumentParser(config, 4).parse(new ByteArrayInputStream(pdf));
+
+		// one document between every two consecutive sections
+		assertThat(parallel).hasSize(99);
+		assertThat(parallel).extracting(Document::getText)
+			.containsExactlyElementsOf(sequential.stream().map(Document::getText).toList());
+		for (int i = 0; i < parallel.size(); i++) {
+			assertThat(parallel.get(i).getText()).contains("Page marker " + i + " ");
+			assertThat(parallel.get(i).getMetadata()).containsEntry("title", "Section " + i);
+		}
+	}
+
+	@Test
+	void defaultParserExtractsOnTheCallingThread() throws IOException {
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		ParagraphPdfDocumentParser parser = new ParagraphPdfDocumentParser(PdfDocumentReaderConfig.defaultConfig()) {
+			@Override
+			protected Document toDocument(Paragraph from, Paragraph to, PDDocument pdDocument) {
+				threads.add(Thread.currentThread());
+				return super.toDocument(from, to, pdDocument);
+			}
+		};
+
+		assertThat(parser.parse(new ByteArrayInputStream(generatePdfWithToc(100)))).hasSize(99);
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	/**
+	 * A PDF with one marked page per section of its outline.
+	 */
+	private static byte[] generatePdfWithToc(int pages) throws IOException {
+		try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+			PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+			PDDocumentOutline outline = new PDDocumentOutline();
+			document.getDocumentCatalog().setDocumentOutline(outline);
+			for (int i = 0; i < pages; i++) {
+				PDPage page = new PDPage();
+				document.addPage(page);
+				try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+					content.beginText();
+					content.setFont(font, 12);
+					content.newLineAtOffset(72, 700);
+					content.showText("Page marker " + i + " end");
+					content.endText();
+				}
+				PDOutlineItem section = new PDOutlineItem();
+				section.setTitle("Section " + i);
+				section.setDestination(page);
+				outline.addLast(section);
+			}
+			document.save(out);
+			return out.toByteArray();
+		}
+	}
+
 }
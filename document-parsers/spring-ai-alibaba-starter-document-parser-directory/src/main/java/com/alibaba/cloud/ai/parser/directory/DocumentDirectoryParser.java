@@ -15,37 +15,64 @@
  */
 package com.alibaba.cloud.ai.parser.directory;
 
-/**
- * @author HeYQ
- * @since 2025-02-07 16:40
- */
-
 import com.alibaba.cloud.ai.document.DocumentParser;
 import org.springframework.ai.document.Document;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Parses every matching file of a directory with the configured {@link DocumentParser}.
+ * <p>
+ * Files are parsed on a pool of {@code parallelism} workers, one by default so that the
+ * configured {@link DocumentParser} is never called concurrently unless parallel parsing
+ * is enabled with {@link Builder#parallelism(int)}. {@link #stream(boolean)}
+ * walks the directory lazily and keeps at most {@code maxInFlight} files being parsed or
+ * waiting to be consumed, so memory stays proportional to the pool instead of the
+ * corpus. Glob matchers are compiled once per parser.
+ *
+ * @author HeYQ
+ * @since 2025-02-07 16:40
+ */
 public class DocumentDirectoryParser implements DocumentParser {
 
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
 	private final String path;
 
-	private final List<String> globPatterns;
+	private final List<PathMatcher> globMatchers;
 
-	private final List<String> excludePatterns;
+	private final List<PathMatcher> excludeMatchers;
 
 	private final boolean loadHidden;
 
@@ -59,19 +86,47 @@ public class DocumentDirectoryParser implements DocumentParser {
 
 	private final Integer sampleSeed;
 
+	private final int parallelism;
+
+	private final int maxInFlight;
+
 	private DocumentDirectoryParser(Builder builder) {
+		if (builder.parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be greater than 0");
+		}
 		this.path = builder.path;
-		this.globPatterns = builder.globPatterns;
-		this.excludePatterns = builder.excludePatterns;
+		FileSystem fileSystem = FileSystems.getDefault();
+		this.globMatchers = builder.globPatterns.stream()
+			.map(pattern -> fileSystem.getPathMatcher("glob:" + pattern))
+			.toList();
+		this.excludeMatchers = builder.excludePatterns.stream()
+			.map(pattern -> fileSystem.getPathMatcher("glob:" + pattern))
+			.toList();
 		this.loadHidden = builder.loadHidden;
 		this.documentParser = builder.documentParser;
 		this.recursive = builder.recursive;
 		this.sampleSize = builder.sampleSize;
 		this.randomizeSample = builder.randomizeSample;
 		this.sampleSeed = builder.sampleSeed;
+		this.parallelism = builder.parallelism;
+		this.maxInFlight = builder.maxInFlight > 0 ? Math.max(builder.maxInFlight, builder.parallelism)
+				: 2 * builder.parallelism;
 	}
 
 	public List<Document> parse() {
+		try (Stream<Document> documents = stream(true)) {
+			return documents.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Lazily parses the directory. The returned stream must be closed when it is not
+	 * consumed to the end, to release the directory handle and the worker pool.
+	 * @param ordered whether documents are emitted in directory walk order, otherwise
+	 * in the order files finish parsing
+	 * @return the documents of all matching files
+	 */
+	public Stream<Document> stream(boolean ordered) {
 		Path dirPath = Paths.get(path);
 		if (!Files.exists(dirPath)) {
 			throw new RuntimeException("Directory not found: " + path);
@@ -80,20 +135,28 @@ public class DocumentDirectoryParser implements DocumentParser {
 			throw new RuntimeException("Expected directory, got file: " + path);
 		}
 
-		List<Path> filePaths = findFiles(dirPath);
+		Stream<Path> files;
 		if (sampleSize > 0) {
-			filePaths = sampleFiles(filePaths);
+			try (Stream<Path> found = findFiles(dirPath)) {
+				files = sampleFiles(found.collect(Collectors.toList())).stream();
+			}
+		}
+		else {
+			files = findFiles(dirPath);
 		}
 
-		Stream<Path> fileStream = filePaths.stream();
-
-		return fileStream.flatMap(this::loadDocumentsFromFile).filter(Objects::nonNull).collect(Collectors.toList());
+		ParsingIterator iterator = new ParsingIterator(files, ordered);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(iterator, ordered ? Spliterator.ORDERED : 0), false)
+			.onClose(iterator::close)
+			.flatMap(List::stream)
+			.filter(Objects::nonNull);
 	}
 
-	private List<Path> findFiles(Path dir) {
-		try (Stream<Path> stream = recursive ? Files.walk(dir) : Files.list(dir)) {
-
-			return stream.filter(this::isValidFile).collect(Collectors.toList());
+	private Stream<Path> findFiles(Path dir) {
+		try {
+			Stream<Path> stream = recursive ? Files.walk(dir) : Files.list(dir);
+			return stream.filter(this::isValidFile);
 		}
 		catch (IOException e) {
 			throw new RuntimeException("Error listing files", e);
@@ -123,21 +186,28 @@ public class DocumentDirectoryParser implements DocumentParser {
 	}
 
 	private boolean matchesGlob(Path path) {
-		return globPatterns.stream()
-			.anyMatch(
-					pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern).matches(path.getFileName()));
+		Path fileName = path.getFileName();
+		for (PathMatcher matcher : globMatchers) {
+			if (matcher.matches(fileName)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private boolean matchesExclude(Path path) {
-
-		return excludePatterns.stream()
-			.anyMatch(
-					pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern).matches(path.getFileName()));
+		Path fileName = path.getFileName();
+		for (PathMatcher matcher : excludeMatchers) {
+			if (matcher.matches(fileName)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
-	private Stream<Document> loadDocumentsFromFile(Path file) {
+	private List<Document> loadDocumentsFromFile(Path file) {
 		try (FileInputStream fileInputStream = new FileInputStream(file.toFile())) {
-			return documentParser.parse(fileInputStream).stream();
+			return documentParser.parse(fileInputStream);
 		}
 		catch (Exception e) {
 			throw new RuntimeException("Error loading file: " + file, e);
@@ -152,6 +222,106 @@ public class DocumentDirectoryParser implements DocumentParser {
 		return files.subList(0, Math.min(sampleSize, files.size()));
 	}
 
+	/**
+	 * Pulls file paths on demand and keeps at most {@code maxInFlight} of them submitted
+	 * to the worker pool, which is the back-pressure towards the directory walk.
+	 */
+	private final class ParsingIterator implements Iterator<List<Document>>, AutoCloseable {
+
+		private final Stream<Path> files;
+
+		private final Iterator<Path> pending;
+
+		private final boolean ordered;
+
+		private final ExecutorService executor;
+
+		// only used for unordered parsing, ordered parsing waits on the head of inFlight
+		private final CompletionService<List<Document>> completionService;
+
+		private final Deque<Future<List<Document>>> inFlight = new ArrayDeque<>();
+
+		private boolean closed;
+
+		private ParsingIterator(Stream<Path> files, boolean ordered) {
+			this.files = files;
+			this.pending = files.iterator();
+			this.ordered = ordered;
+			this.executor = Executors.newFixedThreadPool(parallelism, daemonThreadFactory());
+			this.completionService = ordered ? null : new ExecutorCompletionService<>(executor);
+		}
+
+		@Override
+		public boolean hasNext() {
+			fill();
+			if (inFlight.isEmpty()) {
+				close();
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public List<Document> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			try {
+				Future<List<Document>> done;
+				if (ordered) {
+					done = inFlight.removeFirst();
+				}
+				else {
+					done = completionService.take();
+					inFlight.remove(done);
+				}
+				List<Document> documents = done.get();
+				return documents != null ? documents : List.of();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				close();
+				throw new RuntimeException("Interrupted while parsing directory: " + path, e);
+			}
+			catch (ExecutionException e) {
+				close();
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw new RuntimeException(e.getCause());
+			}
+		}
+
+		private void fill() {
+			while (!closed && inFlight.size() < maxInFlight && pending.hasNext()) {
+				Path file = pending.next();
+				inFlight.addLast(ordered ? executor.submit(() -> loadDocumentsFromFile(file))
+						: completionService.submit(() -> loadDocumentsFromFile(file)));
+			}
+		}
+
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			inFlight.forEach(future -> future.cancel(true));
+			inFlight.clear();
+			executor.shutdownNow();
+			files.close();
+		}
+
+	}
+
+	private static ThreadFactory daemonThreadFactory() {
+		return runnable -> {
+			Thread thread = new Thread(runnable, "document-directory-parser-" + THREAD_COUNTER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
 	@Override
 	public List<org.springframework.ai.document.Document> parse(InputStream inputStream) {
 		return List.of();
@@ -177,6 +347,10 @@ public class DocumentDirectoryParser implements DocumentParser {
 
 		private Integer sampleSeed = null;
 
+		private int parallelism = 1;
+
+		private int maxInFlight = 0;
+
 		public Builder(String path) {
 			this.path = path;
 		}
@@ -206,6 +380,24 @@ public class DocumentDirectoryParser implements DocumentParser {
 			return this;
 		}
 
+		/**
+		 * Number of files parsed at the same time, defaults to 1. The configured
+		 * {@link DocumentParser} must be thread safe when greater than 1.
+		 */
+		public Builder parallelism(int parallelism) {
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		/**
+		 * Max number of files being parsed or waiting to be consumed, defaults to twice
+		 * the parallelism.
+		 */
+		public Builder maxInFlight(int maxInFlight) {
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+
 		public Builder sample(int size, boolean randomize, Integer seed) {
 			this.sampleSize = size;
 			this.randomizeSample = randomize;
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.parser.directory;
+
+import com.alibaba.cloud.ai.document.DocumentParser;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.document.Document;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Throughput and memory bound tests of the parallel directory parsing over a synthetic
+ * directory of small files.
+ */
+class DocumentDirectoryParserStreamTest {
+
+	private static final int FILE_COUNT = 5_000;
+
+	@TempDir
+	static Path directory;
+
+	@BeforeAll
+	static void createFiles() throws IOException {
+		for (int i = 0; i < FILE_COUNT; i++) {
+			Files.writeString(directory.resolve(String.format("file-%05d.txt", i)), "content " + i);
+		}
+		Files.writeString(directory.resolve("ignored.py"), "print('ignored')");
+	}
+
+	@Test
+	void testOrderedStreamMatchesSequentialParse() {
+		List<Document> sequential = parser(textParser(), 1).parse();
+		List<Document> parallel;
+		try (Stream<Document> documents = parser(textParser(), 8).stream(true)) {
+			parallel = documents.toList();
+		}
+
+		assertThat(sequential).hasSize(FILE_COUNT);
+		assertThat(parallel).extracting(Document::getText)
+			.containsExactlyElementsOf(sequential.stream().map(Document::getText).toList());
+	}
+
+	@Test
+	void testUnorderedStreamEmitsEveryDocument() {
+		try (Stream<Document> documents = parser(textParser(), 8).stream(false)) {
+			assertThat(documents.map(Document::getText).distinct().count()).isEqualTo(FILE_COUNT);
+		}
+	}
+
+	@Test
+	void testInFlightFilesAreBounded() {
+		AtomicInteger parsed = new AtomicInteger();
+		DocumentParser countingParser = inputStream -> {
+			parsed.incrementAndGet();
+			return textParser().parse(inputStream);
+		};
+		DocumentDirectoryParser parser = new DocumentDirectoryParser.Builder(directory.toString())
+			.documentParser(countingParser)
+			.glob("*.txt")
+			.parallelism(4)
+			.maxInFlight(8)
+			.build();
+
+		try (Stream<Document> documents = parser.stream(true)) {
+			assertThat(documents.limit(10).count()).isEqualTo(10);
+		}
+		// the first ten files plus at most one window ahead of the consumer
+		assertThat(parsed.get()).isLessThanOrEqualTo(10 + 8);
+	}
+
+	@Test
+	void testParseErrorIsPropagated() {
+		DocumentParser failingParser = inputStream -> {
+			throw new IllegalStateException("broken parser");
+		};
+
+		assertThatThrownBy(() -> parser(failingParser, 4).parse()).isInstanceOf(RuntimeException.class)
+			.hasMessageStartingWith("Error loading file: ")
+			.hasRootCauseMessage("broken parser");
+	}
+
+	private static DocumentDirectoryParser parser(DocumentParser documentParser, int parallelism) {
+		return new DocumentDirectoryParser.Builder(directory.toString()).documentParser(documentParser)
+			.glob("*.txt")
+			.parallelism(parallelism)
+			.build();
+	}
+
+	private static DocumentParser textParser() {
+		return inputStream -> {
+			try {
+				return List.of(new Document(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)));
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+	}
+
+}
@@ -17,6 +17,9 @@
 package com.alibaba.cloud.ai.parser.pdf.tables;
 
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -24,6 +27,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.alibaba.cloud.ai.document.DocumentParser;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import technology.tabula.ObjectExtractor;
 import technology.tabula.Page;
@@ -83,26 +87,37 @@ public class PdfTablesParser implements DocumentParser {
 
 	protected List<Table> extraTableData(InputStream in) throws Exception {
 
-		PDDocument document = PDDocument.load(in);
+		// spool to a file and keep decoded streams in scratch files, only the requested
+		// page is materialized instead of the whole document
+		Path file = Files.createTempFile("spring-ai-alibaba-pdf-tables-", ".pdf");
+		try {
+			Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
 
-		// check pdf files
-		int numberOfPages = document.getNumberOfPages();
-		if (numberOfPages < 0) {
+			try (PDDocument document = PDDocument.load(file.toFile(), MemoryUsageSetting.setupTempFileOnly())) {
 
-			throw new RuntimeException("No page found in the PDF file.");
-		}
+				// check pdf files
+				int numberOfPages = document.getNumberOfPages();
+				if (numberOfPages < 0) {
 
-		if (page > numberOfPages) {
+					throw new RuntimeException("No page found in the PDF file.");
+				}
 
-			throw new RuntimeException("The page number is greater than the number of pages in the PDF file.");
-		}
+				if (page > numberOfPages) {
 
-		SpreadsheetExtractionAlgorithm sea = new SpreadsheetExtractionAlgorithm();
+					throw new RuntimeException("The page number is greater than the number of pages in the PDF file.");
+				}
 
-		// extract page by page numbers.
-		Page extract = new ObjectExtractor(document).extract(this.page);
+				SpreadsheetExtractionAlgorithm sea = new SpreadsheetExtractionAlgorithm();
 
-		return sea.extract(extract);
+				// extract page by page numbers.
+				Page extract = new ObjectExtractor(document).extract(this.page);
+
+				return sea.extract(extract);
+			}
+		}
+		finally {
+			Files.deleteIfExists(file);
+		}
 	}
 
 	protected List<String> parseTables(List<Table> data) {
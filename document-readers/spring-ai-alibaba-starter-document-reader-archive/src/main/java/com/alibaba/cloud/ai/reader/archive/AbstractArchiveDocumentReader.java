@@ -23,15 +23,39 @@ import org.springframework.ai.document.DocumentReader;
 import org.springframework.core.io.Resource;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Abstract base class for archive-based {@link DocumentReader} implementations. Holds the
  * shared {@link Resource} and {@link DocumentParser} required for parsing entries from
  * various archive formats (ZIP, TAR, TGZ, etc.).
+ * <p>
+ * Entries are extracted one by one as the result stream is consumed and parsed
+ * concurrently within the {@link ArchiveLimits}: small entries are buffered in memory
+ * under a shared budget, large entries are spilled to temporary files, and entry size,
+ * total size and compression ratio are capped.
  *
  * @author aruato
  */
@@ -42,47 +66,57 @@ public abstract class AbstractArchiveDocumentReader<E extends ArchiveEntry> impl
 	 */
 	public static final String METADATA_SOURCE = "source";
 
+	/**
+	 * Uncompressed bytes extracted before the compression ratio is enforced, so that
+	 * small, highly compressible archives are not rejected.
+	 */
+	private static final long RATIO_CHECK_THRESHOLD = 1024 * 1024;
+
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
 	private final Resource resource;
 
 	private final DocumentParser parser;
 
 	private final String charset;
 
+	private final ArchiveLimits limits;
+
 	protected AbstractArchiveDocumentReader(Resource resource, DocumentParser parser, String charset) {
+		this(resource, parser, charset, ArchiveLimits.defaults());
+	}
+
+	protected AbstractArchiveDocumentReader(Resource resource, DocumentParser parser, String charset,
+			ArchiveLimits limits) {
 		this.resource = resource;
 		this.parser = parser;
 		this.charset = charset;
+		this.limits = limits != null ? limits : ArchiveLimits.defaults();
 	}
 
 	@Override
 	public List<Document> get() {
-		try (InputStream raw = resource.getInputStream();
-				ArchiveInputStream<E> ais = createArchiveStream(raw, charset)) {
-
-			List<Document> docs = new ArrayList<>();
-			E entry;
-			while ((entry = ais.getNextEntry()) != null) {
-				// ignore directories
-				if (entry.isDirectory()) {
-					continue;
-				}
-
-				// Read file content from the archive entry
-				byte[] entryContent = ais.readAllBytes();
+		try (Stream<Document> documents = stream()) {
+			return documents.toList();
+		}
+	}
 
-				// Parse entry content and enrich with metadata
-				try (InputStream entryInputStream = new ByteArrayInputStream(entryContent)) {
-					for (Document doc : parser.parse(entryInputStream)) {
-						doc.getMetadata().put(METADATA_SOURCE, entry.getName());
-						docs.add(doc);
-					}
-				}
-			}
-			return docs;
+	/**
+	 * Lazily extracts and parses the archive, documents are emitted in entry order. The
+	 * returned stream must be closed when it is not consumed to the end, to release the
+	 * archive, the worker threads and any temporary files.
+	 */
+	public Stream<Document> stream() {
+		ExtractingIterator iterator;
+		try {
+			iterator = new ExtractingIterator();
 		}
 		catch (IOException e) {
 			throw new RuntimeException(e);
 		}
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+			.onClose(iterator::close)
+			.flatMap(List::stream);
 	}
 
 	/**
@@ -97,4 +131,282 @@ public abstract class AbstractArchiveDocumentReader<E extends ArchiveEntry> impl
 	 */
 	protected abstract ArchiveInputStream<E> createArchiveStream(InputStream in, String charset) throws IOException;
 
+	private List<Document> parseEntry(ExtractedEntry entry) {
+		try (InputStream entryInputStream = entry.open()) {
+			List<Document> docs = parser.parse(entryInputStream);
+			for (Document doc : docs) {
+				doc.getMetadata().put(METADATA_SOURCE, entry.name());
+			}
+			return docs;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Extracted entry content, either in memory or in a temporary file.
+	 */
+	private record ExtractedEntry(String name, byte[] content, Path spillFile) {
+
+		InputStream open() throws IOException {
+			return spillFile != null ? Files.newInputStream(spillFile) : new ByteArrayInputStream(content);
+		}
+
+		long bufferedBytes() {
+			return content != null ? content.length : 0;
+		}
+
+		void delete() {
+			if (spillFile != null) {
+				try {
+					Files.deleteIfExists(spillFile);
+				}
+				catch (IOException ignored) {
+					// best effort, the file lives in the temp directory
+				}
+			}
+		}
+
+	}
+
+	private record ParseTask(ExtractedEntry entry, Future<List<Document>> result) {
+	}
+
+	/**
+	 * Reads entries on demand in the consuming thread and hands them to the worker pool
+	 * while the in-memory budget allows, parse results are returned in entry order.
+	 */
+	private final class ExtractingIterator implements Iterator<List<Document>>, AutoCloseable {
+
+		private final CountingInputStream raw;
+
+		private final ArchiveInputStream<E> archive;
+
+		private final ExecutorService executor;
+
+		private final Deque<ParseTask> inFlight = new ArrayDeque<>();
+
+		private final AtomicLong bufferedBytes = new AtomicLong();
+
+		private long totalBytes;
+
+		private boolean exhausted;
+
+		private boolean closed;
+
+		private ExtractingIterator() throws IOException {
+			this.raw = new CountingInputStream(resource.getInputStream());
+			try {
+				this.archive = createArchiveStream(raw, charset);
+			}
+			catch (IOException | RuntimeException e) {
+				raw.close();
+				throw e;
+			}
+			this.executor = Executors.newFixedThreadPool(limits.getParallelism(), runnable -> {
+				Thread thread = new Thread(runnable, "archive-document-reader-" + THREAD_COUNTER.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		@Override
+		public boolean hasNext() {
+			try {
+				fill();
+			}
+			catch (IOException e) {
+				close();
+				throw new RuntimeException(e);
+			}
+			catch (RuntimeException e) {
+				close();
+				throw e;
+			}
+			if (inFlight.isEmpty()) {
+				close();
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public List<Document> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			ParseTask task = inFlight.removeFirst();
+			try {
+				return task.result().get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				close();
+				throw new RuntimeException("Interrupted while parsing archive entry: " + task.entry().name(), e);
+			}
+			catch (ExecutionException e) {
+				close();
+				throw new RuntimeException("Error parsing archive entry: " + task.entry().name(), e.getCause());
+			}
+		}
+
+		/**
+		 * Extracts entries until the memory budget or the worker pool window is used up.
+		 */
+		private void fill() throws IOException {
+			int maxInFlight = 2 * limits.getParallelism();
+			while (!closed && !exhausted && inFlight.size() < maxInFlight
+					&& bufferedBytes.get() + limits.getInMemoryThreshold() <= limits.getMemoryBudget()) {
+				E entry = archive.getNextEntry();
+				if (entry == null) {
+					exhausted = true;
+					return;
+				}
+				// ignore directories
+				if (entry.isDirectory()) {
+					continue;
+				}
+				ExtractedEntry extracted = extract(entry);
+				bufferedBytes.addAndGet(extracted.bufferedBytes());
+				Future<List<Document>> result = executor.submit(() -> {
+					try {
+						return parseEntry(extracted);
+					}
+					finally {
+						bufferedBytes.addAndGet(-extracted.bufferedBytes());
+						extracted.delete();
+					}
+				});
+				inFlight.addLast(new ParseTask(extracted, result));
+			}
+		}
+
+		/**
+		 * Copies the current entry into memory, spilling to a temporary file once it
+		 * grows beyond the in-memory threshold.
+		 */
+		private ExtractedEntry extract(E entry) throws IOException {
+			String name = entry.getName();
+			if (entry.getSize() > limits.getMaxEntrySize()) {
+				throw new IOException("Archive entry " + name + " exceeds the maximum size of "
+						+ limits.getMaxEntrySize() + " bytes");
+			}
+			ByteArrayOutputStream memory = new ByteArrayOutputStream(
+					(int) Math.min(Math.max(entry.getSize(), 0), limits.getInMemoryThreshold()));
+			Path spillFile = null;
+			OutputStream out = memory;
+			long entryBytes = 0;
+			byte[] buffer = new byte[8192];
+			try {
+				int read;
+				while ((read = archive.read(buffer)) != -1) {
+					entryBytes += read;
+					totalBytes += read;
+					checkLimits(name, entryBytes);
+					if (spillFile == null && entryBytes > limits.getInMemoryThreshold()) {
+						spillFile = Files.createTempFile("archive-entry-", ".tmp");
+						out = Files.newOutputStream(spillFile);
+						memory.writeTo(out);
+						memory = null;
+					}
+					out.write(buffer, 0, read);
+				}
+			}
+			catch (IOException | RuntimeException e) {
+				if (spillFile != null) {
+					out.close();
+					Files.deleteIfExists(spillFile);
+				}
+				throw e;
+			}
+			if (spillFile != null) {
+				out.close();
+				return new ExtractedEntry(name, null, spillFile);
+			}
+			return new ExtractedEntry(name, memory.toByteArray(), null);
+		}
+
+		private void checkLimits(String name, long entryBytes) throws IOException {
+			if (entryBytes > limits.getMaxEntrySize()) {
+				throw new IOException("Archive entry " + name + " exceeds the maximum size of "
+						+ limits.getMaxEntrySize() + " bytes");
+			}
+			if (totalBytes > limits.getMaxTotalSize()) {
+				throw new IOException("Archive exceeds the maximum extracted size of " + limits.getMaxTotalSize()
+						+ " bytes");
+			}
+			if (totalBytes > RATIO_CHECK_THRESHOLD
+					&& totalBytes > limits.getMaxCompressionRatio() * Math.max(raw.getCount(), 1)) {
+				throw new IOException("Archive entry " + name + " exceeds the maximum compression ratio of "
+						+ limits.getMaxCompressionRatio());
+			}
+		}
+
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			for (ParseTask task : inFlight) {
+				// tasks that never started would otherwise leave their spill file behind
+				if (task.result().cancel(true)) {
+					task.entry().delete();
+				}
+			}
+			inFlight.clear();
+			executor.shutdownNow();
+			try {
+				archive.close();
+			}
+			catch (IOException ignored) {
+				// nothing left to read
+			}
+		}
+
+	}
+
+	/**
+	 * Counts the archive bytes read from the resource, used for the compression ratio.
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+
+		private long count;
+
+		private CountingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				count += n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+
+		long getCount() {
+			return count;
+		}
+
+	}
+
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.reader.archive;
+
+/**
+ * Resource limits applied while extracting an archive in
+ * {@link AbstractArchiveDocumentReader}.
+ * <p>
+ * Entries up to {@code inMemoryThreshold} bytes are buffered in memory, larger ones are
+ * spilled to temporary files. At most {@code memoryBudget} bytes of buffered entries
+ * wait for their parser at any time. {@code maxEntrySize}, {@code maxTotalSize} and
+ * {@code maxCompressionRatio} protect against compression bombs, exceeding any of them
+ * fails the read.
+ */
+public final class ArchiveLimits {
+
+	public static final long DEFAULT_MAX_ENTRY_SIZE = 512L * 1024 * 1024;
+
+	public static final long DEFAULT_MAX_TOTAL_SIZE = 4L * 1024 * 1024 * 1024;
+
+	public static final double DEFAULT_MAX_COMPRESSION_RATIO = 100;
+
+	public static final int DEFAULT_IN_MEMORY_THRESHOLD = 1024 * 1024;
+
+	public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+
+	public static final int DEFAULT_PARALLELISM = 1;
+
+	private final long maxEntrySize;
+
+	private final long maxTotalSize;
+
+	private final double maxCompressionRatio;
+
+	private final int inMemoryThreshold;
+
+	private final long memoryBudget;
+
+	private final int parallelism;
+
+	private ArchiveLimits(Builder builder) {
+		if (builder.maxEntrySize <= 0 || builder.maxTotalSize <= 0) {
+			throw new IllegalArgumentException("maxEntrySize and maxTotalSize must be greater than 0");
+		}
+		if (builder.maxCompressionRatio < 1) {
+			throw new IllegalArgumentException("maxCompressionRatio must be at least 1");
+		}
+		if (builder.inMemoryThreshold < 0 || builder.memoryBudget < builder.inMemoryThreshold) {
+			throw new IllegalArgumentException("memoryBudget must be at least inMemoryThreshold");
+		}
+		if (builder.parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be greater than 0");
+		}
+		this.maxEntrySize = builder.maxEntrySize;
+		this.maxTotalSize = builder.maxTotalSize;
+		this.maxCompressionRatio = builder.maxCompressionRatio;
+		this.inMemoryThreshold = builder.inMemoryThreshold;
+		this.memoryBudget = builder.memoryBudget;
+		this.parallelism = builder.parallelism;
+	}
+
+	public static ArchiveLimits defaults() {
+		return builder().build();
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public long getMaxEntrySize() {
+		return maxEntrySize;
+	}
+
+	public long getMaxTotalSize() {
+		return maxTotalSize;
+	}
+
+	public double getMaxCompressionRatio() {
+		return maxCompressionRatio;
+	}
+
+	public int getInMemoryThreshold() {
+		return inMemoryThreshold;
+	}
+
+	public long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public static final class Builder {
+
+		private long maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+
+		private long maxTotalSize = DEFAULT_MAX_TOTAL_SIZE;
+
+		private double maxCompressionRatio = DEFAULT_MAX_COMPRESSION_RATIO;
+
+		private int inMemoryThreshold = DEFAULT_IN_MEMORY_THRESHOLD;
+
+		private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+
+		private int parallelism = DEFAULT_PARALLELISM;
+
+		private Builder() {
+		}
+
+		/**
+		 * Max uncompressed size of a single entry.
+		 */
+		public Builder maxEntrySize(long maxEntrySize) {
+			this.maxEntrySize = maxEntrySize;
+			return this;
+		}
+
+		/**
+		 * Max uncompressed size of all entries together.
+		 */
+		public Builder maxTotalSize(long maxTotalSize) {
+			this.maxTotalSize = maxTotalSize;
+			return this;
+		}
+
+		/**
+		 * Max ratio between uncompressed bytes extracted and archive bytes read.
+		 */
+		public Builder maxCompressionRatio(double maxCompressionRatio) {
+			this.maxCompressionRatio = maxCompressionRatio;
+			return this;
+		}
+
+		/**
+		 * Entries larger than this are spilled to a temporary file.
+		 */
+		public Builder inMemoryThreshold(int inMemoryThreshold) {
+			this.inMemoryThreshold = inMemoryThreshold;
+			return this;
+		}
+
+		/**
+		 * Max bytes of in-memory entries waiting for or being parsed.
+		 */
+		public Builder memoryBudget(long memoryBudget) {
+			this.memoryBudget = memoryBudget;
+			return this;
+		}
+
+		/**
+		 * Number of entries parsed at the same time, defaults to 1. The
+		 * {@code DocumentParser} must be thread safe when greater than 1.
+		 */
+		public Builder parallelism(int parallelism) {
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		public ArchiveLimits build() {
+			return new ArchiveLimits(this);
+		}
+
+	}
+
+}
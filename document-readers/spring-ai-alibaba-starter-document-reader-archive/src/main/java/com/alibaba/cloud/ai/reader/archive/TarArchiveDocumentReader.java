@@ -58,6 +58,10 @@ public class TarArchiveDocumentReader extends AbstractArchiveDocumentReader<TarA
 		super(resource, parser, charset);
 	}
 
+	public TarArchiveDocumentReader(Resource resource, DocumentParser parser, String charset, ArchiveLimits limits) {
+		super(resource, parser, charset, limits);
+	}
+
 	@Override
 	protected ArchiveInputStream<TarArchiveEntry> createArchiveStream(InputStream in, String charset) {
 		return new TarArchiveInputStream(new BufferedInputStream(in), charset);
@@ -61,6 +61,10 @@ public class TgzArchiveDocumentReader extends AbstractArchiveDocumentReader<TarA
 		super(resource, parser, charset);
 	}
 
+	public TgzArchiveDocumentReader(Resource resource, DocumentParser parser, String charset, ArchiveLimits limits) {
+		super(resource, parser, charset, limits);
+	}
+
 	@Override
 	protected ArchiveInputStream<TarArchiveEntry> createArchiveStream(InputStream in, String charset)
 			throws IOException {
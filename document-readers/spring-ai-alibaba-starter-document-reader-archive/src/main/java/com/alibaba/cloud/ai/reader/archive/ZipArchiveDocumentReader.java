@@ -58,6 +58,10 @@ public class ZipArchiveDocumentReader extends AbstractArchiveDocumentReader<ZipA
 		super(resource, parser, charset);
 	}
 
+	public ZipArchiveDocumentReader(Resource resource, DocumentParser parser, String charset, ArchiveLimits limits) {
+		super(resource, parser, charset, limits);
+	}
+
 	@Override
 	protected ArchiveInputStream<ZipArchiveEntry> createArchiveStream(InputStream in, String charset) {
 		return new ZipArchiveInputStream(new BufferedInputStream(in), charset);
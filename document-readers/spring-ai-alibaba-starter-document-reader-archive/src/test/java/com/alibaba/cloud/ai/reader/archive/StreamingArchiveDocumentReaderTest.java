@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.reader.archive;
+
+import com.alibaba.cloud.ai.document.DocumentParser;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.document.Document;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the bounded-memory extraction of {@link AbstractArchiveDocumentReader} with
+ * generated archives containing a large entry and many small ones.
+ */
+class StreamingArchiveDocumentReaderTest {
+
+	private static final int SMALL_ENTRIES = 500;
+
+	private static final int LARGE_ENTRY_SIZE = 3 * 1024 * 1024;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void shouldStreamLargeAndSmallZipEntries() throws IOException {
+		Path zip = tempDir.resolve("mixed.zip");
+		try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(Files.newOutputStream(zip))) {
+			writeZipEntry(out, "large.bin", randomBytes(LARGE_ENTRY_SIZE));
+			for (int i = 0; i < SMALL_ENTRIES; i++) {
+				writeZipEntry(out, "small-" + i + ".txt", ("small " + i).getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		ArchiveLimits limits = ArchiveLimits.builder()
+			.inMemoryThreshold(64 * 1024)
+			.memoryBudget(256 * 1024)
+			.parallelism(4)
+			.build();
+		List<Document> documents = new ZipArchiveDocumentReader(new FileSystemResource(zip), sizeParser(),
+				"UTF-8", limits)
+			.get();
+
+		assertThat(documents).hasSize(SMALL_ENTRIES + 1);
+		assertThat(documents.get(0).getMetadata()).containsEntry(AbstractArchiveDocumentReader.METADATA_SOURCE,
+				"large.bin");
+		assertThat(documents.get(0).getText()).isEqualTo(String.valueOf(LARGE_ENTRY_SIZE));
+		assertThat(documents.get(SMALL_ENTRIES).getMetadata())
+			.containsEntry(AbstractArchiveDocumentReader.METADATA_SOURCE, "small-" + (SMALL_ENTRIES - 1) + ".txt");
+	}
+
+	@Test
+	void shouldStreamTarEntriesLazily() throws IOException {
+		Path tar = tempDir.resolve("many.tar");
+		try (TarArchiveOutputStream out = new TarArchiveOutputStream(Files.newOutputStream(tar))) {
+			for (int i = 0; i < SMALL_ENTRIES; i++) {
+				byte[] content = ("small " + i).getBytes(StandardCharsets.UTF_8);
+				TarArchiveEntry entry = new TarArchiveEntry("small-" + i + ".txt");
+				entry.setSize(content.length);
+				out.putArchiveEntry(entry);
+				out.write(content);
+				out.closeArchiveEntry();
+			}
+		}
+
+		AtomicInteger parsed = new AtomicInteger();
+		DocumentParser countingParser = inputStream -> {
+			parsed.incrementAndGet();
+			return sizeParser().parse(inputStream);
+		};
+		ArchiveLimits limits = ArchiveLimits.builder().parallelism(2).build();
+		try (Stream<Document> documents = new TarArchiveDocumentReader(new FileSystemResource(tar), countingParser,
+				"UTF-8", limits)
+			.stream()) {
+			assertThat(documents.limit(5).count()).isEqualTo(5);
+		}
+		// five consumed entries plus at most one window of two per worker
+		assertThat(parsed.get()).isLessThanOrEqualTo(5 + 4);
+	}
+
+	@Test
+	void shouldRejectCompressionBomb() throws IOException {
+		Path zip = tempDir.resolve("bomb.zip");
+		try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(Files.newOutputStream(zip))) {
+			writeZipEntry(out, "zeros.bin", new byte[32 * 1024 * 1024]);
+		}
+
+		ZipArchiveDocumentReader reader = new ZipArchiveDocumentReader(new FileSystemResource(zip), sizeParser());
+
+		assertThatThrownBy(reader::get).isInstanceOf(RuntimeException.class)
+			.hasMessageContaining("compression ratio");
+	}
+
+	@Test
+	void shouldRejectOversizedEntry() throws IOException {
+		Path zip = tempDir.resolve("large.zip");
+		try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(Files.newOutputStream(zip))) {
+			writeZipEntry(out, "large.bin", randomBytes(LARGE_ENTRY_SIZE));
+		}
+
+		ArchiveLimits limits = ArchiveLimits.builder().maxEntrySize(1024 * 1024).build();
+		ZipArchiveDocumentReader reader = new ZipArchiveDocumentReader(new FileSystemResource(zip), sizeParser(),
+				"UTF-8", limits);
+
+		assertThatThrownBy(reader::get).isInstanceOf(RuntimeException.class).hasMessageContaining("maximum size");
+	}
+
+	private static void writeZipEntry(ZipArchiveOutputStream out, String name, byte[] content) throws IOException {
+		out.putArchiveEntry(new ZipArchiveEntry(name));
+		out.write(content);
+		out.closeArchiveEntry();
+	}
+
+	private static byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(42).nextBytes(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Returns one document holding the number of bytes of the entry.
+	 */
+	private static DocumentParser sizeParser() {
+		return inputStream -> {
+			try {
+				long size = inputStream.transferTo(OutputStream.nullOutputStream());
+				return List.of(new Document(String.valueOf(size)));
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+	}
+
+}
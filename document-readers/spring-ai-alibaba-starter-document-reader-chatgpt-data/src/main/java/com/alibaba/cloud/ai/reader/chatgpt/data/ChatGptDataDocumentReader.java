@@ -16,20 +16,28 @@
 package com.alibaba.cloud.ai.reader.chatgpt.data;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -37,7 +45,8 @@ import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentReader;
 
 /**
- * Document reader for loading exported ChatGPT conversation data
+ * Document reader for loading exported ChatGPT conversation data. The export is parsed
+ * incrementally, one conversation at a time.
  *
  * @author brianxiadong
  */
@@ -78,14 +87,28 @@ public class ChatGptDataDocumentReader implements DocumentReader {
 			return "";
 		}
 
-		String role = messageNode.get("role").asText();
+		// flat messages carry the role, exported ones an author
+		JsonNode roleNode = messageNode.has("role") ? messageNode.get("role") : messageNode.path("author").get("role");
+		if (roleNode == null) {
+			return "";
+		}
+		String role = roleNode.asText();
 
 		JsonNode content = messageNode.get("content");
+		if (content == null || content.path("parts").isEmpty()) {
+			return "";
+		}
 		JsonNode parts = content.get("parts");
 		String text = parts.get(0).asText();
 
-		String createTimeStr = messageNode.get("create_time").asText();
-		LocalDateTime dateTime = LocalDateTime.parse(createTimeStr, DateTimeFormatter.ISO_DATE_TIME);
+		JsonNode createTime = messageNode.get("create_time");
+		if (createTime == null || createTime.isNull()) {
+			return "";
+		}
+		// exports use epoch seconds
+		LocalDateTime dateTime = createTime.isNumber()
+				? LocalDateTime.ofEpochSecond(createTime.asLong(), 0, ZoneOffset.UTC)
+				: LocalDateTime.parse(createTime.asText(), DateTimeFormatter.ISO_DATE_TIME);
 		String formattedDate = dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
 
 		return String.format("%s - %s on %s: %s\n\n", title, role, formattedDate, text);
@@ -93,47 +116,127 @@ public class ChatGptDataDocumentReader implements DocumentReader {
 
 	@Override
 	public List<Document> get() {
-		try {
-			String jsonContent = Files.readString(Paths.get(logFilePath), StandardCharsets.UTF_8);
-			JsonNode data = objectMapper.readTree(jsonContent);
-
+		try (Stream<Document> documents = stream()) {
 			// Determine how many conversations to process
-			int limit = numLogs > 0 ? Math.min(numLogs, data.size()) : data.size();
-
-			// Process each conversation
-			return IntStream.range(0, limit).mapToObj(i -> {
-				JsonNode conversation = data.get(i);
-				String title = conversation.get("title").asText();
-				JsonNode mapping = conversation.get("mapping");
-
-				// Build the conversation text by processing each message
-				StringBuilder conversationText = new StringBuilder();
-
-				// Iterate through all messages in the mapping
-				StreamSupport
-					.stream(Spliterators.spliteratorUnknownSize(mapping.fieldNames(), Spliterator.ORDERED), false)
-					.forEach(key -> {
-						JsonNode messageNode = mapping.get(key);
-						String messageText = processMessage(messageNode, title);
-						if (!messageText.isEmpty()) {
-							conversationText.append(messageText);
-						}
-					});
-
-				// Create document metadata
-				Map<String, Object> metadata = new HashMap<>();
-				metadata.put("source", logFilePath);
-				metadata.put("title", title);
-				metadata.put("id", conversation.get("id").asText());
-				metadata.put("create_time", conversation.get("create_time").asText());
-
-				// Return new Document object
-				return new Document(conversationText.toString(), metadata);
-			}).collect(Collectors.toList());
+			return (numLogs > 0 ? documents.limit(numLogs) : documents).collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Lazily read the conversations of the export. The file is walked with a streaming
+	 * parser and only the conversation being converted is held in memory, so the size of
+	 * the export does not matter. The returned stream must be closed.
+	 * @return stream of one document per conversation
+	 */
+	public Stream<Document> stream() {
+		JsonParser parser;
+		try {
+			parser = objectMapper.getFactory().createParser(Files.newInputStream(Paths.get(logFilePath)));
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				parser.close();
+				throw new IOException("Expected a JSON array of conversations");
+			}
 		}
 		catch (IOException e) {
 			throw new RuntimeException("Failed to load ChatGPT data from file: " + logFilePath, e);
 		}
+
+		Iterator<Document> iterator = new Iterator<>() {
+
+			private Document next;
+
+			private boolean done;
+
+			@Override
+			public boolean hasNext() {
+				if (next == null && !done) {
+					try {
+						if (parser.nextToken() == JsonToken.START_OBJECT) {
+							next = toDocument(objectMapper.readTree(parser));
+						}
+						else {
+							done = true;
+							parser.close();
+						}
+					}
+					catch (IOException e) {
+						throw new RuntimeException("Failed to load ChatGPT data from file: " + logFilePath, e);
+					}
+				}
+				return next != null;
+			}
+
+			@Override
+			public Document next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				Document document = next;
+				next = null;
+				return document;
+			}
+
+		};
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+			.onClose(() -> {
+				try {
+					parser.close();
+				}
+				catch (IOException e) {
+					throw new RuntimeException("Failed to close ChatGPT data file: " + logFilePath, e);
+				}
+			});
+	}
+
+	private Document toDocument(JsonNode conversation) {
+		String title = conversation.get("title").asText();
+
+		// Build the conversation text by processing each message
+		StringBuilder conversationText = new StringBuilder();
+		for (JsonNode messageNode : linearize(conversation)) {
+			String messageText = processMessage(messageNode, title);
+			if (!messageText.isEmpty()) {
+				conversationText.append(messageText);
+			}
+		}
+
+		// Create document metadata
+		Map<String, Object> metadata = new HashMap<>();
+		metadata.put("source", logFilePath);
+		metadata.put("title", title);
+		metadata.put("id", conversation.path("id").asText());
+		metadata.put("create_time", conversation.path("create_time").asText());
+
+		// Return new Document object
+		return new Document(conversationText.toString(), metadata);
+	}
+
+	/**
+	 * Messages of a conversation in order. Exports store a message tree in which every
+	 * edit or regeneration opens a branch, only the branch ending at
+	 * {@code current_node} is the conversation as last seen, so it is followed from that
+	 * node up to the root. Mappings without a tree are taken in document order.
+	 */
+	private List<JsonNode> linearize(JsonNode conversation) {
+		JsonNode mapping = conversation.path("mapping");
+		List<JsonNode> messages = new ArrayList<>();
+		String currentNode = conversation.path("current_node").asText(null);
+		if (currentNode != null && mapping.has(currentNode)) {
+			Set<String> visited = new HashSet<>();
+			for (String key = currentNode; key != null && mapping.has(key) && visited.add(key);) {
+				JsonNode node = mapping.get(key);
+				messages.add(node.has("message") ? node.get("message") : node);
+				JsonNode parent = node.get("parent");
+				key = parent == null || parent.isNull() ? null : parent.asText();
+			}
+			Collections.reverse(messages);
+			return messages;
+		}
+
+		// Iterate through all messages in the mapping
+		mapping.elements().forEachRemaining(node -> messages.add(node.has("message") ? node.get("message") : node));
+		return messages;
 	}
 
 }
@@ -15,10 +15,19 @@
  */
 package com.alibaba.cloud.ai.reader.chatgpt.data;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.ai.document.Document;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -61,4 +70,80 @@ class ChatGptDataDocumentReaderTests {
 		});
 	}
 
+	@Test
+	void shouldStreamLargeExport(@TempDir Path tempDir) throws IOException {
+		Path file = tempDir.resolve("conversations.json");
+		int conversations = 20_000;
+		try (OutputStream out = Files.newOutputStream(file);
+				JsonGenerator generator = new ObjectMapper().getFactory().createGenerator(out)) {
+			generator.writeStartArray();
+			for (int i = 0; i < conversations; i++) {
+				generator.writeStartObject();
+				generator.writeStringField("id", "conversation_" + i);
+				generator.writeStringField("title", "Title " + i);
+				generator.writeNumberField("create_time", 1_700_000_000L + i);
+				generator.writeObjectFieldStart("mapping");
+				for (int m = 0; m < 5; m++) {
+					generator.writeObjectFieldStart("message_" + m);
+					generator.writeStringField("role", m % 2 == 0 ? "user" : "assistant");
+					generator.writeObjectFieldStart("content");
+					generator.writeArrayFieldStart("parts");
+					generator.writeString("message " + m + " of conversation " + i);
+					generator.writeEndArray();
+					generator.writeEndObject();
+					generator.writeNumberField("create_time", 1_700_000_000L + i);
+					generator.writeEndObject();
+				}
+				generator.writeEndObject();
+				generator.writeEndObject();
+			}
+			generator.writeEndArray();
+		}
+
+		ChatGptDataDocumentReader reader = new ChatGptDataDocumentReader(file.toString());
+		try (Stream<Document> documents = reader.stream()) {
+			Iterator<Document> iterator = documents.iterator();
+			int count = 0;
+			while (iterator.hasNext()) {
+				Document document = iterator.next();
+				assertThat(document.getMetadata()).containsEntry("id", "conversation_" + count);
+				count++;
+			}
+			assertThat(count).isEqualTo(conversations);
+		}
+	}
+
+	@Test
+	void shouldFollowCurrentBranchOfMessageTree(@TempDir Path tempDir) throws IOException {
+		// the first answer was regenerated, only the second one is on the current branch
+		String export = """
+				[{
+				  "id": "c1", "title": "Tree", "create_time": 1700000000.5, "current_node": "a2",
+				  "mapping": {
+				    "root": {"id": "root", "message": null, "parent": null, "children": ["q"]},
+				    "q": {"id": "q", "parent": "root", "children": ["a1", "a2"], "message": {
+				      "author": {"role": "user"}, "create_time": 1700000001.2,
+				      "content": {"content_type": "text", "parts": ["question"]}}},
+				    "a1": {"id": "a1", "parent": "q", "children": [], "message": {
+				      "author": {"role": "assistant"}, "create_time": 1700000002.0,
+				      "content": {"content_type": "text", "parts": ["discarded answer"]}}},
+				    "a2": {"id": "a2", "parent": "q", "children": [], "message": {
+				      "author": {"role": "assistant"}, "create_time": 1700000003.0,
+				      "content": {"content_type": "text", "parts": ["final answer"]}}}
+				  }
+				}]
+				""";
+		Path file = tempDir.resolve("conversations.json");
+		Files.writeString(file, export);
+
+		List<Document> documents = new ChatGptDataDocumentReader(file.toString()).get();
+
+		assertThat(documents).hasSize(1);
+		String text = documents.get(0).getText();
+		assertThat(text).contains("Tree - user on 2023-11-14 22:13:21: question")
+			.contains("Tree - assistant on 2023-11-14 22:13:23: final answer")
+			.doesNotContain("discarded answer");
+		assertThat(text.indexOf("question")).isLessThan(text.indexOf("final answer"));
+	}
+
 }
@@ -72,6 +72,16 @@ public class ElasticsearchConfig {
 	 */
 	private String scheme = "http";
 
+	/**
+	 * Number of hits fetched per request when streaming documents
+	 */
+	private int pageSize = 1000;
+
+	/**
+	 * How long the point in time of a streaming read is kept alive between two requests
+	 */
+	private String pitKeepAlive = "1m";
+
 	// Getters and Setters
 	public String getHost() {
 		return host;
@@ -145,4 +155,20 @@ public class ElasticsearchConfig {
 		this.scheme = scheme;
 	}
 
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	public void setPageSize(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
+	public String getPitKeepAlive() {
+		return pitKeepAlive;
+	}
+
+	public void setPitKeepAlive(String pitKeepAlive) {
+		this.pitKeepAlive = pitKeepAlive;
+	}
+
 }
@@ -16,8 +16,13 @@
 package com.alibaba.cloud.ai.document.reader.es;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.Time;
 import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
@@ -41,12 +46,29 @@ import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A DocumentReader implementation that reads documents from Elasticsearch. Supports basic
  * authentication and customizable query field.
+ * <p>
+ * {@link #get()} and {@link #readWithQuery(String)} return at most
+ * {@code maxResults} documents. {@link #stream()} reads the whole index page by page
+ * through a point in time with {@code search_after}, so it is neither limited by the
+ * {@code max_result_window} nor holds more than a page in memory.
  *
  * @author brianxiadong
  * @since 0.0.1
@@ -140,6 +162,120 @@ public class ElasticsearchDocumentReader implements DocumentReader {
 		}
 	}
 
+	/**
+	 * Lazily read all documents of the index. The returned stream holds a point in time
+	 * and must be closed.
+	 * @return Stream of all documents
+	 */
+	public Stream<Document> stream() {
+		return stream(Query.of(q -> q.matchAll(m -> m)));
+	}
+
+	/**
+	 * Lazily read all documents matching the specified query. The returned stream holds
+	 * a point in time and must be closed.
+	 * @param query The search query
+	 * @return Stream of matching documents
+	 */
+	public Stream<Document> stream(String query) {
+		return stream(matchQuery(query));
+	}
+
+	private Stream<Document> stream(Query query) {
+		PitIterator iterator = new PitIterator(query, openPointInTime(), null, null, true);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(iterator::close);
+	}
+
+	/**
+	 * Read all documents matching the specified query with {@code slices} sliced
+	 * searches over one point in time running in parallel. Documents are handed to
+	 * {@code consumer} as they arrive, from several threads and in no particular order.
+	 * @param query The search query, null to read all documents
+	 * @param slices Number of slices
+	 * @param consumer Thread safe consumer of the documents
+	 */
+	public void readSliced(String query, int slices, Consumer<Document> consumer) {
+		if (slices <= 0) {
+			throw new IllegalArgumentException("slices must be greater than 0");
+		}
+		Query searchQuery = StringUtils.hasText(query) ? matchQuery(query) : Query.of(q -> q.matchAll(m -> m));
+		String pitId = openPointInTime();
+		try {
+			if (slices == 1) {
+				new PitIterator(searchQuery, pitId, null, slices, false).forEachRemaining(consumer);
+				return;
+			}
+			readSlices(searchQuery, pitId, slices, consumer);
+		}
+		finally {
+			closePointInTime(pitId);
+		}
+	}
+
+	/**
+	 * Read every slice on its own thread of a dedicated pool, so the blocking searches
+	 * do not occupy the common ForkJoinPool. The remaining slices are cancelled as soon
+	 * as one of them fails.
+	 */
+	private void readSlices(Query searchQuery, String pitId, int slices, Consumer<Document> consumer) {
+		AtomicInteger threadIndex = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(slices, r -> {
+			Thread thread = new Thread(r, "es-reader-slice-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> futures = new ArrayList<>(slices);
+			for (int i = 0; i < slices; i++) {
+				int slice = i;
+				futures.add(executor.submit(() -> new PitIterator(searchQuery, pitId, slice, slices, false)
+					.forEachRemaining(consumer)));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while reading Elasticsearch slices", e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new RuntimeException("Failed to read Elasticsearch slice", e.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private Query matchQuery(String query) {
+		return Query.of(q -> q.match(new MatchQuery.Builder().field(config.getQueryField()).query(query).build()));
+	}
+
+	private String openPointInTime() {
+		try {
+			return client
+				.openPointInTime(o -> o.index(config.getIndex()).keepAlive(Time.of(t -> t.time(config.getPitKeepAlive()))))
+				.id();
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to open point in time on Elasticsearch index: " + config.getIndex(), e);
+		}
+	}
+
+	private void closePointInTime(String pitId) {
+		try {
+			client.closePointInTime(c -> c.id(pitId));
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to close Elasticsearch point in time", e);
+		}
+	}
+
 	private ElasticsearchClient createClient()
 			throws NoSuchAlgorithmException, KeyStoreException, KeyManagementException {
 		// Create HttpHosts for all nodes
@@ -185,4 +321,99 @@ public class ElasticsearchDocumentReader implements DocumentReader {
 		return new ElasticsearchClient(transport);
 	}
 
+	/**
+	 * Pages through a point in time with {@code search_after}, sorted by
+	 * {@code _shard_doc} so that every hit has a unique and stable position.
+	 */
+	private class PitIterator implements Iterator<Document> {
+
+		private final Query query;
+
+		private final Integer slice;
+
+		private final Integer slices;
+
+		private final boolean ownsPit;
+
+		private String pitId;
+
+		private List<FieldValue> searchAfter;
+
+		private Iterator<Document> page;
+
+		private boolean exhausted;
+
+		private boolean closed;
+
+		PitIterator(Query query, String pitId, Integer slice, Integer slices, boolean ownsPit) {
+			this.query = query;
+			this.pitId = pitId;
+			this.slice = slice;
+			this.slices = slices;
+			this.ownsPit = ownsPit;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (this.page == null || !this.page.hasNext()) {
+				if (this.exhausted) {
+					close();
+					return false;
+				}
+				fetchPage();
+			}
+			return true;
+		}
+
+		@Override
+		public Document next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return this.page.next();
+		}
+
+		private void fetchPage() {
+			SearchResponse<Map> response;
+			try {
+				response = client.search(s -> {
+					s.pit(p -> p.id(this.pitId).keepAlive(Time.of(t -> t.time(config.getPitKeepAlive()))))
+						.query(this.query)
+						.size(config.getPageSize())
+						.sort(so -> so.field(f -> f.field("_shard_doc").order(SortOrder.Asc)));
+					if (this.searchAfter != null) {
+						s.searchAfter(this.searchAfter);
+					}
+					if (this.slice != null) {
+						s.slice(sl -> sl.id(String.valueOf(this.slice)).max(this.slices));
+					}
+					return s;
+				}, Map.class);
+			}
+			catch (IOException e) {
+				close();
+				throw new RuntimeException("Failed to stream documents from Elasticsearch", e);
+			}
+			if (response.pitId() != null) {
+				this.pitId = response.pitId();
+			}
+			List<Hit<Map>> hits = response.hits().hits();
+			if (!hits.isEmpty()) {
+				this.searchAfter = hits.get(hits.size() - 1).sort();
+			}
+			// a short page is the last one
+			this.exhausted = hits.size() < config.getPageSize();
+			this.page = getDocuments(response).iterator();
+		}
+
+		void close() {
+			this.exhausted = true;
+			if (this.ownsPit && !this.closed) {
+				this.closed = true;
+				closePointInTime(this.pitId);
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.document.reader.es;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the point in time streaming of ElasticsearchDocumentReader against a local HTTP
+ * stub serving {@code search_after} pages.
+ */
+class ElasticsearchDocumentReaderStreamTest {
+
+	private static final int DOCUMENTS = 2_500;
+
+	private static final int PAGE_SIZE = 100;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final AtomicInteger searches = new AtomicInteger();
+
+	private final AtomicInteger openPits = new AtomicInteger();
+
+	private HttpServer server;
+
+	private ElasticsearchDocumentReader reader;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", this::handle);
+		server.start();
+
+		ElasticsearchConfig config = new ElasticsearchConfig();
+		config.setHost("localhost");
+		config.setPort(server.getAddress().getPort());
+		config.setIndex("docs");
+		config.setQueryField("content");
+		config.setPageSize(PAGE_SIZE);
+		reader = new ElasticsearchDocumentReader(config);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void streamReadsBeyondMaxResults() {
+		List<Document> documents;
+		try (Stream<Document> stream = reader.stream()) {
+			documents = stream.collect(Collectors.toList());
+		}
+
+		assertThat(documents).hasSize(DOCUMENTS);
+		for (int i = 0; i < DOCUMENTS; i++) {
+			assertThat(documents.get(i).getText()).isEqualTo("content " + i);
+		}
+		// 25 full pages and an empty one
+		assertThat(searches.get()).isEqualTo(DOCUMENTS / PAGE_SIZE + 1);
+		assertThat(openPits.get()).isZero();
+	}
+
+	@Test
+	void streamIsLazyAndReleasesPitOnClose() {
+		try (Stream<Document> stream = reader.stream()) {
+			assertThat(stream.limit(150).count()).isEqualTo(150);
+			assertThat(searches.get()).isEqualTo(2);
+			assertThat(openPits.get()).isEqualTo(1);
+		}
+		assertThat(openPits.get()).isZero();
+	}
+
+	@Test
+	void readSlicedVisitsEveryDocumentOnce() {
+		Set<String> contents = ConcurrentHashMap.newKeySet();
+		AtomicInteger count = new AtomicInteger();
+
+		reader.readSliced(null, 4, document -> {
+			contents.add(document.getText());
+			count.incrementAndGet();
+		});
+
+		assertThat(count.get()).isEqualTo(DOCUMENTS);
+		assertThat(contents).hasSize(DOCUMENTS);
+		assertThat(openPits.get()).isZero();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		String method = exchange.getRequestMethod();
+		JsonNode body = objectMapper.readTree(exchange.getRequestBody().readAllBytes());
+
+		ObjectNode response = objectMapper.createObjectNode();
+		if (path.equals("/docs/_pit")) {
+			openPits.incrementAndGet();
+			response.put("id", "pit-1");
+		}
+		else if (path.equals("/_pit") && method.equals("DELETE")) {
+			openPits.decrementAndGet();
+			response.put("succeeded", true).put("num_freed", 1);
+		}
+		else if (path.equals("/_search")) {
+			searches.incrementAndGet();
+			response = search(body);
+		}
+		else {
+			exchange.sendResponseHeaders(404, -1);
+			exchange.close();
+			return;
+		}
+
+		byte[] bytes = objectMapper.writeValueAsBytes(response);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	/**
+	 * Serves the documents after {@code search_after} in position order, documents are
+	 * assigned to slices by position.
+	 */
+	private ObjectNode search(JsonNode body) {
+		assertThat(body.path("pit").path("id").asText()).isEqualTo("pit-1");
+		int size = body.path("size").asInt();
+		long after = body.has("search_after") ? body.path("search_after").get(0).asLong() : -1;
+		int slice = body.path("slice").path("id").asInt(0);
+		int slices = body.path("slice").path("max").asInt(1);
+
+		ArrayNode hits = objectMapper.createArrayNode();
+		for (long i = after + 1; i < DOCUMENTS && hits.size() < size; i++) {
+			if (i % slices != slice) {
+				continue;
+			}
+			ObjectNode hit = hits.addObject();
+			hit.put("_index", "docs").put("_id", String.valueOf(i));
+			hit.putObject("_source").put("content", "content " + i).put("position", i);
+			hit.putArray("sort").add(i);
+		}
+
+		ObjectNode response = objectMapper.createObjectNode();
+		response.put("took", 1).put("timed_out", false).put("pit_id", "pit-1");
+		response.putObject("_shards").put("total", 1).put("successful", 1).put("skipped", 0).put("failed", 0);
+		ObjectNode hitsNode = response.putObject("hits");
+		hitsNode.putObject("total").put("value", DOCUMENTS).put("relation", "eq");
+		hitsNode.putNull("max_score");
+		hitsNode.set("hits", hits);
+		return response;
+	}
+
+}
@@ -40,6 +40,8 @@ public class GitHubDocumentReader implements DocumentReader {
 
 	private List<GitHubResource> gitHubResourceList;
 
+	private GitHubRepositoryFetcher fetcher;
+
 	public GitHubDocumentReader(GitHubResource gitHubResource, DocumentParser parser) {
 		this.gitHubResource = gitHubResource;
 		this.parser = parser;
@@ -50,10 +52,21 @@ public class GitHubDocumentReader implements DocumentReader {
 		this.parser = parser;
 	}
 
+	/**
+	 * Read every file fetched by the given fetcher, concurrently and with its cache.
+	 */
+	public GitHubDocumentReader(GitHubRepositoryFetcher fetcher, DocumentParser parser) {
+		this.fetcher = fetcher;
+		this.parser = parser;
+	}
+
 	@Override
 	public List<Document> get() {
 		List<Document> documents = new ArrayList<>();
-		if (!Objects.isNull(gitHubResourceList) && !gitHubResourceList.isEmpty()) {
+		if (fetcher != null) {
+			loadDocuments(documents, fetcher.fetch());
+		}
+		else if (!Objects.isNull(gitHubResourceList) && !gitHubResourceList.isEmpty()) {
 			processResourceList(documents);
 		}
 		else if (gitHubResource != null) {
@@ -92,4 +105,17 @@ public class GitHubDocumentReader implements DocumentReader {
 		}
 	}
 
+	private void loadDocuments(List<Document> documents, List<GitHubRepositoryFetcher.GitHubFile> files) {
+		for (GitHubRepositoryFetcher.GitHubFile file : files) {
+			for (Document document : parser.parse(file.getInputStream())) {
+				Map<String, Object> metadata = document.getMetadata();
+				metadata.put("github_file_name", file.getName());
+				metadata.put("github_file_path", file.path());
+				metadata.put("github_file_sha", file.sha());
+				metadata.put("github_file_size", Long.toString(file.size()));
+				documents.add(document);
+			}
+		}
+	}
+
 }
@@ -0,0 +1,374 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.reader.github;
+
+import com.alibaba.cloud.ai.document.RateLimitBudget;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetches the files of a GitHub repository through the git trees and blobs API.
+ * <p>
+ * The whole tree is listed with one request and blobs are downloaded with a bounded
+ * number of concurrent requests. The remaining rate-limit budget reported by every
+ * response caps the requests in flight, and requests wait for the reset once it is
+ * exhausted. With a cache directory, blobs are stored by SHA and never downloaded again,
+ * and the tree listing is revalidated with its ETag so an unchanged repository costs a
+ * single {@code 304 Not Modified}.
+ *
+ * @since 1.0.0
+ */
+public class GitHubRepositoryFetcher {
+
+	private static final Logger logger = LoggerFactory.getLogger(GitHubRepositoryFetcher.class);
+
+	public static final String DEFAULT_API_URL = "https://api.github.com";
+
+	public static final int DEFAULT_CONCURRENCY = 8;
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final String apiUrl;
+
+	private final String token;
+
+	private final String owner;
+
+	private final String repo;
+
+	private final String branch;
+
+	private final String path;
+
+	private final int concurrency;
+
+	private final Path cacheDirectory;
+
+	private final HttpClient httpClient;
+
+	private final RateLimitBudget rateLimitBudget;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private GitHubRepositoryFetcher(Builder builder) {
+		this.apiUrl = builder.apiUrl.endsWith("/") ? builder.apiUrl.substring(0, builder.apiUrl.length() - 1)
+				: builder.apiUrl;
+		this.token = builder.gitHubToken;
+		this.owner = builder.owner;
+		this.repo = builder.repo;
+		this.branch = builder.branch;
+		this.path = builder.path;
+		this.concurrency = builder.concurrency;
+		this.cacheDirectory = builder.cacheDirectory;
+		this.httpClient = builder.httpClient != null ? builder.httpClient
+				: HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+		this.rateLimitBudget = new RateLimitBudget(builder.concurrency, "X-RateLimit-Remaining", "X-RateLimit-Reset");
+	}
+
+	/**
+	 * Fetch the files under the configured path.
+	 * @return files in tree order
+	 */
+	public List<GitHubFile> fetch() {
+		List<JsonNode> blobs = new ArrayList<>();
+		try {
+			JsonNode tree = objectMapper.readTree(getTree());
+			if (tree.path("truncated").asBoolean()) {
+				logger.warn("Tree of {}/{} at {} is truncated by GitHub, some files are missing", owner, repo, branch);
+			}
+			String prefix = path.isEmpty() || path.endsWith("/") ? path : path + "/";
+			for (JsonNode entry : tree.path("tree")) {
+				String entryPath = entry.path("path").asText();
+				if ("blob".equals(entry.path("type").asText())
+						&& (path.isEmpty() || entryPath.equals(path) || entryPath.startsWith(prefix))) {
+					blobs.add(entry);
+				}
+			}
+		}
+		catch (IOException ioException) {
+			throw new RuntimeException("Failed to list repository from GitHub: " + owner + "/" + repo, ioException);
+		}
+		catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(interruptedException);
+		}
+
+		AtomicInteger threadIndex = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+			Thread thread = new Thread(runnable, "github-fetcher-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<GitHubFile>> futures = new ArrayList<>(blobs.size());
+			for (JsonNode blob : blobs) {
+				futures.add(executor.submit(() -> fetchBlob(blob)));
+			}
+			List<GitHubFile> files = new ArrayList<>(futures.size());
+			for (Future<GitHubFile> future : futures) {
+				files.add(future.get());
+			}
+			return files;
+		}
+		catch (ExecutionException executionException) {
+			throw new RuntimeException("Failed to read document from GitHub", executionException.getCause());
+		}
+		catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(interruptedException);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private byte[] getTree() throws IOException, InterruptedException {
+		String uri = String.format("%s/repos/%s/%s/git/trees/%s?recursive=1", apiUrl, owner, repo, branch);
+		HttpRequest.Builder request = newRequest(uri).header("Accept", "application/vnd.github+json");
+		Path etagFile = null;
+		Path bodyFile = null;
+		if (cacheDirectory != null) {
+			String key = sha256(uri);
+			etagFile = cacheDirectory.resolve("responses").resolve(key + ".etag");
+			bodyFile = cacheDirectory.resolve("responses").resolve(key + ".json");
+			if (Files.exists(etagFile) && Files.exists(bodyFile)) {
+				request.header("If-None-Match", Files.readString(etagFile));
+			}
+		}
+
+		HttpResponse<byte[]> response = send(request);
+		if (response.statusCode() == 304 && bodyFile != null) {
+			logger.debug("Tree of {}/{} at {} not modified", owner, repo, branch);
+			return Files.readAllBytes(bodyFile);
+		}
+		checkStatus(uri, response);
+		Optional<String> etag = response.headers().firstValue("ETag");
+		if (etagFile != null && etag.isPresent()) {
+			write(bodyFile, response.body());
+			write(etagFile, etag.get().getBytes(StandardCharsets.UTF_8));
+		}
+		return response.body();
+	}
+
+	private GitHubFile fetchBlob(JsonNode entry) throws IOException, InterruptedException {
+		String sha = entry.path("sha").asText();
+		String entryPath = entry.path("path").asText();
+		long size = entry.path("size").asLong();
+
+		Path blobFile = cacheDirectory != null ? cacheDirectory.resolve("blobs").resolve(sha) : null;
+		if (blobFile != null && Files.exists(blobFile)) {
+			return new GitHubFile(entryPath, sha, size, Files.readAllBytes(blobFile), true);
+		}
+
+		String uri = String.format("%s/repos/%s/%s/git/blobs/%s", apiUrl, owner, repo, sha);
+		HttpResponse<byte[]> response = send(newRequest(uri).header("Accept", "application/vnd.github.raw"));
+		checkStatus(uri, response);
+		if (blobFile != null) {
+			write(blobFile, response.body());
+		}
+		return new GitHubFile(entryPath, sha, size, response.body(), false);
+	}
+
+	private HttpRequest.Builder newRequest(String uri) {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(uri))
+			.timeout(Duration.ofSeconds(60))
+			.header("X-GitHub-Api-Version", "2022-11-28");
+		if (token != null) {
+			request.header("Authorization", "Bearer " + token);
+		}
+		return request;
+	}
+
+	/**
+	 * Send within the rate-limit budget, retrying when the request was rejected for
+	 * exceeding it.
+	 */
+	private HttpResponse<byte[]> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+		for (int attempt = 1;; attempt++) {
+			rateLimitBudget.acquire();
+			HttpResponse<byte[]> response = null;
+			try {
+				response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+			}
+			finally {
+				rateLimitBudget.release(response != null ? response.headers() : null);
+			}
+			boolean limited = (response.statusCode() == 403 || response.statusCode() == 429)
+					&& (response.headers().firstValue("Retry-After").isPresent()
+							|| "0".equals(response.headers().firstValue("X-RateLimit-Remaining").orElse(null)));
+			if (!limited || attempt >= MAX_ATTEMPTS) {
+				return response;
+			}
+			logger.warn("GitHub rate limit exceeded, retrying {} after the reset", request.build().uri());
+		}
+	}
+
+	private static void checkStatus(String uri, HttpResponse<byte[]> response) throws IOException {
+		if (response.statusCode() / 100 != 2) {
+			throw new IOException("GitHub API returned " + response.statusCode() + " for " + uri);
+		}
+	}
+
+	private static void write(Path file, byte[] content) throws IOException {
+		Files.createDirectories(file.getParent());
+		Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+		Files.write(temp, content);
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static String sha256(String value) {
+		try {
+			return HexFormat.of()
+				.formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * A file of the repository.
+	 *
+	 * @param path path relative to the repository root
+	 * @param sha git blob SHA
+	 * @param size size in bytes
+	 * @param content file content
+	 * @param cached whether the content was served from the cache directory
+	 */
+	public record GitHubFile(String path, String sha, long size, byte[] content, boolean cached) {
+
+		public String getName() {
+			return path.substring(path.lastIndexOf('/') + 1);
+		}
+
+		public InputStream getInputStream() {
+			return new ByteArrayInputStream(content);
+		}
+
+	}
+
+	public static class Builder {
+
+		private String apiUrl = DEFAULT_API_URL;
+
+		private String gitHubToken;
+
+		private String owner;
+
+		private String repo;
+
+		private String branch = "main";
+
+		private String path = "";
+
+		private int concurrency = DEFAULT_CONCURRENCY;
+
+		private Path cacheDirectory;
+
+		private HttpClient httpClient;
+
+		public Builder apiUrl(String apiUrl) {
+			this.apiUrl = apiUrl;
+			return this;
+		}
+
+		public Builder gitHubToken(String gitHubToken) {
+			this.gitHubToken = gitHubToken;
+			return this;
+		}
+
+		public Builder owner(String owner) {
+			this.owner = owner;
+			return this;
+		}
+
+		public Builder repo(String repo) {
+			this.repo = repo;
+			return this;
+		}
+
+		public Builder branch(String branch) {
+			this.branch = branch;
+			return this;
+		}
+
+		public Builder path(String path) {
+			this.path = path;
+			return this;
+		}
+
+		public Builder concurrency(int concurrency) {
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		public Builder cacheDirectory(Path cacheDirectory) {
+			this.cacheDirectory = cacheDirectory;
+			return this;
+		}
+
+		public Builder httpClient(HttpClient httpClient) {
+			this.httpClient = httpClient;
+			return this;
+		}
+
+		public GitHubRepositoryFetcher build() {
+			Assert.hasText(apiUrl, "Api url must not be empty");
+			Assert.notNull(owner, "Owner must not be null");
+			Assert.notNull(repo, "Repo must not be null");
+			Assert.notNull(branch, "Branch must not be null");
+			Assert.notNull(path, "Path must not be null");
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than 0");
+			if (path.startsWith("/")) {
+				this.path = path.substring(1);
+			}
+			return new GitHubRepositoryFetcher(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.reader.github;
+
+import com.alibaba.cloud.ai.document.TextDocumentParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.document.Document;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link GitHubRepositoryFetcher} against a local stub of the git trees and
+ * blobs API.
+ */
+class GitHubRepositoryFetcherTest {
+
+	private static final int FILE_COUNT = 20;
+
+	private static final String TREE_ETAG = "\"tree-v1\"";
+
+	@TempDir
+	Path cacheDirectory;
+
+	private HttpServer server;
+
+	private final AtomicInteger treeRequests = new AtomicInteger();
+
+	private final AtomicInteger notModified = new AtomicInteger();
+
+	private final AtomicInteger blobRequests = new AtomicInteger();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	private final AtomicBoolean rejectNextBlob = new AtomicBoolean();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/repos/owner/repo/git/trees/main", this::handleTree);
+		server.createContext("/repos/owner/repo/git/blobs/", this::handleBlob);
+		server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void fetchesWithBoundedConcurrency() {
+		List<GitHubRepositoryFetcher.GitHubFile> files = fetcher(3).fetch();
+
+		assertThat(files).hasSize(FILE_COUNT);
+		assertThat(files.get(0).path()).isEqualTo("docs/file0.md");
+		assertThat(new String(files.get(0).content(), StandardCharsets.UTF_8)).isEqualTo("content of file0");
+		assertThat(blobRequests).hasValue(FILE_COUNT);
+		assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+	}
+
+	@Test
+	void servesUnchangedRepositoryFromCache() {
+		fetcher(4).fetch();
+		List<GitHubRepositoryFetcher.GitHubFile> files = fetcher(4).fetch();
+
+		assertThat(treeRequests).hasValue(2);
+		assertThat(notModified).hasValue(1);
+		assertThat(blobRequests).hasValue(FILE_COUNT);
+		assertThat(files).hasSize(FILE_COUNT).allMatch(GitHubRepositoryFetcher.GitHubFile::cached);
+		assertThat(new String(files.get(5).content(), StandardCharsets.UTF_8)).isEqualTo("content of file5");
+	}
+
+	@Test
+	void waitsForResetWhenRateLimited() {
+		rejectNextBlob.set(true);
+
+		List<GitHubRepositoryFetcher.GitHubFile> files = fetcher(2).fetch();
+
+		assertThat(files).hasSize(FILE_COUNT);
+		assertThat(blobRequests).hasValue(FILE_COUNT + 1);
+	}
+
+	@Test
+	void readsFetchedFilesAsDocuments() {
+		List<Document> documents = new GitHubDocumentReader(fetcher(4), new TextDocumentParser()).get();
+
+		assertThat(documents).hasSize(FILE_COUNT);
+		assertThat(documents.get(1).getText()).isEqualTo("content of file1");
+		assertThat(documents.get(1).getMetadata()).containsEntry("github_file_path", "docs/file1.md")
+			.containsEntry("github_file_sha", "sha1");
+	}
+
+	private GitHubRepositoryFetcher fetcher(int concurrency) {
+		return GitHubRepositoryFetcher.builder()
+			.apiUrl("http://127.0.0.1:" + server.getAddress().getPort())
+			.owner("owner")
+			.repo("repo")
+			.branch("main")
+			.path("docs")
+			.concurrency(concurrency)
+			.cacheDirectory(cacheDirectory)
+			.build();
+	}
+
+	private void handleTree(HttpExchange exchange) throws IOException {
+		treeRequests.incrementAndGet();
+		exchange.getResponseHeaders().add("ETag", TREE_ETAG);
+		exchange.getResponseHeaders().add("X-RateLimit-Remaining", "4999");
+		if (TREE_ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+			notModified.incrementAndGet();
+			exchange.sendResponseHeaders(304, -1);
+			exchange.close();
+			return;
+		}
+		StringBuilder tree = new StringBuilder("{\"truncated\":false,\"tree\":[");
+		tree.append("{\"path\":\"README.md\",\"type\":\"blob\",\"sha\":\"readme\",\"size\":1},");
+		tree.append("{\"path\":\"docs\",\"type\":\"tree\",\"sha\":\"docs\"}");
+		for (int i = 0; i < FILE_COUNT; i++) {
+			tree.append(",{\"path\":\"docs/file")
+				.append(i)
+				.append(".md\",\"type\":\"blob\",\"sha\":\"sha")
+				.append(i)
+				.append("\",\"size\":16}");
+		}
+		tree.append("]}");
+		respond(exchange, 200, tree.toString());
+	}
+
+	private void handleBlob(HttpExchange exchange) throws IOException {
+		blobRequests.incrementAndGet();
+		maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		if (rejectNextBlob.compareAndSet(true, false)) {
+			inFlight.decrementAndGet();
+			exchange.getResponseHeaders().add("X-RateLimit-Remaining", "0");
+			exchange.getResponseHeaders().add("Retry-After", "1");
+			respond(exchange, 429, "{\"message\":\"rate limit exceeded\"}");
+			return;
+		}
+		try {
+			Thread.sleep(20);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		inFlight.decrementAndGet();
+		String sha = exchange.getRequestURI().getPath().substring("/repos/owner/repo/git/blobs/".length());
+		exchange.getResponseHeaders().add("X-RateLimit-Remaining", "4000");
+		respond(exchange, 200, "content of file" + sha.substring("sha".length()));
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status, bytes.length);
+		exchange.getResponseBody().write(bytes);
+		exchange.close();
+	}
+
+}
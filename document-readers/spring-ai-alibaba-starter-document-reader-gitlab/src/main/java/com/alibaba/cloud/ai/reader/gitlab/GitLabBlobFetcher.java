@@ -0,0 +1,248 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.reader.gitlab;
+
+import com.alibaba.cloud.ai.document.RateLimitBudget;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lists a GitLab repository tree and downloads its blobs through the REST API with a
+ * bounded number of concurrent requests.
+ * <p>
+ * The {@code RateLimit-Remaining} budget reported by every response caps the requests in
+ * flight, and requests wait for {@code RateLimit-Reset} or {@code Retry-After} once it is
+ * exhausted. With a cache directory, blobs are stored by SHA and never downloaded again,
+ * and tree pages are revalidated with their ETag.
+ */
+class GitLabBlobFetcher {
+
+	private static final Logger logger = LoggerFactory.getLogger(GitLabBlobFetcher.class);
+
+	private static final int PAGE_SIZE = 100;
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	private final String projectApiUrl;
+
+	private final int concurrency;
+
+	private final Path cacheDirectory;
+
+	private final HttpClient httpClient;
+
+	private final RateLimitBudget rateLimitBudget;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * @param hostUrl GitLab host URL
+	 * @param projectId Project id
+	 * @param concurrency Maximum concurrent requests
+	 * @param cacheDirectory Directory of the blob and tree cache, null to disable caching
+	 */
+	GitLabBlobFetcher(String hostUrl, Object projectId, int concurrency, Path cacheDirectory) {
+		String host = hostUrl.endsWith("/") ? hostUrl.substring(0, hostUrl.length() - 1) : hostUrl;
+		this.projectApiUrl = host + "/api/v4/projects/" + encode(String.valueOf(projectId));
+		this.concurrency = concurrency;
+		this.cacheDirectory = cacheDirectory;
+		this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+		this.rateLimitBudget = new RateLimitBudget(concurrency, "RateLimit-Remaining", "RateLimit-Reset");
+	}
+
+	/**
+	 * A blob of the repository tree.
+	 *
+	 * @param id Blob SHA
+	 * @param path Path relative to the repository root
+	 * @param name File name
+	 */
+	record TreeBlob(String id, String path, String name) {
+	}
+
+	/**
+	 * List the blobs of the tree, page by page.
+	 * @param ref Git reference
+	 * @param recursive Whether to list subdirectories
+	 * @return Blobs in tree order
+	 */
+	List<TreeBlob> listBlobs(String ref, boolean recursive) throws IOException, InterruptedException {
+		List<TreeBlob> blobs = new ArrayList<>();
+		for (int page = 1;; page++) {
+			String uri = String.format("%s/repository/tree?ref=%s&recursive=%s&per_page=%d&page=%d", projectApiUrl,
+					encode(ref), recursive, PAGE_SIZE, page);
+			JsonNode items = objectMapper.readTree(getConditional(uri));
+			for (JsonNode item : items) {
+				if ("blob".equals(item.path("type").asText())) {
+					blobs.add(new TreeBlob(item.path("id").asText(), item.path("path").asText(),
+							item.path("name").asText()));
+				}
+			}
+			if (items.size() < PAGE_SIZE) {
+				return blobs;
+			}
+		}
+	}
+
+	/**
+	 * Download the raw content of the blobs, concurrently.
+	 * @param blobs Blobs to download
+	 * @return Contents in the order of {@code blobs}
+	 */
+	List<byte[]> fetchBlobs(List<TreeBlob> blobs) throws IOException, InterruptedException {
+		AtomicInteger threadIndex = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+			Thread thread = new Thread(runnable, "gitlab-fetcher-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<byte[]>> futures = new ArrayList<>(blobs.size());
+			for (TreeBlob blob : blobs) {
+				futures.add(executor.submit(() -> fetchBlob(blob)));
+			}
+			List<byte[]> contents = new ArrayList<>(futures.size());
+			for (Future<byte[]> future : futures) {
+				contents.add(future.get());
+			}
+			return contents;
+		}
+		catch (ExecutionException executionException) {
+			if (executionException.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			throw new IOException(executionException.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private byte[] fetchBlob(TreeBlob blob) throws IOException, InterruptedException {
+		Path blobFile = cacheDirectory != null ? cacheDirectory.resolve("blobs").resolve(blob.id()) : null;
+		if (blobFile != null && Files.exists(blobFile)) {
+			return Files.readAllBytes(blobFile);
+		}
+		String uri = projectApiUrl + "/repository/blobs/" + blob.id() + "/raw";
+		HttpResponse<byte[]> response = send(HttpRequest.newBuilder(URI.create(uri)).timeout(Duration.ofSeconds(60)));
+		checkStatus(uri, response);
+		if (blobFile != null) {
+			write(blobFile, response.body());
+		}
+		return response.body();
+	}
+
+	private byte[] getConditional(String uri) throws IOException, InterruptedException {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(uri)).timeout(Duration.ofSeconds(60));
+		Path etagFile = null;
+		Path bodyFile = null;
+		if (cacheDirectory != null) {
+			String key = sha256(uri);
+			etagFile = cacheDirectory.resolve("responses").resolve(key + ".etag");
+			bodyFile = cacheDirectory.resolve("responses").resolve(key + ".json");
+			if (Files.exists(etagFile) && Files.exists(bodyFile)) {
+				request.header("If-None-Match", Files.readString(etagFile));
+			}
+		}
+
+		HttpResponse<byte[]> response = send(request);
+		if (response.statusCode() == 304 && bodyFile != null) {
+			logger.debug("{} not modified", uri);
+			return Files.readAllBytes(bodyFile);
+		}
+		checkStatus(uri, response);
+		Optional<String> etag = response.headers().firstValue("ETag");
+		if (etagFile != null && etag.isPresent()) {
+			write(bodyFile, response.body());
+			write(etagFile, etag.get().getBytes(StandardCharsets.UTF_8));
+		}
+		return response.body();
+	}
+
+	/**
+	 * Send within the rate-limit budget, retrying when the request was rejected for
+	 * exceeding it.
+	 */
+	private HttpResponse<byte[]> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+		for (int attempt = 1;; attempt++) {
+			rateLimitBudget.acquire();
+			HttpResponse<byte[]> response = null;
+			try {
+				response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+			}
+			finally {
+				rateLimitBudget.release(response != null ? response.headers() : null);
+			}
+			if (response.statusCode() != 429 || attempt >= MAX_ATTEMPTS) {
+				return response;
+			}
+			logger.warn("GitLab rate limit exceeded, retrying {} after the reset", request.build().uri());
+		}
+	}
+
+	private static void checkStatus(String uri, HttpResponse<byte[]> response) throws IOException {
+		if (response.statusCode() / 100 != 2) {
+			throw new IOException("GitLab API returned " + response.statusCode() + " for " + uri);
+		}
+	}
+
+	private static void write(Path file, byte[] content) throws IOException {
+		Files.createDirectories(file.getParent());
+		Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+		Files.write(temp, content);
+		Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	private static String sha256(String value) {
+		try {
+			return HexFormat.of()
+				.formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -16,18 +16,26 @@
 package com.alibaba.cloud.ai.reader.gitlab;
 
 import org.gitlab4j.api.GitLabApiException;
-import org.gitlab4j.api.RepositoryApi;
 import org.gitlab4j.api.models.RepositoryFile;
-import org.gitlab4j.api.models.TreeItem;
 import org.springframework.ai.document.Document;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.regex.Pattern;
 
 /**
  * GitLab repository reader. Reads files from GitLab repositories and converts them to
  * documents. Only supports public repositories.
+ * <p>
+ * Directories are listed and downloaded concurrently within the rate-limit budget
+ * reported by GitLab. Set a cache directory to keep blobs by SHA across runs, so that
+ * only changed files are downloaded again.
  *
  * @author brianxiadong
  */
@@ -41,6 +49,10 @@ public class GitLabRepositoryReader extends AbstractGitLabReader {
 
 	private boolean recursive;
 
+	private int concurrency = 8;
+
+	private Path cacheDirectory;
+
 	/**
 	 * Constructor for GitLabRepositoryReader.
 	 * @param hostUrl GitLab host URL
@@ -95,6 +107,28 @@ public class GitLabRepositoryReader extends AbstractGitLabReader {
 		return this;
 	}
 
+	/**
+	 * Set the maximum number of concurrent requests when reading a directory.
+	 * @param concurrency Maximum concurrent requests
+	 * @return this reader instance
+	 */
+	public GitLabRepositoryReader setConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than 0");
+		this.concurrency = concurrency;
+		return this;
+	}
+
+	/**
+	 * Set the directory caching blobs and tree listings between runs. If null, nothing is
+	 * cached.
+	 * @param cacheDirectory Cache directory
+	 * @return this reader instance
+	 */
+	public GitLabRepositoryReader setCacheDirectory(Path cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+		return this;
+	}
+
 	@Override
 	public List<Document> get() {
 		try {
@@ -120,35 +154,39 @@ public class GitLabRepositoryReader extends AbstractGitLabReader {
 				return Collections.singletonList(loadSingleFile(filePath, ref));
 			}
 
-			RepositoryApi repositoryApi = gitLabApi.getRepositoryApi();
-			List<TreeItem> items = repositoryApi.getTree(project.getId(), filePath, ref, recursive);
-
-			List<Document> documents = new ArrayList<>();
-			for (TreeItem item : items) {
-				if (TreeItem.Type.BLOB.equals(item.getType())) {
-					// Apply pattern filter if specified
-					if (pattern != null && !pattern.isEmpty()) {
-						String path = item.getPath();
-						// Convert glob pattern to regex pattern
-						String regexPattern = pattern.replace(".", "\\.") // Escape dots
-							.replace("**", ".*") // Match any characters across
-													// directories
-							.replace("*", "[^/]*") // Match any characters except
-													// directory separator
-							.replace("?", "."); // Match single character
-						if (!path.matches(regexPattern)) {
-							continue;
-						}
-					}
-					documents.add(loadSingleFile(item.getPath(), ref));
+			GitLabBlobFetcher fetcher = new GitLabBlobFetcher(gitLabApi.getGitLabServerUrl(), project.getId(),
+					concurrency, cacheDirectory);
+			// Convert glob pattern to regex pattern
+			Pattern regex = pattern == null || pattern.isEmpty() ? null
+					: Pattern.compile(pattern.replace(".", "\\.") // Escape dots
+						.replace("**", ".*") // Match any characters across directories
+						.replace("*", "[^/]*") // Match any characters except directory
+												// separator
+						.replace("?", ".")); // Match single character
+			List<GitLabBlobFetcher.TreeBlob> blobs = new ArrayList<>();
+			for (GitLabBlobFetcher.TreeBlob blob : fetcher.listBlobs(ref, recursive)) {
+				// Apply pattern filter if specified
+				if (regex == null || regex.matcher(blob.path()).matches()) {
+					blobs.add(blob);
 				}
 			}
 
+			List<byte[]> contents = fetcher.fetchBlobs(blobs);
+			List<Document> documents = new ArrayList<>(blobs.size());
+			for (int i = 0; i < blobs.size(); i++) {
+				GitLabBlobFetcher.TreeBlob blob = blobs.get(i);
+				documents.add(toDocument(blob.id(), blob.path(), blob.name(), ref, contents.get(i)));
+			}
+
 			return documents;
 		}
-		catch (GitLabApiException e) {
+		catch (GitLabApiException | IOException e) {
 			throw new RuntimeException("Failed to load repository data from GitLab", e);
 		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while loading repository data from GitLab", e);
+		}
 	}
 
 	/**
@@ -188,4 +226,31 @@ public class GitLabRepositoryReader extends AbstractGitLabReader {
 		return new Document(file.getBlobId(), fileContent, metadata);
 	}
 
+	/**
+	 * Convert a blob fetched from the repository tree to a document.
+	 */
+	private Document toDocument(String blobId, String filePath, String fileName, String ref, byte[] content) {
+		Map<String, Object> metadata = new HashMap<>();
+
+		// Required fields
+		metadata.put("file_path", filePath);
+		metadata.put("file_name", fileName);
+		metadata.put("size", content.length);
+		metadata.put("url", String.format("%s/repository/files/%s/raw", projectUrl,
+				StringUtils.replace(filePath, "/", "%2F")));
+		metadata.put("ref", ref);
+		metadata.put("content_sha256", sha256(content));
+
+		return new Document(blobId, new String(content, StandardCharsets.UTF_8), metadata);
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.reader.gitlab;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test cases for GitLabBlobFetcher against a local stub of the repository API that
+ * paginates the tree, emits rate-limit headers and answers conditional requests.
+ */
+class GitLabBlobFetcherTest {
+
+	// More than one tree page
+	private static final int FILE_COUNT = 150;
+
+	@TempDir
+	Path cacheDirectory;
+
+	private HttpServer server;
+
+	private final AtomicInteger notModified = new AtomicInteger();
+
+	private final AtomicInteger blobRequests = new AtomicInteger();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	private final AtomicBoolean rejectNextBlob = new AtomicBoolean();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/api/v4/projects/42/repository/tree", this::handleTree);
+		server.createContext("/api/v4/projects/42/repository/blobs/", this::handleBlob);
+		server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void testFetchWithBoundedConcurrency() throws Exception {
+		GitLabBlobFetcher fetcher = fetcher(4);
+
+		List<GitLabBlobFetcher.TreeBlob> blobs = fetcher.listBlobs("main", true);
+		List<byte[]> contents = fetcher.fetchBlobs(blobs);
+
+		assertThat(blobs).hasSize(FILE_COUNT);
+		assertThat(blobs.get(120).path()).isEqualTo("docs/file120.md");
+		assertThat(new String(contents.get(120), StandardCharsets.UTF_8)).isEqualTo("content of file120");
+		assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+	}
+
+	@Test
+	void testUnchangedRepositoryServedFromCache() throws Exception {
+		GitLabBlobFetcher first = fetcher(4);
+		first.fetchBlobs(first.listBlobs("main", true));
+
+		GitLabBlobFetcher second = fetcher(4);
+		List<byte[]> contents = second.fetchBlobs(second.listBlobs("main", true));
+
+		assertThat(notModified).hasValue(2);
+		assertThat(blobRequests).hasValue(FILE_COUNT);
+		assertThat(new String(contents.get(7), StandardCharsets.UTF_8)).isEqualTo("content of file7");
+	}
+
+	@Test
+	void testRetryAfterRateLimit() throws Exception {
+		rejectNextBlob.set(true);
+		GitLabBlobFetcher fetcher = fetcher(2);
+
+		List<byte[]> contents = fetcher.fetchBlobs(fetcher.listBlobs("main", true));
+
+		assertThat(contents).hasSize(FILE_COUNT);
+		assertThat(blobRequests).hasValue(FILE_COUNT + 1);
+	}
+
+	private GitLabBlobFetcher fetcher(int concurrency) {
+		return new GitLabBlobFetcher("http://127.0.0.1:" + server.getAddress().getPort(), 42L, concurrency,
+				cacheDirectory);
+	}
+
+	private void handleTree(HttpExchange exchange) throws IOException {
+		String query = exchange.getRequestURI().getQuery();
+		int page = Integer.parseInt(query.substring(query.indexOf("page=", query.indexOf("per_page=") + 9) + 5));
+		String etag = "\"tree-page-" + page + "\"";
+		exchange.getResponseHeaders().add("ETag", etag);
+		exchange.getResponseHeaders().add("RateLimit-Remaining", "1999");
+		if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+			notModified.incrementAndGet();
+			exchange.sendResponseHeaders(304, -1);
+			exchange.close();
+			return;
+		}
+		StringBuilder items = new StringBuilder("[");
+		int from = (page - 1) * 100;
+		for (int i = from; i < Math.min(FILE_COUNT, from + 100); i++) {
+			if (i > from) {
+				items.append(',');
+			}
+			items.append("{\"id\":\"sha")
+				.append(i)
+				.append("\",\"name\":\"file")
+				.append(i)
+				.append(".md\",\"type\":\"blob\",\"path\":\"docs/file")
+				.append(i)
+				.append(".md\"}");
+		}
+		items.append(']');
+		respond(exchange, 200, items.toString());
+	}
+
+	private void handleBlob(HttpExchange exchange) throws IOException {
+		blobRequests.incrementAndGet();
+		maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		if (rejectNextBlob.compareAndSet(true, false)) {
+			inFlight.decrementAndGet();
+			exchange.getResponseHeaders().add("RateLimit-Remaining", "0");
+			exchange.getResponseHeaders().add("Retry-After", "1");
+			respond(exchange, 429, "Retry later");
+			return;
+		}
+		try {
+			Thread.sleep(5);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		inFlight.decrementAndGet();
+		String path = exchange.getRequestURI().getPath();
+		String sha = path.substring(path.lastIndexOf("/blobs/") + 7, path.lastIndexOf("/raw"));
+		exchange.getResponseHeaders().add("RateLimit-Remaining", "1500");
+		respond(exchange, 200, "content of file" + sha.substring("sha".length()));
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status, bytes.length);
+		exchange.getResponseBody().write(bytes);
+		exchange.close();
+	}
+
+}
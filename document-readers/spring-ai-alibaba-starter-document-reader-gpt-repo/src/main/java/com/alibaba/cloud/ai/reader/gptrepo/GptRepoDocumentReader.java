@@ -15,20 +15,36 @@
  */
 package com.alibaba.cloud.ai.reader.gptrepo;
 
-import org.jetbrains.annotations.NotNull;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentReader;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * GptRepoDocumentReader - Used to read Git repository content and convert it to Document
  * format
+ * <p>
+ * Files are walked lazily and read in parallel, documents are emitted as soon as they are
+ * ready. Every document carries the SHA-256 of its content under
+ * {@link #METADATA_CONTENT_HASH}; passing the hashes of a previous run to
+ * {@link #stream(Map)} skips the files that did not change. When concatenating,
+ * {@code maxDocumentSize} bounds the size of each document.
  *
  * @author brianxiadong
  */
@@ -42,6 +58,15 @@ public class GptRepoDocumentReader implements DocumentReader {
 
 	private static final String END_MARKER = "--END--";
 
+	/**
+	 * Metadata key of the SHA-256 of the file (or of the concatenated content)
+	 */
+	public static final String METADATA_CONTENT_HASH = "content_hash";
+
+	private static final int DEFAULT_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
 	// Default leading text constant
 	private static final String DEFAULT_CONCATENATED_PREAMBLE = "The following text is a Git repository with code. "
 			+ "The structure of the text are sections that begin with ----, "
@@ -75,6 +100,12 @@ public class GptRepoDocumentReader implements DocumentReader {
 	// Custom leading text
 	private final String preambleStr;
 
+	// Maximum characters of a concatenated document, 0 for unbounded
+	private final int maxDocumentSize;
+
+	// Number of files read concurrently
+	private final int parallelism;
+
 	/**
 	 * Constructor
 	 * @param repoPath Repository path
@@ -85,11 +116,32 @@ public class GptRepoDocumentReader implements DocumentReader {
 	 */
 	public GptRepoDocumentReader(String repoPath, boolean concatenate, List<String> extensions, String encoding,
 			String preambleStr) {
+		this(repoPath, concatenate, extensions, encoding, preambleStr, 0, DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * Constructor
+	 * @param repoPath Repository path
+	 * @param concatenate Whether to merge file contents
+	 * @param extensions List of file extensions to process
+	 * @param encoding File encoding
+	 * @param preambleStr Custom leading text, use default if null
+	 * @param maxDocumentSize Maximum characters of file contents merged into one
+	 * document, 0 for unbounded; a single larger file still makes one document
+	 * @param parallelism Number of files read concurrently
+	 */
+	public GptRepoDocumentReader(String repoPath, boolean concatenate, List<String> extensions, String encoding,
+			String preambleStr, int maxDocumentSize, int parallelism) {
+		if (maxDocumentSize < 0 || parallelism <= 0) {
+			throw new IllegalArgumentException("maxDocumentSize must not be negative and parallelism must be positive");
+		}
 		this.repoPath = Paths.get(repoPath);
 		this.concatenate = concatenate;
 		this.extensions = extensions;
 		this.encoding = encoding != null ? encoding : DEFAULT_ENCODING;
 		this.preambleStr = preambleStr;
+		this.maxDocumentSize = maxDocumentSize;
+		this.parallelism = parallelism;
 	}
 
 	/**
@@ -113,47 +165,111 @@ public class GptRepoDocumentReader implements DocumentReader {
 
 	@Override
 	public List<Document> get() {
+		try (Stream<Document> documents = stream()) {
+			return documents.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Lazily read the repository. The returned stream holds open directories and reader
+	 * threads and must be closed.
+	 * @return Stream of documents in file walk order
+	 */
+	public Stream<Document> stream() {
+		return stream(Collections.emptyMap());
+	}
+
+	/**
+	 * Lazily read the repository files that changed since a previous run.
+	 * @param knownHashes {@link #METADATA_CONTENT_HASH} by {@code file_path} of the
+	 * previous run, files with the same hash are skipped
+	 * @return Stream of documents in file walk order
+	 */
+	public Stream<Document> stream(Map<String, String> knownHashes) {
+		List<PathMatcher> ignoreMatchers;
+		Stream<Path> files;
 		try {
 			// Read .gptignore file
-			List<String> ignorePatterns = readIgnorePatterns();
-
-			// Process repository files
-			List<String> processedTexts = processRepository(ignorePatterns);
-
-			// Convert to Document list
-			return processedTexts.stream().map(text -> {
-				String finalText = getPreambleText() + text + "\n" + END_MARKER + "\n";
-				Map<String, Object> metadata = new HashMap<>();
-				metadata.put("source", repoPath.toString());
-
-				// Extract file path from text content
-				String filePath = extractFilePath(text);
-				if (filePath != null) {
-					Path path = Paths.get(filePath);
-					metadata.put("file_path", filePath);
-					metadata.put("file_name", path.getFileName().toString());
-					metadata.put("directory", path.getParent() != null ? path.getParent().toString() : "");
-				}
-
-				return new Document(finalText, metadata);
-			}).collect(Collectors.toList());
+			ignoreMatchers = readIgnorePatterns().stream()
+				.filter(pattern -> !pattern.isBlank())
+				.map(pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern))
+				.collect(Collectors.toList());
+			files = Files.walk(repoPath);
 		}
 		catch (IOException e) {
 			throw new RuntimeException("Failed to process repository: " + repoPath, e);
 		}
+
+		Iterator<Path> paths = files.filter(Files::isRegularFile).filter(file -> accept(file, ignoreMatchers)).iterator();
+		FileReadingIterator reading = new FileReadingIterator(paths, knownHashes);
+		Iterator<Document> documents = concatenate ? new ConcatenatingIterator(reading)
+				: new Iterator<>() {
+
+					@Override
+					public boolean hasNext() {
+						return reading.hasNext();
+					}
+
+					@Override
+					public Document next() {
+						return toFileDocument(reading.next());
+					}
+
+				};
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(documents, Spliterator.ORDERED), false)
+			.onClose(() -> {
+				reading.close();
+				files.close();
+			});
+	}
+
+	private Document toFileDocument(RepoFile file) {
+		String text = formatFileContent(file.relativePath(), file.content());
+		String finalText = getPreambleText() + text + "\n" + END_MARKER + "\n";
+		Map<String, Object> metadata = new HashMap<>();
+		metadata.put("source", repoPath.toString());
+
+		putFileMetadata(metadata, file.relativePath());
+		metadata.put(METADATA_CONTENT_HASH, file.hash());
+
+		return new Document(finalText, metadata);
+	}
+
+	private Document toConcatenatedDocument(String text) {
+		String finalText = getPreambleText() + text + "\n" + END_MARKER + "\n";
+		Map<String, Object> metadata = new HashMap<>();
+		metadata.put("source", repoPath.toString());
+
+		// Describe the document by its first file
+		String filePath = extractFilePath(text);
+		if (filePath != null) {
+			putFileMetadata(metadata, filePath);
+		}
+		metadata.put(METADATA_CONTENT_HASH, sha256(text.getBytes(StandardCharsets.UTF_8)));
+		return new Document(finalText, metadata);
+	}
+
+	private static void putFileMetadata(Map<String, Object> metadata, String filePath) {
+		Path path = Paths.get(filePath);
+		metadata.put("file_path", filePath);
+		metadata.put("file_name", path.getFileName().toString());
+		metadata.put("directory", path.getParent() != null ? path.getParent().toString() : "");
 	}
 
 	/**
 	 * Extract file path from formatted text content
 	 * @param text Formatted text content
-	 * @return File path, or null if not found
+	 * @return File path of the first section, or null if not found
 	 */
 	private String extractFilePath(String text) {
-		String[] lines = text.split("\n");
-		if (lines.length >= 2 && lines[0].equals(SECTION_SEPARATOR)) {
-			return lines[1].trim();
+		String header = SECTION_SEPARATOR + "\n";
+		if (!text.startsWith(header)) {
+			return null;
 		}
-		return null;
+		int end = text.indexOf('\n', header.length());
+		String filePath = (end < 0 ? text.substring(header.length()) : text.substring(header.length(), end)).trim();
+		return filePath.isEmpty() ? null : filePath;
 	}
 
 	/**
@@ -178,51 +294,52 @@ public class GptRepoDocumentReader implements DocumentReader {
 	}
 
 	/**
-	 * Process repository files
+	 * Check ignore rules and file extension
 	 */
-	private List<String> processRepository(List<String> ignorePatterns) throws IOException {
-		List<String> results = new ArrayList<>();
-		StringBuilder concatenatedContent = new StringBuilder();
-
-		Files.walkFileTree(repoPath, new SimpleFileVisitor<>() {
-			@NotNull
-			@Override
-			public FileVisitResult visitFile(Path file, @NotNull BasicFileAttributes attrs) throws IOException {
-				String relativePath = repoPath.relativize(file).toString();
-
-				// Check if file should be ignored
-				if (shouldIgnore(relativePath, ignorePatterns)) {
-					return FileVisitResult.CONTINUE;
-				}
-
-				// Check file extension
-				if (extensions != null && !extensions.isEmpty()) {
-					String ext = getFileExtension(file.toString());
-					if (!extensions.contains(ext)) {
-						return FileVisitResult.CONTINUE;
-					}
-				}
-
-				// Read file content
-				String content = Files.readString(file, Charset.forName(encoding));
-				String formattedContent = formatFileContent(relativePath, content);
-
-				if (concatenate) {
-					concatenatedContent.append(formattedContent);
-				}
-				else {
-					results.add(formattedContent);
-				}
+	private boolean accept(Path file, List<PathMatcher> ignoreMatchers) {
+		Path relativePath = repoPath.relativize(file);
 
-				return FileVisitResult.CONTINUE;
+		// Check if file should be ignored
+		for (PathMatcher matcher : ignoreMatchers) {
+			if (matcher.matches(relativePath)) {
+				return false;
 			}
-		});
+		}
 
-		if (concatenate && !concatenatedContent.isEmpty()) {
-			results.add(concatenatedContent.toString());
+		// Check file extension
+		if (extensions != null && !extensions.isEmpty()) {
+			String ext = getFileExtension(file.toString());
+			return extensions.contains(ext);
 		}
+		return true;
+	}
+
+	/**
+	 * Read file content, failing on content that is not valid in the configured encoding
+	 */
+	private RepoFile readFile(Path file, Map<String, String> knownHashes) throws IOException {
+		String relativePath = repoPath.relativize(file).toString();
+		byte[] bytes = Files.readAllBytes(file);
+		String hash = sha256(bytes);
+		if (hash.equals(knownHashes.get(relativePath))) {
+			return null;
+		}
+		String content = Charset.forName(encoding)
+			.newDecoder()
+			.onMalformedInput(CodingErrorAction.REPORT)
+			.onUnmappableCharacter(CodingErrorAction.REPORT)
+			.decode(ByteBuffer.wrap(bytes))
+			.toString();
+		return new RepoFile(relativePath, content, hash);
+	}
 
-		return results;
+	private static String sha256(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
 	}
 
 	private String getFileExtension(String fullName) {
@@ -238,14 +355,132 @@ public class GptRepoDocumentReader implements DocumentReader {
 		return String.format("%s\n%s\n%s\n", SECTION_SEPARATOR, relativePath, content);
 	}
 
+	private record RepoFile(String relativePath, String content, String hash) {
+	}
+
+	/**
+	 * Reads the accepted files on a small pool, keeping a bounded window of reads in
+	 * flight ahead of the consumer and returning them in walk order.
+	 */
+	private class FileReadingIterator implements Iterator<RepoFile> {
+
+		private final Iterator<Path> paths;
+
+		private final Map<String, String> knownHashes;
+
+		private final ExecutorService executor;
+
+		private final Deque<Future<RepoFile>> inFlight = new ArrayDeque<>();
+
+		private RepoFile next;
+
+		FileReadingIterator(Iterator<Path> paths, Map<String, String> knownHashes) {
+			this.paths = paths;
+			this.knownHashes = knownHashes;
+			this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+				Thread thread = new Thread(runnable, "gpt-repo-reader-" + THREAD_COUNTER.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (this.next == null) {
+				fill();
+				if (this.inFlight.isEmpty()) {
+					close();
+					return false;
+				}
+				try {
+					this.next = this.inFlight.poll().get();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					close();
+					throw new RuntimeException("Interrupted while reading repository: " + repoPath, e);
+				}
+				catch (ExecutionException e) {
+					close();
+					throw new RuntimeException("Failed to process repository: " + repoPath, e.getCause());
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public RepoFile next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			RepoFile file = this.next;
+			this.next = null;
+			return file;
+		}
+
+		private void fill() {
+			try {
+				while (this.inFlight.size() < parallelism * 4 && this.paths.hasNext()) {
+					Path file = this.paths.next();
+					this.inFlight.add(this.executor.submit(() -> readFile(file, this.knownHashes)));
+				}
+			}
+			catch (UncheckedIOException e) {
+				close();
+				throw new RuntimeException("Failed to process repository: " + repoPath, e.getCause());
+			}
+		}
+
+		void close() {
+			this.inFlight.forEach(future -> future.cancel(true));
+			this.inFlight.clear();
+			this.executor.shutdownNow();
+		}
+
+	}
+
 	/**
-	 * Check if file should be ignored
+	 * Merges consecutive files into documents of at most {@code maxDocumentSize}
+	 * characters of file contents.
 	 */
-	private boolean shouldIgnore(String path, List<String> ignorePatterns) {
-		return ignorePatterns.stream().anyMatch(pattern -> {
-			PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
-			return matcher.matches(Paths.get(path));
-		});
+	private class ConcatenatingIterator implements Iterator<Document> {
+
+		private final FileReadingIterator files;
+
+		private String pending;
+
+		ConcatenatingIterator(FileReadingIterator files) {
+			this.files = files;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.pending != null || this.files.hasNext();
+		}
+
+		@Override
+		public Document next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			StringBuilder concatenatedContent = new StringBuilder();
+			if (this.pending != null) {
+				concatenatedContent.append(this.pending);
+				this.pending = null;
+			}
+			while (this.files.hasNext()) {
+				RepoFile file = this.files.next();
+				String formattedContent = formatFileContent(file.relativePath(), file.content());
+				if (maxDocumentSize > 0 && !concatenatedContent.isEmpty()
+						&& concatenatedContent.length() + formattedContent.length() > maxDocumentSize) {
+					this.pending = formattedContent;
+					break;
+				}
+				concatenatedContent.append(formattedContent);
+			}
+			return toConcatenatedDocument(concatenatedContent.toString());
+		}
+
 	}
 
 }
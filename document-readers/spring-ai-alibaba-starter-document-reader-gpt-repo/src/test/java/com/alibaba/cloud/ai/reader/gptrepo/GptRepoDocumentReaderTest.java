@@ -25,9 +25,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -111,6 +114,24 @@ class GptRepoDocumentReaderTest {
 		assertTrue(content.contains("----")); // Verify separator exists
 	}
 
+	/**
+	 * Test that a concatenated document is described by the first file it contains
+	 */
+	@Test
+	void testConcatenatedDocumentMetadata() {
+		GptRepoDocumentReader reader = new GptRepoDocumentReader(repoPath.toString(), true, null, "UTF-8");
+
+		Document doc = reader.get().get(0);
+		String firstFile = doc.getText().split("----\n", 2)[1].split("\n", 2)[0];
+		Path firstPath = Path.of(firstFile);
+
+		assertEquals(repoPath.toString(), doc.getMetadata().get("source"));
+		assertEquals(firstFile, doc.getMetadata().get("file_path"));
+		assertEquals(firstPath.getFileName().toString(), doc.getMetadata().get("file_name"));
+		assertEquals(firstPath.getParent().toString(), doc.getMetadata().get("directory"));
+		assertTrue(firstFile.endsWith("TestFile.java") || firstFile.endsWith("test.py"));
+	}
+
 	/**
 	 * Test file extension filtering functionality
 	 */
@@ -301,4 +322,62 @@ class GptRepoDocumentReaderTest {
 				"Reading GBK encoded file with UTF-8 encoding should throw an exception");
 	}
 
+	/**
+	 * Test that unchanged files are skipped when the hashes of a previous run are given
+	 */
+	@Test
+	void testSkipUnchangedFiles() throws IOException {
+		GptRepoDocumentReader reader = new GptRepoDocumentReader(repoPath.toString());
+		Map<String, String> knownHashes = new HashMap<>();
+		for (Document doc : reader.get()) {
+			assertNotNull(doc.getMetadata().get(GptRepoDocumentReader.METADATA_CONTENT_HASH));
+			knownHashes.put((String) doc.getMetadata().get("file_path"),
+					(String) doc.getMetadata().get(GptRepoDocumentReader.METADATA_CONTENT_HASH));
+		}
+
+		createTestFile(repoPath.resolve("src/main/python/test.py"), TEST_PYTHON_CONTENT + "\n");
+
+		List<Document> changed;
+		try (Stream<Document> documents = reader.stream(knownHashes)) {
+			changed = documents.collect(Collectors.toList());
+		}
+		assertEquals(1, changed.size(), "Only the modified file should be read again");
+		assertEquals("src/main/python/test.py", changed.get(0).getMetadata().get("file_path"));
+		assertNotEquals(knownHashes.get("src/main/python/test.py"),
+				changed.get(0).getMetadata().get(GptRepoDocumentReader.METADATA_CONTENT_HASH));
+	}
+
+	/**
+	 * Test size-bounded concatenation over a larger tree read in parallel
+	 */
+	@Test
+	void testBoundedConcatenation() throws IOException {
+		Path largeRepoPath = tempDir.resolve("large-repo");
+		for (int i = 0; i < 500; i++) {
+			createTestFile(largeRepoPath.resolve("module" + (i % 10) + "/File" + i + ".java"),
+					"class File" + i + " {\n}");
+		}
+
+		List<Document> sequential = new GptRepoDocumentReader(largeRepoPath.toString(), false, null, "UTF-8", null, 0,
+				1)
+			.get();
+		List<Document> parallel = new GptRepoDocumentReader(largeRepoPath.toString(), false, null, "UTF-8", null, 0, 8)
+			.get();
+		assertEquals(500, parallel.size());
+		assertEquals(sequential.stream().map(Document::getText).collect(Collectors.toList()),
+				parallel.stream().map(Document::getText).collect(Collectors.toList()));
+
+		int maxDocumentSize = 2048;
+		List<Document> bounded = new GptRepoDocumentReader(largeRepoPath.toString(), true, null, "UTF-8", "",
+				maxDocumentSize, 4)
+			.get();
+		assertTrue(bounded.size() > 1, "Concatenated content should be split");
+		int files = 0;
+		for (Document doc : bounded) {
+			assertTrue(doc.getText().length() <= maxDocumentSize + "\n--END--\n".length());
+			files += doc.getText().split("----\n", -1).length - 1;
+		}
+		assertEquals(500, files, "Every file should be in exactly one document");
+	}
+
 }
@@ -22,7 +22,10 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.DocumentReader;
@@ -34,13 +37,25 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -54,6 +69,17 @@ public class MongodbDocumentReader implements DocumentReader, Closeable {
 
 	private static final Logger log = LoggerFactory.getLogger(MongodbDocumentReader.class);
 
+	/**
+	 * Metadata key holding the key field value of a streamed document, pass it to
+	 * {@link #stream(Object)} to resume after that document
+	 */
+	public static final String METADATA_RESUME_TOKEN = "resume_token";
+
+	/**
+	 * Upper bound of the threads used by the parallel reads
+	 */
+	private static final int MAX_PARALLEL_READS = 8;
+
 	private final MongoTemplate mongoTemplate;
 
 	private final MongodbResource properties;
@@ -178,6 +204,10 @@ public class MongodbDocumentReader implements DocumentReader, Closeable {
 		if (resource.getPoolSize() <= 0) {
 			throw new IllegalArgumentException("Pool size must be greater than 0");
 		}
+		if (resource.getBatchSize() <= 0 || resource.getPageSize() <= 0) {
+			throw new IllegalArgumentException("Batch size and page size must be greater than 0");
+		}
+		Assert.hasText(resource.getKeyField(), "Key field must not be empty");
 		if (resource.getConnectTimeout() <= 0) {
 			throw new IllegalArgumentException("Connect timeout must be greater than 0");
 		}
@@ -265,7 +295,214 @@ public class MongodbDocumentReader implements DocumentReader, Closeable {
 	}
 
 	/**
-	 * Paginated document query
+	 * Stream the documents matching the configured query in key field order. Documents
+	 * are read lazily in keyset pages, so every page is an index seek instead of a scan
+	 * over all previous pages.
+	 * @return Lazily populated stream, close it to release the server cursor
+	 */
+	public Stream<org.springframework.ai.document.Document> stream() {
+		return stream(null);
+	}
+
+	/**
+	 * Stream the documents matching the configured query whose key field is greater than
+	 * {@code resumeToken}
+	 * @param resumeToken {@link #METADATA_RESUME_TOKEN} of the last processed document,
+	 * {@code null} to start from the beginning
+	 * @return Lazily populated stream, close it to release the server cursor
+	 */
+	public Stream<org.springframework.ai.document.Document> stream(Object resumeToken) {
+		checkState();
+		KeysetIterator iterator = new KeysetIterator(buildQuery().getQueryObject(), resumeToken, false, null);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(iterator::close);
+	}
+
+	/**
+	 * Keyset paginated document query, the keyset counterpart of
+	 * {@link #findWithPagination(Query, int, int)}
+	 * @param query MongoDB query object
+	 * @param lastKey Key field value of the last document of the previous page, null for
+	 * the first page
+	 * @param size Page size
+	 * @return Documents following {@code lastKey} in key field order
+	 */
+	public List<org.springframework.ai.document.Document> findAfter(Query query, Object lastKey, int size) {
+		Assert.notNull(query, "Query must not be null");
+		Assert.isTrue(size > 0, "Page size must be greater than 0");
+		String keyField = properties.getKeyField();
+		return executeWithMetrics("findAfter", () -> {
+			List<org.springframework.ai.document.Document> results = new ArrayList<>(size);
+			try (MongoCursor<Document> cursor = collection()
+				.find(keysetFilter(query.getQueryObject(), lastKey, false, null))
+				.sort(new Document(keyField, 1))
+				.limit(size)
+				.batchSize(Math.min(size, properties.getBatchSize()))
+				.iterator()) {
+				while (cursor.hasNext()) {
+					results.add(toDocument(cursor.next()));
+				}
+			}
+			return results;
+		});
+	}
+
+	/**
+	 * Read all documents matching the configured query with {@code partitions} keyset
+	 * scans running in parallel over disjoint key ranges. Ranges are split between the
+	 * smallest and the largest key when they are ObjectIds (by timestamp) or numbers,
+	 * other key types are read with a single scan.
+	 * @param partitions Maximum number of key ranges
+	 * @return Documents in key field order
+	 */
+	public List<org.springframework.ai.document.Document> readParallel(int partitions) {
+		Assert.isTrue(partitions > 0, "Partitions must be greater than 0");
+		checkState();
+		Document filter = buildQuery().getQueryObject();
+		List<Object> bounds = splitBounds(filter, partitions);
+		List<Object[]> ranges = new ArrayList<>(bounds.size() + 1);
+		Object lower = null;
+		for (Object bound : bounds) {
+			ranges.add(new Object[] { lower, bound });
+			lower = bound;
+		}
+		ranges.add(new Object[] { lower, null });
+
+		List<Callable<List<org.springframework.ai.document.Document>>> tasks = new ArrayList<>(ranges.size());
+		for (Object[] range : ranges) {
+			tasks.add(() -> {
+				KeysetIterator iterator = new KeysetIterator(filter, range[0], true, range[1]);
+				List<org.springframework.ai.document.Document> documents = new ArrayList<>();
+				try {
+					iterator.forEachRemaining(documents::add);
+				}
+				finally {
+					iterator.close();
+				}
+				return documents;
+			});
+		}
+		return invokeAllBounded(tasks);
+	}
+
+	/**
+	 * Run blocking reads on a dedicated pool of at most {@link #MAX_PARALLEL_READS}
+	 * threads instead of the common ForkJoinPool, results keep the order of the tasks
+	 */
+	private List<org.springframework.ai.document.Document> invokeAllBounded(
+			List<Callable<List<org.springframework.ai.document.Document>>> tasks) {
+		if (tasks.size() == 1) {
+			try {
+				return tasks.get(0).call();
+			}
+			catch (RuntimeException e) {
+				throw e;
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		AtomicInteger threadIndex = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), MAX_PARALLEL_READS), r -> {
+			Thread thread = new Thread(r, "mongodb-reader-" + threadIndex.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<org.springframework.ai.document.Document> results = new ArrayList<>();
+			for (Future<List<org.springframework.ai.document.Document>> future : executor.invokeAll(tasks)) {
+				results.addAll(future.get());
+			}
+			return results;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while reading documents", e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Inner split points between the smallest and the largest key
+	 */
+	private List<Object> splitBounds(Document filter, int partitions) {
+		if (partitions == 1) {
+			return Collections.emptyList();
+		}
+		String keyField = properties.getKeyField();
+		Document projection = new Document(keyField, 1);
+		Document first = collection().find(filter).projection(projection).sort(new Document(keyField, 1)).first();
+		Document last = collection().find(filter).projection(projection).sort(new Document(keyField, -1)).first();
+		if (first == null || last == null) {
+			return Collections.emptyList();
+		}
+		Object min = first.get(keyField);
+		Object max = last.get(keyField);
+		List<Object> bounds = new ArrayList<>(partitions - 1);
+		if (min instanceof ObjectId minId && max instanceof ObjectId maxId) {
+			long from = minId.getTimestamp();
+			long span = maxId.getTimestamp() - from;
+			for (int i = 1; i < partitions && span >= partitions; i++) {
+				// smallest ObjectId of the boundary second
+				bounds.add(new ObjectId(String.format("%08x%016x", from + span * i / partitions, 0L)));
+			}
+		}
+		else if (min instanceof Number minNumber && max instanceof Number maxNumber) {
+			double from = minNumber.doubleValue();
+			double span = maxNumber.doubleValue() - from;
+			boolean integral = !(min instanceof Double || min instanceof Float || max instanceof Double
+					|| max instanceof Float);
+			for (int i = 1; i < partitions && span > 0; i++) {
+				double bound = from + span * i / partitions;
+				bounds.add(integral ? (Object) (long) Math.ceil(bound) : (Object) bound);
+			}
+		}
+		return bounds.stream().distinct().collect(Collectors.toList());
+	}
+
+	private Document keysetFilter(Document filter, Object lower, boolean lowerInclusive, Object upper) {
+		Document range = new Document();
+		if (lower != null) {
+			range.append(lowerInclusive ? "$gte" : "$gt", lower);
+		}
+		if (upper != null) {
+			range.append("$lt", upper);
+		}
+		if (range.isEmpty()) {
+			return filter;
+		}
+		Document keyCondition = new Document(properties.getKeyField(), range);
+		if (filter == null || filter.isEmpty()) {
+			return keyCondition;
+		}
+		return new Document("$and", List.of(filter, keyCondition));
+	}
+
+	private MongoCollection<Document> collection() {
+		return mongoTemplate.getMongoDatabaseFactory()
+			.getMongoDatabase(properties.getDatabase())
+			.getCollection(properties.getCollection(), Document.class);
+	}
+
+	private org.springframework.ai.document.Document toDocument(Document doc) {
+		org.springframework.ai.document.Document document = documentConverter.convert(doc, properties.getDatabase(),
+				properties.getCollection(), properties);
+		document.getMetadata().put(METADATA_RESUME_TOKEN, doc.get(properties.getKeyField()));
+		return document;
+	}
+
+	/**
+	 * Paginated document query, the server walks all previous pages for every page, use
+	 * {@link #findAfter(Query, Object, int)} or {@link #stream()} for large collections
 	 * @param query MongoDB query object
 	 * @param page Page number, starting from 0
 	 * @param size Page size
@@ -356,10 +593,11 @@ public class MongodbDocumentReader implements DocumentReader, Closeable {
 		Assert.hasText(database, "Database name must not be empty");
 		Assert.notNull(query, "Query must not be null");
 
-		return collections.parallelStream()
-			.map(collection -> findInDatabaseAndCollection(database, collection, query))
-			.flatMap(List::stream)
-			.collect(Collectors.toList());
+		List<Callable<List<org.springframework.ai.document.Document>>> tasks = new ArrayList<>(collections.size());
+		for (String collection : collections) {
+			tasks.add(() -> findInDatabaseAndCollection(database, collection, query));
+		}
+		return invokeAllBounded(tasks);
 	}
 
 	/**
@@ -408,4 +646,78 @@ public class MongodbDocumentReader implements DocumentReader, Closeable {
 		});
 	}
 
+	/**
+	 * Reads one key range page by page, each page seeks past the last key of the
+	 * previous one through the key field index
+	 */
+	private class KeysetIterator implements Iterator<org.springframework.ai.document.Document> {
+
+		private final Document filter;
+
+		private final Object upper;
+
+		private Object lastKey;
+
+		private boolean lowerInclusive;
+
+		private MongoCursor<Document> cursor;
+
+		private int readInPage;
+
+		private boolean exhausted;
+
+		KeysetIterator(Document filter, Object lower, boolean lowerInclusive, Object upper) {
+			this.filter = filter;
+			this.lastKey = lower;
+			this.lowerInclusive = lowerInclusive;
+			this.upper = upper;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!this.exhausted) {
+				if (this.cursor == null) {
+					checkState();
+					Document pageFilter = keysetFilter(this.filter, this.lastKey, this.lowerInclusive, this.upper);
+					this.cursor = executeWithMetrics("keysetPage",
+							() -> collection().find(pageFilter)
+								.sort(new Document(properties.getKeyField(), 1))
+								.limit(properties.getPageSize())
+								.batchSize(properties.getBatchSize())
+								.iterator());
+					this.readInPage = 0;
+				}
+				if (this.cursor.hasNext()) {
+					return true;
+				}
+				this.cursor.close();
+				this.cursor = null;
+				// a short page is the last one
+				this.exhausted = this.readInPage < properties.getPageSize();
+			}
+			return false;
+		}
+
+		@Override
+		public org.springframework.ai.document.Document next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Document doc = this.cursor.next();
+			this.readInPage++;
+			this.lastKey = doc.get(properties.getKeyField());
+			this.lowerInclusive = false;
+			return toDocument(doc);
+		}
+
+		void close() {
+			this.exhausted = true;
+			if (this.cursor != null) {
+				this.cursor.close();
+				this.cursor = null;
+			}
+		}
+
+	}
+
 }
@@ -99,6 +99,18 @@ public class MongodbResource implements Resource {
 	 */
 	private int batchSize = 100;
 
+	/**
+	 * Keyset Field Indexed, unique field the streaming reads page by, in ascending order
+	 * Default: "_id"
+	 */
+	private String keyField = "_id";
+
+	/**
+	 * Keyset Page Size Number of documents read by one keyset query while streaming, a
+	 * page is fetched from the server in batches of batchSize Default: 1000
+	 */
+	private int pageSize = 1000;
+
 	/**
 	 * MongoDB Connection Pool Size Default: 10
 	 */
@@ -191,6 +203,22 @@ public class MongodbResource implements Resource {
 		this.batchSize = batchSize;
 	}
 
+	public String getKeyField() {
+		return keyField;
+	}
+
+	public void setKeyField(String keyField) {
+		this.keyField = keyField;
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	public void setPageSize(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
 	public int getPoolSize() {
 		return poolSize;
 	}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.reader.mongodb;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the keyset reads of MongodbDocumentReader against an in-memory collection
+ * that records the finds it receives and counts the documents the server would walk.
+ */
+class MongodbDocumentReaderKeysetTest {
+
+	private static final int DOCUMENTS = 2_000;
+
+	private static final int PAGE_SIZE = 100;
+
+	private final List<Document> collection = new ArrayList<>();
+
+	private final AtomicLong scanned = new AtomicLong();
+
+	private final List<FindCall> finds = new ArrayList<>();
+
+	private MongodbDocumentReader reader;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		long seconds = 1_700_000_000L;
+		for (int i = 0; i < DOCUMENTS; i++) {
+			ObjectId id = new ObjectId(String.format("%08x%016x", seconds + i, (long) i));
+			collection.add(new Document("_id", id).append("content", "document " + i));
+		}
+
+		MongoCollection<Document> mongoCollection = mock(MongoCollection.class);
+		when(mongoCollection.find(any(Bson.class))).thenAnswer(invocation -> findIterable(invocation.getArgument(0)));
+		MongoDatabase database = mock(MongoDatabase.class);
+		when(database.getCollection("articles", Document.class)).thenReturn(mongoCollection);
+		MongoDatabaseFactory factory = mock(MongoDatabaseFactory.class);
+		when(factory.getMongoDatabase("test")).thenReturn(database);
+		MongoTemplate template = mock(MongoTemplate.class);
+		when(template.getMongoDatabaseFactory()).thenReturn(factory);
+
+		MongodbResource resource = new MongodbResource();
+		resource.setUri("mongodb://localhost:27017/test");
+		resource.setDatabase("test");
+		resource.setCollection("articles");
+		resource.setPageSize(PAGE_SIZE);
+		reader = MongodbDocumentReader.builder().withResource(resource).withMongoTemplate(template).build();
+	}
+
+	@Test
+	void streamScansEachDocumentOnce() {
+		List<org.springframework.ai.document.Document> documents;
+		try (Stream<org.springframework.ai.document.Document> stream = reader.stream()) {
+			documents = stream.collect(Collectors.toList());
+		}
+
+		assertThat(documents).hasSize(DOCUMENTS);
+		assertThat(documents).extracting(document -> document.getMetadata().get("id"))
+			.containsExactlyElementsOf(collection.stream().map(doc -> doc.getObjectId("_id").toString()).toList());
+		assertThat(scanned.get()).isEqualTo(DOCUMENTS);
+	}
+
+	@Test
+	void keysetPagesSeekPastTheLastIdInsteadOfSkipping() {
+		Object lastKey = null;
+		for (int page = 0; page < DOCUMENTS / PAGE_SIZE; page++) {
+			List<org.springframework.ai.document.Document> documents = reader.findAfter(new Query(), lastKey,
+					PAGE_SIZE);
+			assertThat(documents).extracting(document -> document.getMetadata().get("id"))
+				.containsExactlyElementsOf(ids(page * PAGE_SIZE, (page + 1) * PAGE_SIZE));
+			lastKey = documents.get(documents.size() - 1)
+				.getMetadata()
+				.get(MongodbDocumentReader.METADATA_RESUME_TOKEN);
+		}
+
+		assertThat(finds).hasSize(DOCUMENTS / PAGE_SIZE);
+		for (int page = 0; page < finds.size(); page++) {
+			FindCall find = finds.get(page);
+			// the first page has no lower bound, every later one starts after the last id
+			// of the page before
+			Document expectedFilter = page == 0 ? new Document()
+					: new Document("_id", new Document("$gt", collection.get(page * PAGE_SIZE - 1).get("_id")));
+			assertThat(find.filter).isEqualTo(expectedFilter);
+			assertThat(find.sort).isEqualTo(new Document("_id", 1));
+			assertThat(find.limit).isEqualTo(PAGE_SIZE);
+			assertThat(find.skip).isNull();
+		}
+	}
+
+	@Test
+	void skipPaginationSkipsAllPreviousPages() {
+		for (int page = 0; page < DOCUMENTS / PAGE_SIZE; page++) {
+			List<org.springframework.ai.document.Document> documents = reader
+				.findInDatabaseAndCollectionWithPagination("articles", new Query(), page, PAGE_SIZE);
+			assertThat(documents).hasSize(PAGE_SIZE);
+		}
+
+		assertThat(finds).hasSize(DOCUMENTS / PAGE_SIZE);
+		for (int page = 0; page < finds.size(); page++) {
+			FindCall find = finds.get(page);
+			assertThat(find.filter).isEqualTo(new Document());
+			assertThat(find.skip).isEqualTo(page * PAGE_SIZE);
+			assertThat(find.limit).isEqualTo(PAGE_SIZE);
+		}
+	}
+
+	@Test
+	void streamResumesAfterCheckpoint() {
+		Object checkpoint;
+		try (Stream<org.springframework.ai.document.Document> stream = reader.stream()) {
+			checkpoint = stream.skip(1234).findFirst().orElseThrow().getMetadata()
+				.get(MongodbDocumentReader.METADATA_RESUME_TOKEN);
+		}
+
+		try (Stream<org.springframework.ai.document.Document> stream = reader.stream(checkpoint)) {
+			List<org.springframework.ai.document.Document> rest = stream.collect(Collectors.toList());
+			assertThat(rest).hasSize(DOCUMENTS - 1235);
+			assertThat(rest.get(0).getMetadata().get("id"))
+				.isEqualTo(collection.get(1235).getObjectId("_id").toString());
+		}
+	}
+
+	@Test
+	void readParallelSplitsByObjectIdTimestamp() {
+		List<org.springframework.ai.document.Document> documents = reader.readParallel(4);
+
+		assertThat(documents).extracting(document -> document.getMetadata().get("id"))
+			.containsExactlyElementsOf(collection.stream().map(doc -> doc.getObjectId("_id").toString()).toList());
+		// two lookups for the bounds, then every document exactly once
+		assertThat(scanned.get()).isEqualTo(DOCUMENTS + 2);
+	}
+
+	/**
+	 * Minimal find over the sorted in-memory collection, supporting the key range filter
+	 * of the reader, sort direction, skip and limit.
+	 */
+	@SuppressWarnings("unchecked")
+	private FindIterable<Document> findIterable(Bson filter) {
+		FindIterable<Document> iterable = mock(FindIterable.class, RETURNS_SELF);
+		FindCall find = new FindCall(filter);
+		finds.add(find);
+		when(iterable.skip(anyInt())).thenAnswer(invocation -> {
+			find.skip = invocation.getArgument(0);
+			return iterable;
+		});
+		when(iterable.limit(anyInt())).thenAnswer(invocation -> {
+			find.limit = invocation.getArgument(0);
+			return iterable;
+		});
+		when(iterable.sort(any())).thenAnswer(invocation -> {
+			find.sort = invocation.getArgument(0);
+			return iterable;
+		});
+		when(iterable.first()).thenAnswer(invocation -> {
+			List<Document> matches = select(filter, find.sort, 0, 1);
+			return matches.isEmpty() ? null : matches.get(0);
+		});
+		when(iterable.iterator()).thenAnswer(invocation -> cursor(select(find)));
+		when(iterable.spliterator()).thenAnswer(invocation -> select(find).spliterator());
+		return iterable;
+	}
+
+	private List<Document> select(FindCall find) {
+		return select(find.filter, find.sort, find.skip != null ? find.skip : 0,
+				find.limit != null ? find.limit : Integer.MAX_VALUE);
+	}
+
+	private List<String> ids(int from, int to) {
+		return collection.subList(from, to).stream().map(doc -> doc.getObjectId("_id").toString()).toList();
+	}
+
+	private List<Document> select(Bson filter, Bson sort, int skip, int limit) {
+		Document range = filter instanceof Document document ? (Document) document.get("_id") : null;
+		boolean descending = sort instanceof Document sortDocument
+				&& Integer.valueOf(-1).equals(sortDocument.get("_id"));
+		Stream<Document> matches = collection.stream();
+		if (descending) {
+			matches = matches.sorted(Comparator.comparing((Document doc) -> doc.getObjectId("_id")).reversed());
+		}
+		if (range != null) {
+			matches = matches.filter(doc -> {
+				ObjectId id = doc.getObjectId("_id");
+				return (!range.containsKey("$gt") || id.compareTo((ObjectId) range.get("$gt")) > 0)
+						&& (!range.containsKey("$gte") || id.compareTo((ObjectId) range.get("$gte")) >= 0)
+						&& (!range.containsKey("$lt") || id.compareTo((ObjectId) range.get("$lt")) < 0);
+			});
+		}
+		// an index seek only touches the returned documents, skipped ones are walked
+		List<Document> selected = matches.skip(skip).limit(limit).collect(Collectors.toList());
+		scanned.addAndGet(skip + selected.size());
+		return selected;
+	}
+
+	/**
+	 * A find issued by the reader with the options set on it, null when not set.
+	 */
+	private static final class FindCall {
+
+		private final Bson filter;
+
+		private Bson sort;
+
+		private Integer skip;
+
+		private Integer limit;
+
+		private FindCall(Bson filter) {
+			this.filter = filter;
+		}
+
+	}
+
+	@SuppressWarnings("unchecked")
+	private static MongoCursor<Document> cursor(List<Document> documents) {
+		Iterator<Document> iterator = documents.iterator();
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+		when(cursor.next()).thenAnswer(invocation -> iterator.next());
+		return cursor;
+	}
+
+}
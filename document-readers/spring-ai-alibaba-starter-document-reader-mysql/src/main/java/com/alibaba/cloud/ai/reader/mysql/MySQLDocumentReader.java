@@ -21,20 +21,68 @@ import org.springframework.ai.document.DocumentReader;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * MySQL document reader implementation Uses JDBC to connect and fetch data from MySQL
+ * <p>
+ * {@link #get()} loads the whole result set. {@link #stream()} emits documents lazily,
+ * either from a forward-only streaming cursor, or page by page with keyset pagination
+ * when a key column is configured. Every streamed document carries a
+ * {@link #METADATA_RESUME_TOKEN} that can be checkpointed and passed to
+ * {@link #stream(Object)} to continue after that document.
  *
  * @author brianxiadong
  **/
 public class MySQLDocumentReader implements DocumentReader {
 
+	/**
+	 * Metadata key of the resume token of a streamed document: the key column value in
+	 * keyset mode, the number of rows read so far otherwise.
+	 */
+	public static final String METADATA_RESUME_TOKEN = "resume_token";
+
+	/**
+	 * Makes MySQL Connector/J stream the result set row by row instead of buffering it.
+	 */
+	public static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+	public static final int DEFAULT_PAGE_SIZE = 1000;
+
+	private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
 	private final MySQLResource mysqlResource;
 
+	private final int fetchSize;
+
+	private final String keyColumn;
+
 	public MySQLDocumentReader(MySQLResource mysqlResource) {
+		this(mysqlResource, STREAMING_FETCH_SIZE, null);
+	}
+
+	/**
+	 * @param mysqlResource the connection and query settings
+	 * @param fetchSize the JDBC fetch size of {@link #stream()}, {@link #STREAMING_FETCH_SIZE}
+	 * streams rows one by one; in keyset mode a positive value is also the page size
+	 * @param keyColumn a unique, ordered column of the query used for keyset pagination,
+	 * {@code null} to read through a single cursor
+	 */
+	public MySQLDocumentReader(MySQLResource mysqlResource, int fetchSize, String keyColumn) {
+		if (keyColumn != null && !IDENTIFIER.matcher(keyColumn).matches()) {
+			throw new IllegalArgumentException("Invalid key column: " + keyColumn);
+		}
 		this.mysqlResource = mysqlResource;
+		this.fetchSize = fetchSize;
+		this.keyColumn = keyColumn;
 	}
 
 	@Override
@@ -58,6 +106,36 @@ public class MySQLDocumentReader implements DocumentReader {
 		return documents;
 	}
 
+	/**
+	 * Lazily read the query results from the beginning. The returned stream holds a
+	 * connection and must be closed.
+	 */
+	public Stream<Document> stream() {
+		return stream(null);
+	}
+
+	/**
+	 * Lazily read the query results after the document whose
+	 * {@link #METADATA_RESUME_TOKEN} is {@code resumeToken}. The returned stream holds a
+	 * connection and must be closed.
+	 */
+	public Stream<Document> stream(Object resumeToken) {
+		DocumentCursor cursor;
+		try {
+			Class.forName("com.mysql.cj.jdbc.Driver");
+			cursor = new DocumentCursor(createConnection(), resumeToken);
+		}
+		catch (ClassNotFoundException e) {
+			throw new RuntimeException("MySQL JDBC driver not found", e);
+		}
+		catch (SQLException e) {
+			throw new RuntimeException("Error executing MySQL query: " + e.getMessage(), e);
+		}
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(cursor::close);
+	}
+
 	/**
 	 * Create database connection
 	 */
@@ -159,4 +237,154 @@ public class MySQLDocumentReader implements DocumentReader {
 		return metadata;
 	}
 
+	/**
+	 * Reads one row at a time, either from a single forward-only cursor or from
+	 * successive keyset pages, and releases the JDBC resources once exhausted.
+	 */
+	private class DocumentCursor implements Iterator<Document> {
+
+		private final Connection connection;
+
+		private final int pageSize;
+
+		private Statement statement;
+
+		private ResultSet resultSet;
+
+		private List<String> columnNames;
+
+		private Object lastKey;
+
+		private long rowNumber;
+
+		private int rowsInPage;
+
+		private boolean exhausted;
+
+		private Document next;
+
+		DocumentCursor(Connection connection, Object resumeToken) {
+			this.connection = connection;
+			this.pageSize = fetchSize > 0 ? fetchSize : DEFAULT_PAGE_SIZE;
+			if (keyColumn != null) {
+				this.lastKey = resumeToken;
+			}
+			else if (resumeToken != null) {
+				this.rowNumber = Long.parseLong(resumeToken.toString());
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.next == null && !this.exhausted) {
+				try {
+					this.next = fetchNext();
+				}
+				catch (SQLException e) {
+					close();
+					throw new RuntimeException("Error executing MySQL query: " + e.getMessage(), e);
+				}
+				if (this.next == null) {
+					close();
+				}
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public Document next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Document document = this.next;
+			this.next = null;
+			return document;
+		}
+
+		private Document fetchNext() throws SQLException {
+			while (true) {
+				if (this.resultSet == null) {
+					openPage();
+				}
+				if (this.resultSet.next()) {
+					this.rowsInPage++;
+					this.rowNumber++;
+					Map<String, Object> rowData = extractRowData(this.resultSet, this.columnNames);
+					Map<String, Object> metadata = buildMetadata(rowData);
+					if (keyColumn != null) {
+						this.lastKey = this.resultSet.getObject(keyColumn);
+						metadata.put(METADATA_RESUME_TOKEN, this.lastKey);
+					}
+					else {
+						metadata.put(METADATA_RESUME_TOKEN, this.rowNumber);
+					}
+					return new Document(buildContent(rowData), metadata);
+				}
+				closePage();
+				// a short page is the last one
+				if (keyColumn == null || this.rowsInPage < this.pageSize) {
+					this.exhausted = true;
+					return null;
+				}
+			}
+		}
+
+		private void openPage() throws SQLException {
+			if (keyColumn == null) {
+				this.statement = this.connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+						ResultSet.CONCUR_READ_ONLY);
+				this.statement.setFetchSize(fetchSize);
+				this.resultSet = this.statement.executeQuery(mysqlResource.getQuery());
+				// the cursor only moves forward, skip the rows read before the resume token
+				long skipped = 0;
+				while (skipped < this.rowNumber && this.resultSet.next()) {
+					skipped++;
+				}
+			}
+			else {
+				String sql = "SELECT * FROM (" + trimQuery(mysqlResource.getQuery()) + ") AS keyset_page"
+						+ (this.lastKey != null ? " WHERE `" + keyColumn + "` > ?" : "") + " ORDER BY `" + keyColumn
+						+ "` LIMIT " + this.pageSize;
+				PreparedStatement preparedStatement = this.connection.prepareStatement(sql,
+						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+				this.statement = preparedStatement;
+				preparedStatement.setFetchSize(fetchSize);
+				if (this.lastKey != null) {
+					preparedStatement.setObject(1, this.lastKey);
+				}
+				this.resultSet = preparedStatement.executeQuery();
+			}
+			this.rowsInPage = 0;
+			if (this.columnNames == null) {
+				this.columnNames = getColumnNames(this.resultSet.getMetaData());
+			}
+		}
+
+		private void closePage() throws SQLException {
+			try (Statement ignored = this.statement; ResultSet ignoredResultSet = this.resultSet) {
+				this.statement = null;
+				this.resultSet = null;
+			}
+		}
+
+		void close() {
+			this.exhausted = true;
+			try (Connection ignored = this.connection) {
+				closePage();
+			}
+			catch (SQLException e) {
+				throw new RuntimeException("Error closing MySQL connection: " + e.getMessage(), e);
+			}
+		}
+
+	}
+
+	private static String trimQuery(String query) {
+		String trimmed = query.trim();
+		while (trimmed.endsWith(";")) {
+			trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+		}
+		return trimmed;
+	}
+
 }
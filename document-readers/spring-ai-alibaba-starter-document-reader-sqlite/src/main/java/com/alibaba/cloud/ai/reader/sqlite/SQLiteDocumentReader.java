@@ -17,14 +17,22 @@ package com.alibaba.cloud.ai.reader.sqlite;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentReader;
@@ -32,15 +40,54 @@ import org.springframework.ai.document.DocumentReader;
 /**
  * SQLite document reader implementation Uses JDBC to connect and fetch data from SQLite,
  * use SQLite4j from roastedroot to run in pure Java.
+ * <p>
+ * {@link #get()} loads the whole result set. {@link #stream()} emits documents lazily,
+ * either from a single forward-only cursor, or page by page with keyset pagination when
+ * a key column is configured. Every streamed document carries a
+ * {@link #METADATA_RESUME_TOKEN} that can be checkpointed and passed to
+ * {@link #stream(Object)} to continue after that document.
  *
  * @author jens papenhagen
  **/
 public class SQLiteDocumentReader implements DocumentReader {
 
+	/**
+	 * Metadata key of the resume token of a streamed document: the key column value in
+	 * keyset mode, the number of rows read so far otherwise.
+	 */
+	public static final String METADATA_RESUME_TOKEN = "resume_token";
+
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+
+	private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
 	private final SQLiteResource sqLiteResource;
 
+	private final int fetchSize;
+
+	private final String keyColumn;
+
 	public SQLiteDocumentReader(SQLiteResource sqLiteResource) {
+		this(sqLiteResource, DEFAULT_FETCH_SIZE, null);
+	}
+
+	/**
+	 * @param sqLiteResource the connection and query settings
+	 * @param fetchSize the JDBC fetch size of {@link #stream()}, also the page size in
+	 * keyset mode
+	 * @param keyColumn a unique, ordered column of the query used for keyset pagination,
+	 * {@code null} to read through a single cursor
+	 */
+	public SQLiteDocumentReader(SQLiteResource sqLiteResource, int fetchSize, String keyColumn) {
+		if (fetchSize <= 0) {
+			throw new IllegalArgumentException("fetchSize must be greater than 0");
+		}
+		if (keyColumn != null && !IDENTIFIER.matcher(keyColumn).matches()) {
+			throw new IllegalArgumentException("Invalid key column: " + keyColumn);
+		}
 		this.sqLiteResource = sqLiteResource;
+		this.fetchSize = fetchSize;
+		this.keyColumn = keyColumn;
 	}
 
 	@Override
@@ -58,6 +105,32 @@ public class SQLiteDocumentReader implements DocumentReader {
 		return documents;
 	}
 
+	/**
+	 * Lazily read the query results from the beginning. The returned stream holds a
+	 * connection and must be closed.
+	 */
+	public Stream<Document> stream() {
+		return stream(null);
+	}
+
+	/**
+	 * Lazily read the query results after the document whose
+	 * {@link #METADATA_RESUME_TOKEN} is {@code resumeToken}. The returned stream holds a
+	 * connection and must be closed.
+	 */
+	public Stream<Document> stream(Object resumeToken) {
+		final DocumentCursor cursor;
+		try {
+			cursor = new DocumentCursor(createConnection(), resumeToken);
+		}
+		catch (SQLException e) {
+			throw new RuntimeException("Error executing SQLite query: " + e.getMessage(), e);
+		}
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(cursor::close);
+	}
+
 	/**
 	 * Create database connection
 	 */
@@ -160,4 +233,154 @@ public class SQLiteDocumentReader implements DocumentReader {
 		return metadata;
 	}
 
+	/**
+	 * Reads one row at a time, either from a single forward-only cursor or from
+	 * successive keyset pages, and releases the JDBC resources once exhausted.
+	 */
+	private class DocumentCursor implements Iterator<Document> {
+
+		private final Connection connection;
+
+		private final int pageSize;
+
+		private Statement statement;
+
+		private ResultSet resultSet;
+
+		private List<String> columnNames;
+
+		private Object lastKey;
+
+		private long rowNumber;
+
+		private int rowsInPage;
+
+		private boolean exhausted;
+
+		private Document next;
+
+		DocumentCursor(Connection connection, Object resumeToken) {
+			this.connection = connection;
+			this.pageSize = fetchSize;
+			if (keyColumn != null) {
+				this.lastKey = resumeToken;
+			}
+			else if (resumeToken != null) {
+				this.rowNumber = Long.parseLong(resumeToken.toString());
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.next == null && !this.exhausted) {
+				try {
+					this.next = fetchNext();
+				}
+				catch (SQLException e) {
+					close();
+					throw new RuntimeException("Error executing SQLite query: " + e.getMessage(), e);
+				}
+				if (this.next == null) {
+					close();
+				}
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public Document next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Document document = this.next;
+			this.next = null;
+			return document;
+		}
+
+		private Document fetchNext() throws SQLException {
+			while (true) {
+				if (this.resultSet == null) {
+					openPage();
+				}
+				if (this.resultSet.next()) {
+					this.rowsInPage++;
+					this.rowNumber++;
+					final Map<String, Object> rowData = extractRowData(this.resultSet, this.columnNames);
+					final Map<String, Object> metadata = buildMetadata(rowData);
+					if (keyColumn != null) {
+						this.lastKey = this.resultSet.getObject(keyColumn);
+						metadata.put(METADATA_RESUME_TOKEN, this.lastKey);
+					}
+					else {
+						metadata.put(METADATA_RESUME_TOKEN, this.rowNumber);
+					}
+					return new Document(buildContent(rowData), metadata);
+				}
+				closePage();
+				// a short page is the last one
+				if (keyColumn == null || this.rowsInPage < this.pageSize) {
+					this.exhausted = true;
+					return null;
+				}
+			}
+		}
+
+		private void openPage() throws SQLException {
+			if (keyColumn == null) {
+				this.statement = this.connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+						ResultSet.CONCUR_READ_ONLY);
+				this.statement.setFetchSize(fetchSize);
+				this.resultSet = this.statement.executeQuery(sqLiteResource.getQuery());
+				// the cursor only moves forward, skip the rows read before the resume token
+				long skipped = 0;
+				while (skipped < this.rowNumber && this.resultSet.next()) {
+					skipped++;
+				}
+			}
+			else {
+				String sql = "SELECT * FROM (" + trimQuery(sqLiteResource.getQuery()) + ") AS keyset_page"
+						+ (this.lastKey != null ? " WHERE \"" + keyColumn + "\" > ?" : "") + " ORDER BY \"" + keyColumn
+						+ "\" LIMIT " + this.pageSize;
+				PreparedStatement preparedStatement = this.connection.prepareStatement(sql,
+						ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+				this.statement = preparedStatement;
+				preparedStatement.setFetchSize(fetchSize);
+				if (this.lastKey != null) {
+					preparedStatement.setObject(1, this.lastKey);
+				}
+				this.resultSet = preparedStatement.executeQuery();
+			}
+			this.rowsInPage = 0;
+			if (this.columnNames == null) {
+				this.columnNames = getColumnNames(this.resultSet.getMetaData());
+			}
+		}
+
+		private void closePage() throws SQLException {
+			try (Statement ignored = this.statement; ResultSet ignoredResultSet = this.resultSet) {
+				this.statement = null;
+				this.resultSet = null;
+			}
+		}
+
+		void close() {
+			this.exhausted = true;
+			try (Connection ignored = this.connection) {
+				closePage();
+			}
+			catch (SQLException e) {
+				throw new RuntimeException("Error closing SQLite connection: " + e.getMessage(), e);
+			}
+		}
+
+	}
+
+	private static String trimQuery(String query) {
+		String trimmed = query.trim();
+		while (trimmed.endsWith(";")) {
+			trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+		}
+		return trimmed;
+	}
+
 }
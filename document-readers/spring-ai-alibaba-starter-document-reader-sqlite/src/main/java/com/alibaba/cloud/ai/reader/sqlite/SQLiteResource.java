@@ -43,6 +43,8 @@ public class SQLiteResource {
 
 	private final List<String> metadataColumns; // Columns to include in document metadata
 
+	private final String jdbcUrl; // Explicit JDBC URL, e.g. of a local database file
+
 	public static final String SOURCE = "SQLite";
 
 	// Default values for SQLite connection
@@ -56,6 +58,11 @@ public class SQLiteResource {
 
 	public SQLiteResource(String host, int port, String database, String username, String password, String query,
 			List<String> contentColumns, List<String> metadataColumns) {
+		this(host, port, database, username, password, query, contentColumns, metadataColumns, null);
+	}
+
+	private SQLiteResource(String host, int port, String database, String username, String password, String query,
+			List<String> contentColumns, List<String> metadataColumns, String jdbcUrl) {
 		this.host = host;
 		this.port = port;
 		this.database = database;
@@ -64,6 +71,20 @@ public class SQLiteResource {
 		this.query = query;
 		this.contentColumns = contentColumns;
 		this.metadataColumns = metadataColumns;
+		this.jdbcUrl = jdbcUrl;
+	}
+
+	/**
+	 * Resource reading a local database file
+	 * @param file Path of the SQLite database file
+	 * @param query SQL query to execute
+	 * @param contentColumns Columns to include in document content
+	 * @param metadataColumns Columns to include in document metadata
+	 */
+	public static SQLiteResource fromFile(String file, String query, List<String> contentColumns,
+			List<String> metadataColumns) {
+		return new SQLiteResource(DEFAULT_HOST, DEFAULT_PORT, file, DEFAULT_USERNAME, DEFAULT_PASSWORD, query,
+				contentColumns, metadataColumns, "jdbc:sqlite:" + file);
 	}
 
 	/**
@@ -130,6 +151,9 @@ public class SQLiteResource {
 	 * @return JDBC URL string
 	 */
 	public String getJdbcUrl() {
+		if (jdbcUrl != null) {
+			return jdbcUrl;
+		}
 		return String.format("jdbc:sqlite://%s:%d/%s", host, port, database);
 	}
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.reader.sqlite;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ai.document.Document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the streaming mode of {@link SQLiteDocumentReader} against a local database
+ * file.
+ **/
+class SQLiteDocumentReaderStreamTest {
+
+	private static final int ROWS = 100_000;
+
+	@TempDir
+	Path tempDir;
+
+	private SQLiteResource resource;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		String file = tempDir.resolve("stream.db").toString();
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file)) {
+			connection.setAutoCommit(false);
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("CREATE TABLE article (id INTEGER PRIMARY KEY, title TEXT, body TEXT)");
+			}
+			try (PreparedStatement insert = connection
+				.prepareStatement("INSERT INTO article (id, title, body) VALUES (?, ?, ?)")) {
+				for (int i = 1; i <= ROWS; i++) {
+					insert.setInt(1, i);
+					insert.setString(2, "title " + i);
+					insert.setString(3, "body " + i);
+					insert.addBatch();
+					if (i % 10_000 == 0) {
+						insert.executeBatch();
+					}
+				}
+				insert.executeBatch();
+			}
+			connection.commit();
+		}
+		resource = SQLiteResource.fromFile(file, "SELECT id, title, body FROM article;", List.of("title", "body"),
+				List.of("id"));
+	}
+
+	@Test
+	void streamsWholeTableThroughCursor() {
+		SQLiteDocumentReader reader = new SQLiteDocumentReader(resource, 500, null);
+
+		AtomicLong count = new AtomicLong();
+		try (Stream<Document> documents = reader.stream()) {
+			documents.forEach(document -> {
+				long expected = count.incrementAndGet();
+				assertThat(document.getMetadata()).containsEntry(SQLiteDocumentReader.METADATA_RESUME_TOKEN, expected);
+			});
+		}
+
+		assertThat(count.get()).isEqualTo(ROWS);
+	}
+
+	@Test
+	void streamsWholeTableWithKeysetPagination() {
+		SQLiteDocumentReader reader = new SQLiteDocumentReader(resource, 1000, "id");
+
+		AtomicLong previous = new AtomicLong();
+		AtomicLong count = new AtomicLong();
+		try (Stream<Document> documents = reader.stream()) {
+			documents.forEach(document -> {
+				long id = ((Number) document.getMetadata().get("id")).longValue();
+				assertThat(id).isGreaterThan(previous.get());
+				previous.set(id);
+				count.incrementAndGet();
+			});
+		}
+
+		assertThat(count.get()).isEqualTo(ROWS);
+		assertThat(previous.get()).isEqualTo(ROWS);
+	}
+
+	@Test
+	void resumesAfterCheckpoint() {
+		for (String keyColumn : new String[] { null, "id" }) {
+			SQLiteDocumentReader reader = new SQLiteDocumentReader(resource, 1000, keyColumn);
+
+			Object checkpoint;
+			try (Stream<Document> documents = reader.stream()) {
+				Iterator<Document> iterator = documents.iterator();
+				Document document = null;
+				for (int i = 0; i < 2500; i++) {
+					document = iterator.next();
+				}
+				checkpoint = document.getMetadata().get(SQLiteDocumentReader.METADATA_RESUME_TOKEN);
+			}
+
+			try (Stream<Document> documents = reader.stream(checkpoint)) {
+				List<Document> rest = documents.limit(10).toList();
+				assertThat(rest).hasSize(10);
+				assertThat(((Number) rest.get(0).getMetadata().get("id")).longValue()).isEqualTo(2501);
+				assertThat(rest.get(0).getText()).contains("title 2501");
+			}
+		}
+	}
+
+	@Test
+	void getStillReturnsAllRows() {
+		SQLiteResource small = SQLiteResource.fromFile(resource.getDatabase(),
+				"SELECT id, title FROM article WHERE id <= 10", List.of("title"), List.of("id"));
+
+		List<Document> documents = new SQLiteDocumentReader(small).get();
+
+		assertThat(documents).hasSize(10);
+		assertThat(documents.get(0).getMetadata()).doesNotContainKey(SQLiteDocumentReader.METADATA_RESUME_TOKEN);
+	}
+
+}
@@ -27,14 +27,47 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.util.Assert;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
 
 /**
  * Memcached implementation of ChatMemoryRepository auth: dahua
+ *
+ * <p>
+ * A conversation is stored as a head record plus fixed-size message segments. The head
+ * only holds counters: the live messages have the contiguous indexes {@code [low, next)},
+ * and message {@code i} lives in slot {@code i % segmentSize} of segment
+ * {@code i / segmentSize}. Every slot carries a 64-bit fingerprint of its message next to
+ * the message, so the head keeps the same size however long the conversation grows. A
+ * turn finds which of its messages are already stored by reading the fingerprints of the
+ * stored tail it can overlap, which is never longer than the turn itself. Replacing or
+ * deleting a conversation moves {@code next} to a fresh segment, so the slots of live
+ * messages are never reused.
+ *
+ * <p>
+ * A change first claims the slots from {@code next} on for the new messages with
+ * {@code gets}/{@code cas} on their segments, then publishes the new head with a
+ * {@code cas}, and only then deletes the segments that are no longer live. Readers never
+ * see a head whose messages are not written yet, and a writer that fails before
+ * publishing leaves the head untouched and releases its slots. A writer that finds the
+ * slots at {@code next} claimed by another one waits for it to publish or release them.
+ * When they stay claimed, it bumps the {@code generation} of the head: every pending
+ * claim then turns stale, its slots may be reused, and its writer can no longer publish
+ * it. A turn only serializes the new messages and only writes the segments they fall
+ * into. Reads fetch the live segments with a single multi-get.
  */
 public class MemcachedChatMemoryRepository implements ChatMemoryRepository, AutoCloseable {
 
@@ -44,12 +77,40 @@ public class MemcachedChatMemoryRepository implements ChatMemoryRepository, Auto
 
 	private final ObjectMapper objectMapper;
 
+	private final int segmentSize;
+
 	private static final String DEFAULT_CONVERSATION = "spring_ai_alibaba_chat_memory_conversation";
 
 	private static final String DEFAULT_KEY_PREFIX = "spring_ai_alibaba_chat_memory:";
 
+	private static final String HEAD_SUFFIX = ":head";
+
+	private static final String SEGMENT_INFIX = ":segment:";
+
+	private static final int DEFAULT_SEGMENT_SIZE = 16;
+
+	private static final int MAX_CAS_RETRIES = 64;
+
+	/**
+	 * Attempts a writer waits for slots claimed by another one before turning the claim
+	 * stale, the wait doubles from 1ms on every attempt.
+	 */
+	private static final int MAX_BLOCKED_ATTEMPTS = 8;
+
+	/**
+	 * A new conversation starts at a random segment, so that slots left behind by a
+	 * deleted conversation of the same id are never in its way.
+	 */
+	private static final long START_SEGMENTS = 1L << 40;
+
 	public MemcachedChatMemoryRepository(MemcachedService memcachedService) {
+		this(memcachedService, DEFAULT_SEGMENT_SIZE);
+	}
+
+	public MemcachedChatMemoryRepository(MemcachedService memcachedService, int segmentSize) {
+		Assert.isTrue(segmentSize > 0, "segmentSize must be greater than 0");
 		this.memcachedService = memcachedService;
+		this.segmentSize = segmentSize;
 		this.objectMapper = JsonMapper.builder()
 			.configure(MapperFeature.AUTO_DETECT_GETTERS, false)
 			.configure(MapperFeature.AUTO_DETECT_IS_GETTERS, false)
@@ -66,74 +127,630 @@ public class MemcachedChatMemoryRepository implements ChatMemoryRepository, Auto
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public List<String> findConversationIds() {
-		return (List<String>) this.memcachedService.getter()
+		Object conversationIds = this.memcachedService.getter()
 			.apply(new MemcachedService.MemcachedServiceGetter.Request(DEFAULT_CONVERSATION));
+		return conversationIds == null ? new ArrayList<>() : new ArrayList<>((List<String>) conversationIds);
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public List<Message> findByConversationId(String conversationId) {
-		Object apply = this.memcachedService.getter()
-			.apply(new MemcachedService.MemcachedServiceGetter.Request(DEFAULT_KEY_PREFIX + conversationId));
-		if (apply != null) {
-			List<String> messageList = (List<String>) apply;
-			return messageList.stream().map(messageStr -> {
-				try {
-					return objectMapper.readValue(messageStr, Message.class);
-				}
-				catch (JsonProcessingException e) {
-					throw new RuntimeException("Error deserializing message", e);
-				}
-			}).toList();
+		Object rawHead = this.memcachedService.getter()
+			.apply(new MemcachedService.MemcachedServiceGetter.Request(headKey(conversationId)));
+		if (rawHead == null) {
+			return findLegacyByConversationId(conversationId);
 		}
-		return List.of();
+		ConversationHead head = readHead(rawHead);
+		if (head.size() == 0) {
+			return List.of();
+		}
+		List<Message> messages = new ArrayList<>((int) head.size());
+		for (String slot : readSlots(conversationId, head.low, head.next)) {
+			if (slot != null) {
+				messages.add(deserialize(Slot.parse(slot).message()));
+			}
+		}
+		return messages;
 	}
 
 	@Override
 	public void saveAll(String conversationId, List<Message> messages) {
-		List<String> conversationIds = findConversationIds() == null ? new ArrayList<>() : findConversationIds();
-		// 保障消息顺序
-		conversationIds.remove(conversationId);
-		conversationIds.add(conversationId);
-		this.memcachedService.setter()
-			.apply(new MemcachedService.MemcachedServiceSetter.Request(DEFAULT_CONVERSATION, conversationIds, 0));
-		List<String> serializingMessage = messages.stream().map(message -> {
-			try {
-				return this.objectMapper.writeValueAsString(message);
-			}
-			catch (JsonProcessingException e) {
-				throw new RuntimeException("Error serializing message", e);
-			}
-		}).toList();
-		this.memcachedService.setter()
-			.apply(new MemcachedService.MemcachedServiceSetter.Request(DEFAULT_KEY_PREFIX + conversationId,
-					serializingMessage, 0));
+		Assert.hasText(conversationId, "conversationId cannot be null or empty");
+		Assert.notNull(messages, "messages cannot be null");
+		commit(conversationId, messages, false);
+	}
+
+	/**
+	 * Atomically appends {@code messages} to the end of the conversation. Unlike
+	 * {@link #saveAll(String, List)} this never replaces existing messages, so concurrent
+	 * appenders to the same conversation never lose each other's messages.
+	 */
+	public void append(String conversationId, List<Message> messages) {
+		Assert.hasText(conversationId, "conversationId cannot be null or empty");
+		Assert.notNull(messages, "messages cannot be null");
+		if (!messages.isEmpty()) {
+			commit(conversationId, messages, true);
+		}
 	}
 
 	@Override
 	public void deleteByConversationId(String conversationId) {
-		List<String> conversationIds = findConversationIds();
-		conversationIds.remove(conversationId);
-		this.memcachedService.setter()
-			.apply(new MemcachedService.MemcachedServiceSetter.Request(DEFAULT_CONVERSATION, conversationIds, 0));
+		unregisterConversation(conversationId);
+		for (int attempt = 0;; attempt++) {
+			MemcachedService.MemcachedServiceCasGetter.Response current = this.memcachedService.casGetter()
+				.apply(new MemcachedService.MemcachedServiceCasGetter.Request(headKey(conversationId)));
+			if (current == null) {
+				break;
+			}
+			if (attempt == MAX_CAS_RETRIES) {
+				throw new IllegalStateException("Too much contention deleting conversation " + conversationId);
+			}
+			// empty the head first so that concurrent writers move to fresh segments
+			ConversationHead head = readHead(current.value());
+			ConversationHead emptied = retainFrom(head, head.size());
+			if (casHead(conversationId, current.cas(), emptied)) {
+				deleteSegments(conversationId, head, emptied);
+				MemcachedService.MemcachedServiceCasGetter.Response latest = this.memcachedService.casGetter()
+					.apply(new MemcachedService.MemcachedServiceCasGetter.Request(headKey(conversationId)));
+				if (latest != null && readHead(latest.value()).size() == 0) {
+					this.memcachedService.casDeleter()
+						.apply(new MemcachedService.MemcachedServiceCasDeleter.Request(headKey(conversationId),
+								latest.cas()));
+				}
+				break;
+			}
+		}
 		this.memcachedService.deleter()
 			.apply(new MemcachedService.MemcachedServiceDeleter.Request(DEFAULT_KEY_PREFIX + conversationId));
 	}
 
 	public void clearOverLimit(String conversationId, int maxLimit, int deleteSize) {
-		final int finalDeleteSize = deleteSize > maxLimit ? maxLimit : deleteSize;
-		List<Message> messages = findByConversationId(conversationId);
-		List<Message> lastMessages = new ArrayList<>();
-		AtomicInteger index = new AtomicInteger(0);
-		if (messages.size() >= maxLimit) {
-			messages.stream().forEach(message -> {
-				if (index.get() >= finalDeleteSize) {
-					lastMessages.add(message);
+		final int finalDeleteSize = Math.min(deleteSize, maxLimit);
+		for (int attempt = 0; attempt < MAX_CAS_RETRIES; attempt++) {
+			MemcachedService.MemcachedServiceCasGetter.Response current = this.memcachedService.casGetter()
+				.apply(new MemcachedService.MemcachedServiceCasGetter.Request(headKey(conversationId)));
+			if (current == null) {
+				List<Message> legacy = findLegacyByConversationId(conversationId);
+				if (legacy.size() >= maxLimit) {
+					saveAll(conversationId, legacy.subList(finalDeleteSize, legacy.size()));
+				}
+				return;
+			}
+			ConversationHead head = readHead(current.value());
+			if (head.size() < maxLimit || finalDeleteSize <= 0) {
+				return;
+			}
+			ConversationHead trimmed = retainFrom(head, Math.min(finalDeleteSize, head.size()));
+			if (casHead(conversationId, current.cas(), trimmed)) {
+				deleteSegments(conversationId, head, trimmed);
+				return;
+			}
+		}
+		throw new IllegalStateException("Too much contention clearing conversation " + conversationId);
+	}
+
+	private void commit(String conversationId, List<Message> messages, boolean append) {
+		long[] fingerprints = new long[messages.size()];
+		for (int i = 0; i < messages.size(); i++) {
+			fingerprints[i] = fingerprint(messages.get(i));
+		}
+		String[] serialized = new String[messages.size()];
+		Claim claim = null;
+		int blockedAttempts = 0;
+		long blockedHeadCas = 0;
+		try {
+			for (int attempt = 0; attempt < MAX_CAS_RETRIES; attempt++) {
+				MemcachedService.MemcachedServiceCasGetter.Response current = this.memcachedService.casGetter()
+					.apply(new MemcachedService.MemcachedServiceCasGetter.Request(headKey(conversationId)));
+				ConversationHead head = current == null ? createHead() : readHead(current.value());
+				long keepFrom = 0;
+				int retained = 0;
+				if (!append) {
+					// without any overlap the conversation is replaced, findOverlapStart then
+					// returns the length of the tail and nothing is kept
+					long[] tail = readTailFingerprints(conversationId, head, messages.size());
+					int overlapStart = findOverlapStart(tail, fingerprints);
+					keepFrom = head.size() - tail.length + overlapStart;
+					retained = tail.length - overlapStart;
+				}
+				if (current != null && keepFrom == 0 && retained == messages.size()) {
+					return;
+				}
+				ConversationHead kept = retainFrom(head, keepFrom);
+				if (claim != null && !isReusable(claim, kept, retained)) {
+					release(conversationId, claim);
+					claim = null;
+				}
+				if (claim == null) {
+					claim = claim(conversationId, kept, retained, messages, fingerprints, serialized);
+				}
+				if (claim == null) {
+					// the slots at next are claimed by another writer
+					if (current == null || current.cas() != blockedHeadCas) {
+						blockedAttempts = 0;
+						blockedHeadCas = current == null ? 0 : current.cas();
+					}
+					if (++blockedAttempts > MAX_BLOCKED_ATTEMPTS && current != null) {
+						// the claim outlived every wait, turn it stale
+						casHead(conversationId, current.cas(), head.nextGeneration());
+						blockedAttempts = 0;
+					}
+					else {
+						LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L << Math.min(blockedAttempts - 1, 7)));
+					}
+					continue;
 				}
-				index.incrementAndGet();
-			});
+				ConversationHead updated = kept.withNext(kept.next + claim.values().length);
+				boolean published = current == null ? addHead(conversationId, updated)
+						: casHead(conversationId, current.cas(), updated);
+				if (published) {
+					claim = null;
+					if (head.size() == 0) {
+						registerConversation(conversationId);
+					}
+					if (current == null) {
+						this.memcachedService.deleter()
+							.apply(new MemcachedService.MemcachedServiceDeleter.Request(
+									DEFAULT_KEY_PREFIX + conversationId));
+					}
+					deleteSegments(conversationId, head, updated);
+					return;
+				}
+			}
+		}
+		finally {
+			if (claim != null) {
+				release(conversationId, claim);
+			}
+		}
+		throw new IllegalStateException("Too much contention saving conversation " + conversationId);
+	}
+
+	/**
+	 * Fingerprints of the last messages of {@code head}, at most {@code max} of them: the
+	 * only stored messages an incoming window of {@code max} messages can overlap.
+	 */
+	private long[] readTailFingerprints(String conversationId, ConversationHead head, int max) {
+		int length = (int) Math.min(head.size(), max);
+		long[] fingerprints = new long[length];
+		if (length == 0) {
+			return fingerprints;
+		}
+		List<String> slots = readSlots(conversationId, head.next - length, head.next);
+		for (int i = 0; i < length; i++) {
+			// a message evicted by memcached keeps the fingerprint 0 and is written again
+			fingerprints[i] = slots.get(i) == null ? 0 : Slot.parse(slots.get(i)).fingerprint();
+		}
+		return fingerprints;
+	}
+
+	/**
+	 * The slots of the indexes {@code [from, to)}, read with one multi-get. Slots of
+	 * missing segments are {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<String> readSlots(String conversationId, long from, long to) {
+		List<String> keys = new ArrayList<>();
+		for (long segment = segmentOf(from); segment <= segmentOf(to - 1); segment++) {
+			keys.add(segmentKey(conversationId, segment));
+		}
+		Map<String, Object> segments = this.memcachedService.bulkGetter()
+			.apply(new MemcachedService.MemcachedServiceBulkGetter.Request(keys));
+		List<String> slots = new ArrayList<>((int) (to - from));
+		for (long index = from; index < to; index++) {
+			List<String> segment = (List<String>) segments.get(segmentKey(conversationId, segmentOf(index)));
+			slots.add(segment == null || slotOf(index) >= segment.size() ? null : segment.get(slotOf(index)));
+		}
+		return slots;
+	}
+
+	/**
+	 * Returns the smallest index {@code k} such that {@code stored[k..]} is a prefix of
+	 * {@code incoming}, or {@code stored.length} when there is no such overlap.
+	 */
+	private static int findOverlapStart(long[] stored, long[] incoming) {
+		for (int start = Math.max(0, stored.length - incoming.length); start < stored.length; start++) {
+			if (Arrays.equals(stored, start, stored.length, incoming, 0, stored.length - start)) {
+				return start;
+			}
+		}
+		return stored.length;
+	}
+
+	/**
+	 * Writes {@code messages[from..]} into the slots from {@code base.next} on, one
+	 * {@code gets}/{@code cas} per segment. The claimed slots are not visible to readers
+	 * until a head including them is published. Returns {@code null}, with nothing
+	 * claimed, when a slot is held by a pending claim of another writer.
+	 */
+	@SuppressWarnings("unchecked")
+	private Claim claim(String conversationId, ConversationHead base, int from, List<Message> messages,
+			long[] fingerprints, String[] serialized) {
+		int count = messages.size() - from;
+		String[] values = new String[count];
+		for (int i = 0; i < count; i++) {
+			if (serialized[from + i] == null) {
+				serialized[from + i] = serialize(messages.get(from + i));
+			}
+			values[i] = new Slot(base.epoch, base.generation, fingerprints[from + i], serialized[from + i]).format();
+		}
+		Claim claim = new Claim(base.epoch, base.generation, base.next, from, values);
+		int claimed = 0;
+		try {
+			for (long segment = segmentOf(base.next); claimed < count; segment++) {
+				String key = segmentKey(conversationId, segment);
+				int firstSlot = segment == segmentOf(base.next) ? slotOf(base.next) : 0;
+				int lastSlot = Math.min(segmentSize, firstSlot + count - claimed);
+				boolean placed = false;
+				for (int attempt = 0; attempt < MAX_CAS_RETRIES && !placed; attempt++) {
+					MemcachedService.MemcachedServiceCasGetter.Response current = this.memcachedService.casGetter()
+						.apply(new MemcachedService.MemcachedServiceCasGetter.Request(key));
+					ArrayList<String> slots = current == null ? new ArrayList<>(segmentSize)
+							: new ArrayList<>((List<String>) current.value());
+					while (slots.size() < segmentSize) {
+						slots.add(null);
+					}
+					for (int slot = firstSlot; slot < lastSlot; slot++) {
+						if (!isFree(slots.get(slot), base)) {
+							release(conversationId, claim.truncate(claimed));
+							return null;
+						}
+						slots.set(slot, values[claimed + slot - firstSlot]);
+					}
+					placed = writeSegment(key, current, slots);
+				}
+				if (!placed) {
+					throw new IllegalStateException("Too much contention writing segment " + key);
+				}
+				claimed += lastSlot - firstSlot;
+			}
+		}
+		catch (RuntimeException e) {
+			release(conversationId, claim.truncate(claimed));
+			throw e;
+		}
+		return claim;
+	}
+
+	/**
+	 * Whether a slot at or after {@code next} of {@code head} may be claimed: it is empty,
+	 * or it holds a claim made before the generation of the head was bumped.
+	 */
+	private static boolean isFree(String value, ConversationHead head) {
+		if (value == null) {
+			return true;
+		}
+		Slot slot = Slot.parse(value);
+		return slot.epoch() == head.epoch && slot.generation() < head.generation;
+	}
+
+	/**
+	 * Best-effort release of slots claimed by a writer that did not publish them. A slot
+	 * is only cleared while it still holds the value written by this writer.
+	 */
+	@SuppressWarnings("unchecked")
+	private void release(String conversationId, Claim claim) {
+		Map<Long, Map<Integer, String>> slotsBySegment = new LinkedHashMap<>();
+		for (int i = 0; i < claim.values().length; i++) {
+			long index = claim.start() + i;
+			slotsBySegment.computeIfAbsent(segmentOf(index), segment -> new LinkedHashMap<>())
+				.put(slotOf(index), claim.values()[i]);
+		}
+		for (Map.Entry<Long, Map<Integer, String>> entry : slotsBySegment.entrySet()) {
+			String key = segmentKey(conversationId, entry.getKey());
+			boolean released = false;
+			try {
+				for (int attempt = 0; attempt < MAX_CAS_RETRIES && !released; attempt++) {
+					MemcachedService.MemcachedServiceCasGetter.Response current = this.memcachedService.casGetter()
+						.apply(new MemcachedService.MemcachedServiceCasGetter.Request(key));
+					if (current == null) {
+						// the segment has already been deleted
+						released = true;
+						continue;
+					}
+					ArrayList<String> slots = new ArrayList<>((List<String>) current.value());
+					entry.getValue().forEach((slot, value) -> {
+						if (slot < slots.size() && value.equals(slots.get(slot))) {
+							slots.set(slot, null);
+						}
+					});
+					released = slots.stream().allMatch(slot -> slot == null)
+							? this.memcachedService.casDeleter()
+								.apply(new MemcachedService.MemcachedServiceCasDeleter.Request(key, current.cas()))
+							: this.memcachedService.casSetter()
+								.apply(new MemcachedService.MemcachedServiceCasSetter.Request(key, current.cas(),
+										slots, 0));
+				}
+			}
+			catch (RuntimeException e) {
+				// the slots stay claimed until a writer turns them stale
+				logger.warn("Could not release the claimed slots of segment {}", key, e);
+				continue;
+			}
+			if (!released) {
+				logger.warn("Could not release the claimed slots of segment {}", key);
+			}
+		}
+	}
+
+	/**
+	 * Whether the slots of {@code claim} can be published with {@code head}: the same
+	 * messages are new, the claim still starts at {@code next}, and it has not been
+	 * turned stale since. Trimming the head only moves {@code low}, so the claimed slots
+	 * are then still in place.
+	 */
+	private static boolean isReusable(Claim claim, ConversationHead head, int retained) {
+		return claim.epoch() == head.epoch && claim.generation() == head.generation && claim.start() == head.next
+				&& claim.from() == retained;
+	}
+
+	private boolean writeSegment(String key, MemcachedService.MemcachedServiceCasGetter.Response current,
+			List<String> slots) {
+		return current == null
+				? this.memcachedService.adder().apply(new MemcachedService.MemcachedServiceAdder.Request(key, slots, 0))
+				: this.memcachedService.casSetter()
+					.apply(new MemcachedService.MemcachedServiceCasSetter.Request(key, current.cas(), slots, 0));
+	}
+
+	/**
+	 * Deletes the segments below the live range of {@code updated} that were still live in
+	 * {@code previous}. Writers only claim slots at or after {@code next} of the head they
+	 * read, so these segments can no longer receive new messages.
+	 */
+	private void deleteSegments(String conversationId, ConversationHead previous, ConversationHead updated) {
+		if (previous.size() == 0) {
+			return;
 		}
-		saveAll(conversationId, lastMessages);
+		for (long segment = segmentOf(previous.low); segment < segmentOf(updated.low); segment++) {
+			this.memcachedService.deleter()
+				.apply(new MemcachedService.MemcachedServiceDeleter.Request(segmentKey(conversationId, segment)));
+		}
+	}
+
+	/**
+	 * The head without its first {@code from} messages. When nothing is kept, {@code next}
+	 * moves to a fresh segment so that all the previous segments can be deleted.
+	 */
+	private ConversationHead retainFrom(ConversationHead head, long from) {
+		if (from < head.size()) {
+			return new ConversationHead(head.epoch, head.generation, head.low + from, head.next);
+		}
+		long next = Math.floorDiv(head.next + segmentSize - 1, segmentSize) * segmentSize;
+		return new ConversationHead(head.epoch, head.generation, next, next);
+	}
+
+	private ConversationHead createHead() {
+		long start = ThreadLocalRandom.current().nextLong(START_SEGMENTS) * segmentSize;
+		return new ConversationHead(ThreadLocalRandom.current().nextLong(), 0, start, start);
+	}
+
+	private void registerConversation(String conversationId) {
+		updateConversationIds(conversationIds -> {
+			if (conversationIds.contains(conversationId)) {
+				return false;
+			}
+			conversationIds.add(conversationId);
+			return true;
+		});
+	}
+
+	private void unregisterConversation(String conversationId) {
+		updateConversationIds(conversationIds -> conversationIds.remove(conversationId));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void updateConversationIds(Predicate<List<String>> mutation) {
+		for (int attempt = 0; attempt < MAX_CAS_RETRIES; attempt++) {
+			MemcachedService.MemcachedServiceCasGetter.Response current = this.memcachedService.casGetter()
+				.apply(new MemcachedService.MemcachedServiceCasGetter.Request(DEFAULT_CONVERSATION));
+			ArrayList<String> conversationIds = current == null ? new ArrayList<>()
+					: new ArrayList<>((List<String>) current.value());
+			if (!mutation.test(conversationIds)) {
+				return;
+			}
+			boolean updated = current == null
+					? this.memcachedService.adder()
+						.apply(new MemcachedService.MemcachedServiceAdder.Request(DEFAULT_CONVERSATION, conversationIds,
+								0))
+					: this.memcachedService.casSetter()
+						.apply(new MemcachedService.MemcachedServiceCasSetter.Request(DEFAULT_CONVERSATION,
+								current.cas(), conversationIds, 0));
+			if (updated) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Too much contention updating conversation ids");
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Message> findLegacyByConversationId(String conversationId) {
+		Object apply = this.memcachedService.getter()
+			.apply(new MemcachedService.MemcachedServiceGetter.Request(DEFAULT_KEY_PREFIX + conversationId));
+		if (apply != null) {
+			List<String> messageList = (List<String>) apply;
+			return messageList.stream().map(this::deserialize).toList();
+		}
+		return List.of();
+	}
+
+	private boolean addHead(String conversationId, ConversationHead head) {
+		return this.memcachedService.adder()
+			.apply(new MemcachedService.MemcachedServiceAdder.Request(headKey(conversationId), writeHead(head), 0));
+	}
+
+	private boolean casHead(String conversationId, long cas, ConversationHead head) {
+		return this.memcachedService.casSetter()
+			.apply(new MemcachedService.MemcachedServiceCasSetter.Request(headKey(conversationId), cas,
+					writeHead(head), 0));
+	}
+
+	private ConversationHead readHead(Object rawHead) {
+		try {
+			return this.objectMapper.readValue((String) rawHead, ConversationHead.class);
+		}
+		catch (JsonProcessingException e) {
+			throw new RuntimeException("Error deserializing conversation head", e);
+		}
+	}
+
+	private String writeHead(ConversationHead head) {
+		try {
+			return this.objectMapper.writeValueAsString(head);
+		}
+		catch (JsonProcessingException e) {
+			throw new RuntimeException("Error serializing conversation head", e);
+		}
+	}
+
+	private String serialize(Message message) {
+		try {
+			return this.objectMapper.writeValueAsString(message);
+		}
+		catch (JsonProcessingException e) {
+			throw new RuntimeException("Error serializing message", e);
+		}
+	}
+
+	private Message deserialize(String messageStr) {
+		try {
+			return this.objectMapper.readValue(messageStr, Message.class);
+		}
+		catch (JsonProcessingException e) {
+			throw new RuntimeException("Error deserializing message", e);
+		}
+	}
+
+	private long segmentOf(long index) {
+		return Math.floorDiv(index, segmentSize);
+	}
+
+	private int slotOf(long index) {
+		return (int) Math.floorMod(index, (long) segmentSize);
+	}
+
+	private static String headKey(String conversationId) {
+		return DEFAULT_KEY_PREFIX + conversationId + HEAD_SUFFIX;
+	}
+
+	private static String segmentKey(String conversationId, long segment) {
+		return DEFAULT_KEY_PREFIX + conversationId + SEGMENT_INFIX + segment;
+	}
+
+	/**
+	 * 64-bit FNV-1a over the message type, text, tool calls and tool responses, used to
+	 * detect which messages of an incoming window are already stored without reading the
+	 * segments.
+	 */
+	private static long fingerprint(Message message) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(message.getMessageType().getValue()).append('\u0000').append(message.getText());
+		if (message instanceof AssistantMessage assistantMessage) {
+			for (AssistantMessage.ToolCall toolCall : assistantMessage.getToolCalls()) {
+				sb.append('\u0000')
+					.append(toolCall.id())
+					.append('\u0000')
+					.append(toolCall.name())
+					.append('\u0000')
+					.append(toolCall.arguments());
+			}
+		}
+		else if (message instanceof ToolResponseMessage toolResponseMessage) {
+			for (ToolResponseMessage.ToolResponse response : toolResponseMessage.getResponses()) {
+				sb.append('\u0000')
+					.append(response.id())
+					.append('\u0000')
+					.append(response.name())
+					.append('\u0000')
+					.append(response.responseData());
+			}
+		}
+		long hash = 0xcbf29ce484222325L;
+		byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+		for (byte b : bytes) {
+			hash ^= (b & 0xff);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	private static class ConversationHead {
+
+		/**
+		 * Random id of the head, a head deleted and created again gets a new one.
+		 */
+		private long epoch;
+
+		/**
+		 * Bumped to turn the pending claims stale.
+		 */
+		private long generation;
+
+		/**
+		 * Index of the first live message.
+		 */
+		private long low;
+
+		/**
+		 * Index after the last live message, where new messages are placed.
+		 */
+		private long next;
+
+		ConversationHead() {
+		}
+
+		ConversationHead(long epoch, long generation, long low, long next) {
+			this.epoch = epoch;
+			this.generation = generation;
+			this.low = low;
+			this.next = next;
+		}
+
+		long size() {
+			return next - low;
+		}
+
+		ConversationHead withNext(long next) {
+			return new ConversationHead(this.epoch, this.generation, this.low, next);
+		}
+
+		ConversationHead nextGeneration() {
+			return new ConversationHead(this.epoch, this.generation + 1, this.low, this.next);
+		}
+
+	}
+
+	/**
+	 * Content of a slot: the head epoch and generation the slot was claimed under, the
+	 * fingerprint of the message and the message.
+	 */
+	private record Slot(long epoch, long generation, long fingerprint, String message) {
+
+		String format() {
+			return epoch + ":" + generation + ":" + fingerprint + ":" + message;
+		}
+
+		static Slot parse(String value) {
+			int first = value.indexOf(':');
+			int second = value.indexOf(':', first + 1);
+			int third = value.indexOf(':', second + 1);
+			return new Slot(Long.parseLong(value, 0, first, 10), Long.parseLong(value, first + 1, second, 10),
+					Long.parseLong(value, second + 1, third, 10), value.substring(third + 1));
+		}
+
+	}
+
+	/**
+	 * Slots {@code [start, start + values.length)} written by a writer for
+	 * {@code messages[from..]} before publishing them.
+	 */
+	private record Claim(long epoch, long generation, long start, int from, String[] values) {
+
+		Claim truncate(int length) {
+			return new Claim(epoch, generation, start, from, Arrays.copyOf(values, length));
+		}
+
 	}
 
 }
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package memcached;
+
+import com.alibaba.cloud.ai.memory.memcached.MemcachedChatMemoryRepository;
+import com.alibaba.cloud.ai.toolcalling.memcached.MemcachedService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.spy.memcached.CASResponse;
+import net.spy.memcached.CASValue;
+import net.spy.memcached.MemcachedClient;
+import net.spy.memcached.internal.OperationFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Exercises the segmented CAS storage of {@link MemcachedChatMemoryRepository} against
+ * an in-process memcached stub that implements get/gets/add/cas/delete/multi-get
+ * semantics.
+ */
+class MemcachedChatMemoryRepositoryConcurrencyTest {
+
+	private final Map<String, CASValue<Object>> data = new HashMap<>();
+
+	private long casCounter;
+
+	private volatile boolean failSegmentWrites;
+
+	private volatile boolean failReads;
+
+	private MemcachedClient memcachedClient;
+
+	private MemcachedChatMemoryRepository chatMemoryRepository;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws Exception {
+		OperationFuture<Boolean> succeeded = mock(OperationFuture.class);
+		when(succeeded.get()).thenReturn(true);
+		OperationFuture<Boolean> failed = mock(OperationFuture.class);
+		when(failed.get()).thenReturn(false);
+
+		memcachedClient = mock(MemcachedClient.class);
+		when(memcachedClient.get(anyString())).thenAnswer(invocation -> {
+			synchronized (data) {
+				CASValue<Object> value = data.get(invocation.<String>getArgument(0));
+				return value == null ? null : value.getValue();
+			}
+		});
+		when(memcachedClient.gets(anyString())).thenAnswer(invocation -> {
+			if (failReads) {
+				throw new IllegalStateException("Timed out waiting for operation");
+			}
+			synchronized (data) {
+				return data.get(invocation.<String>getArgument(0));
+			}
+		});
+		when(memcachedClient.getBulk(anyCollection())).thenAnswer(invocation -> {
+			synchronized (data) {
+				Map<String, Object> result = new HashMap<>();
+				for (String key : invocation.<Collection<String>>getArgument(0)) {
+					CASValue<Object> value = data.get(key);
+					if (value != null) {
+						result.put(key, value.getValue());
+					}
+				}
+				return result;
+			}
+		});
+		when(memcachedClient.add(anyString(), anyInt(), any())).thenAnswer(invocation -> {
+			synchronized (data) {
+				String key = invocation.getArgument(0);
+				if (data.containsKey(key) || (failSegmentWrites && key.contains(":segment:"))) {
+					return failed;
+				}
+				data.put(key, new CASValue<>(++casCounter, invocation.getArgument(2)));
+				return succeeded;
+			}
+		});
+		when(memcachedClient.cas(anyString(), anyLong(), anyInt(), any())).thenAnswer(invocation -> {
+			synchronized (data) {
+				String key = invocation.getArgument(0);
+				CASValue<Object> current = data.get(key);
+				if (current == null) {
+					return CASResponse.NOT_FOUND;
+				}
+				if (failSegmentWrites && key.contains(":segment:")) {
+					return CASResponse.EXISTS;
+				}
+				if (current.getCas() != invocation.<Long>getArgument(1)) {
+					return CASResponse.EXISTS;
+				}
+				data.put(key, new CASValue<>(++casCounter, invocation.getArgument(3)));
+				return CASResponse.OK;
+			}
+		});
+		when(memcachedClient.delete(anyString())).thenAnswer(invocation -> {
+			synchronized (data) {
+				return data.remove(invocation.<String>getArgument(0)) != null ? succeeded : failed;
+			}
+		});
+		when(memcachedClient.delete(anyString(), anyLong())).thenAnswer(invocation -> {
+			synchronized (data) {
+				String key = invocation.getArgument(0);
+				CASValue<Object> current = data.get(key);
+				if (current == null || current.getCas() != invocation.<Long>getArgument(1)) {
+					return failed;
+				}
+				data.remove(key);
+				return succeeded;
+			}
+		});
+
+		chatMemoryRepository = new MemcachedChatMemoryRepository(new MemcachedService(memcachedClient), 4);
+	}
+
+	@Test
+	void concurrentAppendersDoNotLoseMessages() throws Exception {
+		int writers = 8;
+		int messagesPerWriter = 25;
+		ExecutorService executor = Executors.newFixedThreadPool(writers);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int writer = 0; writer < writers; writer++) {
+			int writerId = writer;
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int i = 0; i < messagesPerWriter; i++) {
+					chatMemoryRepository.append("conversation",
+							List.of(new UserMessage("writer " + writerId + " message " + i)));
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		List<Message> messages = chatMemoryRepository.findByConversationId("conversation");
+		assertThat(messages).hasSize(writers * messagesPerWriter);
+		for (int writer = 0; writer < writers; writer++) {
+			String prefix = "writer " + writer + " ";
+			List<String> own = messages.stream()
+				.map(Message::getText)
+				.filter(text -> text.startsWith(prefix))
+				.toList();
+			assertThat(own).hasSize(messagesPerWriter);
+			for (int i = 0; i < messagesPerWriter; i++) {
+				assertThat(own.get(i)).isEqualTo(prefix + "message " + i);
+			}
+		}
+		assertThat(chatMemoryRepository.findConversationIds()).containsExactly("conversation");
+	}
+
+	@Test
+	void eachTurnWritesConstantNumberOfKeys() {
+		List<Message> history = new ArrayList<>();
+		for (int turn = 0; turn < 50; turn++) {
+			history.add(new UserMessage("question " + turn));
+			history.add(new AssistantMessage("answer " + turn));
+			chatMemoryRepository.saveAll("conversation", List.copyOf(history));
+		}
+
+		Mockito.clearInvocations(memcachedClient);
+		history.add(new UserMessage("question 50"));
+		chatMemoryRepository.saveAll("conversation", List.copyOf(history));
+
+		// one cas on the head plus one add or cas on the tail segment, and a single read
+		// of the stored tail the turn overlaps
+		assertThat(countInvocations("cas") + countInvocations("add")).isEqualTo(2);
+		assertThat(countInvocations("getBulk")).isEqualTo(1);
+		assertThat(chatMemoryRepository.findByConversationId("conversation")).hasSize(101);
+	}
+
+	@Test
+	void headDoesNotGrowWithTheConversation() {
+		chatMemoryRepository.append("conversation", List.of(new UserMessage("first")));
+		int initialSize = headValue().length();
+		for (int i = 0; i < 200; i++) {
+			chatMemoryRepository.append("conversation", List.of(new UserMessage("message " + i)));
+		}
+
+		assertThat(headValue().length()).isLessThanOrEqualTo(initialSize + 3);
+		assertThat(chatMemoryRepository.findByConversationId("conversation")).hasSize(201);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void slotsLeftClaimedByACrashedWriterAreTakenOver() throws Exception {
+		chatMemoryRepository.append("conversation", List.of(new UserMessage("1"), new UserMessage("2")));
+
+		// a writer claimed the slot at next and never published nor released it
+		Map<String, Object> head = new ObjectMapper().readValue(headValue(), Map.class);
+		long next = ((Number) head.get("next")).longValue();
+		String segmentKey = "spring_ai_alibaba_chat_memory:conversation:segment:" + next / 4;
+		synchronized (data) {
+			CASValue<Object> segment = data.get(segmentKey);
+			List<String> slots = segment == null ? new ArrayList<>()
+					: new ArrayList<>((List<String>) segment.getValue());
+			while (slots.size() < 4) {
+				slots.add(null);
+			}
+			slots.set((int) (next % 4), head.get("epoch") + ":" + head.get("generation") + ":0:{}");
+			data.put(segmentKey, new CASValue<>(++casCounter, slots));
+		}
+
+		chatMemoryRepository.append("conversation", List.of(new UserMessage("3")));
+		assertThat(chatMemoryRepository.findByConversationId("conversation")).extracting(Message::getText)
+			.containsExactly("1", "2", "3");
+	}
+
+	@Test
+	void transportFailuresAreNotTakenForMissingKeys() {
+		chatMemoryRepository.saveAll("conversation", List.of(new UserMessage("1")));
+
+		failReads = true;
+		assertThatThrownBy(() -> chatMemoryRepository.deleteByConversationId("conversation"))
+			.isInstanceOf(IllegalStateException.class);
+		failReads = false;
+		assertThat(chatMemoryRepository.findByConversationId("conversation")).extracting(Message::getText)
+			.containsExactly("1");
+	}
+
+	@Test
+	void slidingWindowAndReplace() {
+		chatMemoryRepository.saveAll("conversation", List.of(new UserMessage("1"), new AssistantMessage("2"),
+				new UserMessage("3"), new AssistantMessage("4"), new UserMessage("5")));
+		chatMemoryRepository.saveAll("conversation",
+				List.of(new UserMessage("3"), new AssistantMessage("4"), new UserMessage("5"), new AssistantMessage("6")));
+		assertThat(chatMemoryRepository.findByConversationId("conversation")).extracting(Message::getText)
+			.containsExactly("3", "4", "5", "6");
+
+		chatMemoryRepository.clearOverLimit("conversation", 3, 2);
+		assertThat(chatMemoryRepository.findByConversationId("conversation")).extracting(Message::getText)
+			.containsExactly("5", "6");
+
+		chatMemoryRepository.saveAll("conversation", List.of(new UserMessage("Hello")));
+		assertThat(chatMemoryRepository.findByConversationId("conversation")).extracting(Message::getText)
+			.containsExactly("Hello");
+
+		chatMemoryRepository.deleteByConversationId("conversation");
+		assertThat(chatMemoryRepository.findByConversationId("conversation")).isEmpty();
+		assertThat(chatMemoryRepository.findConversationIds()).isEmpty();
+		synchronized (data) {
+			assertThat(data.keySet()).allMatch(key -> !key.startsWith("spring_ai_alibaba_chat_memory:conversation"));
+		}
+	}
+
+	@Test
+	void toolCallTurnsWithSameTextAreNotMistakenForStoredOnes() {
+		chatMemoryRepository.saveAll("conversation", List.of(toolCall("call-1", "{\"city\":\"Hangzhou\"}"),
+				toolResponse("call-1", "{\"weather\":\"sunny\"}")));
+		chatMemoryRepository.saveAll("conversation", List.of(toolCall("call-2", "{\"city\":\"Beijing\"}"),
+				toolResponse("call-2", "{\"weather\":\"cloudy\"}")));
+
+		List<Message> messages = chatMemoryRepository.findByConversationId("conversation");
+		assertThat(messages).hasSize(2);
+		assertThat(((AssistantMessage) messages.get(0)).getToolCalls()).extracting(AssistantMessage.ToolCall::id)
+			.containsExactly("call-2");
+		assertThat(((ToolResponseMessage) messages.get(1)).getResponses())
+			.extracting(ToolResponseMessage.ToolResponse::responseData)
+			.containsExactly("{\"weather\":\"cloudy\"}");
+	}
+
+	@Test
+	void headIsNotPublishedBeforeItsMessagesAreWritten() {
+		chatMemoryRepository.saveAll("conversation", List.of(new UserMessage("1"), new AssistantMessage("2")));
+
+		failSegmentWrites = true;
+		assertThatThrownBy(() -> chatMemoryRepository.saveAll("conversation",
+				List.of(new UserMessage("1"), new AssistantMessage("2"), new UserMessage("3"))))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(chatMemoryRepository.findByConversationId("conversation")).extracting(Message::getText)
+			.containsExactly("1", "2");
+
+		// the failed turn did not leave fingerprints behind, so it is written again
+		failSegmentWrites = false;
+		chatMemoryRepository.saveAll("conversation",
+				List.of(new UserMessage("1"), new AssistantMessage("2"), new UserMessage("3")));
+		assertThat(chatMemoryRepository.findByConversationId("conversation")).extracting(Message::getText)
+			.containsExactly("1", "2", "3");
+	}
+
+	private static AssistantMessage toolCall(String id, String arguments) {
+		return AssistantMessage.builder()
+			.content("")
+			.toolCalls(List.of(new AssistantMessage.ToolCall(id, "function", "getWeather", arguments)))
+			.build();
+	}
+
+	private static ToolResponseMessage toolResponse(String id, String data) {
+		return ToolResponseMessage.builder()
+			.responses(List.of(new ToolResponseMessage.ToolResponse(id, "getWeather", data)))
+			.build();
+	}
+
+	private String headValue() {
+		synchronized (data) {
+			return (String) data.get("spring_ai_alibaba_chat_memory:conversation:head").getValue();
+		}
+	}
+
+	private long countInvocations(String methodName) {
+		return Mockito.mockingDetails(memcachedClient)
+			.getInvocations()
+			.stream()
+			.filter(invocation -> invocation.getMethod().getName().equals(methodName))
+			.count();
+	}
+
+}
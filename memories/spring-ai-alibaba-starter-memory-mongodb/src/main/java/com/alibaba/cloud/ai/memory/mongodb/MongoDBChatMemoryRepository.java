@@ -21,7 +21,9 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
 import com.mongodb.client.*;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
 import io.micrometer.common.util.StringUtils;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -32,15 +34,28 @@ import org.springframework.ai.chat.messages.*;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
+import static com.mongodb.client.model.Filters.and;
 import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.lt;
 import static com.mongodb.client.model.Sorts.ascending;
-import static com.mongodb.client.model.Sorts.orderBy;
+import static com.mongodb.client.model.Sorts.descending;
 
 /**
- * MongoDB implementation of ChatMemoryRepository
+ * MongoDB implementation of ChatMemoryRepository.
+ *
+ * <p>
+ * Every message document carries a per-conversation, monotonically increasing
+ * {@code seq} field. {@link #saveAll(String, List)} only appends the messages that are
+ * not stored yet and trims the evicted head with a single range delete on the
+ * {@code (conversationId, seq)} index. It only reads the stored tail that can overlap the
+ * new messages, so the number of documents read and written per turn no longer grows
+ * with the length of the conversation. Conversations written before the
+ * {@code seq} field existed are rewritten once on their next save.
  */
 public class MongoDBChatMemoryRepository implements ChatMemoryRepository, AutoCloseable {
 
@@ -56,6 +71,10 @@ public class MongoDBChatMemoryRepository implements ChatMemoryRepository, AutoCl
 
 	private static final String TIMESTAMP_FIELD = "timestamp";
 
+	private static final String SEQ_FIELD = "seq";
+
+	private static final int CONVERSATION_ID_BATCH_SIZE = 100;
+
 	private final MongoClient mongoClient;
 
 	private final MongoCollection<Document> collection;
@@ -86,6 +105,7 @@ public class MongoDBChatMemoryRepository implements ChatMemoryRepository, AutoCl
 	private void createIndexesIfNotExists() {
 		collection.createIndex(Indexes.ascending(CONVERSATION_ID_FIELD, TIMESTAMP_FIELD));
 		collection.createIndex(Indexes.ascending(CONVERSATION_ID_FIELD));
+		collection.createIndex(Indexes.ascending(CONVERSATION_ID_FIELD, SEQ_FIELD));
 	}
 
 	public void recreateCollection() {
@@ -97,11 +117,53 @@ public class MongoDBChatMemoryRepository implements ChatMemoryRepository, AutoCl
 		createIndexesIfNotExists();
 	}
 
+	/**
+	 * Lists the conversation ids in ascending order with a single aggregation that walks
+	 * the {@code conversationId} index once. Its result is streamed through the cursor
+	 * in batches of {@value #CONVERSATION_ID_BATCH_SIZE}, so it is not bound by the size
+	 * limit of a {@code distinct} reply.
+	 */
 	@Override
 	public List<String> findConversationIds() {
 		try {
-			DistinctIterable<String> distinctIds = collection.distinct(CONVERSATION_ID_FIELD, String.class);
-			return distinctIds.into(new ArrayList<>());
+			List<Bson> pipeline = List.of(Aggregates.sort(ascending(CONVERSATION_ID_FIELD)),
+					Aggregates.group("$" + CONVERSATION_ID_FIELD), Aggregates.sort(ascending("_id")));
+			AggregateIterable<Document> groups = collection.aggregate(pipeline)
+				.allowDiskUse(true)
+				.batchSize(CONVERSATION_ID_BATCH_SIZE);
+			List<String> conversationIds = new ArrayList<>();
+			for (Document group : groups) {
+				conversationIds.add(group.getString("_id"));
+			}
+			return conversationIds;
+		}
+		catch (Exception e) {
+			throw new RuntimeException("Error finding conversation IDs", e);
+		}
+	}
+
+	/**
+	 * Returns one page of conversation ids in ascending order. The page is computed by a
+	 * single aggregation that walks the {@code conversationId} index from
+	 * {@code afterConversationId}, groups the messages by conversation and stops after
+	 * {@code limit} groups, so a page costs one round trip.
+	 * @param afterConversationId exclusive lower bound, or {@code null} for the first
+	 * page
+	 * @param limit maximum number of ids to return
+	 * @return the conversation ids following {@code afterConversationId}
+	 */
+	public List<String> findConversationIds(String afterConversationId, int limit) {
+		Assert.isTrue(limit > 0, "limit must be greater than 0");
+		try {
+			Bson filter = afterConversationId == null ? new Document() : gt(CONVERSATION_ID_FIELD, afterConversationId);
+			List<Bson> pipeline = List.of(Aggregates.match(filter), Aggregates.sort(ascending(CONVERSATION_ID_FIELD)),
+					Aggregates.group("$" + CONVERSATION_ID_FIELD), Aggregates.sort(ascending("_id")),
+					Aggregates.limit(limit));
+			List<String> conversationIds = new ArrayList<>(limit);
+			for (Document group : collection.aggregate(pipeline)) {
+				conversationIds.add(group.getString("_id"));
+			}
+			return conversationIds;
 		}
 		catch (Exception e) {
 			throw new RuntimeException("Error finding conversation IDs", e);
@@ -114,7 +176,7 @@ public class MongoDBChatMemoryRepository implements ChatMemoryRepository, AutoCl
 		try {
 			logger.info("Finding messages for conversation: {}", conversationId);
 			Bson filter = eq(CONVERSATION_ID_FIELD, conversationId);
-			FindIterable<Document> documents = collection.find(filter).sort(orderBy(ascending(TIMESTAMP_FIELD)));
+			FindIterable<Document> documents = collection.find(filter).sort(ascending(SEQ_FIELD, TIMESTAMP_FIELD));
 
 			List<Message> messages = new ArrayList<>();
 			for (Document doc : documents) {
@@ -138,14 +200,47 @@ public class MongoDBChatMemoryRepository implements ChatMemoryRepository, AutoCl
 		Assert.notNull(messages, "messages cannot be null");
 		Assert.noNullElements(messages, "messages cannot contain null elements");
 		try {
-			deleteByConversationId(conversationId);
-			List<Document> documents = messages.stream()
-				.map(message -> messageToDocument(conversationId, message))
-				.collect(Collectors.toList());
+			if (messages.isEmpty()) {
+				deleteByConversationId(conversationId);
+				return;
+			}
+			// only the last messages.size() stored messages can overlap the new ones
+			Bson filter = eq(CONVERSATION_ID_FIELD, conversationId);
+			List<Document> stored = collection.find(filter)
+				.sort(descending(SEQ_FIELD))
+				.limit(messages.size())
+				.projection(Projections.include(MESSAGE_TYPE_FIELD, MESSAGE_TEXT_FIELD, SEQ_FIELD))
+				.into(new ArrayList<>());
+			Collections.reverse(stored);
+
+			if (stored.stream().anyMatch(doc -> doc.get(SEQ_FIELD) == null)) {
+				rewrite(conversationId, messages);
+				return;
+			}
+
+			int overlapStart = findOverlapStart(stored, messages);
+			int overlapSize = stored.size() - overlapStart;
+			if (overlapStart == stored.size()) {
+				// nothing in common with the stored tail, replace the whole conversation
+				if (!stored.isEmpty()) {
+					deleteByConversationId(conversationId);
+				}
+			}
+			else if (overlapStart > 0) {
+				long firstKeptSeq = stored.get(overlapStart).getLong(SEQ_FIELD);
+				collection.deleteMany(and(filter, lt(SEQ_FIELD, firstKeptSeq)));
+			}
+
+			long nextSeq = overlapSize > 0 ? stored.get(stored.size() - 1).getLong(SEQ_FIELD) + 1 : 0L;
+			List<Document> documents = new ArrayList<>(messages.size() - overlapSize);
+			for (Message message : messages.subList(overlapSize, messages.size())) {
+				documents.add(messageToDocument(conversationId, message, nextSeq++));
+			}
 			if (!documents.isEmpty()) {
 				collection.insertMany(documents);
-				logger.info("Successfully saved {} messages for conversation {}", messages.size(), conversationId);
 			}
+			logger.info("Saved {} new messages for conversation {} ({} retained)", documents.size(), conversationId,
+					overlapSize);
 		}
 		catch (Exception e) {
 			logger.error("Error saving messages", e);
@@ -153,6 +248,46 @@ public class MongoDBChatMemoryRepository implements ChatMemoryRepository, AutoCl
 		}
 	}
 
+	/**
+	 * Finds the smallest index {@code k} such that {@code stored[k..]} is a prefix of
+	 * {@code messages}, i.e. the position where the retained window begins. Returns
+	 * {@code stored.size()} when the two lists share no such overlap. {@code stored} is
+	 * the stored tail, at most as long as {@code messages}.
+	 */
+	private int findOverlapStart(List<Document> stored, List<Message> messages) {
+		for (int start = 0; start < stored.size(); start++) {
+			boolean matches = true;
+			for (int i = start; i < stored.size(); i++) {
+				if (!sameMessage(stored.get(i), messages.get(i - start))) {
+					matches = false;
+					break;
+				}
+			}
+			if (matches) {
+				return start;
+			}
+		}
+		return stored.size();
+	}
+
+	private boolean sameMessage(Document doc, Message message) {
+		return message.getMessageType().toString().equals(doc.getString(MESSAGE_TYPE_FIELD))
+				&& Objects.equals(message.getText(), doc.getString(MESSAGE_TEXT_FIELD));
+	}
+
+	private void rewrite(String conversationId, List<Message> messages) {
+		deleteByConversationId(conversationId);
+		List<Document> documents = new ArrayList<>(messages.size());
+		long seq = 0L;
+		for (Message message : messages) {
+			documents.add(messageToDocument(conversationId, message, seq++));
+		}
+		if (!documents.isEmpty()) {
+			collection.insertMany(documents);
+		}
+		logger.info("Rewrote {} messages for conversation {}", documents.size(), conversationId);
+	}
+
 	@Override
 	public void deleteByConversationId(String conversationId) {
 		Assert.hasText(conversationId, "conversationId cannot be null or empty");
@@ -165,21 +300,38 @@ public class MongoDBChatMemoryRepository implements ChatMemoryRepository, AutoCl
 		}
 	}
 
+	/**
+	 * Removes the oldest {@code deleteSize} messages once the conversation holds at
+	 * least {@code maxLimit} messages. The cut-off is resolved with a single indexed
+	 * lookup and the head is removed with one range delete, the surviving messages are
+	 * never read or rewritten.
+	 */
 	public void clearOverLimit(String conversationId, int maxLimit, int deleteSize) {
 		Assert.hasText(conversationId, "conversationId cannot be null or empty");
 		try {
 			Bson filter = eq(CONVERSATION_ID_FIELD, conversationId);
-			FindIterable<Document> documents = collection.find(filter).sort(orderBy(ascending(TIMESTAMP_FIELD)));
-			List<Document> messages = documents.into(new ArrayList<>());
-			if (messages.size() >= maxLimit) {
+			long count = collection.countDocuments(filter);
+			if (count < maxLimit || deleteSize <= 0) {
+				return;
+			}
+			if (deleteSize >= count) {
 				deleteByConversationId(conversationId);
-				if (deleteSize < messages.size()) {
-					List<Document> messagesToKeep = messages.subList(deleteSize, messages.size());
-					if (!messagesToKeep.isEmpty()) {
-						collection.insertMany(messagesToKeep);
-					}
-				}
+				return;
+			}
+			Document firstKept = collection.find(filter)
+				.sort(ascending(SEQ_FIELD, TIMESTAMP_FIELD))
+				.skip(deleteSize)
+				.limit(1)
+				.first();
+			if (firstKept == null) {
+				return;
+			}
+			if (firstKept.get(SEQ_FIELD) == null) {
+				List<Message> messagesToKeep = findByConversationId(conversationId);
+				rewrite(conversationId, messagesToKeep.subList(deleteSize, messagesToKeep.size()));
+				return;
 			}
+			collection.deleteMany(and(filter, lt(SEQ_FIELD, firstKept.getLong(SEQ_FIELD))));
 		}
 		catch (Exception e) {
 			throw new RuntimeException("Error clearing over limit messages", e);
@@ -218,9 +370,10 @@ public class MongoDBChatMemoryRepository implements ChatMemoryRepository, AutoCl
 		}
 	}
 
-	private Document messageToDocument(String conversationId, Message message) {
+	private Document messageToDocument(String conversationId, Message message, long seq) {
 		Document doc = new Document();
 		doc.put(CONVERSATION_ID_FIELD, conversationId);
+		doc.put(SEQ_FIELD, seq);
 		doc.put(MESSAGE_TYPE_FIELD, message.getMessageType().toString());
 		doc.put(MESSAGE_TEXT_FIELD, message.getText());
 		doc.put(TIMESTAMP_FIELD, System.currentTimeMillis());
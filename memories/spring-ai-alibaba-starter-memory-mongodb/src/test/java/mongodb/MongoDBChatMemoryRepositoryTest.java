@@ -0,0 +1,202 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mongodb;
+
+import com.alibaba.cloud.ai.memory.mongodb.MongoDBChatMemoryRepository;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies the write pattern of {@link MongoDBChatMemoryRepository} against a mocked
+ * collection: each turn should only insert the new messages.
+ */
+class MongoDBChatMemoryRepositoryTest {
+
+	private static final String CONVERSATION_ID = "conversation";
+
+	private MongoCollection<Document> collection;
+
+	private final List<Document> stored = new ArrayList<>();
+
+	private FindIterable<Document> findIterable;
+
+	private int limit;
+
+	private MongoDBChatMemoryRepository repository;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		MongoClient mongoClient = mock(MongoClient.class);
+		MongoDatabase database = mock(MongoDatabase.class);
+		collection = mock(MongoCollection.class);
+		findIterable = mock(FindIterable.class, RETURNS_SELF);
+		when(mongoClient.getDatabase(any())).thenReturn(database);
+		when(database.getCollection(any())).thenReturn(collection);
+		when(collection.find(any(Bson.class))).thenReturn(findIterable);
+		when(findIterable.limit(anyInt())).thenAnswer(invocation -> {
+			limit = invocation.getArgument(0);
+			return findIterable;
+		});
+		// the stored tail, newest first, like the descending seq sort with a limit
+		when(findIterable.into(any())).thenAnswer(invocation -> {
+			Collection<Document> target = invocation.getArgument(0);
+			List<Document> tail = new ArrayList<>(stored.subList(Math.max(0, stored.size() - limit), stored.size()));
+			Collections.reverse(tail);
+			target.addAll(tail);
+			return target;
+		});
+		repository = new MongoDBChatMemoryRepository(mongoClient, "test");
+	}
+
+	@Test
+	void appendsOnlyNewMessages() {
+		List<Message> history = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			history.add(new UserMessage("question " + i));
+			history.add(new AssistantMessage("answer " + i));
+			stored.add(storedDocument(2L * i, "USER", "question " + i));
+			stored.add(storedDocument(2L * i + 1, "ASSISTANT", "answer " + i));
+		}
+		history.add(new UserMessage("question 50"));
+
+		repository.saveAll(CONVERSATION_ID, history);
+
+		List<Document> inserted = captureInserted();
+		assertThat(inserted).hasSize(1);
+		assertThat(inserted.get(0).getString("messageText")).isEqualTo("question 50");
+		assertThat(inserted.get(0).getLong("seq")).isEqualTo(100L);
+		verify(collection, never()).deleteMany(any(Bson.class));
+	}
+
+	@Test
+	void trimsEvictedHeadWithSingleRangeDelete() {
+		stored.add(storedDocument(7L, "USER", "question 1"));
+		stored.add(storedDocument(8L, "ASSISTANT", "answer 1"));
+		stored.add(storedDocument(9L, "USER", "question 2"));
+
+		repository.saveAll(CONVERSATION_ID, List.of(new AssistantMessage("answer 1"), new UserMessage("question 2"),
+				new AssistantMessage("answer 2")));
+
+		verify(collection, times(1)).deleteMany(any(Bson.class));
+		List<Document> inserted = captureInserted();
+		assertThat(inserted).hasSize(1);
+		assertThat(inserted.get(0).getString("messageText")).isEqualTo("answer 2");
+		assertThat(inserted.get(0).getLong("seq")).isEqualTo(10L);
+	}
+
+	@Test
+	void replacesConversationWithoutOverlap() {
+		stored.add(storedDocument(0L, "USER", "question 1"));
+
+		repository.saveAll(CONVERSATION_ID, List.of(new UserMessage("Hello")));
+
+		verify(collection, times(1)).deleteMany(any(Bson.class));
+		List<Document> inserted = captureInserted();
+		assertThat(inserted).hasSize(1);
+		assertThat(inserted.get(0).getLong("seq")).isEqualTo(0L);
+	}
+
+	@Test
+	void readsOnlyTheStoredTailThatCanOverlap() {
+		List<Message> window = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			stored.add(storedDocument(i, "USER", "message " + i));
+			if (i >= 81) {
+				window.add(new UserMessage("message " + i));
+			}
+		}
+		window.add(new UserMessage("message 100"));
+
+		repository.saveAll(CONVERSATION_ID, window);
+
+		verify(findIterable).limit(20);
+		verify(collection, times(1)).deleteMany(any(Bson.class));
+		List<Document> inserted = captureInserted();
+		assertThat(inserted).extracting(doc -> doc.getLong("seq")).containsExactly(100L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void listsConversationIdsWithOneStreamedAggregation() {
+		AggregateIterable<Document> groups = mock(AggregateIterable.class, RETURNS_SELF);
+		MongoCursor<Document> cursor = mock(MongoCursor.class);
+		when(collection.aggregate(anyList())).thenReturn(groups);
+		when(groups.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn(new Document("_id", "a"), new Document("_id", "b"));
+
+		assertThat(repository.findConversationIds()).containsExactly("a", "b");
+
+		verify(collection, times(1)).aggregate(anyList());
+		verify(groups).batchSize(100);
+	}
+
+	@Test
+	void rewritesLegacyDocumentsWithoutSequence() {
+		stored.add(new Document("conversationId", CONVERSATION_ID).append("messageType", "USER")
+			.append("messageText", "question 1"));
+
+		repository.saveAll(CONVERSATION_ID,
+				List.of(new UserMessage("question 1"), new AssistantMessage("answer 1")));
+
+		List<Document> inserted = captureInserted();
+		assertThat(inserted).extracting(doc -> doc.getLong("seq")).containsExactly(0L, 1L);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Document> captureInserted() {
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(collection).insertMany(captor.capture());
+		verify(collection, times(1)).insertMany(anyList());
+		return captor.getValue();
+	}
+
+	private static Document storedDocument(long seq, String type, String text) {
+		return new Document("conversationId", CONVERSATION_ID).append("messageType", type)
+			.append("messageText", text)
+			.append("seq", seq);
+	}
+
+}
@@ -90,6 +90,26 @@ public class MessageUtils {
 		return DigestUtils.md5Hex(conversationId);
 	}
 
+	/**
+	 * Content fingerprint used to match a Spring AI message against an already stored
+	 * Tablestore row without comparing the full payload.
+	 */
+	public static String fingerprint(Message message) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(message.getMessageType().getValue()).append('\u0000').append(message.getText());
+		if (message instanceof AssistantMessage assistantMessage) {
+			for (AssistantMessage.ToolCall toolCall : assistantMessage.getToolCalls()) {
+				sb.append('\u0000').append(toolCall.id()).append('\u0000').append(toolCall.arguments());
+			}
+		}
+		else if (message instanceof ToolResponseMessage toolResponseMessage) {
+			for (ToolResponseMessage.ToolResponse response : toolResponseMessage.getResponses()) {
+				sb.append('\u0000').append(response.id()).append('\u0000').append(response.responseData());
+			}
+		}
+		return DigestUtils.md5Hex(sb.toString());
+	}
+
 	public static Message toSpringMessage(com.aliyun.openservices.tablestore.agent.model.Message tablestoreMessage) {
 		Metadata metadata = tablestoreMessage.getMetadata();
 		Long createTime = tablestoreMessage.getCreateTime();
@@ -124,8 +144,9 @@ public class MessageUtils {
 					String toolCallsJson = metadata.getString(MESSAGE_TOOL_CALLS);
 					List<AssistantMessage.ToolCall> toolCalls = Collections.emptyList();
 					if (toolCallsJson != null) {
-						toolCalls = MAPPER.readValue(mediaJson, new TypeReference<List<AssistantMessage.ToolCall>>() {
-						});
+						toolCalls = MAPPER.readValue(toolCallsJson,
+								new TypeReference<List<AssistantMessage.ToolCall>>() {
+								});
 					}
 
 					return AssistantMessage.builder()
@@ -26,14 +26,39 @@ import org.springframework.ai.chat.messages.Message;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Tablestore implementation of ChatMemoryRepository
+ * Tablestore implementation of ChatMemoryRepository.
+ *
+ * <p>
+ * {@link #saveAll(String, List)} only persists the delta between the incoming message
+ * window and the rows already stored for the conversation: evicted head rows are
+ * deleted and new tail rows are appended, retained rows are left untouched. The keys and
+ * fingerprints of the stored rows are kept in a bounded in-memory tail cursor per
+ * conversation so that steady-state turns do not need to read the stored messages.
+ *
+ * <p>
+ * The id of the last stored message is also recorded in the session metadata, and a
+ * cached cursor is only trusted when it still ends with that message. A single session
+ * read per turn therefore detects rows appended or removed by another application
+ * instance, in which case the stored messages are reloaded. Saves of the same
+ * conversation are not serialized across instances: concurrent {@code saveAll} calls
+ * for one conversation must be avoided, as with the other chat memory repositories.
  */
 public class TablestoreChatMemoryRepository implements ChatMemoryRepository {
 
+	private static final int DEFAULT_MAX_CACHED_CURSORS = 1024;
+
+	private static final String TAIL_MESSAGE_ID = "tailMessageId";
+
+	private static final Comparator<StoredMessage> BY_CREATE_TIME = Comparator.comparing(StoredMessage::createTime,
+			Comparator.nullsFirst(Comparator.naturalOrder()));
+
 	private SyncClient client;
 
 	private String sessionTableName = "session";
@@ -48,6 +73,14 @@ public class TablestoreChatMemoryRepository implements ChatMemoryRepository {
 
 	private MemoryStoreImpl store;
 
+	private final Map<String, List<StoredMessage>> tailCursors = Collections
+		.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, List<StoredMessage>> eldest) {
+				return size() > DEFAULT_MAX_CACHED_CURSORS;
+			}
+		});
+
 	public TablestoreChatMemoryRepository(MemoryStoreImpl store) {
 		this.store = store;
 	}
@@ -114,24 +147,103 @@ public class TablestoreChatMemoryRepository implements ChatMemoryRepository {
 
 	@Override
 	public void saveAll(String conversationId, List<Message> messages) {
-		deleteByConversationId(conversationId);
 		String md5UserId = MessageUtils.getMD5UserId(conversationId);
-		Session session = new Session(md5UserId, conversationId);
-		getStore().putSession(session);
-		session.getMetadata().put("messagesCount", messages.size());
+		List<StoredMessage> stored = tailCursors.remove(conversationId);
+		if (stored == null || !isCurrent(md5UserId, conversationId, stored)) {
+			stored = loadStoredMessages(conversationId);
+		}
+		List<String> fingerprints = new ArrayList<>(messages.size());
 		for (Message message : messages) {
+			fingerprints.add(MessageUtils.fingerprint(message));
+		}
+
+		int overlapStart = findOverlapStart(stored, fingerprints);
+		int overlapSize = stored.size() - overlapStart;
+		List<StoredMessage> retained;
+		if (overlapSize == 0 && !stored.isEmpty()) {
+			deleteByConversationId(conversationId);
+			retained = new ArrayList<>(messages.size());
+		}
+		else {
+			for (StoredMessage evicted : stored.subList(0, overlapStart)) {
+				getStore().deleteMessage(conversationId, evicted.messageId(), evicted.createTime());
+			}
+			retained = new ArrayList<>(stored.subList(overlapStart, stored.size()));
+		}
+
+		for (int i = overlapSize; i < messages.size(); i++) {
 			com.aliyun.openservices.tablestore.agent.model.Message tablestoreMessage = MessageUtils
-				.toTablestoreMessage(conversationId, message);
+				.toTablestoreMessage(conversationId, messages.get(i));
 			getStore().putMessage(tablestoreMessage);
+			retained.add(new StoredMessage(tablestoreMessage.getMessageId(), tablestoreMessage.getCreateTime(),
+					fingerprints.get(i)));
 		}
+		String tailMessageId = retained.isEmpty() ? "" : retained.get(retained.size() - 1).messageId();
+		Session session = new Session(md5UserId, conversationId);
+		session.getMetadata().put("messagesCount", messages.size());
+		session.getMetadata().put(TAIL_MESSAGE_ID, tailMessageId);
+		getStore().putSession(session);
+		tailCursors.put(conversationId, retained);
 	}
 
 	@Override
 	public void deleteByConversationId(String conversationId) {
+		tailCursors.remove(conversationId);
 		String md5UserId = MessageUtils.getMD5UserId(conversationId);
 		getStore().deleteSessionAndMessages(md5UserId, conversationId);
 	}
 
+	/**
+	 * Whether a cached cursor still matches the stored conversation, that is the session
+	 * still records the last message of the cursor as its tail.
+	 */
+	private boolean isCurrent(String md5UserId, String conversationId, List<StoredMessage> cursor) {
+		Session session = getStore().getSession(md5UserId, conversationId);
+		if (session == null || session.getMetadata() == null) {
+			return false;
+		}
+		String expected = cursor.isEmpty() ? "" : cursor.get(cursor.size() - 1).messageId();
+		return expected.equals(session.getMetadata().getString(TAIL_MESSAGE_ID));
+	}
+
+	/**
+	 * Stored messages of a conversation, oldest first. The order in which the store lists
+	 * messages is not part of its contract, so they are sorted by create time, the
+	 * sequence they were written in.
+	 */
+	private List<StoredMessage> loadStoredMessages(String conversationId) {
+		Iterator<com.aliyun.openservices.tablestore.agent.model.Message> iterator = getStore()
+			.listMessages(conversationId);
+		List<StoredMessage> stored = new ArrayList<>();
+		while (iterator != null && iterator.hasNext()) {
+			com.aliyun.openservices.tablestore.agent.model.Message next = iterator.next();
+			stored.add(new StoredMessage(next.getMessageId(), next.getCreateTime(),
+					MessageUtils.fingerprint(MessageUtils.toSpringMessage(next))));
+		}
+		stored.sort(BY_CREATE_TIME);
+		return stored;
+	}
+
+	/**
+	 * Returns the smallest index {@code k} such that {@code stored[k..]} is a prefix of
+	 * {@code fingerprints}, or {@code stored.size()} when there is no such overlap.
+	 */
+	private static int findOverlapStart(List<StoredMessage> stored, List<String> fingerprints) {
+		for (int start = Math.max(0, stored.size() - fingerprints.size()); start < stored.size(); start++) {
+			boolean matches = true;
+			for (int i = start; i < stored.size(); i++) {
+				if (!stored.get(i).fingerprint().equals(fingerprints.get(i - start))) {
+					matches = false;
+					break;
+				}
+			}
+			if (matches) {
+				return start;
+			}
+		}
+		return stored.size();
+	}
+
 	public SyncClient getClient() {
 		return client;
 	}
@@ -156,4 +268,7 @@ public class TablestoreChatMemoryRepository implements ChatMemoryRepository {
 		return messageSecondaryIndexName;
 	}
 
+	private record StoredMessage(String messageId, Long createTime, String fingerprint) {
+	}
+
 }
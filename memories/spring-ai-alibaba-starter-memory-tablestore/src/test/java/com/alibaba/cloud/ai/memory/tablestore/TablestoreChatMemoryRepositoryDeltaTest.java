@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.memory.tablestore;
+
+import com.aliyun.openservices.tablestore.agent.memory.MemoryStoreImpl;
+import com.aliyun.openservices.tablestore.agent.model.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.UserMessage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts the rows written per turn by {@link TablestoreChatMemoryRepository} against a
+ * mocked {@link MemoryStoreImpl} that keeps the sessions and appended rows in memory.
+ */
+class TablestoreChatMemoryRepositoryDeltaTest {
+
+	private MemoryStoreImpl store;
+
+	private TablestoreChatMemoryRepository chatMemoryRepository;
+
+	private final Map<String, Session> sessions = new HashMap<>();
+
+	private final List<com.aliyun.openservices.tablestore.agent.model.Message> rows = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		store = mock(MemoryStoreImpl.class);
+		doAnswer(invocation -> {
+			Session session = invocation.getArgument(0);
+			sessions.put(session.getSessionId(), session);
+			return null;
+		}).when(store).putSession(any());
+		when(store.getSession(anyString(), anyString()))
+			.thenAnswer(invocation -> sessions.get(invocation.<String>getArgument(1)));
+		doAnswer(invocation -> {
+			rows.add(invocation.getArgument(0));
+			return null;
+		}).when(store).putMessage(any());
+		when(store.listMessages(anyString())).thenAnswer(invocation -> new ArrayList<>(rows).iterator());
+		chatMemoryRepository = new TablestoreChatMemoryRepository(store);
+	}
+
+	@Test
+	void writesOnlyNewMessagesPerTurn() {
+		List<Message> history = new ArrayList<>();
+		for (int turn = 0; turn < 20; turn++) {
+			Mockito.clearInvocations(store);
+			history.add(new UserMessage("question " + turn));
+			history.add(new AssistantMessage("answer " + turn));
+
+			chatMemoryRepository.saveAll("conversation", List.copyOf(history));
+
+			assertThat(countInvocations("putMessage")).isEqualTo(2);
+			assertThat(countInvocations("deleteMessage")).isZero();
+			assertThat(countInvocations("deleteSessionAndMessages")).isZero();
+		}
+		// only the very first turn has to look at the stored rows
+		Mockito.clearInvocations(store);
+		chatMemoryRepository.saveAll("conversation", List.copyOf(history));
+		assertThat(countInvocations("listMessages")).isZero();
+		assertThat(countInvocations("putMessage")).isZero();
+	}
+
+	@Test
+	void deletesOnlyEvictedHeadWhenWindowSlides() {
+		List<Message> history = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			history.add(new UserMessage("message " + i));
+		}
+		chatMemoryRepository.saveAll("conversation", List.copyOf(history));
+
+		Mockito.clearInvocations(store);
+		history.remove(0);
+		history.remove(0);
+		history.add(new UserMessage("message 10"));
+		chatMemoryRepository.saveAll("conversation", List.copyOf(history));
+
+		assertThat(countInvocations("deleteMessage")).isEqualTo(2);
+		assertThat(countInvocations("putMessage")).isEqualTo(1);
+	}
+
+	@Test
+	void rewritesConversationWithoutOverlap() {
+		chatMemoryRepository.saveAll("conversation",
+				List.of(new UserMessage("question"), new AssistantMessage("answer")));
+
+		Mockito.clearInvocations(store);
+		chatMemoryRepository.saveAll("conversation", List.of(new UserMessage("Hello")));
+
+		assertThat(countInvocations("deleteSessionAndMessages")).isEqualTo(1);
+		assertThat(countInvocations("putMessage")).isEqualTo(1);
+	}
+
+	@Test
+	void reloadsCursorMadeStaleByAnotherInstance() {
+		TablestoreChatMemoryRepository otherInstance = new TablestoreChatMemoryRepository(store);
+		List<Message> history = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			history.add(new UserMessage("message " + i));
+		}
+		chatMemoryRepository.saveAll("conversation", List.copyOf(history.subList(0, 2)));
+		otherInstance.saveAll("conversation", List.copyOf(history.subList(0, 4)));
+
+		Mockito.clearInvocations(store);
+		chatMemoryRepository.saveAll("conversation", List.copyOf(history));
+
+		assertThat(countInvocations("listMessages")).isEqualTo(1);
+		assertThat(countInvocations("putMessage")).isEqualTo(1);
+		assertThat(rows).extracting(com.aliyun.openservices.tablestore.agent.model.Message::getContent)
+			.containsExactly("message 1", "message 2", "message 3", "message 4", "message 5");
+	}
+
+	@Test
+	void ordersStoredMessagesByCreateTime() throws InterruptedException {
+		List<Message> history = new ArrayList<>();
+		for (int i = 1; i <= 4; i++) {
+			history.add(new UserMessage("message " + i));
+			chatMemoryRepository.saveAll("conversation", List.copyOf(history));
+			// one message per millisecond, so every row has its own create time
+			Thread.sleep(2);
+		}
+		// a fresh instance has no cursor and reads rows listed newest first
+		when(store.listMessages(anyString())).thenAnswer(invocation -> {
+			List<com.aliyun.openservices.tablestore.agent.model.Message> newestFirst = new ArrayList<>(rows);
+			Collections.reverse(newestFirst);
+			return newestFirst.iterator();
+		});
+		TablestoreChatMemoryRepository otherInstance = new TablestoreChatMemoryRepository(store);
+
+		Mockito.clearInvocations(store);
+		history.add(new UserMessage("message 5"));
+		otherInstance.saveAll("conversation", List.copyOf(history));
+
+		assertThat(countInvocations("deleteSessionAndMessages")).isZero();
+		assertThat(countInvocations("deleteMessage")).isZero();
+		assertThat(countInvocations("putMessage")).isEqualTo(1);
+	}
+
+	private long countInvocations(String methodName) {
+		return Mockito.mockingDetails(store)
+			.getInvocations()
+			.stream()
+			.filter(invocation -> invocation.getMethod().getName().equals(methodName))
+			.count();
+	}
+
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.dashscope.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.util.Assert;
+
+/**
+ * Non-blocking poller for DashScope asynchronous tasks (image, video generation).
+ *
+ * <p>
+ * All outstanding tasks are tracked by a single periodic tick on one timer
+ * {@link Scheduler}. On every tick the tasks whose next poll time has passed are queried
+ * together with bounded concurrency, each task backing off exponentially between
+ * queries. Callers get a {@link Mono} that completes with the first terminal status
+ * response, fails with a {@link TimeoutException} once the task deadline passes, and
+ * stops being polled when the subscriber cancels. No thread is parked while a task is
+ * pending, so a single JVM can drive thousands of concurrent generations.
+ *
+ * <p>
+ * The tick only runs while at least one task is pending.
+ *
+ * @since 1.1.2
+ */
+public class DashScopeAsyncTaskPoller implements Disposable {
+
+	private static final Logger logger = LoggerFactory.getLogger(DashScopeAsyncTaskPoller.class);
+
+	public static final Duration DEFAULT_TICK_INTERVAL = Duration.ofMillis(500);
+
+	public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(2);
+
+	public static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(30);
+
+	public static final double DEFAULT_BACKOFF_MULTIPLIER = 1.5;
+
+	public static final int DEFAULT_MAX_CONCURRENT_QUERIES = 32;
+
+	private static volatile DashScopeAsyncTaskPoller shared;
+
+	private final Set<PendingTask<?>> pending = ConcurrentHashMap.newKeySet();
+
+	private final long tickMillis;
+
+	private final long pollIntervalMillis;
+
+	private final long maxPollIntervalMillis;
+
+	private final double backoffMultiplier;
+
+	private final int maxConcurrentQueries;
+
+	private final Scheduler timerScheduler;
+
+	private final Scheduler ioScheduler;
+
+	private Disposable ticker;
+
+	private volatile boolean disposed;
+
+	private DashScopeAsyncTaskPoller(Builder builder) {
+		Assert.isTrue(!builder.tickInterval.isNegative() && !builder.tickInterval.isZero(),
+				"tickInterval must be positive");
+		Assert.isTrue(builder.backoffMultiplier >= 1.0, "backoffMultiplier must be at least 1.0");
+		Assert.isTrue(builder.maxConcurrentQueries > 0, "maxConcurrentQueries must be greater than 0");
+		this.tickMillis = builder.tickInterval.toMillis();
+		this.pollIntervalMillis = builder.pollInterval.toMillis();
+		this.maxPollIntervalMillis = Math.max(builder.maxPollInterval.toMillis(), this.pollIntervalMillis);
+		this.backoffMultiplier = builder.backoffMultiplier;
+		this.maxConcurrentQueries = builder.maxConcurrentQueries;
+		this.timerScheduler = builder.timerScheduler != null ? builder.timerScheduler : Schedulers.parallel();
+		this.ioScheduler = builder.ioScheduler != null ? builder.ioScheduler : Schedulers.boundedElastic();
+	}
+
+	/**
+	 * Returns the poller shared by DashScope models that are not configured with their
+	 * own instance.
+	 */
+	public static DashScopeAsyncTaskPoller shared() {
+		if (shared == null) {
+			synchronized (DashScopeAsyncTaskPoller.class) {
+				if (shared == null) {
+					shared = builder().build();
+				}
+			}
+		}
+		return shared;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Polls a task until {@code isTerminal} accepts its status response.
+	 * @param taskId id of the task, used for logging
+	 * @param statusQuery blocking status query, executed on the io scheduler; a
+	 * {@code null} result is treated as still pending
+	 * @param isTerminal whether a status response is final
+	 * @param timeout deadline measured from subscription
+	 * @return the terminal status response, or a {@link TimeoutException} error
+	 */
+	public <T> Mono<T> poll(String taskId, Supplier<T> statusQuery, Predicate<T> isTerminal, Duration timeout) {
+		Assert.hasText(taskId, "taskId must not be empty");
+		Assert.notNull(statusQuery, "statusQuery must not be null");
+		Assert.notNull(isTerminal, "isTerminal must not be null");
+		Assert.notNull(timeout, "timeout must not be null");
+		return Mono.defer(() -> {
+			if (disposed) {
+				return Mono.error(new IllegalStateException("DashScopeAsyncTaskPoller has been disposed"));
+			}
+			long now = now();
+			PendingTask<T> task = new PendingTask<>(taskId, statusQuery, isTerminal, now + timeout.toMillis(),
+					now + pollIntervalMillis);
+			pending.add(task);
+			ensureTicking();
+			return task.sink.asMono().doOnCancel(() -> {
+				logger.debug("Polling cancelled for task: {}", taskId);
+				pending.remove(task);
+			});
+		});
+	}
+
+	/**
+	 * Number of tasks currently being polled.
+	 */
+	public int pendingTasks() {
+		return pending.size();
+	}
+
+	@Override
+	public synchronized void dispose() {
+		disposed = true;
+		if (ticker != null) {
+			ticker.dispose();
+			ticker = null;
+		}
+		for (PendingTask<?> task : pending) {
+			task.sink.tryEmitError(new IllegalStateException("DashScopeAsyncTaskPoller has been disposed"));
+		}
+		pending.clear();
+	}
+
+	@Override
+	public boolean isDisposed() {
+		return disposed;
+	}
+
+	private synchronized void ensureTicking() {
+		if (!disposed && ticker == null) {
+			ticker = timerScheduler.schedulePeriodically(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private synchronized void stopIfIdle() {
+		if (pending.isEmpty() && ticker != null) {
+			ticker.dispose();
+			ticker = null;
+		}
+	}
+
+	private void tick() {
+		try {
+			long now = now();
+			List<PendingTask<?>> due = new ArrayList<>();
+			for (PendingTask<?> task : pending) {
+				if (now >= task.deadline) {
+					pending.remove(task);
+					task.sink.tryEmitError(new TimeoutException("Async task " + task.taskId + " timed out"));
+				}
+				else if (!task.inFlight && now >= task.nextPollAt) {
+					task.inFlight = true;
+					due.add(task);
+				}
+			}
+			if (!due.isEmpty()) {
+				logger.debug("Querying {} of {} pending async tasks", due.size(), pending.size());
+				Flux.fromIterable(due).flatMap(PendingTask::query, maxConcurrentQueries).subscribe();
+			}
+			stopIfIdle();
+		}
+		catch (Exception e) {
+			logger.error("Async task poller tick failed", e);
+		}
+	}
+
+	private long now() {
+		return timerScheduler.now(TimeUnit.MILLISECONDS);
+	}
+
+	private final class PendingTask<T> {
+
+		private final String taskId;
+
+		private final Supplier<T> statusQuery;
+
+		private final Predicate<T> isTerminal;
+
+		private final Sinks.One<T> sink = Sinks.one();
+
+		private final long deadline;
+
+		private volatile long nextPollAt;
+
+		private volatile boolean inFlight;
+
+		private int attempts;
+
+		private PendingTask(String taskId, Supplier<T> statusQuery, Predicate<T> isTerminal, long deadline,
+				long nextPollAt) {
+			this.taskId = taskId;
+			this.statusQuery = statusQuery;
+			this.isTerminal = isTerminal;
+			this.deadline = deadline;
+			this.nextPollAt = nextPollAt;
+		}
+
+		private Mono<Void> query() {
+			return Mono.fromSupplier(statusQuery)
+				.subscribeOn(ioScheduler)
+				.doOnNext(response -> {
+					if (isTerminal.test(response) && pending.remove(this)) {
+						sink.tryEmitValue(response);
+					}
+				})
+				.onErrorResume(e -> {
+					logger.warn("Failed to query async task: {}, will retry", taskId, e);
+					return Mono.empty();
+				})
+				.doFinally(signal -> {
+					attempts++;
+					long delay = (long) Math.min(pollIntervalMillis * Math.pow(backoffMultiplier, attempts),
+							maxPollIntervalMillis);
+					nextPollAt = now() + delay;
+					inFlight = false;
+				})
+				.then();
+		}
+
+	}
+
+	public static final class Builder {
+
+		private Duration tickInterval = DEFAULT_TICK_INTERVAL;
+
+		private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+
+		private Duration maxPollInterval = DEFAULT_MAX_POLL_INTERVAL;
+
+		private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+
+		private int maxConcurrentQueries = DEFAULT_MAX_CONCURRENT_QUERIES;
+
+		private Scheduler timerScheduler;
+
+		private Scheduler ioScheduler;
+
+		private Builder() {
+		}
+
+		/**
+		 * Resolution of the shared timer, tasks are never polled more often than this.
+		 */
+		public Builder tickInterval(Duration tickInterval) {
+			this.tickInterval = tickInterval;
+			return this;
+		}
+
+		/**
+		 * Delay before the first query of a task and base of the exponential backoff.
+		 */
+		public Builder pollInterval(Duration pollInterval) {
+			this.pollInterval = pollInterval;
+			return this;
+		}
+
+		public Builder maxPollInterval(Duration maxPollInterval) {
+			this.maxPollInterval = maxPollInterval;
+			return this;
+		}
+
+		public Builder backoffMultiplier(double backoffMultiplier) {
+			this.backoffMultiplier = backoffMultiplier;
+			return this;
+		}
+
+		/**
+		 * Maximum number of status queries in flight at the same time.
+		 */
+		public Builder maxConcurrentQueries(int maxConcurrentQueries) {
+			this.maxConcurrentQueries = maxConcurrentQueries;
+			return this;
+		}
+
+		public Builder timerScheduler(Scheduler timerScheduler) {
+			this.timerScheduler = timerScheduler;
+			return this;
+		}
+
+		public Builder ioScheduler(Scheduler ioScheduler) {
+			this.ioScheduler = ioScheduler;
+			return this;
+		}
+
+		public DashScopeAsyncTaskPoller build() {
+			return new DashScopeAsyncTaskPoller(this);
+		}
+
+	}
+
+}
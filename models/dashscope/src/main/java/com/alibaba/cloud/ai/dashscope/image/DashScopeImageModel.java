@@ -17,6 +17,7 @@ package com.alibaba.cloud.ai.dashscope.image;
 
 import com.alibaba.cloud.ai.dashscope.api.DashScopeImageApi;
 import com.alibaba.cloud.ai.dashscope.common.DashScopeApiConstants;
+import com.alibaba.cloud.ai.dashscope.common.DashScopeAsyncTaskPoller;
 import com.alibaba.cloud.ai.dashscope.image.observation.DashScopeImageModelObservationConvention;
 import com.alibaba.cloud.ai.dashscope.image.observation.DashScopeImagePromptContentObservationHandler;
 import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec;
@@ -27,10 +28,12 @@ import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationHandler;
 import io.micrometer.observation.ObservationRegistry;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -53,6 +56,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * @author nuocheng.lxm
@@ -69,6 +74,13 @@ public class DashScopeImageModel implements ImageModel {
      */
     private static final String DEFAULT_MODEL = "wanx-v1";
 
+    /**
+     * Default deadline of {@link #callAsync(ImagePrompt)}.
+     */
+    public static final Duration DEFAULT_ASYNC_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final Set<String> TERMINAL_TASK_STATUSES = Set.of("SUCCEEDED", "FAILED", "UNKNOWN");
+
     /**
      * Low-level access to the DashScope Image API.
      */
@@ -94,6 +106,11 @@ public class DashScopeImageModel implements ImageModel {
      */
     private ImageModelObservationConvention observationConvention = new DefaultImageModelObservationConvention();
 
+    /**
+     * Poller driving the image generation tasks of {@link #callAsync(ImagePrompt)}.
+     */
+    private DashScopeAsyncTaskPoller taskPoller = DashScopeAsyncTaskPoller.shared();
+
     public DashScopeImageModel(
             DashScopeImageApi dashScopeImageApi,
             DashScopeImageOptions options,
@@ -180,6 +197,38 @@ public class DashScopeImageModel implements ImageModel {
         })));
     }
 
+    /**
+     * Non-blocking variant of {@link #call(ImagePrompt)} using {@link #DEFAULT_ASYNC_TIMEOUT}.
+     */
+    public Mono<ImageResponse> callAsync(ImagePrompt request) {
+        return callAsync(request, DEFAULT_ASYNC_TIMEOUT);
+    }
+
+    /**
+     * Non-blocking variant of {@link #call(ImagePrompt)}. The task is submitted on a
+     * bounded elastic thread and then handed to the {@link DashScopeAsyncTaskPoller}, so
+     * no thread is held while the image is being generated.
+     * @param request the image prompt
+     * @param timeout how long to wait for the task to reach a terminal status
+     * @return the image response; the Mono fails with a
+     * {@link java.util.concurrent.TimeoutException} when the task does not reach a
+     * terminal status within {@code timeout}, as {@code DashScopeVideoModel} does
+     */
+    public Mono<ImageResponse> callAsync(ImagePrompt request, Duration timeout) {
+        Assert.notNull(request, "Prompt must not be null");
+        Assert.isTrue(!CollectionUtils.isEmpty(request.getInstructions()), "Prompt messages must not be empty");
+        Assert.notNull(timeout, "timeout must not be null");
+
+        return Mono.fromCallable(() -> submitImageGenTask(request))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(taskId -> this.taskPoller
+                        .poll(taskId, () -> getImageGenTask(taskId),
+                                resp -> TERMINAL_TASK_STATUSES.contains(resp.output().taskStatus()), timeout)
+                        .map(resp -> "SUCCEEDED".equals(resp.output().taskStatus()) ? toImageResponse(resp)
+                                : new ImageResponse(List.of(), toMetadata(resp))))
+                .defaultIfEmpty(new ImageResponse(List.of(), toMetadataEmpty()));
+    }
+
     public String submitImageGenTask(ImagePrompt request) {
 
         DashScopeImageOptions imageOptions = toImageOptions(request.getOptions());
@@ -328,6 +377,16 @@ public class DashScopeImageModel implements ImageModel {
         this.observationConvention = observationConvention;
     }
 
+    /**
+     * Use the provided poller for {@link #callAsync(ImagePrompt)}.
+     *
+     * @param taskPoller The provided poller
+     */
+    public void setTaskPoller(DashScopeAsyncTaskPoller taskPoller) {
+        Assert.notNull(taskPoller, "taskPoller cannot be null");
+        this.taskPoller = taskPoller;
+    }
+
     /**
      * Returns a builder pre-populated with the current configuration for mutation.
      */
@@ -361,6 +420,8 @@ public class DashScopeImageModel implements ImageModel {
 
         private ObservationHandler<ImageModelObservationContext> promptHandler = new DashScopeImagePromptContentObservationHandler();
 
+        private DashScopeAsyncTaskPoller taskPoller = DashScopeAsyncTaskPoller.shared();
+
         private Builder() {
         }
 
@@ -370,6 +431,7 @@ public class DashScopeImageModel implements ImageModel {
             this.retryTemplate = imageModel.retryTemplate;
             this.observationRegistry = imageModel.observationRegistry;
             this.observationConvention = imageModel.observationConvention;
+            this.taskPoller = imageModel.taskPoller;
         }
 
         public DashScopeImageModel.Builder dashScopeApi(DashScopeImageApi dashScopeImageApi) {
@@ -402,10 +464,16 @@ public class DashScopeImageModel implements ImageModel {
             return this;
         }
 
+        public Builder taskPoller(DashScopeAsyncTaskPoller taskPoller) {
+            this.taskPoller = taskPoller;
+            return this;
+        }
+
         public DashScopeImageModel build() {
             DashScopeImageModel model = new DashScopeImageModel(dashScopeImageApi, defaultOptions, retryTemplate, observationRegistry);
 
             model.setObservationConvention(this.observationConvention);
+            model.setTaskPoller(this.taskPoller);
             this.observationRegistry.observationConfig().observationHandler(this.promptHandler);
             return model;
         }
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.dashscope.rag;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.alibaba.cloud.ai.dashscope.api.DashScopeApi;
+import com.alibaba.cloud.ai.dashscope.common.ErrorCodeEnum;
+import com.alibaba.cloud.ai.dashscope.rag.context.DocumentProcessContext;
+import com.alibaba.cloud.ai.dashscope.rag.exception.DashScopeDocumentException;
+import com.alibaba.cloud.ai.dashscope.rag.exception.DocumentParseTimeoutException;
+import com.alibaba.cloud.ai.dashscope.rag.handler.DefaultFileStatusHandler;
+import com.alibaba.cloud.ai.dashscope.rag.handler.FileStatusHandler;
+import com.alibaba.cloud.ai.dashscope.rag.handler.FileStatusResult;
+import com.alibaba.cloud.ai.dashscope.rag.validation.FileValidator;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.DocumentReader;
+import org.springframework.util.Assert;
+
+/**
+ * Concurrent DashScope cloud document reader for many files
+ *
+ * <p>Unlike {@link DashScopeDocumentCloudReader}, which uploads, waits and downloads one
+ * file on the calling thread, this reader runs an asynchronous pipeline:
+ * <ul>
+ *   <li>Files are hashed and uploaded with bounded concurrency</li>
+ *   <li>Every pending parse job is polled from one shared timer scheduler with a per-job
+ *   exponential backoff, so no thread is parked while the server parses</li>
+ *   <li>Parse results are downloaded with bounded concurrency and emitted as soon as each
+ *   job finishes</li>
+ * </ul>
+ *
+ * <p>The wall-clock time of a batch is therefore close to the slowest file instead of the
+ * sum of all files. Documents are emitted in completion order, not input order.
+ *
+ * @since 2026/10/19
+ */
+public class DashScopeDocumentCloudBatchReader implements DocumentReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashScopeDocumentCloudBatchReader.class);
+
+    /**
+     * Default number of concurrent uploads
+     */
+    public static final int DEFAULT_UPLOAD_CONCURRENCY = 4;
+
+    /**
+     * Default number of concurrent result downloads
+     */
+    public static final int DEFAULT_DOWNLOAD_CONCURRENCY = 4;
+
+    /**
+     * Default number of parse jobs polled at the same time
+     */
+    public static final int DEFAULT_MAX_PENDING_JOBS = 256;
+
+    private final List<File> files;
+    private final DashScopeDocumentCloudReaderConfig clientConfig;
+    private final DashScopeDocumentCloudClient client;
+    private final FileStatusHandler fileHandler;
+    private final int uploadConcurrency;
+    private final int downloadConcurrency;
+    private final int maxPendingJobs;
+    private final Scheduler pollScheduler;
+    private final Scheduler ioScheduler;
+
+    private DashScopeDocumentCloudBatchReader(Builder builder) {
+        Assert.notEmpty(builder.filePaths, "File paths must not be empty");
+        Assert.notNull(builder.dashScopeApi, "DashScopeApi must not be null");
+        Assert.isTrue(builder.uploadConcurrency > 0, "uploadConcurrency must be greater than 0");
+        Assert.isTrue(builder.downloadConcurrency > 0, "downloadConcurrency must be greater than 0");
+        Assert.isTrue(builder.maxPendingJobs > 0, "maxPendingJobs must be greater than 0");
+
+        this.clientConfig = builder.clientConfig != null ? builder.clientConfig
+                : new DashScopeDocumentCloudReaderConfig();
+        this.client = new DashScopeDocumentCloudClient(builder.dashScopeApi,
+                builder.readerConfig != null ? builder.readerConfig : new DashScopeDocumentCloudReaderOptions(),
+                this.clientConfig);
+        this.fileHandler = new DefaultFileStatusHandler();
+        this.uploadConcurrency = builder.uploadConcurrency;
+        this.downloadConcurrency = builder.downloadConcurrency;
+        this.maxPendingJobs = builder.maxPendingJobs;
+        this.pollScheduler = builder.pollScheduler != null ? builder.pollScheduler : Schedulers.parallel();
+        this.ioScheduler = builder.ioScheduler != null ? builder.ioScheduler : Schedulers.boundedElastic();
+
+        FileValidator fileValidator = new FileValidator(this.clientConfig);
+        this.files = new ArrayList<>(builder.filePaths.size());
+        for (String filePath : builder.filePaths) {
+            if (filePath == null || filePath.trim().isEmpty()) {
+                throw new IllegalArgumentException("File path must not be null or empty");
+            }
+            File file = new File(filePath);
+            fileValidator.validate(file);
+            this.files.add(file);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Reads and parses all files, blocking until every document is available
+     *
+     * @return non-null list of documents in completion order
+     * @throws com.alibaba.cloud.ai.dashscope.common.DashScopeException when any file fails
+     */
+    @Override
+    public List<Document> get() {
+        List<Document> documents = stream().collectList().block();
+        return documents != null ? documents : List.of();
+    }
+
+    /**
+     * Streams parsed documents as each parse job completes
+     *
+     * <p>The first failing file terminates the stream with a
+     * {@link DashScopeDocumentException} carrying its file path and file id.
+     *
+     * @return documents in completion order
+     */
+    public Flux<Document> stream() {
+        return Flux.fromIterable(files)
+                .flatMap(file -> Mono.fromCallable(() -> upload(file)).subscribeOn(ioScheduler), uploadConcurrency)
+                .flatMap(this::awaitCompletion, maxPendingJobs)
+                .flatMap(job -> Mono.fromCallable(() -> download(job)).subscribeOn(ioScheduler), downloadConcurrency);
+    }
+
+    /**
+     * Hashes and uploads a single file
+     */
+    private ParseJob upload(File file) {
+        DocumentProcessContext context = new DocumentProcessContext();
+        try (InputStream inputStream = new FileInputStream(file)) {
+            context.setFileMD5(DigestUtils.md5Hex(inputStream));
+        } catch (IOException e) {
+            logger.error("IO error while processing file: {}", file.getName(), e);
+            throw new DashScopeDocumentException(ErrorCodeEnum.READER_PARSE_FILE_ERROR)
+                    .withFilePath(file.getAbsolutePath());
+        }
+
+        String fileId = client.upload(file, context.getFileMD5());
+        context.setFileId(fileId);
+        logger.info("File uploaded successfully. FileId: {}, FileName: {}", fileId, file.getName());
+        return new ParseJob(file, context, System.currentTimeMillis());
+    }
+
+    /**
+     * Waits for a parse job without blocking a thread, the waits between status queries
+     * are scheduled on the shared poll scheduler
+     */
+    private Mono<ParseJob> awaitCompletion(ParseJob job) {
+        long initialWaitMillis = clientConfig.getInitialWaitMillis();
+        Mono<ParseJob> poll = Mono.defer(() -> poll(job, 0));
+        return initialWaitMillis > 0
+                ? Mono.delay(Duration.ofMillis(initialWaitMillis), pollScheduler).then(poll)
+                : poll;
+    }
+
+    private Mono<ParseJob> poll(ParseJob job, int attempt) {
+        String fileId = job.context().getFileId();
+        if (attempt >= client.getMaxRetryCount()) {
+            long elapsed = System.currentTimeMillis() - job.startTime();
+            logger.error("File parsing timed out: FileId={}, TotalElapsedTime={}ms", fileId, elapsed);
+            return Mono.<ParseJob>error(new DocumentParseTimeoutException(
+                    String.format("File parsing timeout for fileId: %s, fileName: %s", fileId, job.file().getName()),
+                    attempt, elapsed)
+                    .withFileId(fileId)
+                    .withFilePath(job.file().getAbsolutePath()));
+        }
+
+        return Mono.fromCallable(() -> client.queryFileStatus(fileId))
+                .subscribeOn(ioScheduler)
+                .flatMap(response -> {
+                    if (response.getBody() == null || response.getBody().data() == null) {
+                        logger.warn("Received empty status for fileId: {}, attempt: {}", fileId, attempt + 1);
+                        return retryLater(job, attempt);
+                    }
+                    FileStatusResult result = fileHandler.handle(job.context(), response);
+                    if (!result.isCompleted()) {
+                        return retryLater(job, attempt);
+                    }
+                    if (!result.isSuccess()) {
+                        return Mono.<ParseJob>error(new DashScopeDocumentException(result.getErrorMessage())
+                                .withFileId(fileId)
+                                .withFilePath(job.file().getAbsolutePath()));
+                    }
+                    logger.info("File parsing succeeded: FileId={}, Attempts={}, ElapsedTime={}ms", fileId,
+                                attempt + 1, System.currentTimeMillis() - job.startTime());
+                    return Mono.just(job);
+                })
+                .switchIfEmpty(Mono.defer(() -> retryLater(job, attempt)));
+    }
+
+    private Mono<ParseJob> retryLater(ParseJob job, int attempt) {
+        return Mono.delay(Duration.ofMillis(client.calculateRetryDelay(attempt)), pollScheduler)
+                .then(Mono.defer(() -> poll(job, attempt + 1)));
+    }
+
+    private Document download(ParseJob job) {
+        String fileId = job.context().getFileId();
+        String parseResult = client.downloadParseResult(fileId);
+        return DashScopeDocumentCloudClient.toDocument(job.file(), fileId, parseResult);
+    }
+
+    private record ParseJob(File file, DocumentProcessContext context, long startTime) {
+    }
+
+    public static class Builder {
+
+        private List<String> filePaths;
+        private DashScopeApi dashScopeApi;
+        private DashScopeDocumentCloudReaderOptions readerConfig;
+        private DashScopeDocumentCloudReaderConfig clientConfig;
+        private int uploadConcurrency = DEFAULT_UPLOAD_CONCURRENCY;
+        private int downloadConcurrency = DEFAULT_DOWNLOAD_CONCURRENCY;
+        private int maxPendingJobs = DEFAULT_MAX_PENDING_JOBS;
+        private Scheduler pollScheduler;
+        private Scheduler ioScheduler;
+
+        public Builder filePaths(List<String> filePaths) {
+            this.filePaths = filePaths;
+            return this;
+        }
+
+        public Builder dashScopeApi(DashScopeApi dashScopeApi) {
+            this.dashScopeApi = dashScopeApi;
+            return this;
+        }
+
+        public Builder options(DashScopeDocumentCloudReaderOptions readerConfig) {
+            this.readerConfig = readerConfig;
+            return this;
+        }
+
+        public Builder config(DashScopeDocumentCloudReaderConfig clientConfig) {
+            this.clientConfig = clientConfig;
+            return this;
+        }
+
+        public Builder uploadConcurrency(int uploadConcurrency) {
+            this.uploadConcurrency = uploadConcurrency;
+            return this;
+        }
+
+        public Builder downloadConcurrency(int downloadConcurrency) {
+            this.downloadConcurrency = downloadConcurrency;
+            return this;
+        }
+
+        public Builder maxPendingJobs(int maxPendingJobs) {
+            this.maxPendingJobs = maxPendingJobs;
+            return this;
+        }
+
+        /**
+         * Scheduler used for the waits between status queries, defaults to
+         * {@link Schedulers#parallel()}
+         */
+        public Builder pollScheduler(Scheduler pollScheduler) {
+            this.pollScheduler = pollScheduler;
+            return this;
+        }
+
+        /**
+         * Scheduler used for the blocking DashScope API calls, defaults to
+         * {@link Schedulers#boundedElastic()}
+         */
+        public Builder ioScheduler(Scheduler ioScheduler) {
+            this.ioScheduler = ioScheduler;
+            return this;
+        }
+
+        public DashScopeDocumentCloudBatchReader build() {
+            return new DashScopeDocumentCloudBatchReader(this);
+        }
+
+    }
+
+}
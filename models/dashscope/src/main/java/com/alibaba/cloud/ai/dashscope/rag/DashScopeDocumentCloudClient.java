@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.dashscope.rag;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.alibaba.cloud.ai.dashscope.api.DashScopeApi;
+import com.alibaba.cloud.ai.dashscope.common.DashScopeApiConstants;
+import com.alibaba.cloud.ai.dashscope.common.ErrorCodeEnum;
+import com.alibaba.cloud.ai.dashscope.rag.exception.DashScopeDocumentException;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.ai.document.Document;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * DashScope calls and retry policy shared by {@link DashScopeDocumentCloudReader} and
+ * {@link DashScopeDocumentCloudBatchReader}: upload, status query, parse result download
+ * and the delay between status queries
+ *
+ * @since 2026/10/19
+ */
+final class DashScopeDocumentCloudClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashScopeDocumentCloudClient.class);
+
+    private final DashScopeApi dashScopeApi;
+    private final DashScopeDocumentCloudReaderOptions readerConfig;
+    private final DashScopeDocumentCloudReaderConfig clientConfig;
+
+    DashScopeDocumentCloudClient(DashScopeApi dashScopeApi, DashScopeDocumentCloudReaderOptions readerConfig,
+                                 DashScopeDocumentCloudReaderConfig clientConfig) {
+        this.dashScopeApi = dashScopeApi;
+        this.readerConfig = readerConfig;
+        this.clientConfig = clientConfig;
+    }
+
+    /**
+     * Uploads file to Bailian cloud
+     *
+     * @return id of the uploaded file
+     * @throws DashScopeDocumentException when no file id is returned
+     */
+    String upload(File file, String fileMD5) {
+        DashScopeApiSpec.UploadRequest uploadRequest = new DashScopeApiSpec.UploadRequest(
+                readerConfig.getCategoryId(),
+                file.getName(),
+                file.length(),
+                fileMD5
+        );
+
+        String fileId = dashScopeApi.upload(file, uploadRequest);
+
+        if (fileId == null || fileId.trim().isEmpty()) {
+            logger.error("Upload returned empty fileId for file: {}", file.getName());
+            throw new DashScopeDocumentException(ErrorCodeEnum.READER_PARSE_FILE_ERROR)
+                    .withFilePath(file.getAbsolutePath());
+        }
+
+        return fileId;
+    }
+
+    /**
+     * Queries file parsing status
+     */
+    ResponseEntity<DashScopeApiSpec.CommonResponse<
+            DashScopeApiSpec.QueryFileResponseData>> queryFileStatus(String fileId) {
+        return dashScopeApi.queryFileInfo(
+                readerConfig.getCategoryId(),
+                new DashScopeApiSpec.UploadRequest.QueryFileRequest(fileId)
+        );
+    }
+
+    /**
+     * Downloads parse result
+     *
+     * @return the parse result, empty when the server returned none
+     */
+    String downloadParseResult(String fileId) {
+        String parseResult = dashScopeApi.getFileParseResult(
+                readerConfig.getCategoryId(),
+                new DashScopeApiSpec.UploadRequest.QueryFileRequest(fileId)
+        );
+
+        if (parseResult == null || parseResult.trim().isEmpty()) {
+            logger.warn("Downloaded empty parse result for fileId: {}", fileId);
+            return "";
+        }
+
+        return parseResult;
+    }
+
+    /**
+     * Calculates retry delay
+     *
+     * <p>Can choose fixed delay or exponential backoff strategy based on configuration
+     */
+    long calculateRetryDelay(int attemptCount) {
+        // If exponential backoff is enabled in config
+        if (clientConfig.isUseExponentialBackoff()) {
+            long baseDelay = clientConfig.getRetryIntervalMillis();
+            double multiplier = clientConfig.getBackoffMultiplier();
+            long maxDelay = clientConfig.getMaxRetryIntervalMillis();
+
+            long delay = (long) (baseDelay * Math.pow(multiplier, attemptCount));
+            return Math.min(delay, maxDelay);
+        }
+
+        // Default fixed delay
+        return clientConfig.getRetryIntervalMillis();
+    }
+
+    /**
+     * Gets maximum retry count
+     */
+    int getMaxRetryCount() {
+        // Use configured value if set, otherwise use default
+        return clientConfig.getMaxRetryAttempts() > 0
+                ? clientConfig.getMaxRetryAttempts()
+                : DashScopeApiConstants.MAX_TRY_COUNT;
+    }
+
+    /**
+     * Converts to Document object
+     */
+    static Document toDocument(File file, String fileId, String parseResultText) {
+        Map<String, Object> metaData = new HashMap<>();
+        metaData.put("parse_fmt_type", "DASHSCOPE_DOCMIND");
+        metaData.put("file_id", fileId);
+        metaData.put("file_name", file.getName());
+        metaData.put("file_size", file.length());
+
+        return new Document(fileId, parseResultText, metaData);
+    }
+
+}
@@ -19,12 +19,9 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import com.alibaba.cloud.ai.dashscope.api.DashScopeApi;
-import com.alibaba.cloud.ai.dashscope.common.DashScopeApiConstants;
 import com.alibaba.cloud.ai.dashscope.common.DashScopeException;
 import com.alibaba.cloud.ai.dashscope.common.ErrorCodeEnum;
 import com.alibaba.cloud.ai.dashscope.rag.context.DocumentProcessContext;
@@ -51,9 +48,8 @@ public class DashScopeDocumentCloudReader implements DocumentReader {
 
     private static final Logger logger = LoggerFactory.getLogger(DashScopeDocumentCloudReader.class);
 
-    private final DashScopeApi dashScopeApi;
-    private final DashScopeDocumentCloudReaderOptions readerConfig;
     private final DashScopeDocumentCloudReaderConfig clientConfig;
+    private final DashScopeDocumentCloudClient client;
     private final File file;
     private final FileStatusHandler fileHandler;
     private final FileValidator fileValidator;
@@ -91,9 +87,9 @@ public class DashScopeDocumentCloudReader implements DocumentReader {
         }
 
         this.file = new File(filePath);
-        this.dashScopeApi = dashScopeApi;
-        this.readerConfig = readerConfig != null ? readerConfig : new DashScopeDocumentCloudReaderOptions();
         this.clientConfig = clientConfig != null ? clientConfig : new DashScopeDocumentCloudReaderConfig();
+        this.client = new DashScopeDocumentCloudClient(dashScopeApi,
+                readerConfig != null ? readerConfig : new DashScopeDocumentCloudReaderOptions(), this.clientConfig);
         this.fileHandler = new DefaultFileStatusHandler();
         this.fileValidator = new FileValidator(this.clientConfig); // Initialize validator
 
@@ -133,7 +129,7 @@ public class DashScopeDocumentCloudReader implements DocumentReader {
             logger.debug("File MD5 calculated: {} for file: {}", context.getFileMD5(), file.getName());
 
             // Step 2: Upload file
-            context.setFileId(uploadFile(context.getFileMD5()));
+            context.setFileId(client.upload(file, context.getFileMD5()));
             logger.info("File uploaded successfully. FileId: {}, FileName: {}",
                         context.getFileId(), file.getName());
 
@@ -141,10 +137,10 @@ public class DashScopeDocumentCloudReader implements DocumentReader {
             pollAndWaitForCompletion(context);
 
             // Step 4: Download parse result
-            String parseResult = downloadParseResult(context.getFileId());
+            String parseResult = client.downloadParseResult(context.getFileId());
 
             // Step 5: Convert to Document
-            Document document = toDocument(context.getFileId(), parseResult);
+            Document document = DashScopeDocumentCloudClient.toDocument(file, context.getFileId(), parseResult);
 
             logger.info("Document processing completed successfully. FileId: {}, FileName: {}",
                         context.getFileId(), file.getName());
@@ -182,27 +178,6 @@ public class DashScopeDocumentCloudReader implements DocumentReader {
         }
     }
 
-    /**
-     * Uploads file to Bailian cloud
-     */
-    private String uploadFile(String fileMD5) {
-        DashScopeApiSpec.UploadRequest uploadRequest = new DashScopeApiSpec.UploadRequest(
-                readerConfig.getCategoryId(),
-                file.getName(),
-                file.length(),
-                fileMD5
-        );
-
-        String fileId = dashScopeApi.upload(file, uploadRequest);
-
-        if (fileId == null || fileId.trim().isEmpty()) {
-            logger.error("Upload returned empty fileId for file: {}", file.getName());
-            throw new DashScopeDocumentException(ErrorCodeEnum.READER_PARSE_FILE_ERROR);
-        }
-
-        return fileId;
-    }
-
     /**
      * Polls and waits for file parsing completion
      *
@@ -220,7 +195,7 @@ public class DashScopeDocumentCloudReader implements DocumentReader {
 
         int tryCount = 0;
         long startTime = System.currentTimeMillis();
-        int maxRetryCount = getMaxRetryCount();
+        int maxRetryCount = client.getMaxRetryCount();
 
         // Initial wait before first query to allow server initialization
         long initialWaitMillis = clientConfig.getInitialWaitMillis();
@@ -233,7 +208,7 @@ public class DashScopeDocumentCloudReader implements DocumentReader {
 
             // Query file status
             ResponseEntity<DashScopeApiSpec.CommonResponse<DashScopeApiSpec.QueryFileResponseData>>
-                    response = queryFileStatus(context.getFileId());
+                    response = client.queryFileStatus(context.getFileId());
 
             // Validate response
             if (response == null || response.getBody() == null) {
@@ -294,88 +269,17 @@ public class DashScopeDocumentCloudReader implements DocumentReader {
                 .withFilePath(context.getFileMD5());
     }
 
-    /**
-     * Queries file parsing status
-     */
-    private ResponseEntity<DashScopeApiSpec.CommonResponse<
-            DashScopeApiSpec.QueryFileResponseData>> queryFileStatus(String fileId) {
-        return dashScopeApi.queryFileInfo(
-                readerConfig.getCategoryId(),
-                new DashScopeApiSpec.UploadRequest.QueryFileRequest(fileId)
-        );
-    }
-
-    /**
-     * Downloads parse result
-     */
-    private String downloadParseResult(String fileId) {
-        String parseResult = dashScopeApi.getFileParseResult(
-                readerConfig.getCategoryId(),
-                new DashScopeApiSpec.UploadRequest.QueryFileRequest(fileId)
-        );
-
-        if (parseResult == null || parseResult.trim().isEmpty()) {
-            logger.warn("Downloaded empty parse result for fileId: {}", fileId);
-            return "";
-        }
-
-        return parseResult;
-    }
-
     /**
      * Waits before retry
      *
      * <p>Supports exponential backoff strategy to reduce API call frequency
      */
     private void waitBeforeNextRetry(int attemptCount) throws InterruptedException {
-        long delay = calculateRetryDelay(attemptCount);
+        long delay = client.calculateRetryDelay(attemptCount);
         logger.debug("Waiting {}ms before next attempt", delay);
         Thread.sleep(delay);
     }
 
-    /**
-     * Calculates retry delay
-     *
-     * <p>Can choose fixed delay or exponential backoff strategy based on configuration
-     */
-    private long calculateRetryDelay(int attemptCount) {
-        // If exponential backoff is enabled in config
-        if (clientConfig.isUseExponentialBackoff()) {
-            long baseDelay = clientConfig.getRetryIntervalMillis();
-            double multiplier = clientConfig.getBackoffMultiplier();
-            long maxDelay = clientConfig.getMaxRetryIntervalMillis();
-
-            long delay = (long) (baseDelay * Math.pow(multiplier, attemptCount));
-            return Math.min(delay, maxDelay);
-        }
-
-        // Default fixed delay
-        return clientConfig.getRetryIntervalMillis();
-    }
-
-    /**
-     * Gets maximum retry count
-     */
-    private int getMaxRetryCount() {
-        // Use configured value if set, otherwise use default
-        return clientConfig.getMaxRetryAttempts() > 0
-                ? clientConfig.getMaxRetryAttempts()
-                : DashScopeApiConstants.MAX_TRY_COUNT;
-    }
-
-    /**
-     * Converts to Document object
-     */
-    private Document toDocument(String fileId, String parseResultText) {
-        Map<String, Object> metaData = new HashMap<>();
-        metaData.put("parse_fmt_type", "DASHSCOPE_DOCMIND");
-        metaData.put("file_id", fileId);
-        metaData.put("file_name", file.getName());
-        metaData.put("file_size", file.length());
-
-        return new Document(fileId, parseResultText, metaData);
-    }
-
     /**
      * Closes resource quietly
      */
@@ -25,8 +25,21 @@ import com.alibaba.cloud.ai.model.RerankOptions;
 import com.alibaba.cloud.ai.model.RerankRequest;
 import com.alibaba.cloud.ai.model.RerankResponse;
 import com.alibaba.cloud.ai.model.RerankResponseMetadata;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
@@ -36,10 +49,19 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
 
 /**
  * Title DashScope rerank model.<br>
  * Description DashScope rerank model.<br>
+ * <p>
+ * Candidate lists larger than {@code shardSize} are split into shards that are scored
+ * concurrently (at most {@code maxConcurrentShards} requests in flight, the calling
+ * thread scoring one of them) and merged into one global ranking. Nothing blocks on a
+ * Reactor publisher, so the model can also be called from a Reactor thread. Since every
+ * shard only needs to return its own top n, the merged top n is exact. When
+ * {@code cacheSize} is positive, scores are kept in an LRU cache keyed on (model, query,
+ * document hash) so candidates seen in earlier calls are not scored again.
  *
  * @author yuanci.ytb
  * @since 1.0.0-M2
@@ -49,6 +71,17 @@ public class DashScopeRerankModel implements RerankModel {
 
 	private static final Logger logger = LoggerFactory.getLogger(DashScopeRerankModel.class);
 
+	public static final int DEFAULT_SHARD_SIZE = 100;
+
+	public static final int DEFAULT_MAX_CONCURRENT_SHARDS = 4;
+
+	// shared by the models without their own executor, the threads are daemons
+	private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "dashscope-rerank-shard");
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	/** Low-level access to the DashScope API */
 	private final DashScopeApi dashScopeApi;
 
@@ -58,6 +91,21 @@ public class DashScopeRerankModel implements RerankModel {
 	/** rerank options */
 	private final DashScopeRerankOptions defaultOptions;
 
+	/** max number of documents sent in one rerank request */
+	private int shardSize = DEFAULT_SHARD_SIZE;
+
+	/** max number of shard requests in flight for one call */
+	private int maxConcurrentShards = DEFAULT_MAX_CONCURRENT_SHARDS;
+
+	/** executor the shard requests besides the caller's own run on */
+	private Executor executor = DEFAULT_EXECUTOR;
+
+	/** max number of cached scores, 0 disables the cache */
+	private int cacheSize;
+
+	@Nullable
+	private Map<ScoreKey, Double> scoreCache;
+
 	public DashScopeRerankModel(DashScopeApi dashScopeApi) {
 		this(dashScopeApi, DashScopeRerankOptions.builder().build());
 	}
@@ -83,6 +131,10 @@ public class DashScopeRerankModel implements RerankModel {
 		Assert.notNull(request.getInstructions(), "documents must not be null");
 
 		DashScopeRerankOptions requestOptions = mergeOptions(request.getOptions(), this.defaultOptions);
+		if (this.scoreCache != null || request.getInstructions().size() > this.shardSize) {
+			return shardedCall(request, requestOptions);
+		}
+
         DashScopeApiSpec.RerankRequest rerankRequest = createRequest(request, requestOptions);
 
 		ResponseEntity<DashScopeApiSpec.RerankResponse> responseEntity = this.retryTemplate
@@ -109,14 +161,202 @@ public class DashScopeRerankModel implements RerankModel {
 	}
 
 	private DashScopeApiSpec.RerankRequest createRequest(RerankRequest request, DashScopeRerankOptions requestOptions) {
-		List<String> docs = request.getInstructions().stream().map(Document::getText).toList();
+		return createRequest(request.getQuery(), request.getInstructions(), requestOptions);
+	}
+
+	private DashScopeApiSpec.RerankRequest createRequest(String query, List<Document> documents,
+			DashScopeRerankOptions requestOptions) {
+		List<String> docs = documents.stream().map(Document::getText).toList();
 
         DashScopeApiSpec.RerankRequestParameter parameter = new DashScopeApiSpec.RerankRequestParameter(
 				requestOptions.getTopN(), requestOptions.getReturnDocuments());
-		var input = new DashScopeApiSpec.RerankRequestInput(request.getQuery(), docs);
+		var input = new DashScopeApiSpec.RerankRequestInput(query, docs);
 		return new DashScopeApiSpec.RerankRequest(requestOptions.getModel(), input, parameter);
 	}
 
+	/**
+	 * Rerank with cached scores and concurrently scored shards, then merge everything
+	 * into one ranking truncated to top n.
+	 */
+	private RerankResponse shardedCall(RerankRequest request, DashScopeRerankOptions requestOptions) {
+		String query = request.getQuery();
+		List<Document> documents = request.getInstructions();
+
+		List<DocumentWithScore> scored = new ArrayList<>(documents.size());
+		List<Document> pending = new ArrayList<>(documents.size());
+		List<ScoreKey> pendingKeys = new ArrayList<>(documents.size());
+		int cacheHits = 0;
+		for (Document document : documents) {
+			ScoreKey key = this.scoreCache != null ? ScoreKey.of(requestOptions.getModel(), query, document) : null;
+			Double score = key != null ? this.scoreCache.get(key) : null;
+			if (score != null) {
+				scored.add(DocumentWithScore.builder().withScore(score).withDocument(document).build());
+				cacheHits++;
+			}
+			else {
+				pending.add(document);
+				pendingKeys.add(key);
+			}
+		}
+
+		List<Shard> shards = new ArrayList<>();
+		for (int from = 0; from < pending.size(); from += this.shardSize) {
+			int to = Math.min(from + this.shardSize, pending.size());
+			shards.add(new Shard(pending.subList(from, to), pendingKeys.subList(from, to)));
+		}
+
+		List<ShardResult> shardResults = rerankShards(query, shards, requestOptions);
+
+		List<DashScopeApiSpec.TokenUsage> usages = new ArrayList<>();
+		for (ShardResult shardResult : shardResults) {
+			scored.addAll(shardResult.documents());
+			if (shardResult.usage() != null) {
+				usages.add(shardResult.usage());
+			}
+		}
+
+		scored.sort(Comparator.comparing(DocumentWithScore::getScore, Comparator.nullsLast(Comparator.reverseOrder())));
+		Integer topN = requestOptions.getTopN();
+		List<DocumentWithScore> results = topN != null && topN >= 0 && scored.size() > topN
+				? List.copyOf(scored.subList(0, topN)) : scored;
+
+		logger.debug("Reranked {} documents in {} shards, {} cache hits", documents.size(), shards.size(), cacheHits);
+		var metadata = new RerankResponseMetadata(DashScopeAiUsage.from(sumUsage(usages)),
+				Map.of("shards", shards.size(), "cacheHits", cacheHits));
+		return new RerankResponse(results, metadata);
+	}
+
+	/**
+	 * Score the shards with at most {@code maxConcurrentShards} workers, each taking the
+	 * next unscored shard until none is left. The calling thread is one of the workers,
+	 * the others run on the executor and are joined.
+	 */
+	private List<ShardResult> rerankShards(String query, List<Shard> shards, DashScopeRerankOptions requestOptions) {
+		ShardResult[] results = new ShardResult[shards.size()];
+		AtomicInteger nextShard = new AtomicInteger();
+		Runnable worker = () -> {
+			for (int i = nextShard.getAndIncrement(); i < results.length; i = nextShard.getAndIncrement()) {
+				try {
+					results[i] = rerankShard(query, shards.get(i), requestOptions);
+				}
+				catch (RuntimeException ex) {
+					// the call fails anyway, leave the remaining shards unscored
+					nextShard.set(results.length);
+					throw ex;
+				}
+			}
+		};
+
+		int workers = Math.min(this.maxConcurrentShards, shards.size());
+		List<CompletableFuture<Void>> helpers = new ArrayList<>(Math.max(workers - 1, 0));
+		for (int i = 1; i < workers; i++) {
+			helpers.add(CompletableFuture.runAsync(worker, this.executor));
+		}
+		try {
+			worker.run();
+			CompletableFuture.allOf(helpers.toArray(CompletableFuture[]::new)).join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+		// the join publishes the results written by the helpers
+		return Arrays.asList(results);
+	}
+
+	private ShardResult rerankShard(String query, Shard shard, DashScopeRerankOptions requestOptions) {
+		DashScopeApiSpec.RerankRequest rerankRequest = createRequest(query, shard.documents(), requestOptions);
+		ResponseEntity<DashScopeApiSpec.RerankResponse> responseEntity = this.retryTemplate
+			.execute(ctx -> this.dashScopeApi.rerankEntity(rerankRequest));
+
+		var response = responseEntity.getBody();
+		if (response == null || response.output() == null || response.output().results() == null) {
+			logger.warn("No rerank returned for shard of {} documents, query: {}", shard.documents().size(), query);
+			return new ShardResult(List.of(), null);
+		}
+
+		Map<ScoreKey, Double> cache = this.scoreCache;
+		List<DocumentWithScore> documents = new ArrayList<>(response.output().results().size());
+		for (DashScopeApiSpec.RerankResponseOutputResult data : response.output().results()) {
+			ScoreKey key = shard.keys().get(data.index());
+			if (cache != null && key != null && data.relevanceScore() != null) {
+				cache.put(key, data.relevanceScore());
+			}
+			documents.add(DocumentWithScore.builder()
+				.withScore(data.relevanceScore())
+				.withDocument(shard.documents().get(data.index()))
+				.build());
+		}
+		return new ShardResult(documents, response.usage());
+	}
+
+	private static DashScopeApiSpec.TokenUsage sumUsage(List<DashScopeApiSpec.TokenUsage> usages) {
+		int outputTokens = 0;
+		int inputTokens = 0;
+		int totalTokens = 0;
+		for (DashScopeApiSpec.TokenUsage usage : usages) {
+			outputTokens += usage.outputTokens() != null ? usage.outputTokens() : 0;
+			inputTokens += usage.inputTokens() != null ? usage.inputTokens() : 0;
+			totalTokens += usage.totalTokens() != null ? usage.totalTokens()
+					: (usage.inputTokens() != null ? usage.inputTokens() : 0)
+							+ (usage.outputTokens() != null ? usage.outputTokens() : 0);
+		}
+		return new DashScopeApiSpec.TokenUsage(outputTokens, inputTokens, totalTokens, null, null, null, null, null,
+				null, null);
+	}
+
+	public void setShardSize(int shardSize) {
+		Assert.isTrue(shardSize > 0, "shardSize must be greater than 0");
+		this.shardSize = shardSize;
+	}
+
+	public void setMaxConcurrentShards(int maxConcurrentShards) {
+		Assert.isTrue(maxConcurrentShards > 0, "maxConcurrentShards must be greater than 0");
+		this.maxConcurrentShards = maxConcurrentShards;
+	}
+
+	/**
+	 * Sets the executor the shard requests besides the caller's own run on.
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "executor must not be null");
+		this.executor = executor;
+	}
+
+	/**
+	 * Sets the max number of cached scores, {@code 0} disables the cache.
+	 */
+	public void setCacheSize(int cacheSize) {
+		Assert.isTrue(cacheSize >= 0, "cacheSize must not be negative");
+		this.cacheSize = cacheSize;
+		this.scoreCache = cacheSize > 0 ? Collections.synchronizedMap(new LinkedHashMap<ScoreKey, Double>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ScoreKey, Double> eldest) {
+				return size() > cacheSize;
+			}
+		}) : null;
+	}
+
+	/**
+	 * Cache key of a relevance score, the document is identified by the md5 of its text.
+	 */
+	private record ScoreKey(String model, String query, String documentHash) {
+
+		static ScoreKey of(String model, String query, Document document) {
+			String text = Objects.requireNonNullElse(document.getText(), "");
+			return new ScoreKey(model, query, DigestUtils.md5DigestAsHex(text.getBytes(StandardCharsets.UTF_8)));
+		}
+
+	}
+
+	private record Shard(List<Document> documents, List<ScoreKey> keys) {
+	}
+
+	private record ShardResult(List<DocumentWithScore> documents, @Nullable DashScopeApiSpec.TokenUsage usage) {
+	}
+
 	/**
 	 * Merge runtime and default {@link RerankOptions} to compute the final options to use
 	 * in the request.
@@ -162,6 +402,14 @@ public class DashScopeRerankModel implements RerankModel {
 
         private RetryTemplate retryTemplate = RetryUtils.DEFAULT_RETRY_TEMPLATE;
 
+        private int shardSize = DEFAULT_SHARD_SIZE;
+
+        private int maxConcurrentShards = DEFAULT_MAX_CONCURRENT_SHARDS;
+
+        private Executor executor = DEFAULT_EXECUTOR;
+
+        private int cacheSize;
+
         private Builder() {
         }
 
@@ -169,6 +417,10 @@ public class DashScopeRerankModel implements RerankModel {
             this.dashScopeApi = rerankModel.dashScopeApi;
             this.defaultOptions = rerankModel.defaultOptions;
             this.retryTemplate = rerankModel.retryTemplate;
+            this.shardSize = rerankModel.shardSize;
+            this.maxConcurrentShards = rerankModel.maxConcurrentShards;
+            this.executor = rerankModel.executor;
+            this.cacheSize = rerankModel.cacheSize;
         }
 
         public Builder dashScopeApi(DashScopeApi dashscopeApi) {
@@ -186,8 +438,34 @@ public class DashScopeRerankModel implements RerankModel {
             return this;
         }
 
+        public Builder shardSize(int shardSize) {
+            this.shardSize = shardSize;
+            return this;
+        }
+
+        public Builder maxConcurrentShards(int maxConcurrentShards) {
+            this.maxConcurrentShards = maxConcurrentShards;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder cacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
         public DashScopeRerankModel build() {
-            return new DashScopeRerankModel(this.dashScopeApi, this.defaultOptions, this.retryTemplate);
+            DashScopeRerankModel model = new DashScopeRerankModel(this.dashScopeApi, this.defaultOptions,
+                    this.retryTemplate);
+            model.setShardSize(this.shardSize);
+            model.setMaxConcurrentShards(this.maxConcurrentShards);
+            model.setExecutor(this.executor);
+            model.setCacheSize(this.cacheSize);
+            return model;
         }
     }
 
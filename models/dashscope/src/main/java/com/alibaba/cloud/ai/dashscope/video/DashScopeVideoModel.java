@@ -17,6 +17,7 @@
 package com.alibaba.cloud.ai.dashscope.video;
 
 import com.alibaba.cloud.ai.dashscope.api.DashScopeVideoApi;
+import com.alibaba.cloud.ai.dashscope.common.DashScopeAsyncTaskPoller;
 import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec;
 import com.alibaba.cloud.ai.dashscope.spec.DashScopeModel;
 import org.slf4j.Logger;
@@ -27,7 +28,10 @@ import org.springframework.ai.retry.TransientAiException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -47,6 +51,13 @@ public class DashScopeVideoModel implements VideoModel {
 
     private final RetryTemplate retryTemplate;
 
+    /**
+     * Default deadline of {@link #callAsync(VideoPrompt)}.
+     */
+    public static final Duration DEFAULT_ASYNC_TIMEOUT = Duration.ofMinutes(15);
+
+    private DashScopeAsyncTaskPoller taskPoller = DashScopeAsyncTaskPoller.shared();
+
     public DashScopeVideoModel(DashScopeVideoApi dashScopeVideoApi) {
         this(dashScopeVideoApi, DashScopeVideoOptions.builder()
                 .model(DashScopeModel.VideoModel.WANX2_1_T2V_TURBO.getValue())
@@ -117,6 +128,52 @@ public class DashScopeVideoModel implements VideoModel {
         });
     }
 
+    /**
+     * Non-blocking variant of {@link #call(VideoPrompt)} using {@link #DEFAULT_ASYNC_TIMEOUT}.
+     */
+    public Mono<VideoResponse> callAsync(VideoPrompt prompt) {
+        return callAsync(prompt, DEFAULT_ASYNC_TIMEOUT);
+    }
+
+    /**
+     * Non-blocking variant of {@link #call(VideoPrompt)}. The task status is queried by
+     * the {@link DashScopeAsyncTaskPoller} instead of a thread sleeping between retries,
+     * the returned Mono fails with a {@link java.util.concurrent.TimeoutException} when
+     * the task is not finished within {@code timeout}.
+     */
+    public Mono<VideoResponse> callAsync(VideoPrompt prompt, Duration timeout) {
+
+        Assert.notNull(prompt, "Prompt must not be null");
+        Assert.notEmpty(prompt.getInstructions(), "Prompt instructions must not be empty");
+        Assert.notNull(timeout, "timeout must not be null");
+
+        return Mono.fromCallable(() -> submitGenTask(prompt))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(taskId -> {
+                    logger.debug("Video generation task submitted with taskId: {}", taskId);
+                    return this.taskPoller.poll(taskId, () -> getVideoTask(taskId), resp -> {
+                        String status = resp.getOutput().getTaskStatus();
+                        return "SUCCEEDED".equals(status) || "FAILED".equals(status);
+                    }, timeout);
+                })
+                .map(resp -> {
+                    if ("FAILED".equals(resp.getOutput().getTaskStatus())) {
+                        logger.error("Video generation task failed: {}", resp.getOutput());
+                        return new VideoResponse(null);
+                    }
+                    return toVideoResponse(resp);
+                })
+                .defaultIfEmpty(new VideoResponse(null));
+    }
+
+    /**
+     * Use the provided poller for {@link #callAsync(VideoPrompt)}.
+     */
+    public void setTaskPoller(DashScopeAsyncTaskPoller taskPoller) {
+        Assert.notNull(taskPoller, "taskPoller cannot be null");
+        this.taskPoller = taskPoller;
+    }
+
     /**
      * Generate video from text prompt with options.
      */
@@ -229,6 +286,8 @@ public class DashScopeVideoModel implements VideoModel {
 
         private RetryTemplate retryTemplate = RetryUtils.DEFAULT_RETRY_TEMPLATE;
 
+        private DashScopeAsyncTaskPoller taskPoller = DashScopeAsyncTaskPoller.shared();
+
         private Builder() {
         }
 
@@ -236,6 +295,7 @@ public class DashScopeVideoModel implements VideoModel {
             this.videoApi = videoModel.dashScopeVideoApi;
             this.defaultOptions = videoModel.defaultOptions;
             this.retryTemplate = videoModel.retryTemplate;
+            this.taskPoller = videoModel.taskPoller;
         }
 
         public Builder videoApi(DashScopeVideoApi videoApi) {
@@ -253,8 +313,15 @@ public class DashScopeVideoModel implements VideoModel {
             return this;
         }
 
+        public Builder taskPoller(DashScopeAsyncTaskPoller taskPoller) {
+            this.taskPoller = taskPoller;
+            return this;
+        }
+
         public DashScopeVideoModel build() {
-            return new DashScopeVideoModel(this.videoApi, this.defaultOptions, this.retryTemplate);
+            DashScopeVideoModel model = new DashScopeVideoModel(this.videoApi, this.defaultOptions, this.retryTemplate);
+            model.setTaskPoller(this.taskPoller);
+            return model;
         }
 
     }
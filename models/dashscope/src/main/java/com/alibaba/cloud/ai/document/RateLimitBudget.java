@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.document;
+
+import java.net.http.HttpHeaders;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import org.springframework.util.Assert;
+
+/**
+ * Tracks the remaining requests of the current rate-limit window of an HTTP API and
+ * admits at most as many concurrent requests as the budget allows.
+ * <p>
+ * The budget is read from the remaining-requests and reset-time headers of every
+ * response, whose names differ between APIs, and from {@code Retry-After}. Once the
+ * budget is exhausted, requests wait for the reset.
+ *
+ * @since 1.0.0
+ */
+public final class RateLimitBudget {
+
+	private final int maxConcurrency;
+
+	private final String remainingHeader;
+
+	private final String resetHeader;
+
+	// -1 while unknown
+	private long remaining = -1;
+
+	private long resetAtMillis;
+
+	private int inFlight;
+
+	/**
+	 * @param maxConcurrency maximum number of requests in flight
+	 * @param remainingHeader header carrying the requests left in the current window
+	 * @param resetHeader header carrying the end of the current window, in epoch seconds
+	 */
+	public RateLimitBudget(int maxConcurrency, String remainingHeader, String resetHeader) {
+		Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be greater than 0");
+		Assert.hasText(remainingHeader, "remainingHeader must not be empty");
+		Assert.hasText(resetHeader, "resetHeader must not be empty");
+		this.maxConcurrency = maxConcurrency;
+		this.remainingHeader = remainingHeader;
+		this.resetHeader = resetHeader;
+	}
+
+	/**
+	 * Wait until a request fits in the budget and count it as in flight.
+	 */
+	public synchronized void acquire() throws InterruptedException {
+		while (true) {
+			long now = System.currentTimeMillis();
+			if (remaining == 0 && now >= resetAtMillis) {
+				// a new window started
+				remaining = -1;
+			}
+			if (inFlight < maxConcurrency && (remaining < 0 || remaining > inFlight)) {
+				inFlight++;
+				return;
+			}
+			wait(remaining == 0 ? Math.max(1, resetAtMillis - now) : 0);
+		}
+	}
+
+	/**
+	 * Release a request admitted by {@link #acquire()} and update the budget.
+	 * @param headers headers of the response, null when the request failed
+	 */
+	public synchronized void release(HttpHeaders headers) {
+		inFlight--;
+		if (headers != null) {
+			long now = System.currentTimeMillis();
+			headers.firstValue(remainingHeader).map(RateLimitBudget::parseLong).ifPresent(value -> remaining = value);
+			headers.firstValue(resetHeader)
+				.map(RateLimitBudget::parseLong)
+				.ifPresent(value -> resetAtMillis = value * 1000);
+			Optional<String> retryAfter = headers.firstValue("Retry-After");
+			if (retryAfter.isPresent()) {
+				Long retryAtMillis = retryAtMillis(retryAfter.get(), now);
+				if (retryAtMillis != null) {
+					resetAtMillis = retryAtMillis;
+				}
+				// an unparsable value falls back to the rate limit reset time
+				if (resetAtMillis > now) {
+					remaining = 0;
+				}
+			}
+		}
+		notifyAll();
+	}
+
+	/**
+	 * Absolute retry time of a Retry-After value, which is either a number of seconds or
+	 * an HTTP-date (RFC 9110), null when it is neither.
+	 */
+	static Long retryAtMillis(String retryAfter, long now) {
+		Long seconds = parseLong(retryAfter);
+		if (seconds != null) {
+			return now + Math.max(0, seconds) * 1000;
+		}
+		try {
+			return ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+				.toInstant()
+				.toEpochMilli();
+		}
+		catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private static Long parseLong(String value) {
+		try {
+			return Long.parseLong(value.trim());
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+}
@@ -25,6 +25,7 @@ import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.model.Generation;
 import org.springframework.ai.chat.model.ToolContext;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.tool.DefaultToolCallingManager;
 import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.ai.model.tool.ToolCallingManager;
@@ -40,21 +41,25 @@ import org.springframework.ai.tool.observation.ToolCallingObservationConvention;
 import org.springframework.ai.tool.observation.ToolCallingObservationDocumentation;
 import org.springframework.ai.tool.resolution.DelegatingToolCallbackResolver;
 import org.springframework.ai.tool.resolution.ToolCallbackResolver;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
 
-public class DashScopeAsyncToolCallingManager implements ToolCallingManager {
+public class DashScopeAsyncToolCallingManager implements ToolCallingManager, DisposableBean {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultToolCallingManager.class);
 
@@ -84,10 +89,24 @@ public class DashScopeAsyncToolCallingManager implements ToolCallingManager {
 
     private ToolCallingObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
-    private ThreadPoolExecutor asyncToolCallingTaskExecutor = null;
+    private final ToolCallBulkheadExecutor toolCallExecutor;
+
+    private final Duration toolCallTimeout;
 
     public DashScopeAsyncToolCallingManager(ObservationRegistry observationRegistry, ToolCallbackResolver toolCallbackResolver,
                                    ToolExecutionExceptionProcessor toolExecutionExceptionProcessor, ThreadPoolExecutor taskExecutor) {
+        this(observationRegistry, toolCallbackResolver, toolExecutionExceptionProcessor, taskExecutor,
+                ToolCallBulkheadExecutor.DEFAULT_MAX_CONCURRENT_CALLS_PER_TOOL, null);
+    }
+
+    /**
+     * @param taskExecutor executor running the tool calls, {@code null} for virtual threads when available
+     * @param maxConcurrentCallsPerTool maximum number of running calls per tool, further calls of the tool are queued
+     * @param toolCallTimeout deadline of a tool call, {@code null} for none
+     */
+    public DashScopeAsyncToolCallingManager(ObservationRegistry observationRegistry, ToolCallbackResolver toolCallbackResolver,
+                                   ToolExecutionExceptionProcessor toolExecutionExceptionProcessor, Executor taskExecutor,
+                                   int maxConcurrentCallsPerTool, Duration toolCallTimeout) {
         Assert.notNull(observationRegistry, "observationRegistry cannot be null");
         Assert.notNull(toolCallbackResolver, "toolCallbackResolver cannot be null");
         Assert.notNull(toolExecutionExceptionProcessor, "toolCallExceptionConverter cannot be null");
@@ -95,7 +114,8 @@ public class DashScopeAsyncToolCallingManager implements ToolCallingManager {
         this.observationRegistry = observationRegistry;
         this.toolCallbackResolver = toolCallbackResolver;
         this.toolExecutionExceptionProcessor = toolExecutionExceptionProcessor;
-        this.asyncToolCallingTaskExecutor = taskExecutor;
+        this.toolCallExecutor = new ToolCallBulkheadExecutor(taskExecutor, maxConcurrentCallsPerTool, toolCallTimeout);
+        this.toolCallTimeout = toolCallTimeout;
     }
 
     @Override
@@ -184,23 +204,26 @@ public class DashScopeAsyncToolCallingManager implements ToolCallingManager {
     private InternalToolExecutionResult executeToolCall(Prompt prompt, AssistantMessage assistantMessage,
                                                         ToolContext toolContext) {
 
-        final List<ToolCallback> toolCallbacks = (prompt.getOptions() instanceof ToolCallingChatOptions toolCallingChatOptions)
-                ? toolCallingChatOptions.getToolCallbacks() : List.of();
+        final Map<String, ToolCallback> toolCallbacks = new HashMap<>();
+        if (prompt.getOptions() instanceof ToolCallingChatOptions toolCallingChatOptions) {
+            for (ToolCallback toolCallback : toolCallingChatOptions.getToolCallbacks()) {
+                toolCallbacks.putIfAbsent(toolCallback.getToolDefinition().name(), toolCallback);
+            }
+        }
 
         final Queue<Boolean> toolsReturnDirect = new ConcurrentLinkedDeque<>();
 
         List<CompletableFuture<ToolResponseMessage.ToolResponse>> futuresToolResponses = assistantMessage.getToolCalls()
                 .stream()
-                .map(toolCall -> CompletableFuture.supplyAsync(() -> {
+                .map(toolCall -> this.toolCallExecutor.submit(toolCall.name(), () -> {
                     logger.debug("Executing tool call: {}", toolCall.name());
 
                     String toolName = toolCall.name();
                     String toolInputArguments = toolCall.arguments();
 
-                    ToolCallback toolCallback = toolCallbacks.stream()
-                            .filter(tool -> toolName.equals(tool.getToolDefinition().name()))
-                            .findFirst()
-                            .orElseGet(() -> this.toolCallbackResolver.resolve(toolName));
+                    ToolCallback promptToolCallback = toolCallbacks.get(toolName);
+                    ToolCallback toolCallback = promptToolCallback != null ? promptToolCallback
+                            : this.toolCallbackResolver.resolve(toolName);
 
                     if (toolCallback == null) {
                         throw new IllegalStateException("No ToolCallback found for tool name: " + toolName);
@@ -234,7 +257,12 @@ public class DashScopeAsyncToolCallingManager implements ToolCallingManager {
 
                     return new ToolResponseMessage.ToolResponse(toolCall.id(), toolName,
                             toolCallResult != null ? toolCallResult : "");
-                }, this.asyncToolCallingTaskExecutor))
+                }, () -> {
+                    // the timeout result is meant for the model, never return it directly
+                    toolsReturnDirect.add(false);
+                    return new ToolResponseMessage.ToolResponse(toolCall.id(), toolCall.name(),
+                            timeoutResult(toolCall.name()));
+                }))
                 .toList();
 
         final List<ToolResponseMessage.ToolResponse> toolResponses = CompletableFuture
@@ -247,6 +275,33 @@ public class DashScopeAsyncToolCallingManager implements ToolCallingManager {
                 toolsReturnDirect.stream().allMatch(Boolean::booleanValue));
     }
 
+    /**
+     * Structured result of a tool call whose deadline expired, returned to the model in place of the tool output.
+     */
+    private String timeoutResult(String toolName) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("error", "TOOL_CALL_TIMEOUT");
+        result.put("tool", toolName);
+        result.put("timeoutMillis", this.toolCallTimeout.toMillis());
+        result.put("message", "The tool call did not complete in time and was cancelled.");
+        return ModelOptionsUtils.toJsonString(result);
+    }
+
+    /**
+     * Queueing statistics of the tool calls per tool name.
+     */
+    public Map<String, ToolCallBulkheadExecutor.ToolStats> getToolCallStats() {
+        return this.toolCallExecutor.getStats();
+    }
+
+    /**
+     * Shut down the tool call executor created when no task executor was given.
+     */
+    @Override
+    public void destroy() {
+        this.toolCallExecutor.close();
+    }
+
     private List<Message> buildConversationHistoryAfterToolExecution(List<Message> previousMessages,
                                                                      AssistantMessage assistantMessage, ToolResponseMessage toolResponseMessage) {
         List<Message> messages = new ArrayList<>(previousMessages);
@@ -274,7 +329,11 @@ public class DashScopeAsyncToolCallingManager implements ToolCallingManager {
 
         private ToolExecutionExceptionProcessor toolExecutionExceptionProcessor = DEFAULT_TOOL_EXECUTION_EXCEPTION_PROCESSOR;
 
-        private ThreadPoolExecutor taskExecutor;
+        private Executor taskExecutor;
+
+        private int maxConcurrentCallsPerTool = ToolCallBulkheadExecutor.DEFAULT_MAX_CONCURRENT_CALLS_PER_TOOL;
+
+        private Duration toolCallTimeout;
 
         private Builder() {
         }
@@ -295,14 +354,31 @@ public class DashScopeAsyncToolCallingManager implements ToolCallingManager {
             return this;
         }
 
-        public Builder taskExecutor(ThreadPoolExecutor taskExecutor) {
+        /**
+         * Executor running the tool calls, virtual threads when available if not set.
+         */
+        public Builder taskExecutor(Executor taskExecutor) {
             this.taskExecutor = taskExecutor;
             return this;
         }
 
+        public Builder maxConcurrentCallsPerTool(int maxConcurrentCallsPerTool) {
+            this.maxConcurrentCallsPerTool = maxConcurrentCallsPerTool;
+            return this;
+        }
+
+        /**
+         * Deadline of each tool call, a call exceeding it is cancelled and answered with a timeout result.
+         */
+        public Builder toolCallTimeout(Duration toolCallTimeout) {
+            this.toolCallTimeout = toolCallTimeout;
+            return this;
+        }
+
         public DashScopeAsyncToolCallingManager build() {
             return new DashScopeAsyncToolCallingManager(this.observationRegistry, this.toolCallbackResolver,
-                    this.toolExecutionExceptionProcessor, this.taskExecutor);
+                    this.toolExecutionExceptionProcessor, this.taskExecutor, this.maxConcurrentCallsPerTool,
+                    this.toolCallTimeout);
         }
 
     }
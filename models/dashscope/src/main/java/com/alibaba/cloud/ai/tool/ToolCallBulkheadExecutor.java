@@ -0,0 +1,314 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.tool;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Runs tool calls with a bulkhead per tool: at most {@code maxConcurrentCallsPerTool}
+ * calls of one tool run at a time, further calls wait in the tool's own queue without
+ * holding a thread, so a slow tool cannot starve the others. When a deadline is set, a
+ * call still queued or running when it expires is cancelled and completes with the
+ * timeout result instead.
+ */
+public class ToolCallBulkheadExecutor implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ToolCallBulkheadExecutor.class);
+
+	public static final int DEFAULT_MAX_CONCURRENT_CALLS_PER_TOOL = 16;
+
+	private final Executor executor;
+
+	// the default executor is created here and shut down by close()
+	private final ExecutorService ownedExecutor;
+
+	private final int maxConcurrentCallsPerTool;
+
+	private final Duration callTimeout;
+
+	// schedules the deadlines, null without a call timeout
+	private final ScheduledThreadPoolExecutor timeouts;
+
+	private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+	/**
+	 * @param executor executor running the calls, {@code null} for virtual threads when
+	 * the runtime supports them, a cached daemon thread pool otherwise
+	 * @param maxConcurrentCallsPerTool maximum number of running calls per tool
+	 * @param callTimeout deadline of a call from its submission, {@code null} or zero for
+	 * none
+	 */
+	public ToolCallBulkheadExecutor(Executor executor, int maxConcurrentCallsPerTool, Duration callTimeout) {
+		Assert.isTrue(maxConcurrentCallsPerTool > 0, "maxConcurrentCallsPerTool must be greater than 0");
+		this.ownedExecutor = executor != null ? null : defaultExecutor();
+		this.executor = executor != null ? executor : this.ownedExecutor;
+		this.maxConcurrentCallsPerTool = maxConcurrentCallsPerTool;
+		this.callTimeout = callTimeout != null && !callTimeout.isZero() && !callTimeout.isNegative() ? callTimeout
+				: null;
+		this.timeouts = this.callTimeout != null ? timeoutScheduler() : null;
+	}
+
+	/**
+	 * Submit a call of {@code toolName}.
+	 * @param task the call
+	 * @param timeoutResult result of the call when its deadline expires
+	 * @return the result of the call, the timeout result, or the failure of the call
+	 */
+	public <T> CompletableFuture<T> submit(String toolName, Supplier<T> task, Supplier<T> timeoutResult) {
+		Lane lane = lanes.computeIfAbsent(toolName, name -> new Lane());
+		Call<T> call = new Call<>(lane, task);
+		if (this.timeouts != null) {
+			ScheduledFuture<?> timeout = this.timeouts.schedule(() -> {
+				if (call.settled.compareAndSet(false, true)) {
+					lane.timedOut.incrementAndGet();
+					logger.warn("Tool call of '{}' timed out after {}", toolName, callTimeout);
+					lane.cancel(call);
+					call.result.complete(timeoutResult.get());
+				}
+			}, this.callTimeout.toNanos(), TimeUnit.NANOSECONDS);
+			// drop the deadline, and what it holds on to, as soon as the call is over
+			call.result.whenComplete((result, failure) -> timeout.cancel(false));
+		}
+		lane.submit(call);
+		return call.result;
+	}
+
+	/**
+	 * Queueing statistics per tool name
+	 */
+	public Map<String, ToolStats> getStats() {
+		Map<String, ToolStats> stats = new TreeMap<>();
+		lanes.forEach((toolName, lane) -> stats.put(toolName, lane.stats()));
+		return stats;
+	}
+
+	/**
+	 * Queueing statistics of one tool
+	 * @param running calls currently running
+	 * @param queued calls waiting for a free slot
+	 * @param completed calls that finished running, successfully or not
+	 * @param timedOut calls whose deadline expired
+	 * @param totalQueueWait sum of the time calls waited for a slot
+	 * @param maxQueueWait longest time a call waited for a slot
+	 */
+	public record ToolStats(int running, int queued, long completed, long timedOut, Duration totalQueueWait,
+			Duration maxQueueWait) {
+	}
+
+	/**
+	 * Number of deadlines still scheduled
+	 */
+	int pendingTimeouts() {
+		return this.timeouts != null ? this.timeouts.getQueue().size() : 0;
+	}
+
+	/**
+	 * Shut down the executor created when none was given, running calls complete and
+	 * calls submitted afterwards fail. A given executor is left to its owner. The
+	 * deadlines of the calls still running keep applying.
+	 */
+	@Override
+	public void close() {
+		if (this.ownedExecutor != null) {
+			this.ownedExecutor.shutdown();
+		}
+		if (this.timeouts != null) {
+			this.timeouts.shutdown();
+		}
+	}
+
+	private static ScheduledThreadPoolExecutor timeoutScheduler() {
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "tool-call-timeout");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// a cancelled deadline leaves the queue at once instead of when it would expire
+		scheduler.setRemoveOnCancelPolicy(true);
+		return scheduler;
+	}
+
+	private static ExecutorService defaultExecutor() {
+		try {
+			// virtual threads are only available from Java 21
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		}
+		catch (ReflectiveOperationException ex) {
+			return Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable, "tool-call");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	private final class Lane {
+
+		private final ArrayDeque<Call<?>> queue = new ArrayDeque<>();
+
+		private int running;
+
+		private final AtomicLong completed = new AtomicLong();
+
+		private final AtomicLong timedOut = new AtomicLong();
+
+		private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+
+		private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+		void submit(Call<?> call) {
+			synchronized (this) {
+				if (this.running >= maxConcurrentCallsPerTool) {
+					this.queue.add(call);
+					return;
+				}
+				this.running++;
+			}
+			start(call);
+		}
+
+		private void start(Call<?> call) {
+			long waited = System.nanoTime() - call.submittedAt;
+			this.totalQueueWaitNanos.addAndGet(waited);
+			this.maxQueueWaitNanos.accumulateAndGet(waited, Math::max);
+			try {
+				executor.execute(call.task);
+			}
+			catch (RuntimeException ex) {
+				call.release();
+				if (call.settled.compareAndSet(false, true)) {
+					call.result.completeExceptionally(ex);
+				}
+			}
+		}
+
+		void release() {
+			Call<?> next;
+			synchronized (this) {
+				next = this.queue.poll();
+				if (next == null) {
+					this.running--;
+				}
+			}
+			if (next != null) {
+				start(next);
+			}
+		}
+
+		void cancel(Call<?> call) {
+			boolean queued;
+			synchronized (this) {
+				queued = this.queue.remove(call);
+			}
+			if (!queued) {
+				call.task.cancel(true);
+			}
+		}
+
+		synchronized ToolStats stats() {
+			return new ToolStats(this.running, this.queue.size(), this.completed.get(), this.timedOut.get(),
+					Duration.ofNanos(this.totalQueueWaitNanos.get()), Duration.ofNanos(this.maxQueueWaitNanos.get()));
+		}
+
+	}
+
+	private static final class Call<T> {
+
+		private final Lane lane;
+
+		private final long submittedAt = System.nanoTime();
+
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+
+		private final FutureTask<Void> task;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		// set by whichever of the call and its deadline finishes first
+		private final AtomicBoolean settled = new AtomicBoolean();
+
+		// claimed by the task when it starts or by its cancellation, whichever comes
+		// first, the claimer releases the slot
+		private final AtomicBoolean started = new AtomicBoolean();
+
+		Call(Lane lane, Supplier<T> supplier) {
+			this.lane = lane;
+			this.task = new FutureTask<>(() -> {
+				if (!this.started.compareAndSet(false, true)) {
+					return null;
+				}
+				T value = null;
+				Throwable failure = null;
+				try {
+					value = supplier.get();
+				}
+				catch (Throwable ex) {
+					failure = ex;
+				}
+				// account for the call before its caller sees the result
+				lane.completed.incrementAndGet();
+				release();
+				if (this.settled.compareAndSet(false, true)) {
+					if (failure != null) {
+						this.result.completeExceptionally(failure);
+					}
+					else {
+						this.result.complete(value);
+					}
+				}
+				return null;
+			}) {
+				@Override
+				protected void done() {
+					// a call cancelled before it started never releases its slot itself
+					if (isCancelled() && Call.this.started.compareAndSet(false, true)) {
+						release();
+					}
+				}
+			};
+		}
+
+		void release() {
+			if (this.released.compareAndSet(false, true)) {
+				this.lane.release();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.dashscope.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test cases for DashScopeAsyncTaskPoller, driven by virtual time.
+ *
+ * @since 1.1.2
+ */
+class DashScopeAsyncTaskPollerTests {
+
+	private VirtualTimeScheduler timer;
+
+	private DashScopeAsyncTaskPoller poller;
+
+	@BeforeEach
+	void setUp() {
+		timer = VirtualTimeScheduler.create();
+		poller = DashScopeAsyncTaskPoller.builder()
+			.tickInterval(Duration.ofMillis(100))
+			.pollInterval(Duration.ofSeconds(1))
+			.maxPollInterval(Duration.ofSeconds(4))
+			.timerScheduler(timer)
+			.ioScheduler(Schedulers.immediate())
+			.build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		poller.dispose();
+		timer.dispose();
+	}
+
+	@Test
+	void testManyTasksCompleteIndependently() {
+		int taskCount = 500;
+		List<AtomicInteger> queries = new ArrayList<>();
+		List<AtomicReference<String>> results = new ArrayList<>();
+		for (int i = 0; i < taskCount; i++) {
+			int requiredQueries = i % 5 + 1;
+			AtomicInteger counter = new AtomicInteger();
+			AtomicReference<String> result = new AtomicReference<>();
+			queries.add(counter);
+			results.add(result);
+			poller.poll("task-" + i, () -> counter.incrementAndGet() >= requiredQueries ? "SUCCEEDED" : "RUNNING",
+					"SUCCEEDED"::equals, Duration.ofMinutes(5))
+				.subscribe(result::set);
+		}
+		assertThat(poller.pendingTasks()).isEqualTo(taskCount);
+
+		timer.advanceTimeBy(Duration.ofMinutes(1));
+
+		for (int i = 0; i < taskCount; i++) {
+			assertThat(results.get(i).get()).isEqualTo("SUCCEEDED");
+			assertThat(queries.get(i).get()).isEqualTo(i % 5 + 1);
+		}
+		assertThat(poller.pendingTasks()).isZero();
+	}
+
+	@Test
+	void testBackoffBetweenQueries() {
+		AtomicInteger queries = new AtomicInteger();
+		poller.poll("task", () -> {
+			queries.incrementAndGet();
+			return "RUNNING";
+		}, "SUCCEEDED"::equals, Duration.ofMinutes(5)).subscribe();
+
+		// first query after 1s, then 1.5s, 2.25s, 3.375s and capped at 4s
+		timer.advanceTimeBy(Duration.ofMillis(900));
+		assertThat(queries.get()).isZero();
+		timer.advanceTimeBy(Duration.ofMillis(200));
+		assertThat(queries.get()).isEqualTo(1);
+		timer.advanceTimeBy(Duration.ofSeconds(60));
+		assertThat(queries.get()).isBetween(15, 20);
+	}
+
+	@Test
+	void testTimeout() {
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		poller.poll("task", () -> "RUNNING", "SUCCEEDED"::equals, Duration.ofSeconds(10))
+			.subscribe(value -> {
+			}, error::set);
+
+		timer.advanceTimeBy(Duration.ofSeconds(9));
+		assertThat(error.get()).isNull();
+
+		timer.advanceTimeBy(Duration.ofSeconds(2));
+		assertThat(error.get()).isInstanceOf(TimeoutException.class);
+		assertThat(poller.pendingTasks()).isZero();
+	}
+
+	@Test
+	void testFailedQueriesAreRetried() {
+		AtomicInteger queries = new AtomicInteger();
+		AtomicReference<String> result = new AtomicReference<>();
+		poller.poll("task", () -> {
+			if (queries.incrementAndGet() < 3) {
+				throw new IllegalStateException("connection reset");
+			}
+			return "SUCCEEDED";
+		}, "SUCCEEDED"::equals, Duration.ofMinutes(1)).subscribe(result::set);
+
+		timer.advanceTimeBy(Duration.ofSeconds(30));
+
+		assertThat(result.get()).isEqualTo("SUCCEEDED");
+		assertThat(queries.get()).isEqualTo(3);
+	}
+
+	@Test
+	void testCancelStopsPolling() {
+		AtomicInteger queries = new AtomicInteger();
+		Disposable subscription = poller.poll("task", () -> {
+			queries.incrementAndGet();
+			return "RUNNING";
+		}, "SUCCEEDED"::equals, Duration.ofMinutes(5)).subscribe();
+
+		timer.advanceTimeBy(Duration.ofSeconds(2));
+		int queriesBeforeCancel = queries.get();
+		assertThat(queriesBeforeCancel).isPositive();
+
+		subscription.dispose();
+		assertThat(poller.pendingTasks()).isZero();
+
+		timer.advanceTimeBy(Duration.ofMinutes(1));
+		assertThat(queries.get()).isEqualTo(queriesBeforeCancel);
+	}
+
+	@Test
+	void testTaskIsRegisteredOnSubscription() {
+		var mono = poller.poll("task", () -> "SUCCEEDED", "SUCCEEDED"::equals, Duration.ofMinutes(1));
+		assertThat(poller.pendingTasks()).isZero();
+
+		mono.subscribe();
+		assertThat(poller.pendingTasks()).isEqualTo(1);
+	}
+
+}
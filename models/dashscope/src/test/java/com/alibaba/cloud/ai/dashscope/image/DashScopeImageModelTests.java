@@ -21,14 +21,17 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import com.alibaba.cloud.ai.dashscope.api.DashScopeImageApi;
+import com.alibaba.cloud.ai.dashscope.common.DashScopeAsyncTaskPoller;
 import com.alibaba.cloud.ai.dashscope.image.DashScopeImageModel.Builder;
 import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.DashScopeImageAsyncResponse;
 import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.DashScopeImageAsyncResponse.DashScopeImageAsyncResponseOutput;
 import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.DashScopeImageAsyncResponse.DashScopeImageAsyncResponseResult;
 import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.DashScopeImageAsyncResponse.DashScopeImageAsyncResponseUsage;
 import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -37,6 +40,7 @@ import org.springframework.ai.image.ImageResponse;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
+import reactor.test.StepVerifier;
 
 /**
  * Test cases for DashScopeImageModel. Tests cover basic image generation, custom options,
@@ -145,6 +149,38 @@ class DashScopeImageModelTests {
 			.hasMessageContaining("Prompt");
 	}
 
+	@Test
+	void testCallAsync() {
+		// Test non-blocking image generation driven by the async task poller
+		mockSuccessfulImageGeneration();
+		imageModel.setTaskPoller(fastPoller());
+
+		ImageResponse response = imageModel.callAsync(new ImagePrompt(TEST_PROMPT)).block(Duration.ofSeconds(10));
+
+		assertThat(response).isNotNull();
+		assertThat(response.getResults()).hasSize(1);
+		assertThat(response.getResult().getOutput().getUrl()).isEqualTo(TEST_IMAGE_URL);
+	}
+
+	@Test
+	void testCallAsyncTimeout() {
+		// Test that a task still pending at the deadline fails with a TimeoutException
+		mockTimeoutImageGeneration();
+		imageModel.setTaskPoller(fastPoller());
+
+		StepVerifier.create(imageModel.callAsync(new ImagePrompt(TEST_PROMPT), Duration.ofMillis(200)))
+			.expectError(TimeoutException.class)
+			.verify(Duration.ofSeconds(10));
+	}
+
+	private DashScopeAsyncTaskPoller fastPoller() {
+		return DashScopeAsyncTaskPoller.builder()
+			.tickInterval(Duration.ofMillis(10))
+			.pollInterval(Duration.ofMillis(10))
+			.maxPollInterval(Duration.ofMillis(20))
+			.build();
+	}
+
 	private void mockSuccessfulImageGeneration() {
 		// Mock successful task submission
         DashScopeImageAsyncResponse submitResponse = new DashScopeImageAsyncResponse(TEST_REQUEST_ID,
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.dashscope.rag;
+
+import com.alibaba.cloud.ai.dashscope.api.DashScopeApi;
+import com.alibaba.cloud.ai.dashscope.rag.exception.DashScopeDocumentException;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.document.Document;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test cases for DashScopeDocumentCloudBatchReader against a stubbed DashScopeApi with
+ * simulated parse delays.
+ */
+class DashScopeDocumentCloudBatchReaderTests {
+
+    private static final int FILE_COUNT = 50;
+
+    private static final long MAX_PARSE_DELAY_MILLIS = 300L;
+
+    @TempDir
+    Path tempDir;
+
+    private DashScopeApi dashScopeApi;
+
+    private DashScopeDocumentCloudReaderConfig config;
+
+    private final Map<String, Long> readyAt = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        dashScopeApi = mock(DashScopeApi.class);
+        config = new DashScopeDocumentCloudReaderConfig();
+        config.setInitialWaitMillis(0L);
+        config.setRetryIntervalMillis(20L);
+        config.setUseExponentialBackoff(false);
+        config.setMaxRetryAttempts(1000);
+    }
+
+    @Test
+    void parseJobsOfManyFilesArePendingConcurrently() throws IOException {
+        List<String> filePaths = createFiles(FILE_COUNT);
+        AtomicInteger uploads = new AtomicInteger();
+        ConcurrencyCounter activeUploads = new ConcurrencyCounter();
+        ConcurrencyCounter pendingParses = new ConcurrencyCounter();
+        when(dashScopeApi.upload(any(File.class), any(DashScopeApiSpec.UploadRequest.class))).thenAnswer(invocation -> {
+            activeUploads.enter();
+            try {
+                int index = uploads.getAndIncrement();
+                String fileId = "file-" + index;
+                // parse delays spread between 100ms and MAX_PARSE_DELAY_MILLIS
+                readyAt.put(fileId, System.currentTimeMillis() + 100 + (index * 37L) % (MAX_PARSE_DELAY_MILLIS - 100));
+                pendingParses.enter();
+                return fileId;
+            }
+            finally {
+                activeUploads.exit();
+            }
+        });
+        when(dashScopeApi.queryFileInfo(anyString(), any())).thenAnswer(invocation -> {
+            DashScopeApiSpec.UploadRequest.QueryFileRequest request = invocation.getArgument(1);
+            boolean ready = System.currentTimeMillis() >= readyAt.get(request.fileId());
+            return statusResponse(request.fileId(), ready ? "PARSE_SUCCESS" : "PARSING");
+        });
+        when(dashScopeApi.getFileParseResult(anyString(), any())).thenAnswer(invocation -> {
+            DashScopeApiSpec.UploadRequest.QueryFileRequest request = invocation.getArgument(1);
+            pendingParses.exit();
+            return "content of " + request.fileId();
+        });
+
+        DashScopeDocumentCloudBatchReader reader = DashScopeDocumentCloudBatchReader.builder()
+                .filePaths(filePaths)
+                .dashScopeApi(dashScopeApi)
+                .options(new DashScopeDocumentCloudReaderOptions("test-category"))
+                .config(config)
+                .build();
+
+        List<Document> documents = reader.get();
+
+        assertThat(documents).hasSize(FILE_COUNT);
+        assertThat(documents).allSatisfy(document -> assertThat(document.getText())
+                .isEqualTo("content of " + document.getId()));
+        // sequential processing never has more than one file waiting for its parse result
+        assertThat(pendingParses.max()).isGreaterThan(1);
+        assertThat(activeUploads.max())
+                .isLessThanOrEqualTo(DashScopeDocumentCloudBatchReader.DEFAULT_UPLOAD_CONCURRENCY);
+    }
+
+    @Test
+    void failedParseTerminatesStreamWithFileContext() throws IOException {
+        List<String> filePaths = createFiles(1);
+        when(dashScopeApi.upload(any(File.class), any(DashScopeApiSpec.UploadRequest.class))).thenReturn("file-0");
+        when(dashScopeApi.queryFileInfo(anyString(), any()))
+                .thenReturn(statusResponse("file-0", "PARSING"))
+                .thenReturn(statusResponse("file-0", "PARSE_FAILED"));
+
+        DashScopeDocumentCloudBatchReader reader = DashScopeDocumentCloudBatchReader.builder()
+                .filePaths(filePaths)
+                .dashScopeApi(dashScopeApi)
+                .config(config)
+                .build();
+
+        assertThatThrownBy(reader::get).isInstanceOf(DashScopeDocumentException.class)
+                .satisfies(e -> assertThat(((DashScopeDocumentException) e).getFileId()).isEqualTo("file-0"));
+    }
+
+    /**
+     * Tracks the highest number of calls in progress at the same time.
+     */
+    private static final class ConcurrencyCounter {
+
+        private final AtomicInteger current = new AtomicInteger();
+
+        private final AtomicInteger max = new AtomicInteger();
+
+        void enter() {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+        }
+
+        void exit() {
+            current.decrementAndGet();
+        }
+
+        int max() {
+            return max.get();
+        }
+
+    }
+
+    private List<String> createFiles(int count) throws IOException {
+        List<String> filePaths = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Path file = tempDir.resolve("file-" + i + ".txt");
+            Files.writeString(file, "content " + i);
+            filePaths.add(file.toAbsolutePath().toString());
+        }
+        return filePaths;
+    }
+
+    private static ResponseEntity<DashScopeApiSpec.CommonResponse<DashScopeApiSpec.QueryFileResponseData>> statusResponse(
+            String fileId, String status) {
+        DashScopeApiSpec.QueryFileResponseData data = new DashScopeApiSpec.QueryFileResponseData("test-category",
+                fileId, fileId + ".txt", "txt", 10L, status, "2024-01-01 00:00:00");
+        return new ResponseEntity<>(new DashScopeApiSpec.CommonResponse<>("200", "success", data), HttpStatus.OK);
+    }
+
+}
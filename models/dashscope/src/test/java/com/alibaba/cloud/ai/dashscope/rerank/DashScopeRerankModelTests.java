@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import com.alibaba.cloud.ai.dashscope.api.DashScopeApi;
+import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec;
 import com.alibaba.cloud.ai.dashscope.rerank.DashScopeRerankModel.Builder;
 import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.RerankResponse;
 import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.RerankResponseOutput;
@@ -28,10 +29,15 @@ import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.RerankResponseOutput
 import com.alibaba.cloud.ai.dashscope.spec.DashScopeApiSpec.TokenUsage;
 import com.alibaba.cloud.ai.document.DocumentWithScore;
 import com.alibaba.cloud.ai.model.RerankRequest;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +46,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Test cases for DashScopeRerankModel. Tests cover constructor validation, reranking
@@ -216,6 +224,117 @@ class DashScopeRerankModelTests {
 		assertThat(response.getResults().get(0).getScore()).isEqualTo(TEST_SCORE);
 	}
 
+	/**
+	 * Test sharded reranking. Verifies that large candidate lists are split into shards
+	 * and merged into one global ranking.
+	 */
+	@Test
+	void testShardedRerank() {
+		List<Integer> shardSizes = new CopyOnWriteArrayList<>();
+		stubRerankEndpoint(shardSizes);
+
+		DashScopeRerankModel model = DashScopeRerankModel.builder()
+			.dashScopeApi(dashScopeApi)
+			.defaultOptions(defaultOptions)
+			.shardSize(100)
+			.maxConcurrentShards(3)
+			.executor(Executors.newFixedThreadPool(2))
+			.build();
+
+		List<Document> documents = IntStream.range(0, 250).mapToObj(i -> new Document("doc-" + i)).toList();
+		com.alibaba.cloud.ai.model.RerankResponse response = model.call(new RerankRequest(TEST_QUERY, documents));
+
+		assertThat(shardSizes).containsExactlyInAnyOrder(100, 100, 50);
+		assertThat(response.getResults()).extracting(result -> result.getOutput().getText())
+			.containsExactly("doc-249", "doc-248", "doc-247");
+		assertThat(response.getMetadata().getUsage().getPromptTokens()).isEqualTo(250);
+	}
+
+	/**
+	 * Test sharded reranking from a non-blocking Reactor thread, where blocking on a
+	 * publisher is not allowed.
+	 */
+	@Test
+	void testShardedRerankOnReactorThread() {
+		List<Integer> shardSizes = new CopyOnWriteArrayList<>();
+		stubRerankEndpoint(shardSizes);
+
+		DashScopeRerankModel model = DashScopeRerankModel.builder()
+			.dashScopeApi(dashScopeApi)
+			.defaultOptions(defaultOptions)
+			.shardSize(100)
+			.build();
+
+		List<Document> documents = IntStream.range(0, 250).mapToObj(i -> new Document("doc-" + i)).toList();
+		com.alibaba.cloud.ai.model.RerankResponse response = Mono
+			.fromCallable(() -> model.call(new RerankRequest(TEST_QUERY, documents)))
+			.subscribeOn(Schedulers.parallel())
+			.block();
+
+		assertThat(shardSizes).containsExactlyInAnyOrder(100, 100, 50);
+		assertThat(response.getResults()).extracting(result -> result.getOutput().getText())
+			.containsExactly("doc-249", "doc-248", "doc-247");
+	}
+
+	/**
+	 * Test the score cache. Verifies that candidates scored in an earlier call are not
+	 * sent to the rerank endpoint again.
+	 */
+	@Test
+	void testScoreCache() {
+		List<Integer> shardSizes = new CopyOnWriteArrayList<>();
+		stubRerankEndpoint(shardSizes);
+
+		DashScopeRerankModel model = DashScopeRerankModel.builder()
+			.dashScopeApi(dashScopeApi)
+			.defaultOptions(DashScopeRerankOptions.builder().model(TEST_MODEL).topN(null).build())
+			.shardSize(10)
+			.cacheSize(100)
+			.build();
+
+		List<Document> firstTurn = IntStream.range(0, 20).mapToObj(i -> new Document("doc-" + i)).toList();
+		model.call(new RerankRequest(TEST_QUERY, firstTurn));
+		assertThat(shardSizes).containsExactlyInAnyOrder(10, 10);
+
+		shardSizes.clear();
+		List<Document> secondTurn = IntStream.range(15, 30).mapToObj(i -> new Document("doc-" + i)).toList();
+		com.alibaba.cloud.ai.model.RerankResponse response = model.call(new RerankRequest(TEST_QUERY, secondTurn));
+
+		assertThat(shardSizes).containsExactly(10);
+		assertThat((Integer) response.getMetadata().get("cacheHits")).isEqualTo(5);
+		assertThat(response.getResults()).hasSize(15);
+		assertThat(response.getResults()).isSortedAccordingTo(
+				Comparator.comparing(DocumentWithScore::getScore, Comparator.reverseOrder()));
+
+		shardSizes.clear();
+		model.call(new RerankRequest("another query", secondTurn));
+		assertThat(shardSizes).containsExactlyInAnyOrder(10, 5);
+	}
+
+	/**
+	 * Stub rerank endpoint scoring "doc-i" with i / 1000 and honouring top_n. Records the
+	 * size of every request.
+	 */
+	private void stubRerankEndpoint(List<Integer> shardSizes) {
+		when(dashScopeApi.rerankEntity(any())).thenAnswer(invocation -> {
+			DashScopeApiSpec.RerankRequest rerankRequest = invocation.getArgument(0);
+			List<String> docs = rerankRequest.input().documents();
+			shardSizes.add(docs.size());
+			List<RerankResponseOutputResult> results = new ArrayList<>();
+			for (int i = 0; i < docs.size(); i++) {
+				double score = Integer.parseInt(docs.get(i).substring("doc-".length())) / 1000.0;
+				results.add(new RerankResponseOutputResult(i, score, new HashMap<>()));
+			}
+			results.sort(Comparator.comparing(RerankResponseOutputResult::relevanceScore).reversed());
+			Integer topN = rerankRequest.parameters().topN();
+			if (topN != null && results.size() > topN) {
+				results = results.subList(0, topN);
+			}
+			TokenUsage usage = new TokenUsage(0, docs.size(), docs.size(), null, null, null, null, null, null, null);
+			return ResponseEntity.ok(new RerankResponse(new RerankResponseOutput(results), usage, "test-request-id"));
+		});
+	}
+
     @Test
     void testBuilder() {
         DashScopeRerankModel model1 = DashScopeRerankModel.builder()
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.document;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test cases for RateLimitBudget.
+ *
+ * @since 1.0.0
+ */
+class RateLimitBudgetTests {
+
+	@Test
+	void parsesRetryAfterSecondsAndHttpDate() {
+		long now = 1_700_000_000_000L;
+
+		assertThat(RateLimitBudget.retryAtMillis("30", now)).isEqualTo(now + 30_000);
+		assertThat(RateLimitBudget.retryAtMillis("Wed, 21 Oct 2015 07:28:00 GMT", now)).isEqualTo(1_445_412_480_000L);
+		assertThat(RateLimitBudget.retryAtMillis("soon", now)).isNull();
+	}
+
+	@Test
+	void admitsNoMoreRequestsThanTheConfiguredHeaderAllows() throws Exception {
+		RateLimitBudget budget = new RateLimitBudget(4, "RateLimit-Remaining", "RateLimit-Reset");
+		budget.acquire();
+		budget.release(headers(Map.of("RateLimit-Remaining", "1", "RateLimit-Reset", resetInAMinute())));
+
+		budget.acquire();
+		CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+			try {
+				budget.acquire();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		Thread.sleep(100);
+		assertThat(second).isNotDone();
+
+		budget.release(null);
+		second.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void ignoresTheHeadersOfOtherApis() throws Exception {
+		RateLimitBudget budget = new RateLimitBudget(4, "X-RateLimit-Remaining", "X-RateLimit-Reset");
+		budget.acquire();
+		budget.release(headers(Map.of("RateLimit-Remaining", "0", "RateLimit-Reset", resetInAMinute())));
+
+		CompletableFuture<Void> next = CompletableFuture.runAsync(() -> {
+			try {
+				budget.acquire();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		next.get(5, TimeUnit.SECONDS);
+	}
+
+	private static String resetInAMinute() {
+		return String.valueOf(System.currentTimeMillis() / 1000 + 60);
+	}
+
+	private static HttpHeaders headers(Map<String, String> values) {
+		Map<String, List<String>> headers = new HashMap<>();
+		values.forEach((name, value) -> headers.put(name, List.of(value)));
+		return HttpHeaders.of(headers, (name, value) -> true);
+	}
+
+}
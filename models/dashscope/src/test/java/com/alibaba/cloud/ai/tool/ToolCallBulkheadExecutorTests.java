@@ -0,0 +1,180 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.tool;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of {@link ToolCallBulkheadExecutor} with synthetic slow and fast tools.
+ */
+class ToolCallBulkheadExecutorTests {
+
+	private final ExecutorService pool = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdownNow();
+	}
+
+	@Test
+	void slowToolDoesNotStarveOtherTools() {
+		ToolCallBulkheadExecutor executor = new ToolCallBulkheadExecutor(pool, 2, null);
+		CountDownLatch slowRelease = new CountDownLatch(1);
+		AtomicInteger slowRunning = new AtomicInteger();
+		AtomicInteger maxSlowRunning = new AtomicInteger();
+
+		List<CompletableFuture<String>> slowCalls = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			slowCalls.add(executor.submit("slow", () -> {
+				maxSlowRunning.accumulateAndGet(slowRunning.incrementAndGet(), Math::max);
+				try {
+					slowRelease.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				slowRunning.decrementAndGet();
+				return "slow";
+			}, () -> "timeout"));
+		}
+		List<CompletableFuture<String>> fastCalls = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			fastCalls.add(executor.submit("fast", () -> "fast", () -> "timeout"));
+		}
+
+		// the slow tool holds two of the eight threads, the fast one completes meanwhile
+		CompletableFuture.allOf(fastCalls.toArray(new CompletableFuture[0])).orTimeout(5, TimeUnit.SECONDS).join();
+		assertThat(fastCalls).allSatisfy(call -> assertThat(call.join()).isEqualTo("fast"));
+		assertThat(executor.getStats().get("slow").running()).isEqualTo(2);
+		assertThat(executor.getStats().get("slow").queued()).isEqualTo(18);
+		assertThat(executor.getStats().get("fast").completed()).isEqualTo(50);
+
+		slowRelease.countDown();
+		CompletableFuture.allOf(slowCalls.toArray(new CompletableFuture[0])).orTimeout(5, TimeUnit.SECONDS).join();
+		assertThat(maxSlowRunning).hasValue(2);
+		ToolCallBulkheadExecutor.ToolStats slowStats = executor.getStats().get("slow");
+		assertThat(slowStats.running()).isZero();
+		assertThat(slowStats.queued()).isZero();
+		assertThat(slowStats.completed()).isEqualTo(20);
+		assertThat(slowStats.maxQueueWait()).isPositive();
+	}
+
+	@Test
+	void callsPastTheirDeadlineAreCancelledWithTimeoutResult() throws InterruptedException {
+		ToolCallBulkheadExecutor executor = new ToolCallBulkheadExecutor(pool, 1, Duration.ofMillis(200));
+		CountDownLatch interrupted = new CountDownLatch(1);
+
+		CompletableFuture<String> running = executor.submit("slow", () -> {
+			try {
+				Thread.sleep(10_000);
+				return "slow";
+			}
+			catch (InterruptedException e) {
+				interrupted.countDown();
+				return "interrupted";
+			}
+		}, () -> "timeout");
+		CompletableFuture<String> queued = executor.submit("slow", () -> {
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "slow";
+		}, () -> "timeout");
+		CompletableFuture<String> fast = executor.submit("fast", () -> "fast", () -> "timeout");
+
+		assertThat(fast.orTimeout(5, TimeUnit.SECONDS).join()).isEqualTo("fast");
+		assertThat(running.orTimeout(5, TimeUnit.SECONDS).join()).isEqualTo("timeout");
+		assertThat(queued.orTimeout(5, TimeUnit.SECONDS).join()).isEqualTo("timeout");
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		ToolCallBulkheadExecutor.ToolStats stats = executor.getStats().get("slow");
+		assertThat(stats.timedOut()).isEqualTo(2);
+
+		// the lane is free again once the cancelled call returned
+		assertThat(executor.submit("slow", () -> "next", () -> "timeout").orTimeout(5, TimeUnit.SECONDS).join())
+			.isEqualTo("next");
+	}
+
+	@Test
+	void finishedCallsCancelTheirDeadline() throws InterruptedException {
+		ToolCallBulkheadExecutor executor = new ToolCallBulkheadExecutor(pool, 4, Duration.ofMinutes(1));
+
+		List<CompletableFuture<String>> calls = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			calls.add(executor.submit("fast", () -> "fast", () -> "timeout"));
+		}
+		calls.forEach(CompletableFuture::join);
+
+		// the deadlines are cancelled right after the calls complete, not when they expire
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (executor.pendingTimeouts() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(executor.pendingTimeouts()).isZero();
+		executor.close();
+	}
+
+	@Test
+	void failuresCompleteTheCallExceptionally() {
+		ToolCallBulkheadExecutor executor = new ToolCallBulkheadExecutor(null, 1, null);
+
+		CompletableFuture<String> failed = executor.submit("broken", () -> {
+			throw new IllegalStateException("boom");
+		}, () -> "timeout");
+
+		assertThat(failed).failsWithin(Duration.ofSeconds(5))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(IllegalStateException.class);
+		assertThat(executor.submit("broken", () -> "ok", () -> "timeout").join()).isEqualTo("ok");
+	}
+
+	@Test
+	void closeShutsDownOnlyTheDefaultExecutor() {
+		ToolCallBulkheadExecutor owning = new ToolCallBulkheadExecutor(null, 1, null);
+		assertThat(owning.submit("tool", () -> "ok", () -> "timeout").join()).isEqualTo("ok");
+
+		owning.close();
+
+		assertThat(owning.submit("tool", () -> "ok", () -> "timeout")).failsWithin(Duration.ofSeconds(5))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(RejectedExecutionException.class);
+
+		ToolCallBulkheadExecutor borrowing = new ToolCallBulkheadExecutor(pool, 1, null);
+		borrowing.close();
+
+		assertThat(pool.isShutdown()).isFalse();
+		assertThat(borrowing.submit("tool", () -> "ok", () -> "timeout").join()).isEqualTo("ok");
+	}
+
+}
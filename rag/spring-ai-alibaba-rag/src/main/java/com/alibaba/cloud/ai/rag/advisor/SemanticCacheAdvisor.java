@@ -0,0 +1,384 @@
+/*
+ * Copyright 2023-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.rag.advisor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.client.ChatClientMessageAggregator;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.Advisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Semantic response cache.
+ * Embeds the user message of a request and serves the cached response of a previous
+ * request whose user message is similar enough, skipping the model round trip. Streaming
+ * requests replay the cached response as a single chunk.
+ * <p>
+ * Entries are only shared between requests with the same system prompt, conversation
+ * history, model and tool set, and are looked up with an exhaustive cosine scan over the
+ * in-process index, which is exact and fast enough for the bounded number of entries
+ * kept here.
+ * <p>
+ * The advisor runs after the chat memory advisors by default ({@link #DEFAULT_ORDER}), so
+ * the history they add is part of the cache scope and a cached response is still
+ * recorded in the conversation memory.
+ *
+ * @since 1.1.2
+ */
+public class SemanticCacheAdvisor implements CallAdvisor, StreamAdvisor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SemanticCacheAdvisor.class);
+
+    /**
+     * Context key set to {@code true} when the response was served from the cache.
+     */
+    public static final String CACHE_HIT = "spring_ai_alibaba_semantic_cache_hit";
+
+    public static final double DEFAULT_SIMILARITY_THRESHOLD = 0.95;
+
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /**
+     * Default order, right after {@link Advisor#DEFAULT_CHAT_MEMORY_PRECEDENCE_ORDER}.
+     */
+    public static final int DEFAULT_ORDER = Advisor.DEFAULT_CHAT_MEMORY_PRECEDENCE_ORDER + 100;
+
+    private final EmbeddingModel embeddingModel;
+
+    private final double similarityThreshold;
+
+    private final int maxEntries;
+
+    @Nullable
+    private final Duration ttl;
+
+    private final int order;
+
+    private final Deque<CacheEntry> entries = new ArrayDeque<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    public SemanticCacheAdvisor(EmbeddingModel embeddingModel, @Nullable Double similarityThreshold,
+                                @Nullable Integer maxEntries, @Nullable Duration ttl, @Nullable Integer order) {
+        Assert.notNull(embeddingModel, "embeddingModel cannot be null");
+        this.embeddingModel = embeddingModel;
+        this.similarityThreshold = similarityThreshold != null ? similarityThreshold : DEFAULT_SIMILARITY_THRESHOLD;
+        this.maxEntries = maxEntries != null ? maxEntries : DEFAULT_MAX_ENTRIES;
+        this.ttl = ttl;
+        this.order = order != null ? order : DEFAULT_ORDER;
+        Assert.isTrue(this.similarityThreshold > 0 && this.similarityThreshold <= 1,
+                "similarityThreshold must be in (0, 1]");
+        Assert.isTrue(this.maxEntries > 0, "maxEntries must be greater than 0");
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+        CacheKey key = cacheKey(chatClientRequest.prompt());
+        if (key == null) {
+            return callAdvisorChain.nextCall(chatClientRequest);
+        }
+        ChatResponse cached = lookup(key);
+        if (cached != null) {
+            return cachedResponse(chatClientRequest, cached);
+        }
+        ChatClientResponse chatClientResponse = callAdvisorChain.nextCall(chatClientRequest);
+        store(key, chatClientResponse);
+        return chatClientResponse;
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest chatClientRequest,
+                                                 StreamAdvisorChain streamAdvisorChain) {
+        // the embedding call blocks, keep it off the event loop
+        return Mono.fromCallable(() -> {
+                    CacheKey key = cacheKey(chatClientRequest.prompt());
+                    return key != null ? new Lookup(key, lookup(key)) : Lookup.NONE;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(lookup -> {
+                    if (lookup.response() != null) {
+                        return Flux.just(cachedResponse(chatClientRequest, lookup.response()));
+                    }
+                    Flux<ChatClientResponse> responses = streamAdvisorChain.nextStream(chatClientRequest);
+                    if (lookup.key() == null) {
+                        return responses;
+                    }
+                    return new ChatClientMessageAggregator().aggregateChatClientResponse(responses,
+                            aggregated -> store(lookup.key(), aggregated));
+                });
+    }
+
+    /**
+     * Number of requests answered from the cache.
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Number of cacheable requests that went to the model.
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.entries.clear();
+        }
+        finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Nullable
+    private CacheKey cacheKey(Prompt prompt) {
+        String userText = prompt.getUserMessage().getText();
+        if (!StringUtils.hasText(userText)) {
+            return null;
+        }
+        return new CacheKey(scope(prompt), normalize(this.embeddingModel.embed(userText)));
+    }
+
+    /**
+     * Everything besides the user message that shapes the answer: system prompt,
+     * conversation history, model and the names of the tools offered to the model.
+     */
+    private static String scope(Prompt prompt) {
+        StringBuilder scope = new StringBuilder();
+        Message userMessage = prompt.getUserMessage();
+        for (Message message : prompt.getInstructions()) {
+            if (message != userMessage) {
+                scope.append(message.getMessageType().getValue()).append(':').append(message.getText()).append('\n');
+            }
+        }
+        ChatOptions options = prompt.getOptions();
+        if (options != null) {
+            scope.append('\u0000').append(options.getModel());
+        }
+        if (options instanceof ToolCallingChatOptions toolOptions) {
+            TreeSet<String> tools = new TreeSet<>(toolOptions.getToolNames());
+            for (ToolCallback toolCallback : toolOptions.getToolCallbacks()) {
+                tools.add(toolCallback.getToolDefinition().name());
+            }
+            scope.append('\u0000').append(tools);
+        }
+        return scope.toString();
+    }
+
+    @Nullable
+    private ChatResponse lookup(CacheKey key) {
+        long now = System.nanoTime();
+        CacheEntry best = null;
+        double bestSimilarity = this.similarityThreshold;
+        this.lock.readLock().lock();
+        try {
+            for (CacheEntry entry : this.entries) {
+                if (entry.isExpired(now) || !entry.scope().equals(key.scope())
+                        || entry.embedding().length != key.embedding().length) {
+                    continue;
+                }
+                double similarity = dot(entry.embedding(), key.embedding());
+                if (similarity >= bestSimilarity) {
+                    bestSimilarity = similarity;
+                    best = entry;
+                }
+            }
+        }
+        finally {
+            this.lock.readLock().unlock();
+        }
+        if (best == null) {
+            this.missCount.incrementAndGet();
+            return null;
+        }
+        this.hitCount.incrementAndGet();
+        logger.debug("Semantic cache hit with similarity {}", bestSimilarity);
+        return best.response();
+    }
+
+    private void store(CacheKey key, ChatClientResponse chatClientResponse) {
+        ChatResponse chatResponse = chatClientResponse.chatResponse();
+        // tool call requests are intermediate responses, never replay them
+        if (chatResponse == null || chatResponse.getResult() == null || chatResponse.hasToolCalls()
+                || !StringUtils.hasText(chatResponse.getResult().getOutput().getText())) {
+            return;
+        }
+        Long expiresAt = this.ttl != null ? System.nanoTime() + this.ttl.toNanos() : null;
+        this.lock.writeLock().lock();
+        try {
+            this.entries.addLast(new CacheEntry(key.scope(), key.embedding(), chatResponse, expiresAt));
+            long now = System.nanoTime();
+            this.entries.removeIf(entry -> entry.isExpired(now));
+            while (this.entries.size() > this.maxEntries) {
+                this.entries.removeFirst();
+            }
+        }
+        finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private static ChatClientResponse cachedResponse(ChatClientRequest chatClientRequest, ChatResponse chatResponse) {
+        Map<String, Object> context = new HashMap<>(chatClientRequest.context());
+        context.put(CACHE_HIT, true);
+        return ChatClientResponse.builder().chatResponse(chatResponse).context(context).build();
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm == 0) {
+            return vector;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = vector[i] * scale;
+        }
+        return normalized;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public String getName() {
+        return this.getClass().getSimpleName();
+    }
+
+    @Override
+    public int getOrder() {
+        return this.order;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private record CacheKey(String scope, float[] embedding) {
+    }
+
+    /**
+     * @param expiresAt {@link System#nanoTime()} deadline, {@code null} when entries do
+     * not expire
+     */
+    private record CacheEntry(String scope, float[] embedding, ChatResponse response, @Nullable Long expiresAt) {
+
+        boolean isExpired(long now) {
+            return this.expiresAt != null && this.expiresAt - now <= 0;
+        }
+
+    }
+
+    private record Lookup(@Nullable CacheKey key, @Nullable ChatResponse response) {
+
+        static final Lookup NONE = new Lookup(null, null);
+
+    }
+
+    public static final class Builder {
+
+        private EmbeddingModel embeddingModel;
+
+        private Double similarityThreshold;
+
+        private Integer maxEntries;
+
+        private Duration ttl;
+
+        private Integer order;
+
+        private Builder() {
+        }
+
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            Assert.notNull(embeddingModel, "embeddingModel must not be null");
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * Minimum cosine similarity between two user messages to reuse a response.
+         */
+        public Builder similarityThreshold(double similarityThreshold) {
+            this.similarityThreshold = similarityThreshold;
+            return this;
+        }
+
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Builder order(int order) {
+            this.order = order;
+            return this;
+        }
+
+        public SemanticCacheAdvisor build() {
+            return new SemanticCacheAdvisor(embeddingModel, similarityThreshold, maxEntries, ttl, order);
+        }
+
+    }
+
+}
@@ -17,6 +17,7 @@
 package com.alibaba.cloud.ai.rag.postretrieval;
 
 import com.alibaba.cloud.ai.dashscope.rerank.DashScopeRerankOptions;
+import com.alibaba.cloud.ai.document.DocumentWithScore;
 import com.alibaba.cloud.ai.model.RerankModel;
 import com.alibaba.cloud.ai.model.RerankRequest;
 import com.alibaba.cloud.ai.model.RerankResponse;
@@ -27,17 +28,25 @@ import org.springframework.ai.document.Document;
 import org.springframework.ai.rag.Query;
 import org.springframework.ai.rag.postretrieval.document.DocumentPostProcessor;
 import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
- * Re-ranking processing of the rerank model based on the dashscope api
+ * Re-ranking processing of the rerank model based on the dashscope api.
+ * <p>
+ * Retrieval with multiple queries or hybrid fusion routinely returns the same document
+ * more than once, so candidates are de-duplicated by id and by content hash first,
+ * keeping the copy with the best upstream score. The rerank model returns its results
+ * sorted by score and limited to the configured top n, they are mapped back to the
+ * candidates in that order.
  *
  * @author benym
  * @since 1.1.0.0-SNAPSHOT
@@ -58,19 +67,35 @@ public class DashScopeRerankPostProcessor implements DocumentPostProcessor {
     @Override
     public List<Document> process(Query query, List<Document> documents) {
         try {
+            if (Objects.isNull(query) || !StringUtils.hasText(query.text())) {
+                return new ArrayList<>();
+            }
+
+            long start = System.nanoTime();
+            List<Document> candidates = deduplicate(documents);
+            long deduplicated = System.nanoTime();
+
+            RerankRequest rerankRequest = new RerankRequest(query.text(), candidates, rerankOptions);
+            RerankResponse rerankResponse = rerankModel.call(rerankRequest);
+            long reranked = System.nanoTime();
+
+            Map<String, Document> docMap = new HashMap<>(candidates.size() * 4 / 3 + 1);
+            for (Document candidate : candidates) {
+                docMap.put(candidate.getId(), candidate);
+            }
             List<Document> rerankDocuments = new ArrayList<>();
-            if (Objects.nonNull(query) && StringUtils.hasText(query.text())) {
-                RerankRequest rerankRequest = new RerankRequest(query.text(), documents, rerankOptions);
-                RerankResponse rerankResponse = rerankModel.call(rerankRequest);
-                Map<String, Document> docMap = documents.stream()
-                        .collect(Collectors.toMap(Document::getId, Function.identity()));
-                rerankResponse.getResults().forEach(res -> {
-                    Document outputDocument = res.getOutput();
-                    Document doc = docMap.get(outputDocument.getId());
-                    if (doc != null) {
-                        rerankDocuments.add(doc);
-                    }
-                });
+            for (DocumentWithScore res : rerankResponse.getResults()) {
+                Document doc = docMap.get(res.getOutput().getId());
+                if (doc != null) {
+                    rerankDocuments.add(doc);
+                }
+            }
+            long selected = System.nanoTime();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("rerank {} candidates ({} unique) into {} documents, dedup: {}ms, rerank: {}ms, select: {}ms",
+                        documents.size(), candidates.size(), rerankDocuments.size(), toMillis(deduplicated - start),
+                        toMillis(reranked - deduplicated), toMillis(selected - reranked));
             }
             return rerankDocuments;
         }
@@ -80,6 +105,53 @@ public class DashScopeRerankPostProcessor implements DocumentPostProcessor {
         }
     }
 
+    /**
+     * Removes documents sharing an id or a text with an earlier candidate, keeping the
+     * position of the first occurrence and the copy with the best upstream score.
+     */
+    static List<Document> deduplicate(List<Document> documents) {
+        Map<String, Document> unique = new LinkedHashMap<>();
+        Map<String, String> keyById = new HashMap<>();
+        Map<String, String> keyByContent = new HashMap<>();
+        for (Document document : documents) {
+            if (document == null) {
+                continue;
+            }
+            String contentHash = contentHash(document);
+            String key = keyById.get(document.getId());
+            if (key == null && contentHash != null) {
+                key = keyByContent.get(contentHash);
+            }
+            if (key == null) {
+                key = document.getId();
+                unique.put(key, document);
+            }
+            else if (isBetter(document, unique.get(key))) {
+                unique.put(key, document);
+            }
+            keyById.putIfAbsent(document.getId(), key);
+            if (contentHash != null) {
+                keyByContent.putIfAbsent(contentHash, key);
+            }
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    private static boolean isBetter(Document candidate, Document current) {
+        Double candidateScore = candidate.getScore();
+        Double currentScore = current.getScore();
+        return candidateScore != null && (currentScore == null || candidateScore > currentScore);
+    }
+
+    private static String contentHash(Document document) {
+        String text = document.getText();
+        return text != null ? DigestUtils.md5DigestAsHex(text.getBytes(StandardCharsets.UTF_8)) : null;
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
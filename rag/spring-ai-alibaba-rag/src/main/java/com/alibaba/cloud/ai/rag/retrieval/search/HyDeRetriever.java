@@ -17,6 +17,8 @@
 package com.alibaba.cloud.ai.rag.retrieval.search;
 
 import com.alibaba.cloud.ai.rag.preretrieval.transformation.HyDeTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.rag.Query;
 import org.springframework.ai.rag.retrieval.search.DocumentRetriever;
@@ -28,19 +30,39 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
  * Hypothetical Document Embeddings Retriever implementation.
+ * <p>
+ * When a cache TTL is configured, generated hypothetical documents are cached by
+ * normalized query text (case and whitespace insensitive), so popular and
+ * near-duplicate questions skip the LLM generation. Concurrent generations for the same
+ * normalized query are collapsed into one.
  *
  * @author benym
  * @since 1.1.0.0-SNAPSHOT
  */
 public class HyDeRetriever implements DocumentRetriever {
 
+    private static final Logger logger = LoggerFactory.getLogger(HyDeRetriever.class);
+
     public static final String FILTER_EXPRESSION = "vector_store_filter_expression";
 
+    public static final int DEFAULT_MAX_CACHE_SIZE = 1024;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     private final VectorStore vectorStore;
 
     private final Double similarityThreshold;
@@ -54,8 +76,22 @@ public class HyDeRetriever implements DocumentRetriever {
 
     private final HyDeTransformer hyDeTransformer;
 
+    // Cached hypothetical documents, null when caching is disabled.
+    @Nullable
+    private final Map<String, CachedHypothesis> cache;
+
+    private final long cacheTtlNanos;
+
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
     public HyDeRetriever(@Nullable HyDeTransformer hyDeTransformer, @Nullable VectorStore vectorStore, @Nullable Double similarityThreshold,
                          @Nullable Integer topK, Supplier<Filter.Expression> filterExpression) {
+        this(hyDeTransformer, vectorStore, similarityThreshold, topK, filterExpression, null, DEFAULT_MAX_CACHE_SIZE);
+    }
+
+    public HyDeRetriever(@Nullable HyDeTransformer hyDeTransformer, @Nullable VectorStore vectorStore, @Nullable Double similarityThreshold,
+                         @Nullable Integer topK, Supplier<Filter.Expression> filterExpression, @Nullable Duration cacheTtl,
+                         int maxCacheSize) {
         Assert.notNull(hyDeTransformer, "hyDeTransformer must not be null");
         Assert.notNull(vectorStore, "vectorStore cannot be null");
         this.hyDeTransformer = hyDeTransformer;
@@ -64,15 +100,29 @@ public class HyDeRetriever implements DocumentRetriever {
                 : SearchRequest.SIMILARITY_THRESHOLD_ACCEPT_ALL;
         this.topK = topK != null ? topK : SearchRequest.DEFAULT_TOP_K;
         this.filterExpression = filterExpression != null ? filterExpression : () -> null;
+        if (cacheTtl != null && !cacheTtl.isZero() && !cacheTtl.isNegative()) {
+            Assert.isTrue(maxCacheSize > 0, "maxCacheSize must be greater than 0");
+            this.cacheTtlNanos = cacheTtl.toNanos();
+            this.cache = Collections.synchronizedMap(new LinkedHashMap<String, CachedHypothesis>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedHypothesis> eldest) {
+                    return size() > maxCacheSize;
+                }
+            });
+        }
+        else {
+            this.cacheTtlNanos = 0;
+            this.cache = null;
+        }
     }
 
     @Override
     public List<Document> retrieve(Query query) {
         Assert.notNull(query, "query must not be null");
-        Query hyDeAnswer = hyDeTransformer.transform(query);
+        String hyDeAnswer = hypotheticalDocument(query);
         var requestFilterExpression = computeRequestFilterExpression(query);
         var searchRequest = SearchRequest.builder()
-                .query(hyDeAnswer.text())
+                .query(hyDeAnswer)
                 .filterExpression(requestFilterExpression)
                 .similarityThreshold(this.similarityThreshold)
                 .topK(this.topK)
@@ -80,6 +130,69 @@ public class HyDeRetriever implements DocumentRetriever {
         return this.vectorStore.similaritySearch(searchRequest);
     }
 
+    /**
+     * Returns the hypothetical document for the query, from the cache when possible. Only
+     * one generation runs at a time per normalized query, concurrent callers wait for
+     * its result.
+     */
+    private String hypotheticalDocument(Query query) {
+        if (this.cache == null) {
+            return this.hyDeTransformer.transform(query).text();
+        }
+        String key = normalize(query.text());
+        String cached = cachedHypothesis(key);
+        if (cached != null) {
+            logger.debug("HyDe cache hit for query: {}", query.text());
+            return cached;
+        }
+
+        CompletableFuture<String> generation = new CompletableFuture<>();
+        CompletableFuture<String> leader = this.inFlight.putIfAbsent(key, generation);
+        if (leader != null) {
+            try {
+                return leader.join();
+            }
+            catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        try {
+            // a previous leader may have cached its result and left between the cache
+            // lookup above and winning the in-flight slot
+            String cachedByPreviousLeader = cachedHypothesis(key);
+            if (cachedByPreviousLeader != null) {
+                generation.complete(cachedByPreviousLeader);
+                return cachedByPreviousLeader;
+            }
+            String text = this.hyDeTransformer.transform(query).text();
+            // the transformer falls back to the input query when generation fails
+            if (!text.equals(query.text())) {
+                this.cache.put(key, new CachedHypothesis(text, System.nanoTime() + this.cacheTtlNanos));
+            }
+            generation.complete(text);
+            return text;
+        }
+        catch (RuntimeException e) {
+            generation.completeExceptionally(e);
+            throw e;
+        }
+        finally {
+            this.inFlight.remove(key, generation);
+        }
+    }
+
+    private String cachedHypothesis(String key) {
+        CachedHypothesis cached = this.cache.get(key);
+        return cached != null && cached.expiresAt() - System.nanoTime() > 0 ? cached.text() : null;
+    }
+
+    private static String normalize(String text) {
+        return WHITESPACE.matcher(text.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private record CachedHypothesis(String text, long expiresAt) {
+    }
+
     /**
      * Computes the filter expression to use for the current request.
      * <p>
@@ -122,6 +235,10 @@ public class HyDeRetriever implements DocumentRetriever {
 
         private HyDeTransformer hyDeTransformer;
 
+        private Duration cacheTtl;
+
+        private int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+
         private Builder() {
         }
 
@@ -158,8 +275,23 @@ public class HyDeRetriever implements DocumentRetriever {
             return this;
         }
 
+        /**
+         * Enables caching of hypothetical documents for the given time to live.
+         */
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        public Builder maxCacheSize(int maxCacheSize) {
+            Assert.isTrue(maxCacheSize > 0, "maxCacheSize must be greater than 0");
+            this.maxCacheSize = maxCacheSize;
+            return this;
+        }
+
         public HyDeRetriever build() {
-            return new HyDeRetriever(hyDeTransformer, vectorStore, similarityThreshold, topK, filterExpression);
+            return new HyDeRetriever(hyDeTransformer, vectorStore, similarityThreshold, topK, filterExpression,
+                    cacheTtl, maxCacheSize);
         }
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2023-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.cloud.ai.rag.advisor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.memory.MessageWindowChatMemory;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays a workload of repeated questions against a fake model to verify the hit rate
+ * and the latency saved by {@link SemanticCacheAdvisor}.
+ */
+class SemanticCacheAdvisorTest {
+
+    private static final long MODEL_LATENCY_MILLIS = 30;
+
+    private final AtomicInteger modelCalls = new AtomicInteger();
+
+    private SemanticCacheAdvisor advisor;
+
+    private ChatClient chatClient;
+
+    @BeforeEach
+    void setUp() {
+        advisor = SemanticCacheAdvisor.builder().embeddingModel(new BagOfWordsEmbeddingModel()).build();
+        chatClient = ChatClient.builder(new SlowChatModel()).defaultAdvisors(advisor).build();
+    }
+
+    @Test
+    void testReplayedWorkload() {
+        List<String> questions = List.of("What is RAG?", "How does HyDE work?", "Which vector stores are supported?",
+                "How do I enable tool calling?", "What is a chat memory?");
+        List<String> workload = new ArrayList<>();
+        for (int round = 0; round < 4; round++) {
+            for (String question : questions) {
+                workload.add(round % 2 == 0 ? question : "  " + question.toLowerCase(Locale.ROOT) + " ");
+            }
+        }
+
+        long start = System.nanoTime();
+        List<String> answers = new ArrayList<>();
+        for (String question : workload) {
+            answers.add(chatClient.prompt().user(question).call().content());
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(modelCalls).hasValue(questions.size());
+        assertThat(advisor.getHitCount()).isEqualTo(workload.size() - questions.size());
+        assertThat(advisor.getMissCount()).isEqualTo(questions.size());
+        double hitRate = (double) advisor.getHitCount() / workload.size();
+        assertThat(hitRate).isEqualTo(0.75);
+        // every hit saves a full model round trip
+        assertThat(elapsedMillis).isLessThan(workload.size() * MODEL_LATENCY_MILLIS);
+        for (int i = 0; i < workload.size(); i++) {
+            assertThat(answers.get(i)).isEqualTo(answers.get(i % questions.size()));
+        }
+    }
+
+    @Test
+    void testDifferentSystemPromptMisses() {
+        chatClient.prompt().system("You are a pirate.").user("What is RAG?").call().content();
+        chatClient.prompt().system("You are a lawyer.").user("What is RAG?").call().content();
+        chatClient.prompt().system("You are a pirate.").user("what is rag?").call().content();
+
+        assertThat(modelCalls).hasValue(2);
+        assertThat(advisor.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRunsAfterChatMemoryWithHistoryInScope() {
+        ChatMemory chatMemory = MessageWindowChatMemory.builder().build();
+        MessageChatMemoryAdvisor memoryAdvisor = MessageChatMemoryAdvisor.builder(chatMemory).build();
+        assertThat(advisor.getOrder()).isGreaterThan(memoryAdvisor.getOrder());
+        ChatClient client = ChatClient.builder(new SlowChatModel()).defaultAdvisors(advisor, memoryAdvisor).build();
+
+        ask(client, "hangzhou", "Tell me about Hangzhou");
+        ask(client, "beijing", "Tell me about Beijing");
+        // same follow-up question, different history
+        ask(client, "hangzhou", "What about the weather there?");
+        ask(client, "beijing", "What about the weather there?");
+        assertThat(modelCalls).hasValue(4);
+        assertThat(advisor.getHitCount()).isZero();
+
+        // a new conversation with the same first question hits, and the memory still records it
+        String answer = ask(client, "shanghai", "Tell me about Hangzhou");
+        assertThat(modelCalls).hasValue(4);
+        assertThat(advisor.getHitCount()).isEqualTo(1);
+        assertThat(chatMemory.get("shanghai")).extracting(Message::getText)
+                .containsExactly("Tell me about Hangzhou", answer);
+    }
+
+    @Test
+    void testDissimilarQuestionMisses() {
+        chatClient.prompt().user("What is RAG?").call().content();
+        chatClient.prompt().user("What is the weather in Hangzhou?").call().content();
+
+        assertThat(modelCalls).hasValue(2);
+        assertThat(advisor.getHitCount()).isZero();
+    }
+
+    @Test
+    void testStreamReplaysCachedResponse() {
+        String streamed = String.join("",
+                chatClient.prompt().user("What is RAG?").stream().content().collectList().block());
+        String replayed = String.join("",
+                chatClient.prompt().user("what is rag").stream().content().collectList().block());
+        String called = chatClient.prompt().user("What is RAG").call().content();
+
+        assertThat(modelCalls).hasValue(1);
+        assertThat(replayed).isEqualTo(streamed);
+        assertThat(called).isEqualTo(streamed);
+    }
+
+    private static String ask(ChatClient client, String conversationId, String question) {
+        return client.prompt()
+                .user(question)
+                .advisors(advisorSpec -> advisorSpec.param(ChatMemory.CONVERSATION_ID, conversationId))
+                .call()
+                .content();
+    }
+
+    private final class SlowChatModel implements ChatModel {
+
+        @Override
+        public ChatResponse call(Prompt prompt) {
+            int call = modelCalls.incrementAndGet();
+            try {
+                Thread.sleep(MODEL_LATENCY_MILLIS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response("answer " + call + " to " + prompt.getUserMessage().getText());
+        }
+
+        @Override
+        public Flux<ChatResponse> stream(Prompt prompt) {
+            int call = modelCalls.incrementAndGet();
+            return Flux.just(response("answer " + call), response(" to "), response(prompt.getUserMessage().getText()));
+        }
+
+        private ChatResponse response(String text) {
+            return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+        }
+
+    }
+
+    /**
+     * Hashes lower-cased words into a fixed size vector, so questions that only differ in
+     * case, whitespace and punctuation get identical embeddings.
+     */
+    private static final class BagOfWordsEmbeddingModel implements EmbeddingModel {
+
+        private static final int DIMENSIONS = 256;
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            List<Embedding> embeddings = new ArrayList<>();
+            for (int i = 0; i < request.getInstructions().size(); i++) {
+                embeddings.add(new Embedding(embed(request.getInstructions().get(i)), i));
+            }
+            return new EmbeddingResponse(embeddings);
+        }
+
+        @Override
+        public float[] embed(String text) {
+            float[] vector = new float[DIMENSIONS];
+            for (String word : text.toLowerCase(Locale.ROOT).split("[^a-z0-9]+")) {
+                if (!word.isEmpty()) {
+                    vector[Math.floorMod(word.hashCode(), DIMENSIONS)] += 1;
+                }
+            }
+            return vector;
+        }
+
+        @Override
+        public float[] embed(Document document) {
+            return embed(document.getText());
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.rag.postretrieval;
+
+import com.alibaba.cloud.ai.dashscope.rerank.DashScopeRerankOptions;
+import com.alibaba.cloud.ai.document.DocumentWithScore;
+import com.alibaba.cloud.ai.model.RerankModel;
+import com.alibaba.cloud.ai.model.RerankRequest;
+import com.alibaba.cloud.ai.model.RerankResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for {@link DashScopeRerankPostProcessor}.
+ */
+class DashScopeRerankPostProcessorTest {
+
+    private static final int UNIQUE_DOCUMENTS = 2_000;
+
+    private static final int COPIES = 5;
+
+    @Test
+    void testDuplicatedCandidates() {
+        RerankModel rerankModel = mock(RerankModel.class);
+        when(rerankModel.call(any())).thenAnswer(invocation -> scoreByIndex(invocation.getArgument(0)));
+        DashScopeRerankPostProcessor postProcessor = DashScopeRerankPostProcessor.builder()
+                .rerankModel(rerankModel)
+                .rerankOptions(DashScopeRerankOptions.builder().topN(5).build())
+                .build();
+
+        // 10k candidates: every text retrieved five times, twice under the same id
+        List<Document> candidates = new ArrayList<>();
+        for (int copy = 0; copy < COPIES; copy++) {
+            for (int i = 0; i < UNIQUE_DOCUMENTS; i++) {
+                String id = copy % 2 == 0 ? "doc-" + i : "doc-" + i + "-copy-" + copy;
+                candidates.add(Document.builder().id(id).text("text " + i).score(copy / 10.0).build());
+            }
+        }
+
+        List<Document> result = postProcessor.process(new Query("query"), candidates);
+
+        ArgumentCaptor<RerankRequest> request = ArgumentCaptor.forClass(RerankRequest.class);
+        verify(rerankModel).call(request.capture());
+        List<Document> reranked = request.getValue().getInstructions();
+        assertThat(reranked).hasSize(UNIQUE_DOCUMENTS);
+        // first occurrence keeps its position, the best upstream copy wins
+        assertThat(reranked.get(0).getText()).isEqualTo("text 0");
+        assertThat(reranked.get(0).getScore()).isEqualTo((COPIES - 1) / 10.0);
+
+        assertThat(result).extracting(Document::getText)
+                .containsExactly("text 1999", "text 1998", "text 1997", "text 1996", "text 1995");
+    }
+
+    @Test
+    void testDuplicatedIdsWithDifferentText() {
+        List<Document> candidates = List.of(Document.builder().id("a").text("first").score(0.1).build(),
+                Document.builder().id("a").text("second").score(0.9).build(),
+                Document.builder().id("b").text("third").build());
+
+        List<Document> unique = DashScopeRerankPostProcessor.deduplicate(candidates);
+
+        assertThat(unique).extracting(Document::getText).containsExactly("second", "third");
+    }
+
+    @Test
+    void testFallbackOnRerankError() {
+        RerankModel rerankModel = mock(RerankModel.class);
+        when(rerankModel.call(any())).thenThrow(new IllegalStateException("rerank unavailable"));
+        DashScopeRerankPostProcessor postProcessor = new DashScopeRerankPostProcessor(rerankModel,
+                DashScopeRerankOptions.builder().build());
+        List<Document> candidates = List.of(new Document("text"), new Document("text"));
+
+        assertThat(postProcessor.process(new Query("query"), candidates)).isSameAs(candidates);
+    }
+
+    /**
+     * Scores every candidate with its number in the text and returns the top n by score,
+     * as the rerank model does.
+     */
+    private static RerankResponse scoreByIndex(RerankRequest request) {
+        List<DocumentWithScore> results = new ArrayList<>();
+        for (Document document : request.getInstructions()) {
+            double score = Integer.parseInt(document.getText().substring("text ".length()));
+            results.add(DocumentWithScore.builder().withDocument(document).withScore(score).build());
+        }
+        results.sort(Comparator.comparing(DocumentWithScore::getScore).reversed());
+        return new RerankResponse(results.subList(0, request.getOptions().getTopN()));
+    }
+
+}
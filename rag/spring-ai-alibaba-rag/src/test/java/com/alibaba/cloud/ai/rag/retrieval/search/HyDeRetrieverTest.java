@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.rag.retrieval.search;
+
+import com.alibaba.cloud.ai.rag.preretrieval.transformation.HyDeTransformer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.rag.Query;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test for the hypothetical document cache of {@link HyDeRetriever}.
+ */
+class HyDeRetrieverTest {
+
+    private final AtomicInteger generations = new AtomicInteger();
+
+    private final List<String> searchedQueries = new ArrayList<>();
+
+    private volatile CountDownLatch generationGate = new CountDownLatch(0);
+
+    private HyDeTransformer hyDeTransformer;
+
+    private VectorStore vectorStore;
+
+    @BeforeEach
+    void setUp() {
+        ChatModel chatModel = new ChatModel() {
+            @Override
+            public ChatResponse call(Prompt prompt) {
+                int generation = generations.incrementAndGet();
+                try {
+                    generationGate.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new ChatResponse(List.of(new Generation(new AssistantMessage("hypothesis " + generation))));
+            }
+        };
+        hyDeTransformer = HyDeTransformer.builder().chatClientBuilder(ChatClient.builder(chatModel)).build();
+        vectorStore = mock(VectorStore.class);
+        when(vectorStore.similaritySearch(any(SearchRequest.class))).thenAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            synchronized (searchedQueries) {
+                searchedQueries.add(request.getQuery());
+            }
+            return List.of(new Document(request.getQuery()));
+        });
+    }
+
+    @Test
+    void testGeneratesForEveryQueryWithoutCache() {
+        HyDeRetriever retriever = HyDeRetriever.builder().hyDeTransformer(hyDeTransformer).vectorStore(vectorStore).build();
+
+        retriever.retrieve(new Query("What is RAG?"));
+        retriever.retrieve(new Query("What is RAG?"));
+
+        assertThat(generations).hasValue(2);
+    }
+
+    @Test
+    void testNearDuplicateQueriesHitCache() {
+        HyDeRetriever retriever = HyDeRetriever.builder()
+                .hyDeTransformer(hyDeTransformer)
+                .vectorStore(vectorStore)
+                .cacheTtl(Duration.ofMinutes(10))
+                .build();
+
+        retriever.retrieve(new Query("What is RAG?"));
+        retriever.retrieve(new Query("  what IS   rag? "));
+        retriever.retrieve(new Query("What is HyDE?"));
+
+        assertThat(generations).hasValue(2);
+        assertThat(searchedQueries).containsExactly("hypothesis 1", "hypothesis 1", "hypothesis 2");
+    }
+
+    @Test
+    void testExpiredEntriesAreRegenerated() throws InterruptedException {
+        HyDeRetriever retriever = HyDeRetriever.builder()
+                .hyDeTransformer(hyDeTransformer)
+                .vectorStore(vectorStore)
+                .cacheTtl(Duration.ofMillis(50))
+                .build();
+
+        retriever.retrieve(new Query("What is RAG?"));
+        Thread.sleep(100);
+        retriever.retrieve(new Query("What is RAG?"));
+
+        assertThat(generations).hasValue(2);
+    }
+
+    @Test
+    void testConcurrentIdenticalQueriesAreCollapsed() throws Exception {
+        HyDeRetriever retriever = HyDeRetriever.builder()
+                .hyDeTransformer(hyDeTransformer)
+                .vectorStore(vectorStore)
+                .cacheTtl(Duration.ofMinutes(10))
+                .build();
+        generationGate = new CountDownLatch(1);
+
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<List<Document>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> retriever.retrieve(new Query("What is RAG?"))));
+            }
+            // give every caller the chance to join the running generation
+            Thread.sleep(200);
+            generationGate.countDown();
+            for (Future<List<Document>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).extracting(Document::getText)
+                        .containsExactly("hypothesis 1");
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(generations).hasValue(1);
+    }
+
+}
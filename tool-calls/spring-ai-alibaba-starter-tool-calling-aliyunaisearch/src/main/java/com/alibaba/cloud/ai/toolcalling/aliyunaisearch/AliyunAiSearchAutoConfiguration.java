@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.aliyunaisearch;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -34,12 +35,15 @@ public class AliyunAiSearchAutoConfiguration {
 	@ConditionalOnMissingBean
 	@Description("Aliyun AI Web Search Service")
 	public AliyunAiSearchService aliyunAiSearchService(JsonParseTool jsonParseTool,
-			AliyunAiSearchProperties properties) {
+			AliyunAiSearchProperties properties, ToolHttpRuntime toolHttpRuntime) {
 		return new AliyunAiSearchService(
-				WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(httpHeaders -> {
-					httpHeaders.add("Content-Type", "application/json");
-					httpHeaders.add("Authorization", "Bearer " + properties.getApiKey());
-				}).build(), jsonParseTool, properties);
+				WebClientTool.builder(jsonParseTool, properties)
+					.httpRuntime(toolHttpRuntime)
+					.httpHeadersConsumer(httpHeaders -> {
+						httpHeaders.add("Content-Type", "application/json");
+						httpHeaders.add("Authorization", "Bearer " + properties.getApiKey());
+					})
+					.build(), jsonParseTool, properties);
 	}
 
 }
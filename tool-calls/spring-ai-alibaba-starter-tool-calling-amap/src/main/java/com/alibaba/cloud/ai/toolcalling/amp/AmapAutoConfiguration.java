@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.amp;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -36,9 +37,10 @@ public class AmapAutoConfiguration {
 	@Bean(name = AmapConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Get weather information according to address from Amap.")
-	public WeatherSearchService gaoDeGetAddressWeather(JsonParseTool jsonParseTool, AmapProperties amapProperties) {
+	public WeatherSearchService gaoDeGetAddressWeather(JsonParseTool jsonParseTool, AmapProperties amapProperties,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new WeatherSearchService(jsonParseTool, amapProperties,
-				WebClientTool.builder(jsonParseTool, amapProperties).build());
+				WebClientTool.builder(jsonParseTool, amapProperties).httpRuntime(toolHttpRuntime).build());
 	}
 
 }
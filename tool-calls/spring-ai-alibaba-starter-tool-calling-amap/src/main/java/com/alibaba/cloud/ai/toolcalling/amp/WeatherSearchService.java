@@ -15,6 +15,7 @@
  */
 package com.alibaba.cloud.ai.toolcalling.amp;
 
+import com.alibaba.cloud.ai.toolcalling.common.JsonDocument;
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import com.fasterxml.jackson.annotation.JsonClassDescription;
@@ -83,9 +84,8 @@ public class WeatherSearchService implements Function<WeatherSearchService.Reque
 	public Response apply(Request request) {
 		String responseBody = this.getAddressCityCode(request.address);
 		try {
-			String arrayString = jsonParseTool.getFieldValueAsString(responseBody, "geocodes");
-			String firstElement = jsonParseTool.getFirstElementFromJsonArrayString(arrayString);
-			return new Response(this.getWeather(jsonParseTool.getFieldValue(firstElement, String.class, "adcode")));
+			JsonDocument geocode = jsonParseTool.parse(responseBody).getFirstElement("geocodes");
+			return new Response(this.getWeather(geocode.getFieldValue(String.class, "adcode")));
 		}
 		catch (Exception e) {
 			return new Response("Error occurred while processing the request.");
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.baidumap;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,8 +59,11 @@ public class BaiDuMapAutoConfiguration {
 	}
 
 	@Bean
-	public BaiDuMapTools baiDuMapTools(BaiDuMapProperties properties, JsonParseTool jsonParseTool) {
-		return new BaiDuMapTools(properties, WebClientTool.builder(jsonParseTool, properties).build(), jsonParseTool);
+	public BaiDuMapTools baiDuMapTools(BaiDuMapProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
+		return new BaiDuMapTools(properties, WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
+			.build(), jsonParseTool);
 	}
 
 }
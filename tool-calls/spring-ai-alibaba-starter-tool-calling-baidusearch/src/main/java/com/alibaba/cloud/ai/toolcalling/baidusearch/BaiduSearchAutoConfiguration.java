@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.baidusearch;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -42,7 +43,8 @@ public class BaiduSearchAutoConfiguration {
 	@Bean(name = BaiduSearchConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use baidu search engine to query for the latest news.")
-	public BaiduSearchService baiduSearch(JsonParseTool jsonParseTool, BaiduSearchProperties properties) {
+	public BaiduSearchService baiduSearch(JsonParseTool jsonParseTool, BaiduSearchProperties properties,
+			ToolHttpRuntime toolHttpRuntime) {
 		Consumer<HttpHeaders> consumer = headers -> {
 			headers.add(HttpHeaders.USER_AGENT,
 					DEFAULT_USER_AGENTS[ThreadLocalRandom.current().nextInt(DEFAULT_USER_AGENTS.length)]);
@@ -51,21 +53,27 @@ public class BaiduSearchAutoConfiguration {
 			headers.add(HttpHeaders.ACCEPT_LANGUAGE, "zh-CN,zh;q=0.9");
 		};
 		return new BaiduSearchService(jsonParseTool, properties,
-				WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(consumer).build());
+				WebClientTool.builder(jsonParseTool, properties)
+					.httpRuntime(toolHttpRuntime)
+					.httpHeadersConsumer(consumer)
+					.build());
 	}
 
 	@Bean(name = BaiduSearchConstants.TOOL_NAME_AI)
 	@ConditionalOnMissingBean
 	@Description("Use baidu ai search engine to query information.")
 	@ConditionalOnProperty(prefix = BaiduSearchConstants.CONFIG_PREFIX_AI, name = "enabled", havingValue = "true")
-	public BaiduAiSearchService baiduAiSearch(JsonParseTool jsonParseTool, BaiduAiSearchProperties properties) {
+	public BaiduAiSearchService baiduAiSearch(JsonParseTool jsonParseTool, BaiduAiSearchProperties properties,
+			ToolHttpRuntime toolHttpRuntime) {
 		Consumer<HttpHeaders> consumer = headers -> {
 			headers.add("Content-Type", "application/json");
 			headers.add("Authorization", "Bearer " + properties.getApiKey());
 		};
 		return new BaiduAiSearchService(
-				WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(consumer).build(), jsonParseTool,
-				properties);
+				WebClientTool.builder(jsonParseTool, properties)
+					.httpRuntime(toolHttpRuntime)
+					.httpHeadersConsumer(consumer)
+					.build(), jsonParseTool, properties);
 	}
 
 }
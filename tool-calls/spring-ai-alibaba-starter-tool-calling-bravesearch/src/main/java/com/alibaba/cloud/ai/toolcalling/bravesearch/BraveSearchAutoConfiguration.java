@@ -17,6 +17,7 @@ package com.alibaba.cloud.ai.toolcalling.bravesearch;
 
 import com.alibaba.cloud.ai.toolcalling.common.CommonToolCallConstants;
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -41,7 +42,8 @@ public class BraveSearchAutoConfiguration {
 	@Bean(name = BraveSearchConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use brave search engine to query.")
-	public BraveSearchService braveSearch(BraveSearchProperties properties, JsonParseTool jsonParseTool) {
+	public BraveSearchService braveSearch(BraveSearchProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		Consumer<HttpHeaders> consumer = headers -> {
 			headers.add(HttpHeaders.USER_AGENT, CommonToolCallConstants.DEFAULT_USER_AGENTS[ThreadLocalRandom.current()
 				.nextInt(CommonToolCallConstants.DEFAULT_USER_AGENTS.length)]);
@@ -50,7 +52,10 @@ public class BraveSearchAutoConfiguration {
 			headers.add("X-Subscription-Token", properties.getApiKey());
 		};
 		return new BraveSearchService(
-				WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(consumer).build(), jsonParseTool);
+				WebClientTool.builder(jsonParseTool, properties)
+					.httpRuntime(toolHttpRuntime)
+					.httpHeadersConsumer(consumer)
+					.build(), jsonParseTool);
 	}
 
 }
@@ -15,7 +15,10 @@
  */
 package com.alibaba.cloud.ai.toolcalling.common;
 
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -23,8 +26,24 @@ import org.springframework.context.annotation.Configuration;
  * @author vlsmb
  */
 @Configuration
+@EnableConfigurationProperties(ToolHttpProperties.class)
 public class CommonToolCallAutoConfiguration {
 
+	@Bean(destroyMethod = "dispose")
+	@ConditionalOnMissingBean
+	public ToolHttpRuntime toolHttpRuntime(ToolHttpProperties properties,
+			ObjectProvider<ObservationRegistry> observationRegistry) {
+		return ToolHttpRuntime.builder()
+			.maxConnectionsPerHost(properties.getMaxConnectionsPerHost())
+			.pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+			.maxIdleTime(properties.getMaxIdleTime())
+			.cacheTtl(properties.getCacheTtl())
+			.cacheMaxEntries(properties.getCacheMaxEntries())
+			.singleFlight(properties.isSingleFlight())
+			.observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
+			.build();
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public JsonParseTool jsonParseService() {
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.toolcalling.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A JSON string parsed once by {@link JsonParseTool#parse(String)}, answering any number
+ * of field lookups against the same tree instead of parsing the string again for each
+ * one. Field lookups follow obj.fieldName1.fieldName2..., a missing field resolves to a
+ * missing node like {@link JsonNode#path(String)}.
+ */
+public class JsonDocument {
+
+	private final ObjectMapper objectMapper;
+
+	private final JsonNode root;
+
+	JsonDocument(ObjectMapper objectMapper, JsonNode root) {
+		this.objectMapper = objectMapper;
+		this.root = root;
+	}
+
+	public JsonNode getRoot() {
+		return root;
+	}
+
+	/**
+	 * Get the node of obj.fieldName1.fileName2...
+	 * @param fieldNames keyNames, the root node when empty
+	 */
+	public JsonNode getNode(String... fieldNames) {
+		JsonNode node = root;
+		for (String fieldName : fieldNames) {
+			node = node.path(fieldName);
+		}
+		return node;
+	}
+
+	/**
+	 * Get the node at a JSON Pointer such as {@code /items/0/name}
+	 * @param jsonPointer JSON Pointer expression
+	 */
+	public JsonNode at(String jsonPointer) {
+		return root.at(jsonPointer);
+	}
+
+	/**
+	 * Deserialize obj.fieldName1.fileName2... into an object of type T
+	 * @param clazz target class
+	 * @param fieldNames keyNames
+	 */
+	public <T> T getFieldValue(Class<T> clazz, String... fieldNames) throws JsonProcessingException {
+		return objectMapper.treeToValue(getNode(fieldNames), clazz);
+	}
+
+	/**
+	 * Deserialize obj.fieldName1.fileName2... into an object of type T
+	 * @param typeRef target class
+	 * @param fieldNames keyNames
+	 */
+	public <T> T getFieldValue(TypeReference<T> typeRef, String... fieldNames) throws JsonProcessingException {
+		return objectMapper.treeToValue(getNode(fieldNames), typeRef);
+	}
+
+	/**
+	 * Get the json string of obj.fieldName1.fileName2..., empty when missing
+	 * @param fieldNames keyNames
+	 */
+	public String getFieldValueAsString(String... fieldNames) {
+		return getNode(fieldNames).toString();
+	}
+
+	/**
+	 * Get the text value of obj.fieldName1.fileName2..., empty when missing
+	 * @param fieldNames keyNames
+	 */
+	public String getFieldValueAsText(String... fieldNames) {
+		return getNode(fieldNames).asText();
+	}
+
+	/**
+	 * Get the first element of the array at obj.fieldName1.fileName2...
+	 * @param fieldNames keyNames, the root node when empty
+	 * @return the element as a document, null when not an array or empty
+	 */
+	public JsonDocument getFirstElement(String... fieldNames) {
+		JsonNode node = getNode(fieldNames);
+		if (node.isArray() && !node.isEmpty()) {
+			return new JsonDocument(objectMapper, node.get(0));
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return root.toString();
+	}
+
+}
@@ -15,18 +15,27 @@
  */
 package com.alibaba.cloud.ai.toolcalling.common;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author vlsmb
@@ -56,6 +65,101 @@ public class JsonParseTool {
 		return objectMapper.readValue(json, typeRef);
 	}
 
+	/**
+	 * Parse the json string once, for reading several fields of the same response
+	 * @param json json string
+	 */
+	public JsonDocument parse(String json) throws JsonProcessingException {
+		return new JsonDocument(objectMapper, objectMapper.readTree(json));
+	}
+
+	/**
+	 * Read only the values at the given JSON Pointers, such as {@code /user/login}, with
+	 * a streaming parser. Subtrees outside the requested paths are skipped without being
+	 * built and parsing stops once every path is found, which suits large payloads of
+	 * which only a few values are needed.
+	 * @param json json string
+	 * @param jsonPointers JSON Pointer expressions
+	 * @return the value of each pointer, a missing node when absent
+	 */
+	public Map<String, JsonNode> extractFieldValues(String json, String... jsonPointers) throws IOException {
+		try (JsonParser parser = objectMapper.createParser(json)) {
+			return extractFieldValues(parser, jsonPointers);
+		}
+	}
+
+	/**
+	 * Read only the values at the given JSON Pointers from a stream, see
+	 * {@link #extractFieldValues(String, String...)}. The stream is not closed.
+	 * @param inputStream json input stream
+	 * @param jsonPointers JSON Pointer expressions
+	 */
+	public Map<String, JsonNode> extractFieldValues(InputStream inputStream, String... jsonPointers)
+			throws IOException {
+		try (JsonParser parser = objectMapper.createParser(inputStream)) {
+			return extractFieldValues(parser, jsonPointers);
+		}
+	}
+
+	private Map<String, JsonNode> extractFieldValues(JsonParser parser, String... jsonPointers) throws IOException {
+		Map<String, JsonNode> values = new LinkedHashMap<>();
+		Set<String> remaining = new HashSet<>();
+		Set<String> prefixes = new HashSet<>();
+		for (String jsonPointer : jsonPointers) {
+			values.put(jsonPointer, MissingNode.getInstance());
+			for (JsonPointer pointer = JsonPointer.compile(jsonPointer); pointer != null; pointer = pointer.head()) {
+				prefixes.add(pointer.toString());
+			}
+			remaining.add(JsonPointer.compile(jsonPointer).toString());
+		}
+		parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+		if (!remaining.isEmpty() && parser.nextToken() != null) {
+			extractValue(parser, "", remaining, prefixes, values);
+		}
+		return values;
+	}
+
+	/**
+	 * Visit the value at the current token, whose pointer is {@code path}
+	 * @return false once every requested value was found
+	 */
+	private boolean extractValue(JsonParser parser, String path, Set<String> remaining, Set<String> prefixes,
+			Map<String, JsonNode> values) throws IOException {
+		if (remaining.contains(path)) {
+			// the subtree is built anyway, also resolve the requested values below it
+			JsonNode value = parser.readValueAsTree();
+			for (Map.Entry<String, JsonNode> entry : values.entrySet()) {
+				String pointer = JsonPointer.compile(entry.getKey()).toString();
+				if (pointer.equals(path) || pointer.startsWith(path + "/")) {
+					entry.setValue(value.at(pointer.substring(path.length())));
+					remaining.remove(pointer);
+				}
+			}
+			return !remaining.isEmpty();
+		}
+		if (!prefixes.contains(path)) {
+			parser.skipChildren();
+			return true;
+		}
+		if (parser.currentToken() == JsonToken.START_OBJECT) {
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String fieldPath = path + "/" + parser.currentName().replace("~", "~0").replace("/", "~1");
+				parser.nextToken();
+				if (!extractValue(parser, fieldPath, remaining, prefixes, values)) {
+					return false;
+				}
+			}
+		}
+		else if (parser.currentToken() == JsonToken.START_ARRAY) {
+			for (int index = 0; parser.nextToken() != JsonToken.END_ARRAY; index++) {
+				if (!extractValue(parser, path + "/" + index, remaining, prefixes, values)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * convert json string to List
 	 * @param json json string
@@ -139,7 +243,7 @@ public class JsonParseTool {
 	 */
 	public <T> T getDepthFieldValue(String json, TypeReference<T> typeRef, String... fieldNames)
 			throws JsonProcessingException {
-		return this.jsonToObject(this.getDepthFieldValueAsString(json, fieldNames), typeRef);
+		return this.jsonToObject(this.parse(json).getFieldValueAsString(fieldNames), typeRef);
 	}
 
 	/**
@@ -148,10 +252,10 @@ public class JsonParseTool {
 	 * @param fieldNames keyNames
 	 */
 	public String getDepthFieldValueAsString(String json, String... fieldNames) throws JsonProcessingException {
-		for (String fieldName : fieldNames) {
-			json = getFieldValueAsString(json, fieldName);
+		if (fieldNames.length == 0) {
+			return json;
 		}
-		return json;
+		return this.parse(json).getFieldValueAsString(fieldNames);
 	}
 
 	/**
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.toolcalling.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@link ToolHttpRuntime} shared by the tool-calling services
+ */
+@ConfigurationProperties(prefix = ToolHttpProperties.CONFIG_PREFIX)
+public class ToolHttpProperties {
+
+	public static final String CONFIG_PREFIX = CommonToolCallConstants.TOOL_CALLING_CONFIG_PREFIX + ".http";
+
+	/**
+	 * Maximum number of pooled connections to one remote host
+	 */
+	private int maxConnectionsPerHost = ToolHttpRuntime.DEFAULT_MAX_CONNECTIONS_PER_HOST;
+
+	/**
+	 * Maximum number of requests waiting for a connection to one remote host, 0 for the
+	 * reactor-netty default, -1 for no limit
+	 */
+	private int pendingAcquireMaxCount;
+
+	/**
+	 * Time after which an idle pooled connection is closed
+	 */
+	private Duration maxIdleTime = ToolHttpRuntime.DEFAULT_MAX_IDLE_TIME;
+
+	/**
+	 * Time to live of cached GET responses, zero disables the cache
+	 */
+	private Duration cacheTtl = Duration.ZERO;
+
+	/**
+	 * Maximum number of cached GET responses
+	 */
+	private int cacheMaxEntries = ToolHttpRuntime.DEFAULT_CACHE_MAX_ENTRIES;
+
+	/**
+	 * Whether identical GET requests in flight at the same time share one call
+	 */
+	private boolean singleFlight = true;
+
+	public int getMaxConnectionsPerHost() {
+		return maxConnectionsPerHost;
+	}
+
+	public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+	}
+
+	public int getPendingAcquireMaxCount() {
+		return pendingAcquireMaxCount;
+	}
+
+	public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+		this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+	}
+
+	public Duration getMaxIdleTime() {
+		return maxIdleTime;
+	}
+
+	public void setMaxIdleTime(Duration maxIdleTime) {
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	public Duration getCacheTtl() {
+		return cacheTtl;
+	}
+
+	public void setCacheTtl(Duration cacheTtl) {
+		this.cacheTtl = cacheTtl;
+	}
+
+	public int getCacheMaxEntries() {
+		return cacheMaxEntries;
+	}
+
+	public void setCacheMaxEntries(int cacheMaxEntries) {
+		this.cacheMaxEntries = cacheMaxEntries;
+	}
+
+	public boolean isSingleFlight() {
+		return singleFlight;
+	}
+
+	public void setSingleFlight(boolean singleFlight) {
+		this.singleFlight = singleFlight;
+	}
+
+}
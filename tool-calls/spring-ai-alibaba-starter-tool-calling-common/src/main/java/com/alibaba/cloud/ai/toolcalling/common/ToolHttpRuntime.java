@@ -0,0 +1,293 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.toolcalling.common;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * HTTP resources shared by the {@link WebClientTool}s of all tool-calling services: one
+ * pooled {@link ConnectionProvider} with a connection limit per remote host, an optional
+ * TTL cache of GET responses, single-flight collapsing of identical in-flight GET
+ * requests, and a latency observation per tool call.
+ * <p>
+ * Cache keys are built from the tool's default headers and the normalized request URI,
+ * so tools calling the same endpoint with different credentials never share responses.
+ */
+public class ToolHttpRuntime {
+
+	/**
+	 * Name of the observation recorded for each tool HTTP call
+	 */
+	public static final String OBSERVATION_NAME = "spring.ai.alibaba.toolcalling.http";
+
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 50;
+
+	public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofSeconds(30);
+
+	public static final int DEFAULT_CACHE_MAX_ENTRIES = 1000;
+
+	private static final AtomicReference<ToolHttpRuntime> DEFAULT_RUNTIME = new AtomicReference<>();
+
+	private final ConnectionProvider connectionProvider;
+
+	private final Duration cacheTtl;
+
+	private final boolean singleFlight;
+
+	private final ObservationRegistry observationRegistry;
+
+	private final Map<String, CachedResponse> cache;
+
+	private final Map<String, Mono<String>> inFlight = new ConcurrentHashMap<>();
+
+	private ToolHttpRuntime(Builder builder) {
+		ConnectionProvider.Builder provider = ConnectionProvider.builder(builder.name)
+			.maxConnections(builder.maxConnectionsPerHost)
+			.maxIdleTime(builder.maxIdleTime)
+			.evictInBackground(builder.maxIdleTime);
+		if (builder.pendingAcquireMaxCount != 0) {
+			provider.pendingAcquireMaxCount(builder.pendingAcquireMaxCount);
+		}
+		this.connectionProvider = provider.build();
+		this.cacheTtl = builder.cacheTtl;
+		this.singleFlight = builder.singleFlight;
+		this.observationRegistry = builder.observationRegistry;
+		int cacheMaxEntries = builder.cacheMaxEntries;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+				return size() > cacheMaxEntries;
+			}
+		};
+	}
+
+	/**
+	 * The runtime used by {@link WebClientTool}s built without an explicit one, created
+	 * with default settings on first use. The tool auto-configurations always pass the
+	 * {@link ToolHttpRuntime} bean instead.
+	 */
+	public static ToolHttpRuntime getDefault() {
+		ToolHttpRuntime runtime = DEFAULT_RUNTIME.get();
+		while (runtime == null) {
+			DEFAULT_RUNTIME.compareAndSet(null, builder().build());
+			runtime = DEFAULT_RUNTIME.get();
+		}
+		return runtime;
+	}
+
+	public ConnectionProvider getConnectionProvider() {
+		return connectionProvider;
+	}
+
+	/**
+	 * Run a tool HTTP call through the runtime.
+	 * @param toolName tool name reported in the latency observation
+	 * @param method HTTP method
+	 * @param cacheKey normalized request key, {@code null} when the call must neither be
+	 * cached nor collapsed with identical calls
+	 * @param request the call, subscribed at most once per collapsed group
+	 */
+	public Mono<String> execute(String toolName, String method, String cacheKey, Mono<String> request) {
+		Mono<String> observed = observe(toolName, method, request);
+		if (cacheKey == null || (!singleFlight && !isCacheEnabled())) {
+			return observed;
+		}
+		return Mono.defer(() -> {
+			String cached = getCached(cacheKey);
+			if (cached != null) {
+				Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+					.lowCardinalityKeyValue("tool", toolName)
+					.lowCardinalityKeyValue("method", method)
+					.lowCardinalityKeyValue("cache", "hit")
+					.observe(() -> {
+					});
+				return Mono.just(cached);
+			}
+			Mono<String> call = observed.doOnNext(body -> putCached(cacheKey, body));
+			if (!singleFlight) {
+				return call;
+			}
+			return inFlight.computeIfAbsent(cacheKey, key -> {
+				AtomicReference<Mono<String>> shared = new AtomicReference<>();
+				shared.set(call.doFinally(signal -> inFlight.remove(key, shared.get())).cache());
+				return shared.get();
+			});
+		});
+	}
+
+	private Mono<String> observe(String toolName, String method, Mono<String> request) {
+		if (observationRegistry.isNoop()) {
+			return request;
+		}
+		return Mono.defer(() -> {
+			Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+				.lowCardinalityKeyValue("tool", toolName)
+				.lowCardinalityKeyValue("method", method)
+				.lowCardinalityKeyValue("cache", "miss")
+				.start();
+			return request.doOnError(observation::error).doFinally(signal -> observation.stop());
+		});
+	}
+
+	private boolean isCacheEnabled() {
+		return !cacheTtl.isZero() && !cacheTtl.isNegative();
+	}
+
+	private String getCached(String cacheKey) {
+		if (!isCacheEnabled()) {
+			return null;
+		}
+		synchronized (cache) {
+			CachedResponse response = cache.get(cacheKey);
+			if (response == null) {
+				return null;
+			}
+			if (System.nanoTime() - response.expiresAt() >= 0) {
+				cache.remove(cacheKey);
+				return null;
+			}
+			return response.body();
+		}
+	}
+
+	private void putCached(String cacheKey, String body) {
+		if (isCacheEnabled()) {
+			synchronized (cache) {
+				cache.put(cacheKey, new CachedResponse(body, System.nanoTime() + cacheTtl.toNanos()));
+			}
+		}
+	}
+
+	/**
+	 * Drop all cached responses
+	 */
+	public void clearCache() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Close the pooled connections
+	 */
+	public void dispose() {
+		DEFAULT_RUNTIME.compareAndSet(this, null);
+		connectionProvider.dispose();
+	}
+
+	private record CachedResponse(String body, long expiresAt) {
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static class Builder {
+
+		private String name = "spring-ai-alibaba-toolcalling";
+
+		private int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+
+		private int pendingAcquireMaxCount;
+
+		private Duration maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+
+		private Duration cacheTtl = Duration.ZERO;
+
+		private int cacheMaxEntries = DEFAULT_CACHE_MAX_ENTRIES;
+
+		private boolean singleFlight = true;
+
+		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		private Builder() {
+		}
+
+		public Builder name(String name) {
+			this.name = name;
+			return this;
+		}
+
+		/**
+		 * Maximum number of connections to one remote host
+		 */
+		public Builder maxConnectionsPerHost(int maxConnectionsPerHost) {
+			this.maxConnectionsPerHost = maxConnectionsPerHost;
+			return this;
+		}
+
+		/**
+		 * Maximum number of requests waiting for a connection to one remote host, 0 for
+		 * the reactor-netty default, -1 for no limit
+		 */
+		public Builder pendingAcquireMaxCount(int pendingAcquireMaxCount) {
+			this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+			return this;
+		}
+
+		public Builder maxIdleTime(Duration maxIdleTime) {
+			this.maxIdleTime = maxIdleTime;
+			return this;
+		}
+
+		/**
+		 * Time to live of cached GET responses, zero disables the cache
+		 */
+		public Builder cacheTtl(Duration cacheTtl) {
+			this.cacheTtl = cacheTtl;
+			return this;
+		}
+
+		public Builder cacheMaxEntries(int cacheMaxEntries) {
+			this.cacheMaxEntries = cacheMaxEntries;
+			return this;
+		}
+
+		/**
+		 * Whether identical GET requests in flight at the same time share one call
+		 */
+		public Builder singleFlight(boolean singleFlight) {
+			this.singleFlight = singleFlight;
+			return this;
+		}
+
+		public Builder observationRegistry(ObservationRegistry observationRegistry) {
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		public ToolHttpRuntime build() {
+			Assert.isTrue(maxConnectionsPerHost > 0, "maxConnectionsPerHost must be greater than 0");
+			Assert.isTrue(cacheMaxEntries > 0, "cacheMaxEntries must be greater than 0");
+			Assert.notNull(maxIdleTime, "maxIdleTime must not be null");
+			Assert.notNull(cacheTtl, "cacheTtl must not be null");
+			Assert.notNull(observationRegistry, "observationRegistry must not be null");
+			return new ToolHttpRuntime(this);
+		}
+
+	}
+
+}
@@ -27,12 +27,21 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilderFactory;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -49,9 +58,21 @@ public class WebClientTool {
 
 	private final CommonToolCallProperties properties;
 
+	private final ToolHttpRuntime httpRuntime;
+
+	private final String toolName;
+
+	private final UriBuilderFactory uriBuilderFactory;
+
+	/**
+	 * Digest of the default headers, keeps responses of tools with different credentials
+	 * apart in the shared cache
+	 */
+	private final String headersDigest;
+
 	private ReactorClientHttpConnector createHttpConnector() {
-		return new ReactorClientHttpConnector(
-				HttpClient.create().responseTimeout(Duration.ofMinutes(properties.getNetworkTimeout())));
+		return new ReactorClientHttpConnector(HttpClient.create(httpRuntime.getConnectionProvider())
+			.responseTimeout(Duration.ofMinutes(properties.getNetworkTimeout())));
 	}
 
 	private ExchangeFilterFunction logRequest() {
@@ -87,13 +108,19 @@ public class WebClientTool {
 	private WebClientTool(Consumer<HttpHeaders> httpHeadersConsumer,
 			Function<ClientResponse, Mono<? extends Throwable>> is4xxException,
 			Function<ClientResponse, Mono<? extends Throwable>> is5xxException, CommonToolCallProperties properties,
-			JsonParseTool jsonParseTool) {
+			JsonParseTool jsonParseTool, ToolHttpRuntime httpRuntime, String toolName) {
 		this.jsonParseTool = jsonParseTool;
 		this.properties = properties;
+		this.httpRuntime = httpRuntime;
+		this.toolName = toolName;
+		this.uriBuilderFactory = new DefaultUriBuilderFactory(properties.getBaseUrl());
+		HttpHeaders defaultHeaders = new HttpHeaders();
+		httpHeadersConsumer.accept(defaultHeaders);
+		this.headersDigest = digest(new TreeMap<>(defaultHeaders).toString());
 		this.webClient = WebClient.builder()
 			.clientConnector(createHttpConnector())
-			.baseUrl(properties.getBaseUrl())
-			.defaultHeaders(httpHeadersConsumer)
+			.uriBuilderFactory(uriBuilderFactory)
+			.defaultHeaders(headers -> headers.addAll(defaultHeaders))
 			.defaultStatusHandler(HttpStatusCode::is4xxClientError, is4xxException)
 			.defaultStatusHandler(HttpStatusCode::is5xxServerError, is5xxException)
 			.codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(CommonToolCallConstants.MAX_MEMORY_SIZE))
@@ -102,11 +129,16 @@ public class WebClientTool {
 			.build();
 	}
 
+	/**
+	 * GET requests go through the response cache and in-flight collapsing of the
+	 * {@link ToolHttpRuntime}
+	 */
 	public Mono<String> get(String uri, MultiValueMap<String, String> params, Map<String, ?> variables) {
-		return webClient.get()
-			.uri(uriBuilder -> uriBuilder.path(uri).queryParams(params).build(variables))
-			.retrieve()
-			.bodyToMono(String.class);
+		return Mono.defer(() -> {
+			URI requestUri = uriBuilderFactory.builder().path(uri).queryParams(params).build(variables);
+			return httpRuntime.execute(toolName, "GET", cacheKey(requestUri),
+					webClient.get().uri(requestUri).retrieve().bodyToMono(String.class));
+		});
 	}
 
 	public Mono<String> get(String uri, MultiValueMap<String, String> params) {
@@ -129,12 +161,12 @@ public class WebClientTool {
 			else
 				return value;
 		})
-			.flatMap(json -> webClient.post()
+			.flatMap(json -> httpRuntime.execute(toolName, "POST", null, webClient.post()
 				.uri(uriBuilder -> uriBuilder.path(uri).queryParams(params).build(variables))
 				.contentType(mediaType)
 				.bodyValue(json)
 				.retrieve()
-				.bodyToMono(String.class))
+				.bodyToMono(String.class)))
 			.onErrorMap(JsonProcessingException.class, e -> new RuntimeException("Serialization failed", e));
 	}
 
@@ -174,12 +206,12 @@ public class WebClientTool {
 			else
 				return value;
 		})
-			.flatMap(json -> webClient.put()
+			.flatMap(json -> httpRuntime.execute(toolName, "PUT", null, webClient.put()
 				.uri(uriBuilder -> uriBuilder.path(uri).queryParams(params).build(variables))
 				.contentType(mediaType)
 				.bodyValue(json)
 				.retrieve()
-				.bodyToMono(String.class))
+				.bodyToMono(String.class)))
 			.onErrorMap(JsonProcessingException.class, e -> new RuntimeException("Serialization failed", e));
 	}
 
@@ -188,13 +220,47 @@ public class WebClientTool {
 	}
 
 	public Mono<String> delete(String uri) {
-		return webClient.delete().uri(uri).retrieve().bodyToMono(String.class);
+		return httpRuntime.execute(toolName, "DELETE", null,
+				webClient.delete().uri(uri).retrieve().bodyToMono(String.class));
 	}
 
 	public WebClient getWebClient() {
 		return webClient;
 	}
 
+	public String getToolName() {
+		return toolName;
+	}
+
+	/**
+	 * Key of a GET request: the default headers and the URI with its query parameters in
+	 * a stable order
+	 */
+	private String cacheKey(URI uri) {
+		StringBuilder key = new StringBuilder(headersDigest).append(' ')
+			.append(uri.getScheme())
+			.append("://")
+			.append(uri.getRawAuthority())
+			.append(uri.getRawPath());
+		String query = uri.getRawQuery();
+		if (query != null && !query.isEmpty()) {
+			String[] params = query.split("&");
+			Arrays.sort(params);
+			key.append('?').append(String.join("&", params));
+		}
+		return key.toString();
+	}
+
+	private static String digest(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
 	public static class Builder {
 
 		private final JsonParseTool jsonParseTool;
@@ -207,6 +273,10 @@ public class WebClientTool {
 
 		private Function<ClientResponse, Mono<? extends Throwable>> is5xxException;
 
+		private ToolHttpRuntime httpRuntime;
+
+		private String toolName;
+
 		private Builder(JsonParseTool jsonParseTool, CommonToolCallProperties properties) {
 			this.jsonParseTool = jsonParseTool;
 			this.properties = properties;
@@ -231,8 +301,30 @@ public class WebClientTool {
 			return this;
 		}
 
+		/**
+		 * Runtime providing the connection pool, cache and metrics, defaults to
+		 * {@link ToolHttpRuntime#getDefault()}
+		 */
+		public Builder httpRuntime(ToolHttpRuntime httpRuntime) {
+			this.httpRuntime = httpRuntime;
+			return this;
+		}
+
+		/**
+		 * Tool name reported in the latency metrics, defaults to the properties class
+		 * name without its "Properties" suffix
+		 */
+		public Builder toolName(String toolName) {
+			this.toolName = toolName;
+			return this;
+		}
+
 		public WebClientTool build() {
-			return new WebClientTool(httpHeadersConsumer, is4xxException, is5xxException, properties, jsonParseTool);
+			ToolHttpRuntime runtime = httpRuntime != null ? httpRuntime : ToolHttpRuntime.getDefault();
+			String name = toolName != null ? toolName
+					: properties.getClass().getSimpleName().replaceFirst("Properties$", "");
+			return new WebClientTool(httpHeadersConsumer, is4xxException, is5xxException, properties, jsonParseTool,
+					runtime, name);
 		}
 
 	}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.toolcalling.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of the field lookups of {@link JsonDocument}.
+ */
+class JsonDocumentTest {
+
+	private JsonDocument document;
+
+	@BeforeEach
+	void setUp() throws JsonProcessingException {
+		document = new JsonParseTool(new ObjectMapper())
+			.parse("{\"data\": {\"count\": 2, \"items\": [{\"name\": \"first\"}, {\"name\": \"second\"}],"
+					+ " \"none\": null, \"empty\": []}}");
+	}
+
+	@Test
+	void looksUpNestedFields() {
+		assertThat(document.getNode()).isSameAs(document.getRoot());
+		assertThat(document.getNode("data", "count").asInt()).isEqualTo(2);
+		assertThat(document.at("/data/items/1/name").asText()).isEqualTo("second");
+		assertThat(document.getFieldValueAsText("data", "items")).isEmpty();
+		assertThat(document.getFieldValueAsString("data", "items", "0")).isEmpty();
+		assertThat(document.getFieldValueAsString("data", "items"))
+			.isEqualTo("[{\"name\":\"first\"},{\"name\":\"second\"}]");
+	}
+
+	@Test
+	void missingAndNullFieldsResolveLikePath() {
+		assertThat(document.getNode("data", "missing", "deeper").isMissingNode()).isTrue();
+		assertThat(document.getFieldValueAsString("data", "missing")).isEmpty();
+		assertThat(document.getFieldValueAsString("data", "none")).isEqualTo("null");
+		assertThat(document.getFieldValueAsString("data", "none", "deeper")).isEmpty();
+	}
+
+	@Test
+	void deserializesFields() throws JsonProcessingException {
+		assertThat(document.getFieldValue(Integer.class, "data", "count")).isEqualTo(2);
+		List<Item> items = document.getFieldValue(new TypeReference<List<Item>>() {
+		}, "data", "items");
+		assertThat(items).extracting(Item::name).containsExactly("first", "second");
+	}
+
+	@Test
+	void firstElementOfArrays() {
+		assertThat(document.getFirstElement("data", "items").getFieldValueAsText("name")).isEqualTo("first");
+		assertThat(document.getFirstElement("data", "empty")).isNull();
+		assertThat(document.getFirstElement("data", "count")).isNull();
+		assertThat(document.getFirstElement("data", "missing")).isNull();
+	}
+
+	record Item(String name) {
+	}
+
+}
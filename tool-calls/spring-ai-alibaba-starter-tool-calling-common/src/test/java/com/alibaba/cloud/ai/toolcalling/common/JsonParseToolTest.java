@@ -0,0 +1,141 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.toolcalling.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of the JSON Pointer extraction and the depth field lookups of
+ * {@link JsonParseTool}.
+ */
+class JsonParseToolTest {
+
+	private static final String JSON = """
+			{
+			  "id": 7,
+			  "user": {"login": "octocat", "profile": {"bio": null, "tags": ["a", "b"]}},
+			  "items": [{"name": "first"}, {"name": "second", "extra": {"deep": [1, 2, 3]}}],
+			  "a/b": "slash",
+			  "m~n": "tilde",
+			  "empty": {}
+			}
+			""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final JsonParseTool jsonParseTool = new JsonParseTool(objectMapper);
+
+	@Test
+	void extractsNestedValuesAndArrayIndexes() throws IOException {
+		Map<String, JsonNode> values = jsonParseTool.extractFieldValues(JSON, "/id", "/user/login", "/items/1/name",
+				"/items/1/extra/deep/2", "/user/profile/tags/0");
+
+		assertThat(values.keySet()).containsExactly("/id", "/user/login", "/items/1/name", "/items/1/extra/deep/2",
+				"/user/profile/tags/0");
+		assertThat(values.get("/id").asInt()).isEqualTo(7);
+		assertThat(values.get("/user/login").asText()).isEqualTo("octocat");
+		assertThat(values.get("/items/1/name").asText()).isEqualTo("second");
+		assertThat(values.get("/items/1/extra/deep/2").asInt()).isEqualTo(3);
+		assertThat(values.get("/user/profile/tags/0").asText()).isEqualTo("a");
+	}
+
+	@Test
+	void absentValuesAreMissingNodes() throws IOException {
+		Map<String, JsonNode> values = jsonParseTool.extractFieldValues(JSON, "/nope", "/items/5/name",
+				"/user/login/more", "/user/profile/bio");
+
+		assertThat(values.get("/nope").isMissingNode()).isTrue();
+		assertThat(values.get("/items/5/name").isMissingNode()).isTrue();
+		assertThat(values.get("/user/login/more").isMissingNode()).isTrue();
+		assertThat(values.get("/user/profile/bio").isNull()).isTrue();
+	}
+
+	@Test
+	void overlappingPointersResolveAgainstTheSameSubtree() throws IOException {
+		for (List<String> pointers : List.of(List.of("/user/profile/tags/1", "/user"),
+				List.of("/user", "/user/profile/tags/1"))) {
+			Map<String, JsonNode> values = jsonParseTool.extractFieldValues(JSON, pointers.toArray(new String[0]));
+
+			assertThat(values.get("/user").path("login").asText()).isEqualTo("octocat");
+			assertThat(values.get("/user/profile/tags/1").asText()).isEqualTo("b");
+		}
+	}
+
+	@Test
+	void escapedFieldNamesAreMatched() throws IOException {
+		Map<String, JsonNode> values = jsonParseTool.extractFieldValues(JSON, "/a~1b", "/m~0n");
+
+		assertThat(values.get("/a~1b").asText()).isEqualTo("slash");
+		assertThat(values.get("/m~0n").asText()).isEqualTo("tilde");
+	}
+
+	@Test
+	void rootPointerReturnsTheWholeDocument() throws IOException {
+		Map<String, JsonNode> values = jsonParseTool.extractFieldValues(JSON, "", "/empty");
+
+		assertThat(values.get("")).isEqualTo(objectMapper.readTree(JSON));
+		assertThat(values.get("/empty").isEmpty()).isTrue();
+	}
+
+	@Test
+	void parsingStopsOnceEveryValueIsFound() throws IOException {
+		// the payload is cut off after the requested values
+		String truncated = "{\"id\": 7, \"user\": {\"login\": \"octocat\"}, \"items\": [{\"name\": ";
+
+		assertThat(jsonParseTool.extractFieldValues(truncated, "/user/login", "/id").get("/user/login").asText())
+			.isEqualTo("octocat");
+
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(truncated.getBytes(StandardCharsets.UTF_8));
+		assertThat(jsonParseTool.extractFieldValues(inputStream, "/id").get("/id").asInt()).isEqualTo(7);
+	}
+
+	@Test
+	void depthFieldValueAsStringMatchesFieldByFieldParsing() throws JsonProcessingException {
+		String json = "{\"a\": {\"b\": {\"c\": 1}, \"n\": null, \"s\": \"text\", \"arr\": [1]}}";
+		List<String[]> paths = List.of(new String[0], new String[] { "a" }, new String[] { "a", "b", "c" },
+				new String[] { "missing" }, new String[] { "missing", "b" }, new String[] { "missing", "b", "c" },
+				new String[] { "a", "n" }, new String[] { "a", "n", "x" }, new String[] { "a", "s", "x" },
+				new String[] { "a", "arr", "x" });
+
+		for (String[] path : paths) {
+			assertThat(jsonParseTool.getDepthFieldValueAsString(json, path)).as(String.join(".", path))
+				.isEqualTo(parseFieldByField(json, path));
+		}
+	}
+
+	/**
+	 * The lookup as it was done before the tree was parsed once, re-parsing the string
+	 * of each intermediate field
+	 */
+	private String parseFieldByField(String json, String... fieldNames) throws JsonProcessingException {
+		for (String fieldName : fieldNames) {
+			json = objectMapper.readTree(json).path(fieldName).toString();
+		}
+		return json;
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2024-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.toolcalling.common;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests of {@link WebClientTool} on the shared {@link ToolHttpRuntime} against a local
+ * HTTP stub counting the calls it receives.
+ */
+class WebClientToolTest {
+
+	private HttpServer server;
+
+	private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+	private ToolHttpRuntime runtime;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/", exchange -> {
+			String path = exchange.getRequestURI().getPath();
+			int count = calls.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+			try {
+				// slow enough for concurrent callers to overlap
+				Thread.sleep(200);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = (path + "#" + count).getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+		if (runtime != null) {
+			runtime.dispose();
+		}
+	}
+
+	private WebClientTool webClientTool(ToolHttpRuntime runtime, String apiKey) {
+		CommonToolCallProperties properties = new CommonToolCallProperties(
+				"http://localhost:" + server.getAddress().getPort());
+		return WebClientTool.builder(new JsonParseTool(), properties)
+			.httpHeadersConsumer(headers -> headers.set("X-Api-Key", apiKey))
+			.httpRuntime(runtime)
+			.toolName("stub")
+			.build();
+	}
+
+	@Test
+	void testConcurrentIdenticalRequestsShareOneCall() {
+		runtime = ToolHttpRuntime.builder().build();
+		WebClientTool tool = webClientTool(runtime, "key");
+
+		List<String> bodies = Flux.range(0, 20)
+			.flatMap(i -> tool.get("/search", Map.of()))
+			.collectList()
+			.block(Duration.ofSeconds(10));
+
+		assertThat(bodies).hasSize(20).containsOnly("/search#1");
+		assertThat(calls.get("/search")).hasValue(1);
+
+		// without the cache the next request after completion is sent again
+		assertThat(tool.get("/search").block(Duration.ofSeconds(10))).isEqualTo("/search#2");
+	}
+
+	@Test
+	void testResponseCacheKeyedByNormalizedRequest() {
+		runtime = ToolHttpRuntime.builder().cacheTtl(Duration.ofMinutes(1)).build();
+		WebClientTool tool = webClientTool(runtime, "key");
+
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		params.add("q", "weather");
+		params.add("city", "hangzhou");
+		MultiValueMap<String, String> reordered = new LinkedMultiValueMap<>();
+		reordered.add("city", "hangzhou");
+		reordered.add("q", "weather");
+
+		assertThat(tool.get("/weather", params).block(Duration.ofSeconds(10))).isEqualTo("/weather#1");
+		assertThat(tool.get("/weather", reordered).block(Duration.ofSeconds(10))).isEqualTo("/weather#1");
+		assertThat(calls.get("/weather")).hasValue(1);
+
+		// other credentials never see cached responses
+		WebClientTool otherTool = webClientTool(runtime, "other-key");
+		assertThat(otherTool.get("/weather", params).block(Duration.ofSeconds(10))).isEqualTo("/weather#2");
+
+		runtime.clearCache();
+		assertThat(tool.get("/weather", params).block(Duration.ofSeconds(10))).isEqualTo("/weather#3");
+	}
+
+	@Test
+	void testPostIsNeitherCachedNorCollapsed() {
+		runtime = ToolHttpRuntime.builder().cacheTtl(Duration.ofMinutes(1)).build();
+		WebClientTool tool = webClientTool(runtime, "key");
+
+		List<String> bodies = Flux.range(0, 3)
+			.flatMap(i -> tool.post("/translate", Map.of("text", "hello")))
+			.collectList()
+			.block(Duration.ofSeconds(10));
+
+		assertThat(bodies).hasSize(3).doesNotHaveDuplicates();
+		assertThat(calls.get("/translate")).hasValue(3);
+	}
+
+	@Test
+	void testLatencyObservationPerTool() {
+		List<Observation.Context> stopped = new CopyOnWriteArrayList<>();
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+			@Override
+			public void onStop(Observation.Context context) {
+				stopped.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+		});
+		runtime = ToolHttpRuntime.builder().cacheTtl(Duration.ofMinutes(1)).observationRegistry(registry).build();
+		WebClientTool tool = webClientTool(runtime, "key");
+
+		Mono.when(tool.get("/news"), tool.get("/news")).block(Duration.ofSeconds(10));
+		tool.get("/news").block(Duration.ofSeconds(10));
+
+		assertThat(stopped).extracting(context -> context.getLowCardinalityKeyValue("tool").getValue())
+			.containsOnly("stub");
+		assertThat(stopped).extracting(context -> context.getLowCardinalityKeyValue("cache").getValue())
+			.containsExactly("miss", "hit");
+		assertThat(calls.get("/news")).hasValue(1);
+	}
+
+}
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.duckduckgo;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -45,13 +46,14 @@ public class DuckDuckGoAutoConfiguration {
 	@ConditionalOnMissingBean
 	@Description("Use DuckDuckGo search to query for the latest news.")
 	public DuckDuckGoQueryNewsService duckDuckGoQueryNews(JsonParseTool jsonParseTool,
-			DuckDuckGoProperties duckDuckGoProperties) {
+			DuckDuckGoProperties duckDuckGoProperties, ToolHttpRuntime toolHttpRuntime) {
 		Consumer<HttpHeaders> consumer = headers -> {
 			headers.add(HttpHeaders.USER_AGENT,
 					DEFAULT_USER_AGENTS[ThreadLocalRandom.current().nextInt(DEFAULT_USER_AGENTS.length)]);
 			headers.add(HttpHeaders.CONNECTION, "keep-alive");
 		};
 		WebClientTool webClientTool = WebClientTool.builder(jsonParseTool, duckDuckGoProperties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(consumer)
 			.build();
 		return new DuckDuckGoQueryNewsService(duckDuckGoProperties, webClientTool);
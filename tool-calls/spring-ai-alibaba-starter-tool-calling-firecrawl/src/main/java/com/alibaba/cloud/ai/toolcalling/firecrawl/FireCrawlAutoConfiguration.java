@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.firecrawl;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -36,15 +37,18 @@ public class FireCrawlAutoConfiguration {
 	@Bean(name = FireCrawlConstants.TOOL_NAME)
 	@Description("Firecrawl Service Plugin.")
 	@ConditionalOnMissingBean
-	public FireCrawlService fireCrawl(JsonParseTool jsonParseTool, FireCrawlProperties properties) {
+	public FireCrawlService fireCrawl(JsonParseTool jsonParseTool, FireCrawlProperties properties,
+			ToolHttpRuntime toolHttpRuntime) {
 		Consumer<HttpHeaders> consumer = (httpHeaders) -> {
 			httpHeaders.add("Accept", "application/json");
 			httpHeaders.add("Content-Type", "application/json");
 			httpHeaders.add("Authorization", "Bearer " + properties.getApiKey());
 		};
 		return new FireCrawlService(
-				WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(consumer).build(), jsonParseTool,
-				properties);
+				WebClientTool.builder(jsonParseTool, properties)
+					.httpRuntime(toolHttpRuntime)
+					.httpHeadersConsumer(consumer)
+					.build(), jsonParseTool, properties);
 	}
 
 }
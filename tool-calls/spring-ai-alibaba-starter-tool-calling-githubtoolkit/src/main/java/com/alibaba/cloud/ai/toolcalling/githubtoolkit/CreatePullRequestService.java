@@ -15,6 +15,7 @@
  */
 package com.alibaba.cloud.ai.toolcalling.githubtoolkit;
 
+import com.alibaba.cloud.ai.toolcalling.common.JsonDocument;
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import com.fasterxml.jackson.annotation.JsonClassDescription;
@@ -98,9 +99,10 @@ public class CreatePullRequestService implements Function<CreatePullRequestServi
 		String body = (String) prMap.get("body");
 		String htmlUrl = (String) prMap.get("html_url");
 
-		String userLogin = jsonParseTool.getDepthFieldValueAsString(json, "user", "login").replaceAll("\"", "");
-		String headRef = jsonParseTool.getDepthFieldValueAsString(json, "head", "ref").replaceAll("\"", "");
-		String baseRef = jsonParseTool.getDepthFieldValueAsString(json, "base", "ref").replaceAll("\"", "");
+		JsonDocument document = jsonParseTool.parse(json);
+		String userLogin = document.getFieldValueAsString("user", "login").replaceAll("\"", "");
+		String headRef = document.getFieldValueAsString("head", "ref").replaceAll("\"", "");
+		String baseRef = document.getFieldValueAsString("base", "ref").replaceAll("\"", "");
 
 		return new PullRequest(id, title, state, prNumber, userLogin, body, htmlUrl, headRef, baseRef);
 	}
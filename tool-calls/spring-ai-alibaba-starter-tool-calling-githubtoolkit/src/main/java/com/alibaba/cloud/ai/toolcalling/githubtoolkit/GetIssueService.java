@@ -15,6 +15,7 @@
  */
 package com.alibaba.cloud.ai.toolcalling.githubtoolkit;
 
+import com.alibaba.cloud.ai.toolcalling.common.JsonDocument;
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -73,24 +74,25 @@ public class GetIssueService implements Function<GetIssueService.Request, Respon
 	}
 
 	public Issue parseIssueDetails(String json) throws JsonProcessingException {
-		long id = Long.parseLong(jsonParseTool.getFieldValueAsString(json, "id"));
-		String title = jsonParseTool.getFieldValueAsString(json, "title").replaceAll("\"", "");
-		String state = jsonParseTool.getFieldValueAsString(json, "state").replaceAll("\"", "");
-		String createdAt = jsonParseTool.getFieldValueAsString(json, "created_at").replaceAll("\"", "");
-		String updatedAt = jsonParseTool.getFieldValueAsString(json, "updated_at").replaceAll("\"", "");
-		int comments = Integer.parseInt(jsonParseTool.getFieldValueAsString(json, "comments"));
-		String htmlUrl = jsonParseTool.getFieldValueAsString(json, "html_url").replaceAll("\"", "");
-		String body = jsonParseTool.getFieldValueAsString(json, "body").replaceAll("\"", "");
-		String closedAt = jsonParseTool.getFieldValueAsString(json, "closed_at").replaceAll("\"", "");
-
-		String userLogin = jsonParseTool.getDepthFieldValueAsString(json, "user", "login").replaceAll("\"", "");
-		String closedBy = jsonParseTool.getDepthFieldValueAsString(json, "closed_by", "login").replaceAll("\"", "");
+		JsonDocument document = jsonParseTool.parse(json);
+		long id = Long.parseLong(document.getFieldValueAsString("id"));
+		String title = document.getFieldValueAsString("title").replaceAll("\"", "");
+		String state = document.getFieldValueAsString("state").replaceAll("\"", "");
+		String createdAt = document.getFieldValueAsString("created_at").replaceAll("\"", "");
+		String updatedAt = document.getFieldValueAsString("updated_at").replaceAll("\"", "");
+		int comments = Integer.parseInt(document.getFieldValueAsString("comments"));
+		String htmlUrl = document.getFieldValueAsString("html_url").replaceAll("\"", "");
+		String body = document.getFieldValueAsString("body").replaceAll("\"", "");
+		String closedAt = document.getFieldValueAsString("closed_at").replaceAll("\"", "");
+
+		String userLogin = document.getFieldValueAsString("user", "login").replaceAll("\"", "");
+		String closedBy = document.getFieldValueAsString("closed_by", "login").replaceAll("\"", "");
 
 		List<String> labels = new ArrayList<>();
 		try {
-			List<Map<String, Object>> labelObjects = jsonParseTool.getFieldValue(json,
-					new TypeReference<List<Map<String, Object>>>() {
-					}, "labels");
+			List<Map<String, Object>> labelObjects = document
+				.getFieldValue(new TypeReference<List<Map<String, Object>>>() {
+				}, "labels");
 
 			if (labelObjects != null) {
 				labels = labelObjects.stream()
@@ -106,9 +108,9 @@ public class GetIssueService implements Function<GetIssueService.Request, Respon
 
 		List<String> assignees = new ArrayList<>();
 		try {
-			List<Map<String, Object>> assigneeObjects = jsonParseTool.getFieldValue(json,
-					new TypeReference<List<Map<String, Object>>>() {
-					}, "assignees");
+			List<Map<String, Object>> assigneeObjects = document
+				.getFieldValue(new TypeReference<List<Map<String, Object>>>() {
+				}, "assignees");
 
 			if (assigneeObjects != null) {
 				assignees = assigneeObjects.stream()
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.githubtoolkit;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -39,34 +40,41 @@ public class GithubToolKitAutoConfiguration {
 	@Bean(name = GithubToolKitConstants.GET_ISSUE_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("implement the function of get a GitHub issue operation")
-	public GetIssueService getIssue(GithubToolKitProperties properties, JsonParseTool jsonParseTool) {
-		WebClientTool githubWebClientTool = githubWebClientTool(properties, jsonParseTool);
+	public GetIssueService getIssue(GithubToolKitProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
+		WebClientTool githubWebClientTool = githubWebClientTool(properties, jsonParseTool, toolHttpRuntime);
 		return new GetIssueService(properties, githubWebClientTool, jsonParseTool);
 	}
 
 	@Bean(name = GithubToolKitConstants.CREATE_PR_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("implement the function of create GitHub pull request operation")
-	public CreatePullRequestService createPullRequest(GithubToolKitProperties properties, JsonParseTool jsonParseTool) {
-		WebClientTool githubWebClientTool = githubWebClientTool(properties, jsonParseTool);
+	public CreatePullRequestService createPullRequest(GithubToolKitProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
+		WebClientTool githubWebClientTool = githubWebClientTool(properties, jsonParseTool, toolHttpRuntime);
 		return new CreatePullRequestService(properties, githubWebClientTool, jsonParseTool);
 	}
 
 	@Bean(name = GithubToolKitConstants.SEARCH_REPOSITORY_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("implement the function of search the list of repositories operation")
-	public SearchRepositoryService searchRepository(GithubToolKitProperties properties, JsonParseTool jsonParseTool) {
-		WebClientTool githubWebClientTool = githubWebClientTool(properties, jsonParseTool);
+	public SearchRepositoryService searchRepository(GithubToolKitProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
+		WebClientTool githubWebClientTool = githubWebClientTool(properties, jsonParseTool, toolHttpRuntime);
 		return new SearchRepositoryService(githubWebClientTool, jsonParseTool);
 	}
 
-	private WebClientTool githubWebClientTool(GithubToolKitProperties properties, JsonParseTool jsonParseTool) {
-		return WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(headers -> {
-			headers.set(HttpHeaders.USER_AGENT, HttpHeaders.USER_AGENT);
-			headers.set(HttpHeaders.ACCEPT, "application/vnd.github.v3+json");
-			headers.set("X-GitHub-Api-Version", GithubToolKitProperties.X_GitHub_Api_Version);
-			headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getToken());
-		}).build();
+	private WebClientTool githubWebClientTool(GithubToolKitProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
+		return WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
+			.httpHeadersConsumer(headers -> {
+				headers.set(HttpHeaders.USER_AGENT, HttpHeaders.USER_AGENT);
+				headers.set(HttpHeaders.ACCEPT, "application/vnd.github.v3+json");
+				headers.set("X-GitHub-Api-Version", GithubToolKitProperties.X_GitHub_Api_Version);
+				headers.set(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getToken());
+			})
+			.build();
 	}
 
 }
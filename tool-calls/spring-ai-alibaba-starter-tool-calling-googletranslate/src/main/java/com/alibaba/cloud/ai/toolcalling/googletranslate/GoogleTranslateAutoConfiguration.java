@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.googletranslate;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -36,11 +37,15 @@ public class GoogleTranslateAutoConfiguration {
 	@Bean(name = GoogleTranslateConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Implement natural language translation capabilities.")
-	public GoogleTranslateService googleTranslate(JsonParseTool jsonParseTool, GoogleTranslateProperties properties) {
+	public GoogleTranslateService googleTranslate(JsonParseTool jsonParseTool, GoogleTranslateProperties properties,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new GoogleTranslateService(properties,
-				WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(headers -> {
-					headers.add("Content-Type", "application/json");
-				}).build(), jsonParseTool);
+				WebClientTool.builder(jsonParseTool, properties)
+					.httpRuntime(toolHttpRuntime)
+					.httpHeadersConsumer(headers -> {
+						headers.add("Content-Type", "application/json");
+					})
+					.build(), jsonParseTool);
 	}
 
 }
@@ -17,6 +17,7 @@
 package com.alibaba.cloud.ai.toolcalling.googletrends;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -37,12 +38,14 @@ public class GoogleTrendsAutoConfiguration {
 	@Bean(name = GoogleTrendsConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Google Trends API")
-	public GoogleTrendsService googleTrendsService(JsonParseTool jsonParseTool, GoogleTrendsProperties properties) {
+	public GoogleTrendsService googleTrendsService(JsonParseTool jsonParseTool, GoogleTrendsProperties properties,
+			ToolHttpRuntime toolHttpRuntime) {
 		Consumer<HttpHeaders> consumer = headers -> {
 			headers.add(HttpHeaders.USER_AGENT, GoogleTrendsConstants.USER_AGENT_VALUE);
 			headers.add(HttpHeaders.CONNECTION, "keep-alive");
 		};
 		WebClientTool webClientTool = WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(consumer)
 			.build();
 		return new GoogleTrendsService(webClientTool, jsonParseTool, properties);
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.jinacrawler;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -38,7 +39,8 @@ public class JinaCrawlerAutoConfiguration {
 	@Bean(name = JinaCrawlerConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Jina Reader Service Plugin.")
-	public JinaCrawlerService jinaCrawler(JsonParseTool jsonParseTool, JinaCrawlerProperties jinaProperties) {
+	public JinaCrawlerService jinaCrawler(JsonParseTool jsonParseTool, JinaCrawlerProperties jinaProperties,
+			ToolHttpRuntime toolHttpRuntime) {
 		Consumer<HttpHeaders> consumer = (httpHeaders) -> {
 			httpHeaders.add("Accept", jinaProperties.getAccept().toString());
 			httpHeaders.add("Content-Type", "application/json");
@@ -87,8 +89,10 @@ public class JinaCrawlerAutoConfiguration {
 			}
 		};
 		return new JinaCrawlerService(jsonParseTool,
-				WebClientTool.builder(jsonParseTool, jinaProperties).httpHeadersConsumer(consumer).build(),
-				jinaProperties);
+				WebClientTool.builder(jsonParseTool, jinaProperties)
+					.httpRuntime(toolHttpRuntime)
+					.httpHeadersConsumer(consumer)
+					.build(), jinaProperties);
 	}
 
 }
@@ -17,10 +17,16 @@ package com.alibaba.cloud.ai.toolcalling.memcached;
 
 import com.fasterxml.jackson.annotation.JsonClassDescription;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import net.spy.memcached.CASResponse;
+import net.spy.memcached.CASValue;
 import net.spy.memcached.MemcachedClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 /**
@@ -42,6 +48,16 @@ public class MemcachedService {
 
 	private final MemcachedServiceAppender appender;
 
+	private final MemcachedServiceAdder adder;
+
+	private final MemcachedServiceCasGetter casGetter;
+
+	private final MemcachedServiceCasSetter casSetter;
+
+	private final MemcachedServiceCasDeleter casDeleter;
+
+	private final MemcachedServiceBulkGetter bulkGetter;
+
 	public MemcachedService(MemcachedClient memcachedClient) {
 		this.memcachedClient = memcachedClient;
 		setter = new MemcachedServiceSetter();
@@ -49,6 +65,11 @@ public class MemcachedService {
 		deleter = new MemcachedServiceDeleter();
 		replacer = new MemcachedServiceReplacer();
 		appender = new MemcachedServiceAppender();
+		adder = new MemcachedServiceAdder();
+		casGetter = new MemcachedServiceCasGetter();
+		casSetter = new MemcachedServiceCasSetter();
+		casDeleter = new MemcachedServiceCasDeleter();
+		bulkGetter = new MemcachedServiceBulkGetter();
 	}
 
 	public class MemcachedServiceSetter implements Function<MemcachedServiceSetter.Request, Boolean> {
@@ -155,6 +176,100 @@ public class MemcachedService {
 
 	}
 
+	public class MemcachedServiceAdder implements Function<MemcachedServiceAdder.Request, Boolean> {
+
+		@Override
+		public Boolean apply(MemcachedServiceAdder.Request request) {
+			return await(memcachedClient.add(request.key(), request.ttl(), request.value()), "Add", request.key());
+		}
+
+		@JsonClassDescription("add data to memcached only if the key does not exist api")
+		public record Request(@JsonPropertyDescription("key to memcached") String key,
+				@JsonPropertyDescription("value to memcached") Object value,
+				@JsonPropertyDescription("key ttl") int ttl) {
+		}
+
+	}
+
+	public class MemcachedServiceCasGetter
+			implements Function<MemcachedServiceCasGetter.Request, MemcachedServiceCasGetter.Response> {
+
+		@Override
+		public MemcachedServiceCasGetter.Response apply(MemcachedServiceCasGetter.Request request) {
+			CASValue<Object> casValue = memcachedClient.gets(request.key());
+			return casValue == null ? null : new Response(casValue.getValue(), casValue.getCas());
+		}
+
+		@JsonClassDescription("get data together with its cas id from memcached api")
+		public record Request(@JsonPropertyDescription("key to memcached") String key) {
+		}
+
+		public record Response(Object value, long cas) {
+		}
+
+	}
+
+	public class MemcachedServiceCasSetter implements Function<MemcachedServiceCasSetter.Request, Boolean> {
+
+		@Override
+		public Boolean apply(MemcachedServiceCasSetter.Request request) {
+			return memcachedClient.cas(request.key(), request.cas(), request.ttl(), request.value()) == CASResponse.OK;
+		}
+
+		@JsonClassDescription("set data to memcached only if the cas id still matches api")
+		public record Request(@JsonPropertyDescription("key to memcached") String key,
+				@JsonPropertyDescription("cas id returned by gets") long cas,
+				@JsonPropertyDescription("value to memcached") Object value,
+				@JsonPropertyDescription("key ttl") int ttl) {
+		}
+
+	}
+
+	public class MemcachedServiceCasDeleter implements Function<MemcachedServiceCasDeleter.Request, Boolean> {
+
+		@Override
+		public Boolean apply(MemcachedServiceCasDeleter.Request request) {
+			return await(memcachedClient.delete(request.key(), request.cas()), "Cas delete", request.key());
+		}
+
+		@JsonClassDescription("delete data from memcached only if the cas id still matches api")
+		public record Request(@JsonPropertyDescription("key to memcached") String key,
+				@JsonPropertyDescription("cas id returned by gets") long cas) {
+		}
+
+	}
+
+	public class MemcachedServiceBulkGetter implements Function<MemcachedServiceBulkGetter.Request, Map<String, Object>> {
+
+		@Override
+		public Map<String, Object> apply(MemcachedServiceBulkGetter.Request request) {
+			return memcachedClient.getBulk(request.keys());
+		}
+
+		@JsonClassDescription("get multiple keys from memcached in one round trip api")
+		public record Request(@JsonPropertyDescription("keys to memcached") List<String> keys) {
+		}
+
+	}
+
+	/**
+	 * Waits for the outcome of an operation. Unlike the other functions, the ones used
+	 * for compare-and-set updates propagate failures: a caller that took a transport
+	 * failure for a missing key or a lost race would act on the wrong state.
+	 */
+	private static Boolean await(Future<Boolean> future, String operation, String key) {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(operation + " data to memcached interrupted. key " + key, e);
+		}
+		catch (ExecutionException e) {
+			throw new IllegalStateException(operation + " data to memcached failed. key " + key, e.getCause());
+		}
+	}
+
 	public MemcachedServiceSetter setter() {
 		return setter;
 	}
@@ -175,6 +290,26 @@ public class MemcachedService {
 		return appender;
 	}
 
+	public MemcachedServiceAdder adder() {
+		return adder;
+	}
+
+	public MemcachedServiceCasGetter casGetter() {
+		return casGetter;
+	}
+
+	public MemcachedServiceCasSetter casSetter() {
+		return casSetter;
+	}
+
+	public MemcachedServiceCasDeleter casDeleter() {
+		return casDeleter;
+	}
+
+	public MemcachedServiceBulkGetter bulkGetter() {
+		return bulkGetter;
+	}
+
 	public void close() {
 		if (this.memcachedClient != null) {
 			this.memcachedClient.shutdown();
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.metaso;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -33,11 +34,15 @@ public class MetasoAutoConfiguration {
 	@Bean(name = MetasoConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Metaso AI Web Search Service")
-	public MetasoService metasoService(JsonParseTool jsonParseTool, MetasoProperties properties) {
-		return new MetasoService(WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(httpHeaders -> {
-			httpHeaders.add("Content-Type", "application/json");
-			httpHeaders.add("Authorization", "Bearer " + properties.getApiKey());
-		}).build(), jsonParseTool, properties);
+	public MetasoService metasoService(JsonParseTool jsonParseTool, MetasoProperties properties,
+			ToolHttpRuntime toolHttpRuntime) {
+		return new MetasoService(WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
+			.httpHeadersConsumer(httpHeaders -> {
+				httpHeaders.add("Content-Type", "application/json");
+				httpHeaders.add("Authorization", "Bearer " + properties.getApiKey());
+			})
+			.build(), jsonParseTool, properties);
 	}
 
 }
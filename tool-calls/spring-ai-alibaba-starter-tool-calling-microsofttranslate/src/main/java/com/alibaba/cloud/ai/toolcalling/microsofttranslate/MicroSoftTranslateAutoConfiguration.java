@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.microsofttranslate;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -40,8 +41,9 @@ public class MicroSoftTranslateAutoConfiguration {
 	@ConditionalOnMissingBean
 	@Description("Implement natural language translation capabilities.")
 	public MicroSoftTranslateService microSoftTranslateFunction(MicroSoftTranslateProperties properties,
-			JsonParseTool jsonParseTool) {
+			JsonParseTool jsonParseTool, ToolHttpRuntime toolHttpRuntime) {
 		WebClientTool webClientTool = WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer((headers) -> {
 				headers.add("Ocp-Apim-Subscription-Key", properties.getApiKey());
 				headers.set("Ocp-Apim-Subscription-Region", properties.getRegion());
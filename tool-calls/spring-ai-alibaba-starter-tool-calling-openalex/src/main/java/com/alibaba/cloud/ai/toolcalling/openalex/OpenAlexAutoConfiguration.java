@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.openalex;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -37,8 +38,10 @@ public class OpenAlexAutoConfiguration {
 	@Bean(name = OpenAlexConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("OpenAlex Academic Search Service")
-	public OpenAlexService openAlexService(OpenAlexProperties properties, JsonParseTool jsonParseTool) {
+	public OpenAlexService openAlexService(OpenAlexProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		WebClientTool webClientTool = WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(httpHeaders -> {
 				httpHeaders.add(HttpHeaders.USER_AGENT, OpenAlexConstants.USER_AGENT);
 				httpHeaders.add(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.opentripmap;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -40,9 +41,11 @@ public class OpenTripMapAutoConfiguration {
 	@Bean(name = OpenTripMapConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Search places, get place details, and find coordinates using OpenTripMap API.")
-	public OpenTripMapService openTripMapService(OpenTripMapProperties properties, JsonParseTool jsonParseTool) {
-		return new OpenTripMapService(WebClientTool.builder(jsonParseTool, properties).build(), jsonParseTool,
-				properties);
+	public OpenTripMapService openTripMapService(OpenTripMapProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
+		return new OpenTripMapService(WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
+			.build(), jsonParseTool, properties);
 	}
 
 }
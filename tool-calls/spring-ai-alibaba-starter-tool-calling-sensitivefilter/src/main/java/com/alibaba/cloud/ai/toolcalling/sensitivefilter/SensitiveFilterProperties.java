@@ -40,6 +40,12 @@ public class SensitiveFilterProperties extends CommonToolCallProperties {
 
 	private boolean filterEmail = true;
 
+	/**
+	 * Number of trailing characters held back when filtering a stream, so that values
+	 * split across chunks are still masked. Must cover the longest sensitive value.
+	 */
+	private int streamWindowSize = 256;
+
 	/**
 	 * List of custom desensitization modes
 	 */
@@ -132,6 +138,14 @@ public class SensitiveFilterProperties extends CommonToolCallProperties {
 		this.filterEmail = filterEmail;
 	}
 
+	public int getStreamWindowSize() {
+		return streamWindowSize;
+	}
+
+	public void setStreamWindowSize(int streamWindowSize) {
+		this.streamWindowSize = streamWindowSize;
+	}
+
 	public List<CustomPattern> getCustomPatterns() {
 		return customPatterns;
 	}
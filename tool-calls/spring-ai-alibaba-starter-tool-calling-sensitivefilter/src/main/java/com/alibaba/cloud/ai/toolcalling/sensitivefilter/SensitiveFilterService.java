@@ -18,14 +18,36 @@ package com.alibaba.cloud.ai.toolcalling.sensitivefilter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Service for filtering sensitive information in text
+ * <p>
+ * Rules are ordered by priority: id card, bank card, phone number, email, then the custom
+ * patterns in their configured order. The built-in rules and the custom patterns are
+ * compiled into one alternation with a named group per rule, in priority order. Custom
+ * patterns starting with a literal, such as {@code SK-[0-9a-f]{32}}, are left out of it
+ * and gated by an Aho-Corasick automaton over those literals instead: the automaton
+ * scans the text once for every literal and the pattern is only tried where its literal
+ * occurs. Masking a text therefore takes one pass of the alternation and one pass of the
+ * automaton. Custom patterns referring to their own groups cannot share the alternation,
+ * unless they start with a literal they are searched with their own matcher.
+ * <p>
+ * The priority only breaks ties between matches starting at the same position, the
+ * leftmost match wins and is masked as a whole. Unlike applying the rules one after the
+ * other, a lower priority rule matching earlier hides the values inside its match, so
+ * {@code user13812345678@x.com} is masked as one email rather than its phone number
+ * first, and custom patterns see the original text instead of text already masked by
+ * the built-in rules.
  *
  * @author Makoto
  */
@@ -35,24 +57,63 @@ public class SensitiveFilterService implements Function<String, String> {
 
 	private final SensitiveFilterProperties properties;
 
-	private static final Pattern PHONE_PATTERN = Pattern.compile("(?<!\\d)1[3-9]\\d{9}(?!\\d)");
+	// the first digit is matched before the look-behind that checks the character in
+	// front of it, so most positions are rejected by a single character test
+	private static final Pattern PHONE_PATTERN = Pattern.compile("1(?<!\\d1)[3-9]\\d{9}(?!\\d)");
 
 	private static final Pattern ID_CARD_PATTERN = Pattern
-		.compile("(?<!\\d)[1-9]\\d{5}(18|19|20)\\d{2}((0[1-9])|(1[0-2]))(([0-2]\\d)|30|31)\\d{3}[0-9Xx](?!\\d)");
+		.compile("[1-9](?<!\\d[1-9])\\d{5}(18|19|20)\\d{2}((0[1-9])|(1[0-2]))(([0-2]\\d)|30|31)\\d{3}[0-9Xx](?!\\d)");
 
-	private static final Pattern BANK_CARD_PATTERN = Pattern.compile("(?<!\\d)[4-6]\\d{15,18}(?!\\d)");
+	private static final Pattern BANK_CARD_PATTERN = Pattern.compile("[4-6](?<!\\d[4-6])\\d{15,18}(?!\\d)");
 
 	private static final Pattern EMAIL_PATTERN = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}");
 
 	/**
-	 * Custom mode caching
+	 * Group numbering in a combined alternation differs from the original pattern, so
+	 * patterns referring to their own groups are kept apart
 	 */
-	private final Map<String, Pattern> customPatterns;
+	private static final Pattern SELF_REFERENCE = Pattern.compile("\\\\[1-9]|\\\\k<|\\(\\?<[a-zA-Z]");
+
+	/**
+	 * Shorter literals occur too often in text for the prefilter to pay off
+	 */
+	private static final int MIN_LITERAL_LENGTH = 2;
+
+	/**
+	 * Enabled rules in priority order
+	 */
+	private final List<Rule> rules = new ArrayList<>();
+
+	/**
+	 * Alternation of the rules with a group, {@code null} when there is none
+	 */
+	private final Pattern combinedPattern;
+
+	/**
+	 * Automaton over the literals of the gated rules, {@code null} when there is none
+	 */
+	private final LiteralPrefilter prefilter;
+
+	private final int streamWindowSize;
 
 	public SensitiveFilterService(SensitiveFilterProperties properties) {
 		this.properties = properties;
-		this.customPatterns = new HashMap<>();
+		this.streamWindowSize = Math.max(1, properties.getStreamWindowSize());
+		if (properties.isFilterIdCard()) {
+			addRule("id-card", ID_CARD_PATTERN, properties.getReplacement());
+		}
+		if (properties.isFilterBankCard()) {
+			addRule("bank-card", BANK_CARD_PATTERN, properties.getReplacement());
+		}
+		if (properties.isFilterPhoneNumber()) {
+			addRule("phone", PHONE_PATTERN, properties.getReplacement());
+		}
+		if (properties.isFilterEmail()) {
+			addRule("email", EMAIL_PATTERN, properties.getReplacement());
+		}
 		initializeCustomPatterns();
+		this.combinedPattern = combineRules();
+		this.prefilter = LiteralPrefilter.of(this.rules);
 	}
 
 	/**
@@ -62,7 +123,9 @@ public class SensitiveFilterService implements Function<String, String> {
 		for (SensitiveFilterProperties.CustomPattern customPattern : properties.getCustomPatterns()) {
 			if (customPattern.isEnabled() && customPattern.getPattern() != null) {
 				try {
-					customPatterns.put(customPattern.getName(), Pattern.compile(customPattern.getPattern()));
+					String replacement = customPattern.getReplacement() != null ? customPattern.getReplacement()
+							: properties.getReplacement();
+					addRule(customPattern.getName(), Pattern.compile(customPattern.getPattern()), replacement);
 					logger.debug("已注册自定义脱敏模式: {} -> {}", customPattern.getName(), customPattern.getPattern());
 				}
 				catch (Exception e) {
@@ -73,49 +136,550 @@ public class SensitiveFilterService implements Function<String, String> {
 		}
 	}
 
+	private void addRule(String name, Pattern pattern, String replacement) {
+		String literal = literalPrefix(pattern.pattern());
+		if (literal != null || SELF_REFERENCE.matcher(pattern.pattern()).find()) {
+			this.rules.add(new Rule(name, pattern, null, literal, Replacement.parse(replacement, 0, pattern)));
+			return;
+		}
+		// the rule is wrapped in its own named group, followed by the groups of its pattern
+		int group = 1;
+		for (Rule rule : this.rules) {
+			if (rule.group() != null) {
+				group += 1 + rule.pattern().matcher("").groupCount();
+			}
+		}
+		this.rules.add(new Rule(name, pattern, "rule" + this.rules.size(), null,
+				Replacement.parse(replacement, group, pattern)));
+	}
+
+	private Pattern combineRules() {
+		StringBuilder regex = new StringBuilder();
+		for (Rule rule : this.rules) {
+			if (rule.group() != null) {
+				if (regex.length() > 0) {
+					regex.append('|');
+				}
+				regex.append("(?<").append(rule.group()).append('>').append(rule.pattern().pattern()).append(')');
+			}
+		}
+		return regex.length() > 0 ? Pattern.compile(regex.toString()) : null;
+	}
+
+	/**
+	 * The literal every match of {@code regex} starts with, {@code null} when it is
+	 * shorter than {@link #MIN_LITERAL_LENGTH} or cannot be told without parsing the
+	 * whole expression
+	 */
+	static String literalPrefix(String regex) {
+		if (regex.contains("\\Q") || hasTopLevelAlternation(regex)) {
+			return null;
+		}
+		StringBuilder literal = new StringBuilder();
+		int i = 0;
+		while (i < regex.length()) {
+			char c = regex.charAt(i);
+			int next = i + 1;
+			if (c == '\\') {
+				// escaped punctuation is literal, escaped letters and digits are classes or
+				// references
+				if (next == regex.length() || Character.isLetterOrDigit(regex.charAt(next))) {
+					break;
+				}
+				c = regex.charAt(next++);
+			}
+			else if (".[]{}()^$|?*+".indexOf(c) >= 0 || Character.isSurrogate(c)) {
+				break;
+			}
+			// a quantified character may be missing or repeated
+			if (next < regex.length() && "?*+{".indexOf(regex.charAt(next)) >= 0) {
+				break;
+			}
+			literal.append(c);
+			i = next;
+		}
+		return literal.length() >= MIN_LITERAL_LENGTH ? literal.toString() : null;
+	}
+
+	private static boolean hasTopLevelAlternation(String regex) {
+		int depth = 0;
+		boolean inClass = false;
+		for (int i = 0; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				i++;
+			}
+			else if (inClass) {
+				inClass = c != ']';
+			}
+			else if (c == '[') {
+				inClass = true;
+				// a leading ']' or '^]' is part of the class
+				if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') {
+					i++;
+				}
+				if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') {
+					i++;
+				}
+			}
+			else if (c == '(') {
+				depth++;
+			}
+			else if (c == ')') {
+				depth--;
+			}
+			else if (c == '|' && depth == 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public String apply(String text) {
 		if (text == null || text.isEmpty()) {
 			return text;
 		}
 
-		String result = text;
+		StringBuilder result = new StringBuilder(text.length());
+		mask(text, 0, text.length(), text.length(), true, result);
+		return result.toString();
+	}
+
+	/**
+	 * Filter a stream of text chunks, such as the tokens of a streamed response. The
+	 * last {@code streamWindowSize} characters are held back until more text arrives so
+	 * that a value split across chunks is still masked as a whole.
+	 */
+	public Flux<String> filter(Flux<String> chunks) {
+		return Flux.defer(() -> {
+			StreamMasker masker = new StreamMasker();
+			return chunks.map(masker::push)
+				.concatWith(Mono.fromSupplier(masker::finish))
+				.filter(chunk -> !chunk.isEmpty());
+		});
+	}
 
-		// Apply basic de-sensitization rules in order of specificity (most specific
-		// first)
-		// 1. Id number - the longest and most specific, priority processing
-		if (properties.isFilterIdCard()) {
-			result = ID_CARD_PATTERN.matcher(result).replaceAll(properties.getReplacement());
+	/**
+	 * Mask the matches of the rules in {@code text[from, end)} and append the
+	 * result up to {@code limit}. The characters before {@code from} are only used as
+	 * look-behind context. When {@code settled} is false, a match crossing
+	 * {@code limit} may still grow with the next chunk and is left out, unless it is
+	 * already as long as the window.
+	 * @return the position up to which the text was appended
+	 */
+	private int mask(CharSequence text, int from, int end, int limit, boolean settled, StringBuilder out) {
+		int position = from;
+		Scan scan = new Scan(text, from, end);
+		int next;
+		while ((next = scan.next()) >= 0) {
+			Matcher matcher = scan.matcher(next);
+			if (matcher.start() >= limit) {
+				break;
+			}
+			if (matcher.end() > limit && !settled && matcher.end() - matcher.start() < this.streamWindowSize) {
+				limit = matcher.start();
+				break;
+			}
+			out.append(text, position, matcher.start());
+			this.rules.get(next).replacement().appendTo(out, matcher);
+			position = matcher.end();
+			// like a single pattern, the search resumes after the match or one past an empty one
+			scan.resumeAt(matcher.end() > matcher.start() ? matcher.end() : matcher.end() + 1);
 		}
+		int cut = Math.max(limit, position);
+		out.append(text, position, cut);
+		return cut;
+	}
 
-		// 2. Bank card number - longer in length, second priority
-		if (properties.isFilterBankCard()) {
-			result = BANK_CARD_PATTERN.matcher(result).replaceAll(properties.getReplacement());
+	/**
+	 * Let look-arounds see the text outside the region searched
+	 */
+	private static Matcher bounded(Matcher matcher) {
+		return matcher.useTransparentBounds(true).useAnchoringBounds(false);
+	}
+
+	/**
+	 * Pending matches of one {@link #mask} call: one of the combined pattern, one of the
+	 * gated rules found through the prefilter and one per standalone rule
+	 */
+	private final class Scan {
+
+		private final int end;
+
+		/**
+		 * Matcher of each rule, the rules with a group share the combined one
+		 */
+		private final Matcher[] matchers;
+
+		/**
+		 * Start of the pending match of each rule, -1 when the rule has none
+		 */
+		private final int[] starts;
+
+		private final Matcher combined;
+
+		/**
+		 * Occurrences of the gated literals, ordered by start then rule
+		 */
+		private final long[] hits;
+
+		private int nextHit;
+
+		Scan(CharSequence text, int from, int end) {
+			this.end = end;
+			this.matchers = new Matcher[rules.size()];
+			this.starts = new int[rules.size()];
+			Arrays.fill(this.starts, -1);
+			this.combined = combinedPattern != null ? bounded(combinedPattern.matcher(text)) : null;
+			for (int i = 0; i < this.matchers.length; i++) {
+				Rule rule = rules.get(i);
+				this.matchers[i] = rule.group() != null ? this.combined : bounded(rule.pattern().matcher(text));
+			}
+			this.hits = prefilter != null ? prefilter.find(text, from, end) : new long[0];
+			findCombined(from);
+			findGated(from);
+			for (int i = 0; i < this.matchers.length; i++) {
+				if (rules.get(i).group() == null && rules.get(i).literal() == null) {
+					findStandalone(i, from);
+				}
+			}
 		}
 
-		// 3. Phone number - shorter in length, possibly included in other numbers
-		if (properties.isFilterPhoneNumber()) {
-			result = PHONE_PATTERN.matcher(result).replaceAll(properties.getReplacement());
+		/**
+		 * The rule of the leftmost pending match, the rule with the higher priority on a
+		 * tie, or -1 when no match is left
+		 */
+		int next() {
+			int next = -1;
+			for (int i = 0; i < this.starts.length; i++) {
+				if (this.starts[i] >= 0 && (next < 0 || this.starts[i] < this.starts[next])) {
+					next = i;
+				}
+			}
+			return next;
 		}
 
-		// 4. Email - format special, last processing
-		if (properties.isFilterEmail()) {
-			result = EMAIL_PATTERN.matcher(result).replaceAll(properties.getReplacement());
+		Matcher matcher(int rule) {
+			return this.matchers[rule];
 		}
 
-		// Apply custom de-sensitization rules
-		for (SensitiveFilterProperties.CustomPattern customPattern : properties.getCustomPatterns()) {
-			if (customPattern.isEnabled()) {
-				Pattern pattern = customPatterns.get(customPattern.getName());
-				if (pattern != null) {
-					String replacement = customPattern.getReplacement() != null ? customPattern.getReplacement()
-							: properties.getReplacement();
-					result = pattern.matcher(result).replaceAll(replacement);
+		/**
+		 * Search again the sources whose pending match starts before {@code position}
+		 */
+		void resumeAt(int position) {
+			for (int i = 0; i < this.starts.length; i++) {
+				if (this.starts[i] >= 0 && this.starts[i] < position) {
+					this.starts[i] = -1;
+					Rule rule = rules.get(i);
+					if (rule.group() != null) {
+						findCombined(position);
+					}
+					else if (rule.literal() != null) {
+						findGated(position);
+					}
+					else {
+						findStandalone(i, position);
+					}
+				}
+			}
+		}
+
+		private void findCombined(int position) {
+			if (this.combined == null || position > this.end || !this.combined.region(position, this.end).find()) {
+				return;
+			}
+			for (int i = 0; i < this.starts.length; i++) {
+				String group = rules.get(i).group();
+				if (group != null && this.combined.start(group) != -1) {
+					this.starts[i] = this.combined.start();
+					return;
+				}
+			}
+		}
+
+		private void findGated(int position) {
+			for (; this.nextHit < this.hits.length; this.nextHit++) {
+				int start = (int) (this.hits[this.nextHit] >>> 32);
+				int rule = (int) this.hits[this.nextHit];
+				if (start >= position && this.matchers[rule].region(start, this.end).lookingAt()) {
+					this.starts[rule] = start;
+					return;
+				}
+			}
+		}
+
+		private void findStandalone(int rule, int position) {
+			Matcher matcher = this.matchers[rule];
+			if (position <= this.end && matcher.region(position, this.end).find()) {
+				this.starts[rule] = matcher.start();
+			}
+		}
+
+	}
+
+	/**
+	 * Masking state of one subscription to {@link #filter(Flux)}
+	 */
+	private final class StreamMasker {
+
+		private final StringBuilder buffer = new StringBuilder();
+
+		/**
+		 * Leading characters of the buffer already emitted, kept as look-behind context
+		 */
+		private int emitted;
+
+		String push(String chunk) {
+			this.buffer.append(chunk);
+			int limit = this.buffer.length() - streamWindowSize;
+			if (limit <= this.emitted) {
+				return "";
+			}
+			StringBuilder out = new StringBuilder();
+			int cut = mask(this.buffer, this.emitted, this.buffer.length(), limit, false, out);
+			int keepFrom = Math.max(0, cut - streamWindowSize);
+			this.buffer.delete(0, keepFrom);
+			this.emitted = cut - keepFrom;
+			return out.toString();
+		}
+
+		String finish() {
+			StringBuilder out = new StringBuilder();
+			mask(this.buffer, this.emitted, this.buffer.length(), this.buffer.length(), true, out);
+			this.buffer.setLength(0);
+			this.emitted = 0;
+			return out.toString();
+		}
+
+	}
+
+	/**
+	 * A masking rule, {@code group} is its group in the combined pattern and
+	 * {@code literal} the literal gating it, both {@code null} for a standalone rule
+	 */
+	private record Rule(String name, Pattern pattern, String group, String literal, Replacement replacement) {
+	}
+
+	/**
+	 * Aho-Corasick automaton finding every occurrence of the literals of the gated rules
+	 * in a single pass
+	 */
+	private static final class LiteralPrefilter {
+
+		private final Node root = new Node(0);
+
+		static LiteralPrefilter of(List<Rule> rules) {
+			LiteralPrefilter prefilter = null;
+			for (int i = 0; i < rules.size(); i++) {
+				String literal = rules.get(i).literal();
+				if (literal != null) {
+					prefilter = prefilter != null ? prefilter : new LiteralPrefilter();
+					prefilter.add(literal, i);
+				}
+			}
+			if (prefilter != null) {
+				prefilter.link();
+			}
+			return prefilter;
+		}
+
+		private void add(String literal, int rule) {
+			Node node = this.root;
+			for (int i = 0; i < literal.length(); i++) {
+				int depth = i + 1;
+				node = node.children.computeIfAbsent(literal.charAt(i), c -> new Node(depth));
+			}
+			node.rules = Arrays.copyOf(node.rules, node.rules.length + 1);
+			node.rules[node.rules.length - 1] = rule;
+		}
+
+		/**
+		 * Freeze the children into sorted arrays and set the failure links breadth first
+		 */
+		private void link() {
+			List<Node> queue = new ArrayList<>();
+			this.root.freeze();
+			for (Node child : this.root.targets) {
+				child.failure = this.root;
+				queue.add(child);
+			}
+			for (int head = 0; head < queue.size(); head++) {
+				Node node = queue.get(head);
+				node.freeze();
+				for (int i = 0; i < node.labels.length; i++) {
+					Node child = node.targets[i];
+					Node failure = node.failure;
+					while (failure.next(node.labels[i]) == null && failure != this.root) {
+						failure = failure.failure;
+					}
+					Node target = failure.next(node.labels[i]);
+					child.failure = target != null ? target : this.root;
+					queue.add(child);
+				}
+			}
+			// a node also reports the literals of its failure node, which is shallower and
+			// therefore already reports the literals of its own failure chain
+			for (Node node : queue) {
+				Node failure = node.failure;
+				int own = node.rules.length;
+				node.rules = Arrays.copyOf(node.rules, own + failure.rules.length);
+				node.depths = Arrays.copyOf(node.depths, own + failure.rules.length);
+				System.arraycopy(failure.rules, 0, node.rules, own, failure.rules.length);
+				System.arraycopy(failure.depths, 0, node.depths, own, failure.rules.length);
+			}
+		}
+
+		/**
+		 * Occurrences in {@code text[from, end)} as {@code start << 32 | rule}, ordered
+		 * by start then rule
+		 */
+		long[] find(CharSequence text, int from, int end) {
+			long[] hits = new long[16];
+			int count = 0;
+			Node node = this.root;
+			for (int i = from; i < end; i++) {
+				char c = text.charAt(i);
+				Node next = node.next(c);
+				while (next == null && node != this.root) {
+					node = node.failure;
+					next = node.next(c);
+				}
+				node = next != null ? next : this.root;
+				for (int j = 0; j < node.rules.length; j++) {
+					if (count == hits.length) {
+						hits = Arrays.copyOf(hits, count * 2);
+					}
+					hits[count++] = (long) (i + 1 - node.depths[j]) << 32 | node.rules[j];
+				}
+			}
+			hits = Arrays.copyOf(hits, count);
+			Arrays.sort(hits);
+			return hits;
+		}
+
+		private static final class Node {
+
+			private final int depth;
+
+			private TreeMap<Character, Node> children = new TreeMap<>();
+
+			private char[] labels;
+
+			private Node[] targets;
+
+			private Node failure;
+
+			/**
+			 * Rules whose literal ends here, with the length of each literal
+			 */
+			private int[] rules = new int[0];
+
+			private int[] depths = new int[0];
+
+			Node(int depth) {
+				this.depth = depth;
+			}
+
+			void freeze() {
+				this.labels = new char[this.children.size()];
+				this.targets = new Node[this.children.size()];
+				int i = 0;
+				for (var child : this.children.entrySet()) {
+					this.labels[i] = child.getKey();
+					this.targets[i++] = child.getValue();
+				}
+				this.children = null;
+				this.depths = new int[this.rules.length];
+				Arrays.fill(this.depths, this.depth);
+			}
+
+			Node next(char c) {
+				int i = Arrays.binarySearch(this.labels, c);
+				return i >= 0 ? this.targets[i] : null;
+			}
+
+		}
+
+	}
+
+	/**
+	 * A replacement string in {@link Matcher#replaceAll(String)} syntax, parsed once with
+	 * its group references shifted to the groups of the combined pattern
+	 */
+	private static final class Replacement {
+
+		private final List<String> literals = new ArrayList<>();
+
+		/**
+		 * Group referenced after each literal, an {@link Integer} or a group name,
+		 * {@code null} after the last literal
+		 */
+		private final List<Object> references = new ArrayList<>();
+
+		static Replacement parse(String replacement, int groupOffset, Pattern pattern) {
+			int groupCount = pattern.matcher("").groupCount();
+			Replacement parsed = new Replacement();
+			StringBuilder literal = new StringBuilder();
+			int i = 0;
+			while (i < replacement.length()) {
+				char c = replacement.charAt(i++);
+				if (c == '\\') {
+					if (i == replacement.length()) {
+						throw new IllegalArgumentException("character to be escaped is missing");
+					}
+					literal.append(replacement.charAt(i++));
+				}
+				else if (c == '$') {
+					if (i == replacement.length()) {
+						throw new IllegalArgumentException("Illegal group reference: group index is missing");
+					}
+					Object reference;
+					if (replacement.charAt(i) == '{') {
+						int close = replacement.indexOf('}', i);
+						if (close < 0) {
+							throw new IllegalArgumentException("named capturing group is missing trailing '}'");
+						}
+						reference = replacement.substring(i + 1, close);
+						i = close + 1;
+					}
+					else {
+						int group = Character.digit(replacement.charAt(i++), 10);
+						if (group < 0 || group > groupCount) {
+							throw new IllegalArgumentException("Illegal group reference in " + replacement);
+						}
+						// like Matcher, take as many digits as still form an existing group
+						while (i < replacement.length() && Character.isDigit(replacement.charAt(i))
+								&& group * 10 + Character.digit(replacement.charAt(i), 10) <= groupCount) {
+							group = group * 10 + Character.digit(replacement.charAt(i++), 10);
+						}
+						reference = group + groupOffset;
+					}
+					parsed.literals.add(literal.toString());
+					parsed.references.add(reference);
+					literal.setLength(0);
+				}
+				else {
+					literal.append(c);
+				}
+			}
+			parsed.literals.add(literal.toString());
+			parsed.references.add(null);
+			return parsed;
+		}
+
+		void appendTo(StringBuilder out, Matcher matcher) {
+			for (int i = 0; i < this.literals.size(); i++) {
+				out.append(this.literals.get(i));
+				Object reference = this.references.get(i);
+				String value = reference instanceof Integer group ? matcher.group(group)
+						: reference != null ? matcher.group((String) reference) : null;
+				if (value != null) {
+					out.append(value);
 				}
 			}
 		}
 
-		return result;
 	}
 
 }
@@ -48,6 +48,7 @@ class SensitiveFilterPropertiesTest {
 		assertThat(properties.isFilterIdCard()).isTrue();
 		assertThat(properties.isFilterBankCard()).isTrue();
 		assertThat(properties.isFilterEmail()).isTrue();
+		assertThat(properties.getStreamWindowSize()).isEqualTo(256);
 		assertThat(properties.getCustomPatterns()).isNotNull().isEmpty();
 	}
 
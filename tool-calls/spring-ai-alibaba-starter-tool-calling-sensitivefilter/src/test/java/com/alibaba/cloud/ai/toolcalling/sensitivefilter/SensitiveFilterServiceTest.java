@@ -19,6 +19,7 @@ package com.alibaba.cloud.ai.toolcalling.sensitivefilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import reactor.core.publisher.Flux;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -248,4 +249,114 @@ class SensitiveFilterServiceTest {
 		assertThat(result).isEqualTo(text);
 	}
 
+	@Test
+	@DisplayName("Test custom pattern group references in replacement")
+	void testCustomPatternGroupReference() {
+		SensitiveFilterProperties.CustomPattern orderPattern = new SensitiveFilterProperties.CustomPattern();
+		orderPattern.setName("order");
+		orderPattern.setPattern("(ORD)-(\\d+)");
+		orderPattern.setReplacement("$1-***");
+
+		SensitiveFilterProperties.CustomPattern repeatPattern = new SensitiveFilterProperties.CustomPattern();
+		repeatPattern.setName("repeat");
+		repeatPattern.setPattern("(ab)\\1");
+		repeatPattern.setReplacement("<$1>");
+
+		properties.setCustomPatterns(List.of(orderPattern, repeatPattern));
+		service = new SensitiveFilterService(properties);
+
+		String result = service.apply("订单ORD-20240101，手机13912345678，abab");
+		assertThat(result).isEqualTo("订单ORD-***，手机***，<ab>");
+	}
+
+	@Test
+	@DisplayName("Test the leftmost match wins over rule priority")
+	void testLeftmostMatchWins() {
+		// masked as one email, not as the phone number inside it
+		assertThat(service.apply("邮箱user13812345678@x.com")).isEqualTo("邮箱***");
+
+		SensitiveFilterProperties.CustomPattern orderPattern = new SensitiveFilterProperties.CustomPattern();
+		orderPattern.setName("order");
+		orderPattern.setPattern("order-\\d+");
+		orderPattern.setReplacement("[订单]");
+		properties.setCustomPatterns(List.of(orderPattern));
+		service = new SensitiveFilterService(properties);
+
+		// custom patterns see the original text, not the masked phone number
+		assertThat(service.apply("单号order-13812345678，手机13912345678")).isEqualTo("单号[订单]，手机***");
+	}
+
+	@Test
+	@DisplayName("Test the literal prefix gating custom patterns")
+	void testLiteralPrefix() {
+		assertThat(SensitiveFilterService.literalPrefix("SK-[0-9a-f]{32}")).isEqualTo("SK-");
+		assertThat(SensitiveFilterService.literalPrefix("\\$AB\\d+")).isEqualTo("$AB");
+		assertThat(SensitiveFilterService.literalPrefix("order+\\d")).isEqualTo("orde");
+		// optional, alternative or non-literal starts are not gated
+		assertThat(SensitiveFilterService.literalPrefix("ab?c")).isNull();
+		assertThat(SensitiveFilterService.literalPrefix("ORD-\\d+|INV-\\d+")).isNull();
+		assertThat(SensitiveFilterService.literalPrefix("(?i)token-\\w+")).isNull();
+		assertThat(SensitiveFilterService.literalPrefix("\\d{6}")).isNull();
+	}
+
+	@Test
+	@DisplayName("Test gated and combined custom patterns keep their priority")
+	void testGatedAndCombinedPatternPriority() {
+		SensitiveFilterProperties.CustomPattern gated = new SensitiveFilterProperties.CustomPattern();
+		gated.setName("order");
+		gated.setPattern("ORD-\\d+");
+		gated.setReplacement("[订单]");
+
+		SensitiveFilterProperties.CustomPattern combined = new SensitiveFilterProperties.CustomPattern();
+		combined.setName("code");
+		combined.setPattern("[A-Z]+-\\d+");
+		combined.setReplacement("[编码]");
+
+		properties.setCustomPatterns(List.of(gated, combined));
+		service = new SensitiveFilterService(properties);
+		assertThat(service.apply("ORD-42，INV-7")).isEqualTo("[订单]，[编码]");
+
+		properties.setCustomPatterns(List.of(combined, gated));
+		service = new SensitiveFilterService(properties);
+		assertThat(service.apply("ORD-42，INV-7")).isEqualTo("[编码]，[编码]");
+	}
+
+	@Test
+	@DisplayName("Test stream filtering with values split across chunks")
+	void testStreamFiltering() {
+		SensitiveFilterProperties.CustomPattern qqPattern = new SensitiveFilterProperties.CustomPattern();
+		qqPattern.setName("qq");
+		qqPattern.setPattern("QQ[：:]?\\d{5,11}");
+		qqPattern.setReplacement("[QQ号]");
+		properties.setCustomPatterns(List.of(qqPattern));
+		properties.setStreamWindowSize(32);
+		service = new SensitiveFilterService(properties);
+
+		String text = "联系方式：手机13912345678，邮箱user@example.com，身份证110101199001011234，QQ:12345678，结束";
+		String expected = "联系方式：手机***，邮箱***，身份证***，[QQ号]，结束";
+		assertThat(service.apply(text)).isEqualTo(expected);
+
+		for (int size = 1; size <= text.length(); size++) {
+			List<String> chunks = new ArrayList<>();
+			for (int i = 0; i < text.length(); i += size) {
+				chunks.add(text.substring(i, Math.min(text.length(), i + size)));
+			}
+			List<String> filtered = service.filter(Flux.fromIterable(chunks)).collectList().block();
+			assertThat(String.join("", filtered)).as("chunk size %d", size).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	@DisplayName("Test stream filtering holds back only the window")
+	void testStreamFilteringWindow() {
+		properties.setStreamWindowSize(8);
+		service = new SensitiveFilterService(properties);
+
+		List<String> filtered = service.filter(Flux.just("这是一段没有敏感信息的普通文本，", "手机1391234", "5678。")).collectList().block();
+
+		// text before the window is released as soon as it cannot be part of a match
+		assertThat(filtered.get(0)).isEqualTo("这是一段没有敏感");
+		assertThat(String.join("", filtered)).isEqualTo("这是一段没有敏感信息的普通文本，手机***。");
+	}
+
 }
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.serpapi;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -40,12 +41,14 @@ public class SerpApiAutoConfiguration {
 	@Bean(name = SerpApiConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use SerpApi search to query for the latest news.")
-	public SerpApiService serpApiSearch(JsonParseTool jsonParseTool, SerpApiProperties serpApiProperties) {
+	public SerpApiService serpApiSearch(JsonParseTool jsonParseTool, SerpApiProperties serpApiProperties,
+			ToolHttpRuntime toolHttpRuntime) {
 		Consumer<HttpHeaders> consumer = headers -> {
 			headers.add(HttpHeaders.USER_AGENT, SerpApiProperties.USER_AGENT_VALUE);
 			headers.add(HttpHeaders.CONNECTION, "keep-alive");
 		};
 		WebClientTool webClientTool = WebClientTool.builder(jsonParseTool, serpApiProperties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(consumer)
 			.build();
 		return new SerpApiService(serpApiProperties, jsonParseTool, webClientTool);
@@ -18,6 +18,7 @@ package com.alibaba.cloud.ai.toolcalling.sinanews;
 import static com.alibaba.cloud.ai.toolcalling.common.CommonToolCallConstants.DEFAULT_USER_AGENTS;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
@@ -45,7 +46,8 @@ public class SinaNewsAutoConfiguration {
 	@Bean(name = SinaNewsConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Get the news from the Sina news (获取新浪新闻).")
-	public SinaNewsService getSinaNews(JsonParseTool jsonParseTool, SinaNewsProperties properties) {
+	public SinaNewsService getSinaNews(JsonParseTool jsonParseTool, SinaNewsProperties properties,
+			ToolHttpRuntime toolHttpRuntime) {
 		Consumer<HttpHeaders> consumer = headers -> {
 			headers.add(HttpHeaders.USER_AGENT,
 					DEFAULT_USER_AGENTS[ThreadLocalRandom.current().nextInt(DEFAULT_USER_AGENTS.length)]);
@@ -55,7 +57,10 @@ public class SinaNewsAutoConfiguration {
 		};
 
 		return new SinaNewsService(jsonParseTool, properties,
-				WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(consumer).build());
+				WebClientTool.builder(jsonParseTool, properties)
+					.httpRuntime(toolHttpRuntime)
+					.httpHeadersConsumer(consumer)
+					.build());
 	}
 
 }
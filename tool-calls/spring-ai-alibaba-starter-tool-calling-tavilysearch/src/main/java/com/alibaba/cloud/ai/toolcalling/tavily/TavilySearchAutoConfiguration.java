@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.tavily;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -37,8 +38,10 @@ public class TavilySearchAutoConfiguration {
 	@Bean(name = TavilySearchConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Provides a TavilySearchService bean for performing searches using the Tavily search engine.")
-	public TavilySearchService tavilySearch(TavilySearchProperties properties, JsonParseTool jsonParseTool) {
+	public TavilySearchService tavilySearch(TavilySearchProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		WebClientTool webClientTool = WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(httpHeaders -> {
 				httpHeaders.add(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getApiKey());
 				httpHeaders.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
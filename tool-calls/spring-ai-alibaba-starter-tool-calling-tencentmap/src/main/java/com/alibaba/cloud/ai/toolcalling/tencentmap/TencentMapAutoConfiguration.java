@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.tencentmap;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,10 +40,11 @@ public class TencentMapAutoConfiguration {
 	@Bean(name = TencentMapConstants.TOOL_NAME_GET_WEATHER)
 	@Description("Query the weather conditions of a specified location")
 	public TencentMapWeatherService tencentMapGetAddressWeatherInformation(JsonParseTool jsonParseTool,
-			TencentMapProperties tencentMapProperties) {
+			TencentMapProperties tencentMapProperties, ToolHttpRuntime toolHttpRuntime) {
 		logger.debug("tencentMapWeatherService is enabled.");
-		return new TencentMapWeatherService(WebClientTool.builder(jsonParseTool, tencentMapProperties).build(),
-				jsonParseTool, tencentMapProperties);
+		return new TencentMapWeatherService(WebClientTool.builder(jsonParseTool, tencentMapProperties)
+			.httpRuntime(toolHttpRuntime)
+			.build(), jsonParseTool, tencentMapProperties);
 	}
 
 }
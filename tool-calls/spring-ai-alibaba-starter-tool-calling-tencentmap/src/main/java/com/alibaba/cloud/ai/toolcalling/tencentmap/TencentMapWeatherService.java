@@ -15,6 +15,7 @@
  */
 package com.alibaba.cloud.ai.toolcalling.tencentmap;
 
+import com.alibaba.cloud.ai.toolcalling.common.JsonDocument;
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import com.fasterxml.jackson.annotation.JsonClassDescription;
@@ -86,17 +87,13 @@ public class TencentMapWeatherService
 	public Response apply(Request request) {
 		String responseBody = this.getAddressInfo(request.address);
 		try {
-			String adInfo = jsonParseTool.getDepthFieldValueAsString(responseBody, "result", "ad_info");
+			String adcode = jsonParseTool.parse(responseBody).getFieldValueAsText("result", "ad_info", "adcode");
 
-			String weatherResponse = this.getWeather(jsonParseTool.getFieldValueAsText(adInfo, "adcode"),
-					request.getTypeOrDefault());
+			String weatherResponse = this.getWeather(adcode, request.getTypeOrDefault());
 
-			String weatherResult = jsonParseTool.getFieldValueAsString(weatherResponse, "result");
-			String weatherInfo = request.getTypeOrDefault().equals("now")
-					? jsonParseTool.getFieldValueAsString(weatherResult, "realtime")
-					: jsonParseTool.getDepthFieldValueAsString(weatherResult, "forecast");
-			String weather = jsonParseTool
-				.getFieldValueAsString(jsonParseTool.getFirstElementFromJsonArrayString(weatherInfo), "infos");
+			JsonDocument weatherInfo = jsonParseTool.parse(weatherResponse)
+				.getFirstElement("result", request.getTypeOrDefault().equals("now") ? "realtime" : "forecast");
+			String weather = weatherInfo.getFieldValueAsString("infos");
 			return new Response(weather);
 		}
 		catch (Exception e) {
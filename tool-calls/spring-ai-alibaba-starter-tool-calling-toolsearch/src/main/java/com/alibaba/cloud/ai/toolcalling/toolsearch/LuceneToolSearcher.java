@@ -18,23 +18,41 @@ package com.alibaba.cloud.ai.toolcalling.toolsearch;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.codecs.KnnVectorsWriter;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.codecs.lucene99.Lucene99HnswVectorsFormat;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
-import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
-import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.VectorSimilarityFunction;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.KnnFloatVectorQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.definition.ToolDefinition;
 
@@ -45,6 +63,17 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Lucene-based tool searcher implementation.
+ * <p>
+ * The index is maintained incrementally: every tool is one document keyed by its name,
+ * added, replaced or deleted through a long-lived {@link IndexWriter}, and searches go
+ * through a near-real-time {@link SearcherManager} refreshed after each change. Hits are
+ * resolved to tools through the doc values of the key field instead of stored fields.
+ * <p>
+ * When an {@link EmbeddingModel} is configured, the search is hybrid: the embedding of
+ * every tool name and description is indexed in a {@link KnnFloatVectorField}, the
+ * lexical and the kNN queries run on the same searcher and their rankings are fused with
+ * reciprocal rank fusion, so that paraphrased intents still find their tools. Query
+ * embeddings are cached.
  */
 public class LuceneToolSearcher implements ToolSearcher, Closeable {
 
@@ -52,6 +81,29 @@ public class LuceneToolSearcher implements ToolSearcher, Closeable {
 
 	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+	/**
+	 * Field holding the tool name as an exact key, indexed for updates and deletes and
+	 * kept as doc values to resolve hits.
+	 */
+	static final String KEY_FIELD = "_tool_key";
+
+	/**
+	 * Field holding the embedding of the tool name and description.
+	 */
+	static final String VECTOR_FIELD = "_tool_vector";
+
+	/**
+	 * Rank constant of reciprocal rank fusion.
+	 */
+	private static final int RRF_K = 60;
+
+	/**
+	 * Candidates taken from each ranking per requested result before fusion.
+	 */
+	private static final int CANDIDATES_PER_RESULT = 4;
+
+	private static final int MAX_VECTOR_DIMENSIONS = 4096;
+
 	private final Directory indexDirectory;
 
 	private final Analyzer analyzer;
@@ -62,12 +114,23 @@ public class LuceneToolSearcher implements ToolSearcher, Closeable {
 
 	private final Object indexLock = new Object();
 
-	private volatile IndexSearcher indexSearcher;
+	private final EmbeddingModel embeddingModel;
 
-	private volatile DirectoryReader indexReader;
+	private final Map<String, float[]> queryEmbeddingCache;
+
+	// Query parsers are not thread-safe, keep one per searching thread
+	private final ThreadLocal<MultiFieldQueryParser> queryParser;
+
+	private IndexWriter indexWriter;
+
+	private volatile SearcherManager searcherManager;
 
 	private final Map<String, ToolCallback> toolCallbackMap = new ConcurrentHashMap<>();
 
+	// Indexed content, input schema and embedding text of every tool, to skip rewriting
+	// unchanged tools
+	private final Map<String, String> indexedContent = new HashMap<>();
+
 	private final Map<String, String> schemaCache = new ConcurrentHashMap<>();
 
 	public LuceneToolSearcher() {
@@ -79,12 +142,27 @@ public class LuceneToolSearcher implements ToolSearcher, Closeable {
 		this.analyzer = builder.analyzer != null ? builder.analyzer : new StandardAnalyzer();
 		this.fieldBoosts = new HashMap<>(builder.fieldBoosts);
 		this.indexFields = new ArrayList<>(builder.indexFields);
+		String[] fields = this.indexFields.toArray(new String[0]);
+		this.queryParser = ThreadLocal.withInitial(() -> new MultiFieldQueryParser(fields, analyzer, fieldBoosts));
+		this.embeddingModel = builder.embeddingModel;
+		int cacheSize = builder.queryEmbeddingCacheSize;
+		this.queryEmbeddingCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+				return size() > cacheSize;
+			}
+		});
 	}
 
 	public static Builder builder() {
 		return new Builder();
 	}
 
+	/**
+	 * Make the index hold exactly the given tools: new tools are added, changed tools
+	 * replaced and tools missing from the list deleted. Unchanged tools are not
+	 * rewritten.
+	 */
 	@Override
 	public void indexTools(List<ToolCallback> tools) {
 		if (tools == null || tools.isEmpty()) {
@@ -93,65 +171,135 @@ public class LuceneToolSearcher implements ToolSearcher, Closeable {
 		}
 
 		synchronized (indexLock) {
-			try {
-				// Close old reader
-				closeReader();
-
-				// Configure to overwrite mode to avoid duplicate indexing
-				IndexWriterConfig config = new IndexWriterConfig(analyzer);
-				config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
-				IndexWriter indexWriter = new IndexWriter(indexDirectory, config);
-
-				for (ToolCallback tool : tools) {
-					ToolDefinition definition = tool.getToolDefinition();
-					Document doc = new Document();
-
-					for (String fieldName : indexFields) {
-						String fieldValue = getFieldValue(definition, fieldName);
-						if (fieldValue != null && !fieldValue.isEmpty()) {
-							doc.add(new TextField(fieldName, fieldValue, Field.Store.YES));
-						}
-					}
+			Set<String> removed = new HashSet<>(indexedContent.keySet());
+			for (ToolCallback tool : tools) {
+				removed.remove(tool.getToolDefinition().name());
+			}
+			applyChanges(tools, removed);
+			log.info("Successfully indexed {} tools with fields: {}", tools.size(), indexFields);
+		}
+	}
 
-					// Generate and cache schema
-					String schema = generateSchema(tool);
-					schemaCache.put(definition.name(), schema);
-					doc.add(new StoredField("schema", schema));
+	/**
+	 * Add new tools and replace the changed ones, leaving the other indexed tools as
+	 * they are.
+	 * @param tools the tools to add or update
+	 */
+	public void updateTools(List<ToolCallback> tools) {
+		synchronized (indexLock) {
+			applyChanges(tools, Collections.emptySet());
+		}
+	}
 
-					indexWriter.addDocument(doc);
+	/**
+	 * Delete tools from the index.
+	 * @param toolNames the names of the tools to delete
+	 */
+	public void removeTools(Collection<String> toolNames) {
+		synchronized (indexLock) {
+			applyChanges(Collections.emptyList(), toolNames);
+		}
+	}
 
-					// Cache ToolCallback
-					toolCallbackMap.put(definition.name(), tool);
+	private void applyChanges(List<ToolCallback> tools, Collection<String> removedNames) {
+		try {
+			IndexWriter writer = getIndexWriter();
+			int changes = 0;
+
+			for (String name : removedNames) {
+				if (indexedContent.remove(name) != null) {
+					writer.deleteDocuments(new Term(KEY_FIELD, name));
+					toolCallbackMap.remove(name);
+					schemaCache.remove(name);
+					changes++;
 				}
+			}
 
-				indexWriter.commit();
-				indexWriter.close();
+			List<ToolCallback> changedTools = new ArrayList<>();
+			List<Document> changedDocs = new ArrayList<>();
+			List<String> changedContents = new ArrayList<>();
+			for (ToolCallback tool : tools) {
+				ToolDefinition definition = tool.getToolDefinition();
+				String name = definition.name();
+				// Cache ToolCallback
+				toolCallbackMap.put(name, tool);
+
+				Document doc = new Document();
+				StringBuilder content = new StringBuilder();
+				doc.add(new StringField(KEY_FIELD, name, Field.Store.NO));
+				doc.add(new SortedDocValuesField(KEY_FIELD, new BytesRef(name)));
+				for (String fieldName : indexFields) {
+					String fieldValue = getFieldValue(definition, fieldName);
+					if (fieldValue != null && !fieldValue.isEmpty()) {
+						doc.add(new TextField(fieldName, fieldValue, Field.Store.NO));
+						content.append(fieldName).append('\u0000').append(fieldValue).append('\u0000');
+					}
+				}
+				// The schema and the embedding text are part of the key even when they are
+				// not indexed, as the cached schema and the vector derive from them
+				content.append('\u0001')
+					.append(definition.inputSchema())
+					.append('\u0001')
+					.append(embeddingText(tool));
+				if (content.toString().equals(indexedContent.get(name))) {
+					continue;
+				}
+				changedTools.add(tool);
+				changedDocs.add(doc);
+				changedContents.add(content.toString());
+			}
 
-				// Create new searcher
-				indexReader = DirectoryReader.open(indexDirectory);
-				this.indexSearcher = new IndexSearcher(indexReader);
+			if (embeddingModel != null && !changedTools.isEmpty()) {
+				// Embed the changed tools in one batch
+				List<float[]> vectors = embeddingModel
+					.embed(changedTools.stream().map(LuceneToolSearcher::embeddingText).toList());
+				for (int i = 0; i < changedDocs.size(); i++) {
+					changedDocs.get(i)
+						.add(new KnnFloatVectorField(VECTOR_FIELD, vectors.get(i), VectorSimilarityFunction.COSINE));
+				}
+			}
 
-				log.info("Successfully indexed {} tools with fields: {}", tools.size(), indexFields);
+			for (int i = 0; i < changedTools.size(); i++) {
+				ToolCallback tool = changedTools.get(i);
+				String name = tool.getToolDefinition().name();
+				// Generate and cache schema
+				schemaCache.put(name, generateSchema(tool));
+				writer.updateDocument(new Term(KEY_FIELD, name), changedDocs.get(i));
+				indexedContent.put(name, changedContents.get(i));
+				changes++;
 			}
-			catch (IOException e) {
-				throw new RuntimeException("Failed to index tools", e);
+
+			// Near-real-time refresh, no commit needed as the index is rebuilt on start
+			if (changes > 0) {
+				searcherManager.maybeRefreshBlocking();
 			}
+			log.debug("Applied {} tool index changes", changes);
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Failed to index tools", e);
 		}
 	}
 
 	/**
-	 * Close old DirectoryReader.
+	 * Open the writer and the near-real-time searcher manager on first use.
 	 */
-	private void closeReader() {
-		if (indexReader != null) {
-			try {
-				indexReader.close();
-				indexReader = null;
-			}
-			catch (IOException e) {
-				log.warn("Failed to close old index reader", e);
+	private IndexWriter getIndexWriter() throws IOException {
+		if (indexWriter == null) {
+			// Start from an empty index, tools are registered again on every start
+			IndexWriterConfig config = new IndexWriterConfig(analyzer);
+			config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+			if (embeddingModel != null) {
+				config.setCodec(new Lucene99Codec() {
+					@Override
+					public KnnVectorsFormat getKnnVectorsFormatForField(String field) {
+						return new HighDimensionVectorsFormat();
+					}
+				});
 			}
+			indexWriter = new IndexWriter(indexDirectory, config);
+			searcherManager = new SearcherManager(indexWriter, null);
 		}
+		return indexWriter;
 	}
 
 	/**
@@ -172,37 +320,59 @@ public class LuceneToolSearcher implements ToolSearcher, Closeable {
 
 	@Override
 	public List<ToolCallback> search(String query, int maxResults) {
-		if (indexSearcher == null) {
+		SearcherManager manager = searcherManager;
+		if (manager == null) {
 			throw new IllegalStateException("Tools not indexed yet. Call indexTools() first.");
 		}
 
 		try {
-			// Build multi-field query using configured fields and weights
-			String[] fields = indexFields.toArray(new String[0]);
-			MultiFieldQueryParser parser = new MultiFieldQueryParser(fields, analyzer, fieldBoosts);
-
-			// Escape special characters
-			String escapedQuery = QueryParser.escape(query);
-			Query luceneQuery = parser.parse(escapedQuery);
-
-			// Execute search
-			TopDocs topDocs = indexSearcher.search(luceneQuery, maxResults);
-
-			// Convert to ToolCallback
-			List<ToolCallback> results = new ArrayList<>();
-			for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-				Document doc = indexSearcher.doc(scoreDoc.doc);
-				String toolName = doc.get("name");
-
-				// Get ToolCallback from cache
-				ToolCallback tool = toolCallbackMap.get(toolName);
-				if (tool != null) {
-					results.add(tool);
+			// Build multi-field query using configured fields and weights, escaping
+			// special characters
+			Query luceneQuery = queryParser.get().parse(QueryParser.escape(query));
+
+			IndexSearcher indexSearcher = manager.acquire();
+			try {
+				// Execute search
+				List<Integer> docIds;
+				float[] queryVector = embeddingModel != null ? embedQuery(query) : null;
+				if (queryVector == null) {
+					docIds = new ArrayList<>();
+					for (ScoreDoc scoreDoc : indexSearcher.search(luceneQuery, maxResults).scoreDocs) {
+						docIds.add(scoreDoc.doc);
+					}
 				}
-			}
+				else {
+					int candidates = maxResults * CANDIDATES_PER_RESULT;
+					TopDocs lexical = indexSearcher.search(luceneQuery, candidates);
+					TopDocs semantic = indexSearcher.search(new KnnFloatVectorQuery(VECTOR_FIELD, queryVector, candidates),
+							candidates);
+					docIds = reciprocalRankFusion(maxResults, lexical, semantic);
+				}
+
+				// Convert to ToolCallback
+				List<LeafReaderContext> leaves = indexSearcher.getIndexReader().leaves();
+				List<ToolCallback> results = new ArrayList<>();
+				for (int docId : docIds) {
+					LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(docId, leaves));
+					SortedDocValues keys = DocValues.getSorted(leaf.reader(), KEY_FIELD);
+					if (!keys.advanceExact(docId - leaf.docBase)) {
+						continue;
+					}
+					String toolName = keys.lookupOrd(keys.ordValue()).utf8ToString();
 
-			log.debug("Search query '{}' found {} tools", query, results.size());
-			return results;
+					// Get ToolCallback from cache
+					ToolCallback tool = toolCallbackMap.get(toolName);
+					if (tool != null) {
+						results.add(tool);
+					}
+				}
+
+				log.debug("Search query '{}' found {} tools", query, results.size());
+				return results;
+			}
+			finally {
+				manager.release(indexSearcher);
+			}
 		}
 		catch (Exception e) {
 			log.error("Failed to search tools for query: {}", query, e);
@@ -210,6 +380,50 @@ public class LuceneToolSearcher implements ToolSearcher, Closeable {
 		}
 	}
 
+	/**
+	 * Embed the query, reusing the embedding of a recent identical query. Returns null
+	 * when the embedding model fails, the search then stays lexical.
+	 */
+	private float[] embedQuery(String query) {
+		float[] vector = queryEmbeddingCache.get(query);
+		if (vector == null) {
+			try {
+				vector = embeddingModel.embed(query);
+			}
+			catch (Exception e) {
+				log.warn("Failed to embed query '{}', falling back to lexical search: {}", query, e.getMessage());
+				return null;
+			}
+			queryEmbeddingCache.put(query, vector);
+		}
+		return vector;
+	}
+
+	/**
+	 * Fuse rankings by summing {@code 1 / (RRF_K + rank)} over the rankings each document
+	 * appears in.
+	 */
+	static List<Integer> reciprocalRankFusion(int maxResults, TopDocs... rankings) {
+		Map<Integer, Double> scores = new LinkedHashMap<>();
+		for (TopDocs ranking : rankings) {
+			for (int rank = 0; rank < ranking.scoreDocs.length; rank++) {
+				scores.merge(ranking.scoreDocs[rank].doc, 1.0 / (RRF_K + rank + 1), Double::sum);
+			}
+		}
+		return scores.entrySet()
+			.stream()
+			.sorted(Map.Entry.<Integer, Double>comparingByValue().reversed())
+			.limit(maxResults)
+			.map(Map.Entry::getKey)
+			.toList();
+	}
+
+	private static String embeddingText(ToolCallback tool) {
+		ToolDefinition definition = tool.getToolDefinition();
+		return definition.description() != null ? definition.name() + ": " + definition.description()
+				: definition.name();
+	}
+
 	@Override
 	public String getToolSchema(ToolCallback tool) {
 		String toolName = tool.getToolDefinition().name();
@@ -260,15 +474,57 @@ public class LuceneToolSearcher implements ToolSearcher, Closeable {
 	@Override
 	public void close() throws IOException {
 		synchronized (indexLock) {
-			closeReader();
-			if (indexDirectory != null) {
-				indexDirectory.close();
+			try {
+				if (searcherManager != null) {
+					searcherManager.close();
+					searcherManager = null;
+				}
+				if (indexWriter != null) {
+					indexWriter.close();
+					indexWriter = null;
+				}
+			}
+			finally {
+				if (indexDirectory != null) {
+					indexDirectory.close();
+				}
+				toolCallbackMap.clear();
+				schemaCache.clear();
+				indexedContent.clear();
+				queryEmbeddingCache.clear();
 			}
-			toolCallbackMap.clear();
-			schemaCache.clear();
 		}
 	}
 
+	/**
+	 * The default HNSW vectors format, accepting the dimensions of common embedding
+	 * models beyond the 1024 Lucene allows by default.
+	 */
+	private static final class HighDimensionVectorsFormat extends KnnVectorsFormat {
+
+		private final KnnVectorsFormat delegate = new Lucene99HnswVectorsFormat();
+
+		HighDimensionVectorsFormat() {
+			super("Lucene99HnswVectorsFormat");
+		}
+
+		@Override
+		public KnnVectorsWriter fieldsWriter(SegmentWriteState state) throws IOException {
+			return delegate.fieldsWriter(state);
+		}
+
+		@Override
+		public KnnVectorsReader fieldsReader(SegmentReadState state) throws IOException {
+			return delegate.fieldsReader(state);
+		}
+
+		@Override
+		public int getMaxDimensions(String fieldName) {
+			return MAX_VECTOR_DIMENSIONS;
+		}
+
+	}
+
 	public static class Builder {
 
 		private Directory indexDirectory;
@@ -279,6 +535,10 @@ public class LuceneToolSearcher implements ToolSearcher, Closeable {
 
 		private final List<String> indexFields = new ArrayList<>();
 
+		private EmbeddingModel embeddingModel;
+
+		private int queryEmbeddingCacheSize = 1024;
+
 		public Builder() {
 			indexFields.add("name");
 			indexFields.add("description");
@@ -321,6 +581,19 @@ public class LuceneToolSearcher implements ToolSearcher, Closeable {
 			return this;
 		}
 
+		/**
+		 * Enable hybrid lexical and vector search with the given embedding model.
+		 */
+		public Builder embeddingModel(EmbeddingModel embeddingModel) {
+			this.embeddingModel = embeddingModel;
+			return this;
+		}
+
+		public Builder queryEmbeddingCacheSize(int queryEmbeddingCacheSize) {
+			this.queryEmbeddingCacheSize = queryEmbeddingCacheSize;
+			return this;
+		}
+
 		public Builder clearIndexFields() {
 			this.indexFields.clear();
 			this.fieldBoosts.clear();
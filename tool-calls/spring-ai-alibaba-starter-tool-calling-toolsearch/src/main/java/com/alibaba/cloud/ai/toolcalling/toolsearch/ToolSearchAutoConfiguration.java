@@ -15,6 +15,8 @@
  */
 package com.alibaba.cloud.ai.toolcalling.toolsearch;
 
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -34,15 +36,17 @@ import org.springframework.context.annotation.Description;
 public class ToolSearchAutoConfiguration {
 
 	/**
-	 * Creates default Lucene tool searcher.
+	 * Creates default Lucene tool searcher, hybrid when enabled and an EmbeddingModel is
+	 * available.
 	 */
 	@Bean
 	@ConditionalOnMissingBean(ToolSearcher.class)
-	public ToolSearcher toolSearcher(ToolSearchProperties properties) {
+	public ToolSearcher toolSearcher(ToolSearchProperties properties, ObjectProvider<EmbeddingModel> embeddingModel) {
 		return LuceneToolSearcher.builder()
 			.fieldBoost("name", properties.getNameBoost())
 			.fieldBoost("description", properties.getDescriptionBoost())
 			.fieldBoost("parameters", properties.getParametersBoost())
+			.embeddingModel(properties.isHybridSearch() ? embeddingModel.getIfAvailable() : null)
 			.build();
 	}
 
@@ -53,6 +53,12 @@ public class ToolSearchProperties {
 	 */
 	private boolean autoIndex = true;
 
+	/**
+	 * Whether to combine lexical search with vector search over tool descriptions,
+	 * requires an EmbeddingModel bean.
+	 */
+	private boolean hybridSearch = false;
+
 	public boolean isEnabled() {
 		return enabled;
 	}
@@ -101,4 +107,12 @@ public class ToolSearchProperties {
 		this.autoIndex = autoIndex;
 	}
 
+	public boolean isHybridSearch() {
+		return hybridSearch;
+	}
+
+	public void setHybridSearch(boolean hybridSearch) {
+		this.hybridSearch = hybridSearch;
+	}
+
 }
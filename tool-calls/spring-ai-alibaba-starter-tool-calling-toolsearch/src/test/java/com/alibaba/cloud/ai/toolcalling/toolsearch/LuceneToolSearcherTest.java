@@ -0,0 +1,317 @@
+/*
+ * Copyright 2025-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alibaba.cloud.ai.toolcalling.toolsearch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for LuceneToolSearcher, including recall@k of hybrid search on a fixed set of
+ * paraphrased intents.
+ */
+class LuceneToolSearcherTest {
+
+	private static final int K = 3;
+
+	private static final Map<String, String> TOOLS = new LinkedHashMap<>();
+
+	// Intents phrased without the words of the expected tool
+	private static final Map<String, String> GOLD = new LinkedHashMap<>();
+
+	static {
+		TOOLS.put("get_weather", "Get the current weather conditions for a city");
+		TOOLS.put("translate_text", "Translate text from one language to another");
+		TOOLS.put("send_email", "Send an email message to a recipient");
+		TOOLS.put("web_search", "Search the internet for web pages");
+		TOOLS.put("stock_quote", "Get the latest stock quote for a ticker symbol");
+		TOOLS.put("currency_convert", "Convert an amount between currencies");
+		TOOLS.put("create_calendar_event", "Create an event in the user's calendar");
+		TOOLS.put("read_file", "Read the contents of a file from disk");
+		TOOLS.put("run_python", "Execute a Python code snippet");
+		TOOLS.put("get_news", "Fetch the latest news headlines");
+		TOOLS.put("geocode_address", "Find the coordinates of a street address");
+		TOOLS.put("set_reminder", "Schedule a reminder notification");
+
+		GOLD.put("will it rain tomorrow in hangzhou", "get_weather");
+		GOLD.put("convert this sentence into english", "translate_text");
+		GOLD.put("mail my manager quarterly report", "send_email");
+		GOLD.put("look up pages about lucene online", "web_search");
+		GOLD.put("how much is aapl trading at", "stock_quote");
+		GOLD.put("exchange rate dollars to euros", "currency_convert");
+		GOLD.put("book meeting next monday", "create_calendar_event");
+		GOLD.put("show me what is inside notes.txt", "read_file");
+		GOLD.put("evaluate this script", "run_python");
+		GOLD.put("what happened around world today", "get_news");
+		GOLD.put("where is 1 infinite loop on map", "geocode_address");
+		GOLD.put("ping me at 5pm to call mom", "set_reminder");
+	}
+
+	private final ConceptEmbeddingModel embeddingModel = new ConceptEmbeddingModel();
+
+	private LuceneToolSearcher lexicalSearcher;
+
+	private LuceneToolSearcher hybridSearcher;
+
+	@BeforeEach
+	void setUp() {
+		List<ToolCallback> tools = new ArrayList<>();
+		TOOLS.forEach((name, description) -> tools.add(tool(name, description)));
+		// Unrelated tools, so that kNN candidates do not cover the whole index
+		for (int i = 0; i < 200; i++) {
+			tools.add(tool("maintenance_task_" + i, "Maintenance task " + i + " alpha"));
+		}
+
+		lexicalSearcher = LuceneToolSearcher.builder().build();
+		lexicalSearcher.indexTools(tools);
+		hybridSearcher = LuceneToolSearcher.builder().embeddingModel(embeddingModel).build();
+		hybridSearcher.indexTools(tools);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		lexicalSearcher.close();
+		hybridSearcher.close();
+	}
+
+	@Test
+	void hybridSearchRecallsParaphrasedIntents() {
+		double lexicalRecall = recallAtK(lexicalSearcher);
+		double hybridRecall = recallAtK(hybridSearcher);
+
+		assertThat(hybridRecall).isEqualTo(1.0);
+		assertThat(lexicalRecall).isLessThan(0.5);
+	}
+
+	@Test
+	void hybridSearchKeepsExactMatchesFirst() {
+		List<ToolCallback> results = hybridSearcher.search("weather", K);
+
+		assertThat(results).isNotEmpty();
+		assertThat(results.get(0).getToolDefinition().name()).isEqualTo("get_weather");
+	}
+
+	@Test
+	void queryEmbeddingsAreCached() {
+		int before = embeddingModel.calls.get();
+
+		hybridSearcher.search("will it rain tomorrow in hangzhou", K);
+		hybridSearcher.search("will it rain tomorrow in hangzhou", K);
+
+		assertThat(embeddingModel.calls.get() - before).isEqualTo(1);
+	}
+
+	@Test
+	void updatesAndRemovalsAreSearchable() {
+		hybridSearcher.updateTools(List.of(tool("get_weather", "Report air quality of a city")));
+		hybridSearcher.removeTools(List.of("send_email"));
+
+		assertThat(names(hybridSearcher.search("air quality", K))).first().isEqualTo("get_weather");
+		assertThat(names(hybridSearcher.search("send an email message", K))).doesNotContain("send_email");
+		assertThat(names(lexicalSearcher.search("send an email message", K))).contains("send_email");
+	}
+
+	@Test
+	void changesAreVisibleToTheNextSearch() throws IOException {
+		try (LuceneToolSearcher searcher = LuceneToolSearcher.builder().build()) {
+			searcher.indexTools(List.of(tool("get_weather", TOOLS.get("get_weather"))));
+
+			searcher.updateTools(List.of(tool("send_email", TOOLS.get("send_email"))));
+			assertThat(names(searcher.search("email", K))).containsExactly("send_email");
+
+			searcher.updateTools(List.of(tool("send_email", "Post a message to a chat channel")));
+			assertThat(names(searcher.search("email", K))).isEmpty();
+			assertThat(names(searcher.search("chat channel", K))).containsExactly("send_email");
+
+			searcher.removeTools(List.of("send_email"));
+			assertThat(names(searcher.search("chat channel", K))).isEmpty();
+			assertThat(names(searcher.search("weather", K))).containsExactly("get_weather");
+		}
+	}
+
+	@Test
+	void indexToolsDeletesToolsMissingFromTheList() throws IOException {
+		try (LuceneToolSearcher searcher = LuceneToolSearcher.builder().build()) {
+			searcher.indexTools(List.of(tool("get_weather", TOOLS.get("get_weather")),
+					tool("send_email", TOOLS.get("send_email"))));
+
+			searcher.indexTools(List.of(tool("get_weather", TOOLS.get("get_weather"))));
+
+			assertThat(names(searcher.search("email", K))).isEmpty();
+			assertThat(names(searcher.search("weather", K))).containsExactly("get_weather");
+		}
+	}
+
+	@Test
+	void unchangedToolsAreNotRewritten() throws IOException {
+		ConceptEmbeddingModel model = new ConceptEmbeddingModel();
+		try (LuceneToolSearcher searcher = LuceneToolSearcher.builder().embeddingModel(model).build()) {
+			List<ToolCallback> tools = List.of(tool("get_weather", TOOLS.get("get_weather")),
+					tool("send_email", TOOLS.get("send_email")));
+			searcher.indexTools(tools);
+			assertThat(model.embeddedTexts).hasValue(2);
+
+			searcher.indexTools(tools);
+			searcher.updateTools(List.of(tool("send_email", TOOLS.get("send_email"))));
+			assertThat(model.embeddedTexts).hasValue(2);
+
+			searcher.updateTools(List.of(tool("send_email", "Send a mail to a recipient")));
+			assertThat(model.embeddedTexts).hasValue(3);
+		}
+	}
+
+	@Test
+	void fieldsLeftOutOfTheIndexStillRefreshSchemaAndVector() throws IOException {
+		ConceptEmbeddingModel model = new ConceptEmbeddingModel();
+		try (LuceneToolSearcher searcher = LuceneToolSearcher.builder()
+			.clearIndexFields()
+			.addIndexField("name", 1.0f)
+			.embeddingModel(model)
+			.build()) {
+			searcher.indexTools(List.of(tool("get_weather", TOOLS.get("get_weather"))));
+
+			ToolCallback withCity = tool("get_weather", TOOLS.get("get_weather"),
+					"{\"type\":\"object\",\"properties\":{\"city\":{\"type\":\"string\"}}}");
+			searcher.updateTools(List.of(withCity));
+			assertThat(searcher.getToolSchema(withCity)).contains("city");
+			assertThat(model.embeddedTexts).hasValue(2);
+
+			searcher.updateTools(List.of(tool("get_weather", "Get the temperature forecast",
+					"{\"type\":\"object\",\"properties\":{\"city\":{\"type\":\"string\"}}}")));
+			assertThat(model.embeddedTexts).hasValue(3);
+		}
+	}
+
+	private static double recallAtK(LuceneToolSearcher searcher) {
+		int hits = 0;
+		for (Map.Entry<String, String> intent : GOLD.entrySet()) {
+			if (names(searcher.search(intent.getKey(), K)).contains(intent.getValue())) {
+				hits++;
+			}
+		}
+		return (double) hits / GOLD.size();
+	}
+
+	private static List<String> names(List<ToolCallback> tools) {
+		return tools.stream().map(tool -> tool.getToolDefinition().name()).toList();
+	}
+
+	private static ToolCallback tool(String name, String description) {
+		return tool(name, description, "{\"type\":\"object\",\"properties\":{}}");
+	}
+
+	private static ToolCallback tool(String name, String description, String inputSchema) {
+		ToolDefinition definition = ToolDefinition.builder()
+			.name(name)
+			.description(description)
+			.inputSchema(inputSchema)
+			.build();
+		return new ToolCallback() {
+
+			@Override
+			public ToolDefinition getToolDefinition() {
+				return definition;
+			}
+
+			@Override
+			public String call(String toolInput) {
+				return "";
+			}
+
+		};
+	}
+
+	/**
+	 * Deterministic embedding model projecting words onto a few concepts, so that
+	 * paraphrases of the same intent get close vectors.
+	 */
+	private static final class ConceptEmbeddingModel implements EmbeddingModel {
+
+		private static final String[][] CONCEPTS = {
+				{ "weather", "rain", "sunny", "temperature", "forecast", "conditions" },
+				{ "translate", "language", "english", "sentence", "french" },
+				{ "email", "mail", "message", "recipient", "manager" },
+				{ "search", "internet", "web", "pages", "online", "look" },
+				{ "stock", "quote", "ticker", "trading", "aapl", "shares" },
+				{ "currency", "currencies", "exchange", "dollars", "euros", "amount", "convert" },
+				{ "calendar", "event", "meeting", "book", "monday" },
+				{ "file", "read", "contents", "disk", "inside", "txt", "notes" },
+				{ "python", "code", "execute", "script", "evaluate", "snippet" },
+				{ "news", "headlines", "happened", "world", "today" },
+				{ "coordinates", "address", "map", "where", "street" },
+				{ "reminder", "schedule", "notification", "ping", "remind" } };
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		// Tool texts embedded while indexing
+		private final AtomicInteger embeddedTexts = new AtomicInteger();
+
+		@Override
+		public EmbeddingResponse call(EmbeddingRequest request) {
+			calls.incrementAndGet();
+			embeddedTexts.addAndGet(request.getInstructions().size());
+			List<Embedding> embeddings = new ArrayList<>();
+			for (int i = 0; i < request.getInstructions().size(); i++) {
+				embeddings.add(new Embedding(vector(request.getInstructions().get(i)), i));
+			}
+			return new EmbeddingResponse(embeddings);
+		}
+
+		@Override
+		public float[] embed(String text) {
+			calls.incrementAndGet();
+			return vector(text);
+		}
+
+		@Override
+		public float[] embed(Document document) {
+			return embed(document.getText());
+		}
+
+		private static float[] vector(String text) {
+			// The first dimension keeps vectors of unrelated texts non-zero
+			float[] vector = new float[CONCEPTS.length + 1];
+			vector[0] = 0.1f;
+			for (String word : text.toLowerCase(Locale.ROOT).split("[^a-z0-9]+")) {
+				for (int concept = 0; concept < CONCEPTS.length; concept++) {
+					if (List.of(CONCEPTS[concept]).contains(word)) {
+						vector[concept + 1] += 1;
+					}
+				}
+			}
+			return vector;
+		}
+
+	}
+
+}
@@ -18,6 +18,7 @@ package com.alibaba.cloud.ai.toolcalling.toutiaonews;
 import static com.alibaba.cloud.ai.toolcalling.common.CommonToolCallConstants.DEFAULT_USER_AGENTS;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
@@ -46,7 +47,7 @@ public class ToutiaoNewsAutoConfiguration {
 	@ConditionalOnMissingBean
 	@Description("Get the news from the toutiao news (获取今日头条新闻).")
 	public ToutiaoNewsSearchHotEventsService getToutiaoNews(JsonParseTool jsonParseTool,
-			ToutiaoNewsProperties properties) {
+			ToutiaoNewsProperties properties, ToolHttpRuntime toolHttpRuntime) {
 		Consumer<HttpHeaders> consumer = headers -> {
 			headers.add(HttpHeaders.USER_AGENT,
 					DEFAULT_USER_AGENTS[ThreadLocalRandom.current().nextInt(DEFAULT_USER_AGENTS.length)]);
@@ -55,7 +56,10 @@ public class ToutiaoNewsAutoConfiguration {
 			headers.add(HttpHeaders.CONTENT_TYPE, "application/json");
 		};
 		return new ToutiaoNewsSearchHotEventsService(jsonParseTool, properties,
-				WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(consumer).build());
+				WebClientTool.builder(jsonParseTool, properties)
+					.httpRuntime(toolHttpRuntime)
+					.httpHeadersConsumer(consumer)
+					.build());
 	}
 
 }
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.tripadvisor;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -37,8 +38,10 @@ public class TripAdvisorAutoConfiguration {
 	@Bean(name = TripAdvisorConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Provides a TripAdvisorService bean for accessing TripAdvisor Content API for location details and search.")
-	public TripAdvisorService tripAdvisor(TripAdvisorProperties properties, JsonParseTool jsonParseTool) {
+	public TripAdvisorService tripAdvisor(TripAdvisorProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		WebClientTool webClientTool = WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(httpHeaders -> {
 				// TripAdvisor API uses query parameter for authentication, not header
 				// But we still set standard headers for proper API communication
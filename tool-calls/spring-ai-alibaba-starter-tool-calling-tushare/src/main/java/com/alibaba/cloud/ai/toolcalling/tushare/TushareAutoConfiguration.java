@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.tushare;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,10 +40,11 @@ public class TushareAutoConfiguration {
 	@Bean(name = TushareConstants.STOCK_QUOTES_TOOL_NAME)
 	@Description("根据股票代码或(和)日期获取股票日行情，每次最多6000条")
 	public TushareStockQuotesService tushareGetStockQuotes(JsonParseTool jsonParseTool,
-			TushareProperties tushareProperties) {
+			TushareProperties tushareProperties, ToolHttpRuntime toolHttpRuntime) {
 		logger.debug("TushareStockQuotesService is enabled.");
-		return new TushareStockQuotesService(WebClientTool.builder(jsonParseTool, tushareProperties).build(),
-				tushareProperties);
+		return new TushareStockQuotesService(WebClientTool.builder(jsonParseTool, tushareProperties)
+			.httpRuntime(toolHttpRuntime)
+			.build(), tushareProperties);
 	}
 
 }
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.weather;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -38,9 +39,11 @@ public class WeatherAutoConfiguration {
 	@Bean(name = WeatherConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use api.weather to get weather information.")
-	public WeatherService getWeatherService(WeatherProperties properties, JsonParseTool jsonParseTool) {
+	public WeatherService getWeatherService(WeatherProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 
 		return new WeatherService(WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(headers -> headers.add("key", properties.getApiKey()))
 			.build(), jsonParseTool);
 	}
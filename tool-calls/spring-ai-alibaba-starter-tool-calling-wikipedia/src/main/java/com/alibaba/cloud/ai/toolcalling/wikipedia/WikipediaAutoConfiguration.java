@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.wikipedia;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -38,11 +39,15 @@ public class WikipediaAutoConfiguration {
 	@Bean(name = WikipediaConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Search Wikipedia for information using keywords.")
-	public WikipediaService searchWikipedia(WikipediaProperties properties, JsonParseTool jsonParseTool) {
+	public WikipediaService searchWikipedia(WikipediaProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 
-		return new WikipediaService(WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(headers -> {
-			headers.add("User-Agent", "Spring AI Alibaba Wikipedia Tool/1.0");
-		}).build(), jsonParseTool, properties);
+		return new WikipediaService(WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
+			.httpHeadersConsumer(headers -> {
+				headers.add("User-Agent", "Spring AI Alibaba Wikipedia Tool/1.0");
+			})
+			.build(), jsonParseTool, properties);
 	}
 
 }
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.worldbankdata;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -33,12 +34,16 @@ public class WorldBankDataAutoConfiguration {
 	@Bean(name = WorldBankDataConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("World Bank Development Data Search Service")
-	public WorldBankDataService worldBankDataService(JsonParseTool jsonParseTool, WorldBankDataProperties properties) {
+	public WorldBankDataService worldBankDataService(JsonParseTool jsonParseTool, WorldBankDataProperties properties,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new WorldBankDataService(
-				WebClientTool.builder(jsonParseTool, properties).httpHeadersConsumer(httpHeaders -> {
-					httpHeaders.add("Accept", "application/json");
-					httpHeaders.add("User-Agent", "Spring-AI-Alibaba-WorldBankData/1.0");
-				}).build(), jsonParseTool, properties);
+				WebClientTool.builder(jsonParseTool, properties)
+					.httpRuntime(toolHttpRuntime)
+					.httpHeadersConsumer(httpHeaders -> {
+						httpHeaders.add("Accept", "application/json");
+						httpHeaders.add("User-Agent", "Spring-AI-Alibaba-WorldBankData/1.0");
+					})
+					.build(), jsonParseTool, properties);
 	}
 
 }
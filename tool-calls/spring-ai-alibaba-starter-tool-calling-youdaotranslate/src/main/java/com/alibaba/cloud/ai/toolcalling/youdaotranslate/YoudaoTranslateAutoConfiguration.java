@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.youdaotranslate;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -38,8 +39,11 @@ public class YoudaoTranslateAutoConfiguration {
 	@Bean(name = YoudaoTranslateConstants.TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("use youdao translation to achieve translation")
-	public YoudaoTranslateService youdaoTranslate(YoudaoTranslateProperties properties, JsonParseTool jsonParseTool) {
-		WebClientTool webClientTool = WebClientTool.builder(jsonParseTool, properties).build();
+	public YoudaoTranslateService youdaoTranslate(YoudaoTranslateProperties properties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
+		WebClientTool webClientTool = WebClientTool.builder(jsonParseTool, properties)
+			.httpRuntime(toolHttpRuntime)
+			.build();
 		return new YoudaoTranslateService(properties, jsonParseTool, webClientTool);
 	}
 
@@ -16,6 +16,7 @@
 package com.alibaba.cloud.ai.toolcalling.yuque;
 
 import com.alibaba.cloud.ai.toolcalling.common.JsonParseTool;
+import com.alibaba.cloud.ai.toolcalling.common.ToolHttpRuntime;
 import com.alibaba.cloud.ai.toolcalling.common.WebClientTool;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -38,8 +39,10 @@ public class YuqueAutoConfiguration {
 	@Bean(name = YuqueConstants.CREATE_BOOK_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use yuque api to invoke a http request to create a book.")
-	public YuqueCreateBookService createYuqueBook(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool) {
+	public YuqueCreateBookService createYuqueBook(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new YuqueCreateBookService(WebClientTool.builder(jsonParseTool, yuqueProperties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(headers -> headers.set("X-Auth-Token", yuqueProperties.getToken()))
 			.build(), jsonParseTool);
 	}
@@ -47,8 +50,10 @@ public class YuqueAutoConfiguration {
 	@Bean(name = YuqueConstants.QUERY_BOOK_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use yuque api to invoke a http request to query a book.")
-	public YuqueQueryBookService queryYuqueBook(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool) {
+	public YuqueQueryBookService queryYuqueBook(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new YuqueQueryBookService(WebClientTool.builder(jsonParseTool, yuqueProperties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(headers -> headers.set("X-Auth-Token", yuqueProperties.getToken()))
 			.build(), jsonParseTool);
 	}
@@ -56,8 +61,10 @@ public class YuqueAutoConfiguration {
 	@Bean(name = YuqueConstants.UPDATE_BOOK_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use yuque api to invoke a http request to update a book.")
-	public YuqueUpdateBookService updateYuqueBook(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool) {
+	public YuqueUpdateBookService updateYuqueBook(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new YuqueUpdateBookService(WebClientTool.builder(jsonParseTool, yuqueProperties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(headers -> headers.set("X-Auth-Token", yuqueProperties.getToken()))
 			.build(), jsonParseTool);
 	}
@@ -65,8 +72,10 @@ public class YuqueAutoConfiguration {
 	@Bean(name = YuqueConstants.DELETE_BOOK_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use yuque api to invoke a http request to delete a book.")
-	public YuqueDeleteBookService deleteYuqueBook(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool) {
+	public YuqueDeleteBookService deleteYuqueBook(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new YuqueDeleteBookService(WebClientTool.builder(jsonParseTool, yuqueProperties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(headers -> headers.set("X-Auth-Token", yuqueProperties.getToken()))
 			.build(), jsonParseTool);
 	}
@@ -74,8 +83,10 @@ public class YuqueAutoConfiguration {
 	@Bean(name = YuqueConstants.CREATE_DOC_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use yuque api to invoke a http request to create a doc.")
-	public YuqueCreateDocService createYuqueDoc(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool) {
+	public YuqueCreateDocService createYuqueDoc(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new YuqueCreateDocService(WebClientTool.builder(jsonParseTool, yuqueProperties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(headers -> headers.set("X-Auth-Token", yuqueProperties.getToken()))
 			.build(), jsonParseTool);
 	}
@@ -83,8 +94,10 @@ public class YuqueAutoConfiguration {
 	@Bean(name = YuqueConstants.QUERY_DOC_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use yuque api to invoke a http request to query a doc.")
-	public YuqueQueryDocService queryYuqueDoc(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool) {
+	public YuqueQueryDocService queryYuqueDoc(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new YuqueQueryDocService(WebClientTool.builder(jsonParseTool, yuqueProperties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(headers -> headers.set("X-Auth-Token", yuqueProperties.getToken()))
 			.build(), jsonParseTool);
 	}
@@ -92,8 +105,10 @@ public class YuqueAutoConfiguration {
 	@Bean(name = YuqueConstants.UPDATE_DOC_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use yuque api to invoke a http request to update your doc.")
-	public YuqueUpdateDocService updateDocService(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool) {
+	public YuqueUpdateDocService updateDocService(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new YuqueUpdateDocService(WebClientTool.builder(jsonParseTool, yuqueProperties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(headers -> headers.set("X-Auth-Token", yuqueProperties.getToken()))
 			.build(), jsonParseTool);
 	}
@@ -101,8 +116,10 @@ public class YuqueAutoConfiguration {
 	@Bean(name = YuqueConstants.DELETE_DOC_TOOL_NAME)
 	@ConditionalOnMissingBean
 	@Description("Use yuque api to invoke a http request to delete your doc.")
-	public YuqueDeleteDocService deleteDocService(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool) {
+	public YuqueDeleteDocService deleteDocService(YuqueProperties yuqueProperties, JsonParseTool jsonParseTool,
+			ToolHttpRuntime toolHttpRuntime) {
 		return new YuqueDeleteDocService(WebClientTool.builder(jsonParseTool, yuqueProperties)
+			.httpRuntime(toolHttpRuntime)
 			.httpHeadersConsumer(headers -> headers.set("X-Auth-Token", yuqueProperties.getToken()))
 			.build(), jsonParseTool);
 	}
@@ -44,3 +44,9 @@ spotless-apply: ## Run spotless and apply changes
 checkstyle-check: ## Checkstyle Check the code and output to target/checkstyle-report.xml
 	@$(LOG_TARGET)
 	mvnd -Dmvnd.connectTimeout=30000 -Dcheckstyle.skip=false -Dcheckstyle.output.file=checkstyle-report.xml checkstyle:check
+
+.PHONY: benchmark
+benchmark: ## Run the JMH benchmarks, results in benchmarks/target/jmh-result.json
+	@$(LOG_TARGET)
+	mvnd -Dmvnd.connectTimeout=30000 -B package --file pom.xml -Pbenchmark -pl benchmarks -am -DskipTests=true
+	java -jar benchmarks/target/benchmarks.jar -rf json -rff benchmarks/target/jmh-result.json
@@ -0,0 +1,77 @@
+#
+# Copyright 2024-2026 the original author or authors.
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+# https://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+
+"""
+Compare two JMH result files written with `-rf json`, for example the results of
+the base branch and of a pull request:
+
+    python3 tools/scripts/jmh-compare.py base.json current.json [threshold-percent]
+
+Prints the score of every benchmark and parameter combination in both files and
+the relative change, and exits with 1 when a benchmark got slower by more than
+the threshold (10% by default). Only time-based modes, where lower is better,
+are checked against the threshold.
+"""
+
+import json
+import sys
+
+
+def load(path):
+    with open(path, encoding="utf-8") as file:
+        results = {}
+        for result in json.load(file):
+            params = ",".join(f"{key}={value}" for key, value in sorted(result.get("params", {}).items()))
+            key = ".".join(result["benchmark"].split(".")[-2:])
+            if params:
+                key += f" [{params}]"
+            metric = result["primaryMetric"]
+            results[key] = (result["mode"], metric["score"], metric["scoreError"], metric["scoreUnit"])
+        return results
+
+
+def main():
+    if len(sys.argv) < 3:
+        print(__doc__)
+        sys.exit(2)
+    baseline = load(sys.argv[1])
+    current = load(sys.argv[2])
+    threshold = float(sys.argv[3]) if len(sys.argv) > 3 else 10.0
+
+    regressions = 0
+    width = max((len(key) for key in current), default=0)
+    for key in sorted(current):
+        mode, score, error, unit = current[key]
+        if key not in baseline:
+            print(f"{key:<{width}}  {'-':>12}  {score:>12.3f} ± {error:.3f} {unit}  (new)")
+            continue
+        base_score = baseline[key][1]
+        change = (score - base_score) / base_score * 100 if base_score else 0.0
+        # throughput is better when higher, the other modes when lower
+        slower = -change if mode == "thrpt" else change
+        flag = ""
+        if mode != "thrpt" and slower > threshold:
+            flag = "  REGRESSION"
+            regressions += 1
+        print(f"{key:<{width}}  {base_score:>12.3f}  {score:>12.3f} ± {error:.3f} {unit}  {change:+.1f}%{flag}")
+
+    if regressions:
+        print(f"\n{regressions} benchmark(s) slower by more than {threshold}%")
+        sys.exit(1)
+
+
+if __name__ == "__main__":
+    main()